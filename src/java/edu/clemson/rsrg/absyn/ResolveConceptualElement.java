@@ -15,6 +15,10 @@ package edu.clemson.rsrg.absyn;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.parsing.data.BasicCapabilities;
 import edu.clemson.rsrg.parsing.data.Location;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -25,9 +29,14 @@ import java.util.*;
  * This is the abstract base class for all the intermediate objects that the compiler builds using the ANTLR4 AST nodes.
  * </p>
  *
+ * <p>
+ * The elements are {@link Serializable}, so that the modules we have built can be stored in a
+ * {@link edu.clemson.rsrg.init.file.ParsedModuleCache} and reused by later compilations.
+ * </p>
+ *
  * @version 2.0
  */
-public abstract class ResolveConceptualElement implements BasicCapabilities, Cloneable {
+public abstract class ResolveConceptualElement implements BasicCapabilities, Cloneable, Serializable {
 
     // ===========================================================
     // Member Fields
@@ -45,6 +54,18 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
      */
     protected final Location myLoc;
 
+    /**
+     * <p>
+     * The fields that can hold children for each class, in the order they are walked.
+     * </p>
+     */
+    private static final ClassValue<ChildField[]> CHILD_FIELDS = new ClassValue<>() {
+        @Override
+        protected ChildField[] computeValue(Class<?> elementClass) {
+            return locateChildFields(elementClass);
+        }
+    };
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -109,72 +130,39 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
      * This allow us to return all the children object in the class.
      * </p>
      *
+     * <p>
+     * The fields that can hold children are located (using reflection) the first time we see an instance of a class.
+     * After that, we only need to read those fields using the cached accessors.
+     * </p>
+     *
      * @return A list containing all the children.
      */
     @SuppressWarnings("unchecked")
     public List<ResolveConceptualElement> getChildren() {
-        // We'd like to hit the fields in the order they appear in the class,
-        // starting with the most general class and getting more specific. So,
-        // we build a stack of the class hierarchy of this instance
-        Deque<Class<?>> hierarchy = new LinkedList<>();
-        Class<?> curClass = this.getClass();
-        do {
-            hierarchy.push(curClass);
-            curClass = curClass.getSuperclass();
-        } while (curClass != ResolveConceptualElement.class);
+        ChildField[] childFields = CHILD_FIELDS.get(this.getClass());
+        List<ResolveConceptualElement> children = new ArrayList<>(childFields.length);
+        for (ChildField childField : childFields) {
+            try {
+                Object value = childField.getter.invokeExact(this);
 
-        List<ResolveConceptualElement> children = new ArrayList<>();
-        // get a list of all the declared and inherited members of that class
-        List<Field> fields = new ArrayList<>();
-        while (!hierarchy.isEmpty()) {
-
-            curClass = hierarchy.pop();
-
-            Field[] curFields = curClass.getDeclaredFields();
-            for (int i = 0; i < curFields.length; ++i) {
-                fields.add(curFields[i]);
-            }
-            curClass = curClass.getSuperclass();
-        }
-
-        // loop through all the class members
-        Iterator<Field> iterFields = fields.iterator();
-        while (iterFields.hasNext()) {
-            Field curField = iterFields.next();
-
-            if (!Modifier.isStatic(curField.getModifiers())) {
-
-                curField.setAccessible(true);
-                Class<?> fieldType = curField.getType();
-
-                try {
-                    // is this member a ResolveConceptualElement?
-                    // if so, add it as a child
-                    if (ResolveConceptualElement.class.isAssignableFrom(fieldType)) {
-                        // System.out.println("Walking: " + curField.getName());
-                        children.add(ResolveConceptualElement.class.cast(curField.get(this)));
-                    }
-                    // is this member a list of ResolveConceptualElements?
-                    // if so, add the elements to the list of children
-                    else if (java.util.List.class.isAssignableFrom(fieldType)) {
-                        Class<?> listOf = (Class<?>) ((ParameterizedType) curField.getGenericType())
-                                .getActualTypeArguments()[0];
-                        java.util.List<?> fieldList = java.util.List.class.cast(curField.get(this));
-                        if (fieldList != null && fieldList.size() > 0
-                                && ResolveConceptualElement.class.isAssignableFrom(listOf)) {
-                            children.add(new VirtualListNode(myLoc, this, curField.getName(),
-                                    (java.util.List<ResolveConceptualElement>) fieldList,
-                                    (Class<?>) ((ParameterizedType) curField.getGenericType())
-                                            .getActualTypeArguments()[0]));
-                        }
-                    }
-                } catch (Exception ex) {
-                    if (ex instanceof RuntimeException) {
-                        throw (RuntimeException) ex;
-                    } else {
-                        throw new RuntimeException(ex);
+                // is this member a ResolveConceptualElement?
+                // if so, add it as a child
+                if (childField.listType == null) {
+                    children.add((ResolveConceptualElement) value);
+                }
+                // is this member a list of ResolveConceptualElements?
+                // if so, add the elements to the list of children
+                else {
+                    java.util.List<?> fieldList = (java.util.List<?>) value;
+                    if (fieldList != null && fieldList.size() > 0) {
+                        children.add(new VirtualListNode(myLoc, this, childField.name,
+                                (java.util.List<ResolveConceptualElement>) fieldList, childField.listType));
                     }
                 }
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
             }
         }
 
@@ -259,4 +247,121 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
         }
     }
 
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that locates all the fields that can hold children for a class. These are the fields that are
+     * {@code ResolveConceptualElement} or a list of {@code ResolveConceptualElement}.
+     * </p>
+     *
+     * @param elementClass
+     *            A class that inherits from {@code ResolveConceptualElement}.
+     *
+     * @return An array containing the accessors for all the fields that can hold children.
+     */
+    private static ChildField[] locateChildFields(Class<?> elementClass) {
+        // We'd like to hit the fields in the order they appear in the class,
+        // starting with the most general class and getting more specific. So,
+        // we build a stack of the class hierarchy of this instance
+        Deque<Class<?>> hierarchy = new LinkedList<>();
+        Class<?> curClass = elementClass;
+        do {
+            hierarchy.push(curClass);
+            curClass = curClass.getSuperclass();
+        } while (curClass != ResolveConceptualElement.class);
+
+        // loop through all the declared and inherited members of that class
+        List<ChildField> childFields = new ArrayList<>();
+        while (!hierarchy.isEmpty()) {
+            curClass = hierarchy.pop();
+
+            for (Field curField : curClass.getDeclaredFields()) {
+                if (!Modifier.isStatic(curField.getModifiers())) {
+                    Class<?> fieldType = curField.getType();
+
+                    try {
+                        if (ResolveConceptualElement.class.isAssignableFrom(fieldType)) {
+                            childFields.add(new ChildField(curField, null));
+                        } else if (java.util.List.class.isAssignableFrom(fieldType)) {
+                            Class<?> listOf = (Class<?>) ((ParameterizedType) curField.getGenericType())
+                                    .getActualTypeArguments()[0];
+                            if (ResolveConceptualElement.class.isAssignableFrom(listOf)) {
+                                childFields.add(new ChildField(curField, listOf));
+                            }
+                        }
+                    } catch (IllegalAccessException iae) {
+                        throw new RuntimeException(iae);
+                    }
+                }
+            }
+        }
+
+        return childFields.toArray(new ChildField[0]);
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class holds the accessor for a field that can hold children.
+     * </p>
+     */
+    private static class ChildField {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The getter for the field.
+         * </p>
+         */
+        private final MethodHandle getter;
+
+        /**
+         * <p>
+         * The name of the field.
+         * </p>
+         */
+        private final String name;
+
+        /**
+         * <p>
+         * The type of the elements if this is a list of {@code ResolveConceptualElement}, otherwise {@code null}.
+         * </p>
+         */
+        private final Class<?> listType;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates the accessor for a field that can hold children.
+         * </p>
+         *
+         * @param field
+         *            The field.
+         * @param listType
+         *            The type of the elements if this is a list of {@code ResolveConceptualElement}, otherwise
+         *            {@code null}.
+         *
+         * @throws IllegalAccessException
+         *             If we can't access the field.
+         */
+        ChildField(Field field, Class<?> listType) throws IllegalAccessException {
+            field.setAccessible(true);
+            this.getter = MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, ResolveConceptualElement.class));
+            this.name = field.getName();
+            this.listType = listType;
+        }
+    }
 }
@@ -19,10 +19,12 @@ import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -37,6 +39,14 @@ public abstract class Exp extends ResolveConceptualElement {
     // Member Fields
     // ===========================================================
 
+    /**
+     * <p>
+     * Substitution maps with at least this many entries are indexed by the keys' structural hash codes before we walk
+     * the expression. Smaller maps are cheaper to scan than to index.
+     * </p>
+     */
+    private static final int SUBSTITUTION_INDEX_THRESHOLD = 4;
+
     /**
      * <p>
      * An object that contains additional information on where this expression came from. This should be added by the
@@ -65,6 +75,24 @@ public abstract class Exp extends ResolveConceptualElement {
      */
     protected MTType myMathTypeValue = null;
 
+    /**
+     * <p>
+     * The unique symbol names that appear in this expression. This is computed once by the {@code VCGenerator}'s
+     * {@code UniqueSymbolNameExtractor} and then reused every time it needs this expression's symbols. It isn't stored
+     * with a cached module, so it is simply computed again after the expression has been restored.
+     * </p>
+     */
+    private transient volatile Set<String> myUniqueSymbolNames = null;
+
+    /**
+     * <p>
+     * Whether or not this expression is an atomic formula. This is computed once by the {@code VCGenerator}'s
+     * {@code AtomicFormulaChecker} and then reused every time a {@code Sequent} containing this expression is checked.
+     * Like the symbol names, it is computed again after the expression has been restored from a cached module.
+     * </p>
+     */
+    private transient volatile Boolean myIsAtomicFormula = null;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -104,6 +132,10 @@ public abstract class Exp extends ResolveConceptualElement {
             result.setLocationDetailModel(myLocationDetailModel.clone());
         }
 
+        // A deep copy has exactly the same symbols
+        result.myUniqueSymbolNames = myUniqueSymbolNames;
+        result.myIsAtomicFormula = myIsAtomicFormula;
+
         return result;
     }
 
@@ -227,7 +259,20 @@ public abstract class Exp extends ResolveConceptualElement {
      *         are equivalent.
      */
     public static boolean equivalent(Exp e1, Exp e2) {
-        return !((e1 == null ^ e2 == null)) && ((e1 == null && e2 == null) || e1.equivalent(e2));
+        // Shared (or both null) expressions are trivially equivalent
+        return (e1 == e2) || (e1 != null && e2 != null && e1.equivalent(e2));
+    }
+
+    /**
+     * <p>
+     * This method gets the atomic formula flag cached for this object.
+     * </p>
+     *
+     * @return {@code true} if it is an atomic formula, {@code false} if it isn't or {@code null} if it hasn't been
+     *         computed.
+     */
+    public final Boolean getIsAtomicFormula() {
+        return myIsAtomicFormula;
     }
 
     /**
@@ -263,6 +308,17 @@ public abstract class Exp extends ResolveConceptualElement {
         return myMathTypeValue;
     }
 
+    /**
+     * <p>
+     * This method gets the unique symbol names cached for this object.
+     * </p>
+     *
+     * @return A set of symbol names or {@code null} if they haven't been computed.
+     */
+    public final Set<String> getUniqueSymbolNames() {
+        return myUniqueSymbolNames;
+    }
+
     /**
      * <p>
      * This method must be implemented by all inherited classes to return the list of sub-expressions.
@@ -307,6 +363,18 @@ public abstract class Exp extends ResolveConceptualElement {
                 && ((s1 == null && s2 == null) || (stringEquivalent(s1.getName(), s2.getName())));
     }
 
+    /**
+     * <p>
+     * This method caches whether or not this object is an atomic formula.
+     * </p>
+     *
+     * @param isAtomicFormula
+     *            {@code true} if it is an atomic formula, {@code false} otherwise.
+     */
+    public final void setIsAtomicFormula(boolean isAtomicFormula) {
+        myIsAtomicFormula = isAtomicFormula;
+    }
+
     /**
      * <p>
      * This method sets the location details associated with this object.
@@ -319,6 +387,18 @@ public abstract class Exp extends ResolveConceptualElement {
         myLocationDetailModel = locationDetailModel;
     }
 
+    /**
+     * <p>
+     * This method caches the unique symbol names that appear in this object.
+     * </p>
+     *
+     * @param symbolNames
+     *            An unmodifiable set of symbol names.
+     */
+    public final void setUniqueSymbolNames(Set<String> symbolNames) {
+        myUniqueSymbolNames = symbolNames;
+    }
+
     /**
      * <p>
      * This method sets the mathematical type associated with this object.
@@ -366,6 +446,19 @@ public abstract class Exp extends ResolveConceptualElement {
         return !((s1 == null) ^ (s2 == null)) && ((s1 == null && s2 == null) || (s1.equals(s2)));
     }
 
+    /**
+     * <p>
+     * This method returns a hash code that only depends on the structure of this expression. Unlike
+     * {@link #hashCode()}, locations, location details and mathematical types are ignored, so any two expressions that
+     * are {@link #equivalent(Exp)} have the same structural hash code.
+     * </p>
+     *
+     * @return The structural hash code.
+     */
+    public final int structuralHashCode() {
+        return structuralHashCode(e -> e == null ? 0 : e.structuralHashCode());
+    }
+
     /**
      * <p>
      * Returns a DEEP COPY of this expression, with all instances of {@link Exp}s that occur as keys in
@@ -386,14 +479,48 @@ public abstract class Exp extends ResolveConceptualElement {
      * @return A new {@link Exp} that is a deep copy of the original with the provided substitutions made.
      */
     public final Exp substitute(Map<Exp, Exp> substitutions) {
+        return substitute(substitutions, false);
+    }
+
+    /**
+     * <p>
+     * This method works just like {@link #substitute(Map)}, except that if {@code shareUnchangedSubExpressions} is
+     * {@code true}, only the expressions on the path to a substitution get rebuilt and every sub-expression that
+     * doesn't contain a key is shared with this expression.
+     * </p>
+     *
+     * <p>
+     * Sharing is only safe as long as nobody modifies the sub-expressions of the returned {@link Exp}, so it is up to
+     * the caller to decide whether it can be turned on.
+     * </p>
+     *
+     * @param substitutions
+     *            A mapping from {@link Exp}s that should be substituted out to the {@link Exp} that should replace
+     *            them.
+     * @param shareUnchangedSubExpressions
+     *            {@code true} if unchanged sub-expressions should be shared, {@code false} if they should be copied.
+     *
+     * @return A new {@link Exp} with the provided substitutions made.
+     */
+    public final Exp substitute(Map<Exp, Exp> substitutions, boolean shareUnchangedSubExpressions) {
         Exp retval;
 
         boolean match = false;
 
         Map.Entry<Exp, Exp> curEntry = null;
         if (substitutions.size() > 0) {
-            Set<Map.Entry<Exp, Exp>> entries = substitutions.entrySet();
-            Iterator<Map.Entry<Exp, Exp>> entryIter = entries.iterator();
+            // Large maps get indexed once and the index gets passed down to our children.
+            // We always need the index to find the sub-expressions we can share.
+            // Our children inherit the sharing option from the index.
+            boolean isRoot = !(substitutions instanceof ExpSubstitutionIndex);
+            if (isRoot && (shareUnchangedSubExpressions || substitutions.size() >= SUBSTITUTION_INDEX_THRESHOLD)) {
+                substitutions = new ExpSubstitutionIndex(substitutions, shareUnchangedSubExpressions);
+            }
+
+            boolean share = substitutions instanceof ExpSubstitutionIndex
+                    && ((ExpSubstitutionIndex) substitutions).isSharingUnchangedSubExpressions();
+
+            Iterator<Map.Entry<Exp, Exp>> entryIter = getCandidateEntries(substitutions).iterator();
             while (entryIter.hasNext() && !match) {
                 curEntry = entryIter.next();
                 match = curEntry.getKey().equivalent(this);
@@ -401,6 +528,11 @@ public abstract class Exp extends ResolveConceptualElement {
 
             if (match) {
                 retval = curEntry.getValue();
+            } else if (substitutions instanceof ExpSubstitutionIndex
+                    && !((ExpSubstitutionIndex) substitutions).mayContainKey(this) && !(share && isRoot)) {
+                // None of the keys can occur in our sub-expressions, so we either share ourselves or simply make
+                // a copy. The root always gets rebuilt, since callers are free to modify what we return.
+                retval = share ? this : this.clone();
             } else {
                 retval = substituteChildren(substitutions);
                 retval.setMathType(myMathType);
@@ -434,6 +566,43 @@ public abstract class Exp extends ResolveConceptualElement {
                 new CloneNotSupportedException());
     }
 
+    /**
+     * <p>
+     * A helper method that computes the structural hash code of a {@link PosSymbol} that agrees with
+     * {@link Exp#posSymbolEquivalent(PosSymbol, PosSymbol)}.
+     * </p>
+     *
+     * @param s
+     *            A {@link PosSymbol} or {@code null}.
+     *
+     * @return The hash code for the symbol's name.
+     */
+    protected static int posSymbolHashCode(PosSymbol s) {
+        return (s == null || s.getName() == null) ? 0 : s.getName().hashCode();
+    }
+
+    /**
+     * <p>
+     * Implemented by concrete subclasses of {@link Exp} to compute their structural hash code (see
+     * {@link #structuralHashCode()}). The hash codes of any sub-expressions must be obtained through {@code childHash},
+     * which accepts {@code null}. Sub-expressions that are substituted into, but can't be part of the hash code without
+     * breaking the agreement with {@link #equivalent(Exp)}, should still be passed to {@code childHash} and have their
+     * results ignored.
+     * </p>
+     *
+     * <p>
+     * The default implementation only distinguishes between classes.
+     * </p>
+     *
+     * @param childHash
+     *            A function that returns the structural hash code of a sub-expression.
+     *
+     * @return The structural hash code.
+     */
+    protected int structuralHashCode(ToIntFunction<Exp> childHash) {
+        return getClass().getName().hashCode();
+    }
+
     /**
      * <p>
      * A static helper method that calls substitute method using {@code e}.
@@ -474,4 +643,32 @@ public abstract class Exp extends ResolveConceptualElement {
      */
     protected abstract Exp substituteChildren(Map<Exp, Exp> substitutions);
 
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the entries in {@code substitutions} whose keys might be equivalent to this
+     * expression. For an {@link ExpSubstitutionIndex}, these are the entries whose keys have our structural hash code,
+     * otherwise we need to check all of them.
+     * </p>
+     *
+     * @param substitutions
+     *            A mapping from {@link Exp}s that should be substituted out to the {@link Exp} that should replace
+     *            them.
+     *
+     * @return The candidate entries in the iteration order of {@code substitutions}.
+     */
+    private Collection<Map.Entry<Exp, Exp>> getCandidateEntries(Map<Exp, Exp> substitutions) {
+        Collection<Map.Entry<Exp, Exp>> entries;
+        if (substitutions instanceof ExpSubstitutionIndex) {
+            entries = ((ExpSubstitutionIndex) substitutions).getCandidateEntries(this);
+        } else {
+            entries = substitutions.entrySet();
+        }
+
+        return entries;
+    }
+
 }
@@ -0,0 +1,314 @@
+/*
+ * ExpSubstitutionIndex.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.absyn.expressions;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>
+ * This is a read-only view of a substitution map that indexes the keys by their structural hash codes (see
+ * {@link Exp#structuralHashCode()}). {@link Exp#substitute(Map)} passes this view down to the sub-expressions, so
+ * instead of comparing every key against every node, we only compare the keys that have the same hash code as the node.
+ * </p>
+ *
+ * <p>
+ * The structural hash codes of the nodes are computed once per substitution. Along the way, we also record whether a
+ * node or any of its sub-expressions has the hash code of a key or of one of the keys' immediate sub-expressions. The
+ * latter covers the special matching of function names inside {@link Exp#substituteChildren(Map)} implementations.
+ * Anything that doesn't can simply be copied.
+ * </p>
+ *
+ * <p>
+ * Since the buckets preserve the iteration order of the original map, the first key that matches is still the same one.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class ExpSubstitutionIndex extends AbstractMap<Exp, Exp> {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The structural hash codes of the keys and their immediate sub-expressions.
+     * </p>
+     */
+    private final Set<Integer> myAnchorHashCodes;
+
+    /**
+     * <p>
+     * The map entries grouped by the structural hash codes of their keys.
+     * </p>
+     */
+    private final Map<Integer, List<Map.Entry<Exp, Exp>>> myBuckets;
+
+    /**
+     * <p>
+     * The function we hand to {@link Exp#structuralHashCode(ToIntFunction)} to retrieve the hash codes of the
+     * sub-expressions.
+     * </p>
+     */
+    private final ChildHashCodes myChildHashCodes;
+
+    /**
+     * <p>
+     * Whether or not a key might occur in one of the sub-expressions of the node we are currently hashing.
+     * </p>
+     */
+    private boolean myChildMayContainKey;
+
+    /**
+     * <p>
+     * The information we have computed for the nodes we have visited so far.
+     * </p>
+     */
+    private final Map<Exp, NodeInfo> myNodeInfos;
+
+    /**
+     * <p>
+     * Whether or not the sub-expressions that don't contain a key are shared instead of copied.
+     * </p>
+     */
+    private final boolean myShareUnchangedSubExpressions;
+
+    /**
+     * <p>
+     * The original substitution map.
+     * </p>
+     */
+    private final Map<Exp, Exp> mySubstitutions;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an index for the keys in {@code substitutions}.
+     * </p>
+     *
+     * @param substitutions
+     *            A mapping from {@link Exp}s that should be substituted out to the {@link Exp} that should replace
+     *            them.
+     * @param shareUnchangedSubExpressions
+     *            {@code true} if the sub-expressions that don't contain a key should be shared, {@code false} if they
+     *            should be copied.
+     */
+    ExpSubstitutionIndex(Map<Exp, Exp> substitutions, boolean shareUnchangedSubExpressions) {
+        mySubstitutions = substitutions;
+        myShareUnchangedSubExpressions = shareUnchangedSubExpressions;
+        myAnchorHashCodes = new HashSet<>();
+        myBuckets = new HashMap<>();
+        myChildHashCodes = new ChildHashCodes();
+        myChildMayContainKey = false;
+        myNodeInfos = new IdentityHashMap<>();
+
+        for (Map.Entry<Exp, Exp> entry : substitutions.entrySet()) {
+            int hashCode = entry.getKey().structuralHashCode(child -> {
+                if (child == null) {
+                    return 0;
+                }
+
+                int childHashCode = child.structuralHashCode();
+                myAnchorHashCodes.add(childHashCode);
+
+                return childHashCode;
+            });
+
+            myAnchorHashCodes.add(hashCode);
+            myBuckets.computeIfAbsent(hashCode, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean containsKey(Object key) {
+        return mySubstitutions.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Set<Map.Entry<Exp, Exp>> entrySet() {
+        return Collections.unmodifiableSet(mySubstitutions.entrySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Exp get(Object key) {
+        return mySubstitutions.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int size() {
+        return mySubstitutions.size();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the entries whose keys might be {@link Exp#equivalent(Exp)} to {@code exp}, in the order of
+     * the original map.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return A list of map entries.
+     */
+    final List<Map.Entry<Exp, Exp>> getCandidateEntries(Exp exp) {
+        return myBuckets.getOrDefault(getNodeInfo(exp).hashCode, Collections.emptyList());
+    }
+
+    /**
+     * <p>
+     * This method checks to see if the sub-expressions that don't contain a key are shared.
+     * </p>
+     *
+     * @return {@code true} if unchanged sub-expressions are shared, {@code false} if they are copied.
+     */
+    final boolean isSharingUnchangedSubExpressions() {
+        return myShareUnchangedSubExpressions;
+    }
+
+    /**
+     * <p>
+     * This method checks to see if a key might occur in {@code exp}.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return {@code false} if none of the keys can occur in {@code exp}, {@code true} otherwise.
+     */
+    final boolean mayContainKey(Exp exp) {
+        return getNodeInfo(exp).mayContainKey;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that computes (or retrieves) the information for {@code exp} and all of its sub-expressions.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return The information for {@code exp}.
+     */
+    private NodeInfo getNodeInfo(Exp exp) {
+        NodeInfo nodeInfo = myNodeInfos.get(exp);
+        if (nodeInfo == null) {
+            myChildHashCodes.applyAsInt(exp);
+            nodeInfo = myNodeInfos.get(exp);
+        }
+
+        return nodeInfo;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * The function that computes (or retrieves) the information for an expression and all of its sub-expressions and
+     * returns its hash code. This isn't a lambda, so that hashing a deep expression doesn't use more stack than
+     * substituting into it.
+     * </p>
+     */
+    private class ChildHashCodes implements ToIntFunction<Exp> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final int applyAsInt(Exp exp) {
+            if (exp == null) {
+                return 0;
+            }
+
+            NodeInfo nodeInfo = myNodeInfos.get(exp);
+            if (nodeInfo == null) {
+                boolean outerChildMayContainKey = myChildMayContainKey;
+                myChildMayContainKey = false;
+                int hashCode = exp.structuralHashCode(this);
+
+                nodeInfo = new NodeInfo(hashCode, myChildMayContainKey || myAnchorHashCodes.contains(hashCode));
+                myNodeInfos.put(exp, nodeInfo);
+                myChildMayContainKey = outerChildMayContainKey;
+            }
+            myChildMayContainKey |= nodeInfo.mayContainKey;
+
+            return nodeInfo.hashCode;
+        }
+    }
+
+    /**
+     * <p>
+     * The information we compute for each node in the expression being substituted.
+     * </p>
+     */
+    private static class NodeInfo {
+
+        /**
+         * <p>
+         * The node's structural hash code.
+         * </p>
+         */
+        private final int hashCode;
+
+        /**
+         * <p>
+         * Whether or not a key might occur in this node.
+         * </p>
+         */
+        private final boolean mayContainKey;
+
+        /**
+         * <p>
+         * This creates the information for a node.
+         * </p>
+         *
+         * @param hashCode
+         *            The node's structural hash code.
+         * @param mayContainKey
+         *            Whether or not a key might occur in this node.
+         */
+        NodeInfo(int hashCode, boolean mayContainKey) {
+            this.hashCode = hashCode;
+            this.mayContainKey = mayContainKey;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -147,6 +148,10 @@ public class AltItemExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = e instanceof AltItemExp;
 
         if (result) {
@@ -235,6 +240,18 @@ public class AltItemExp extends MathExp {
         return new AltItemExp(cloneLocation(), newTest, myAssignmentExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = AltItemExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myAssignmentExp);
+        result = 31 * result + childHash.applyAsInt(myTestingExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
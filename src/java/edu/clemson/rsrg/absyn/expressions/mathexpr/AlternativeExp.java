@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -154,6 +155,10 @@ public class AlternativeExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = e instanceof AlternativeExp;
 
         if (result) {
@@ -219,6 +224,19 @@ public class AlternativeExp extends MathExp {
         return new AlternativeExp(cloneLocation(), copyAltItemList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = AlternativeExp.class.getName().hashCode();
+        for (AltItemExp alt : myAlternatives) {
+            result = 31 * result + childHash.applyAsInt(alt);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
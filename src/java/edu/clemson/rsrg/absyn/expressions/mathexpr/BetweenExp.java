@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -145,6 +146,10 @@ public class BetweenExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         // I don't really understand what a "BetweenExp" is, so for now its
         // 'equivalent' implementation just checks to see if all subexpressions
         // exist as a subexpression in e. -HwS
@@ -209,6 +214,19 @@ public class BetweenExp extends MathExp {
         return new BetweenExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The sub-expressions are compared as sets, so they are visited, but not part of the hash code
+        for (Exp e : myJoiningExps) {
+            childHash.applyAsInt(e);
+        }
+
+        return BetweenExp.class.getName().hashCode();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -155,6 +155,10 @@ public class CrossTypeExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = e instanceof CrossTypeExp;
 
         if (result) {
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -148,6 +149,10 @@ public class DotExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = (e instanceof DotExp);
 
         if (result) {
@@ -210,6 +215,24 @@ public class DotExp extends MathExp {
         return new DotExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // Only the first segment is part of the hash code, so any prefix of this DotExp (which is what
+        // substituteChildren compares against the keys) has the same hash code. The rest still get visited.
+        int result = DotExp.class.getName().hashCode();
+        for (int i = 0; i < mySegmentExps.size(); i++) {
+            int segmentHash = childHash.applyAsInt(mySegmentExps.get(i));
+            if (i == 0) {
+                result = 31 * result + segmentHash;
+            }
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.absyn.expressions.mathexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -138,6 +139,15 @@ public class DoubleExp extends LiteralExp {
         return new DoubleExp(cloneLocation(), myDouble);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // 0.0 and -0.0 are equivalent, so they need the same hash code
+        return 31 * DoubleExp.class.getName().hashCode() + Double.hashCode(myDouble == 0.0 ? 0.0 : myDouble);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -135,6 +135,10 @@ public class EqualsExp extends InfixExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof EqualsExp;
         if (retval) {
             EqualsExp eAsEquals = (EqualsExp) e;
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -202,6 +203,10 @@ public class FunctionExp extends AbstractFunctionExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof FunctionExp;
 
         if (retval) {
@@ -339,6 +344,22 @@ public class FunctionExp extends AbstractFunctionExp {
         return newFunctionExp;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The qualifier and the quantification are left out, since they can be changed after construction
+        int result = FunctionExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myFuncNameExp);
+        result = 31 * result + childHash.applyAsInt(myFuncNameCaratExp);
+        for (Exp arg : myArguments) {
+            result = 31 * result + childHash.applyAsInt(arg);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
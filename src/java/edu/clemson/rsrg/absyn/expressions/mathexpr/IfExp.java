@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -168,6 +169,10 @@ public class IfExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = e instanceof IfExp;
 
         if (result) {
@@ -256,6 +261,19 @@ public class IfExp extends MathExp {
         return new IfExp(cloneLocation(), myTestingExp.clone(), myThenExp.clone(), newElseExp);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = IfExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myTestingExp);
+        result = 31 * result + childHash.applyAsInt(myThenExp);
+        result = 31 * result + childHash.applyAsInt(myElseExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
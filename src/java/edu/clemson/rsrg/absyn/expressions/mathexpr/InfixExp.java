@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -187,6 +188,10 @@ public class InfixExp extends AbstractFunctionExp {
      */
     @Override
     public boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof InfixExp;
         if (retval) {
             InfixExp eAsInfix = (InfixExp) e;
@@ -286,6 +291,20 @@ public class InfixExp extends AbstractFunctionExp {
                 myRightHandSide.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // EqualsExp inherits this, since an InfixExp key can match an EqualsExp
+        int result = InfixExp.class.getName().hashCode();
+        result = 31 * result + posSymbolHashCode(myOperationName);
+        result = 31 * result + childHash.applyAsInt(myLeftHandSide);
+        result = 31 * result + childHash.applyAsInt(myRightHandSide);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
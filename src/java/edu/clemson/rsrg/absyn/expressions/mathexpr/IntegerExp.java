@@ -16,6 +16,8 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -171,6 +173,14 @@ public class IntegerExp extends LiteralExp {
         return new IntegerExp(cloneLocation(), newQualifier, myInteger);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        return 31 * IntegerExp.class.getName().hashCode() + Objects.hashCode(myInteger);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -243,6 +244,10 @@ public class IterativeExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof IterativeExp;
         if (retval) {
             IterativeExp eAsIterativeExp = (IterativeExp) e;
@@ -343,6 +348,19 @@ public class IterativeExp extends MathExp {
         return new IterativeExp(cloneLocation(), myOperator, (MathVarDec) myVar.clone(), newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = IterativeExp.class.getName().hashCode();
+        result = 31 * result + posSymbolHashCode(myVar.getName());
+        result = 31 * result + childHash.applyAsInt(myWhereExp);
+        result = 31 * result + childHash.applyAsInt(myBodyExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
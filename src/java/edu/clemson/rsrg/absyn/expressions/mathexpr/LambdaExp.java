@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -154,6 +155,10 @@ public class LambdaExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = e instanceof LambdaExp;
         if (result) {
             LambdaExp eAsLambdaExp = (LambdaExp) e;
@@ -230,6 +235,18 @@ public class LambdaExp extends MathExp {
         return new LambdaExp(cloneLocation(), copyParameters(), myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The parameters are left out, since they are compared using MathVarDec's equals
+        int result = LambdaExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myBodyExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
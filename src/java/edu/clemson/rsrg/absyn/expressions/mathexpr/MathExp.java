@@ -82,32 +82,27 @@ public abstract class MathExp extends Exp {
      * @return The resulting {@link Exp}.
      */
     public static MathExp formConjunct(Location l, Exp e1, Exp e2) {
-        if (e1.getMathType() == null) {
-            throw new NullMathTypeException("The math type for " + e1.toString() + " is null.");
-        } else if (e2.getMathType() == null) {
-            throw new NullMathTypeException("The math type for " + e2.toString() + " is null.");
-        }
-
-        TypeGraph typeGraph = e1.getMathType().getTypeGraph();
-        if (typeGraph == null) {
-            throw new MiscErrorException("The type graph is null.", new NullPointerException());
-        }
-
-        // Attempt to find a location for the conjunct
-        Location newExpLoc = cloneLocation(l);
-        if (newExpLoc == null) {
-            newExpLoc = cloneLocation(e1.getLocation());
-
-            if (newExpLoc == null) {
-                newExpLoc = cloneLocation(e2.getLocation());
-            }
-        }
-        Location newPosSymbolLoc = cloneLocation(newExpLoc);
-
-        MathExp retval = new InfixExp(newExpLoc, e1.clone(), null, new PosSymbol(newPosSymbolLoc, "and"), e2.clone());
-        retval.setMathType(typeGraph.BOOLEAN);
+        return createConjunct(l, e1, e2, true);
+    }
 
-        return retval;
+    /**
+     * <p>
+     * This static method forms a conjunct the same way as {@link #formConjunct(Location, Exp, Exp)}, except that the
+     * new conjunct uses {@code e1} and {@code e2} directly instead of deep copies. Callers must not modify either
+     * expression afterwards.
+     * </p>
+     *
+     * @param l
+     *            A {@link Location} for the new conjuncted expression.
+     * @param e1
+     *            The first {@link Exp} representation object.
+     * @param e2
+     *            The second {@link Exp} representation object.
+     *
+     * @return The resulting {@link Exp}.
+     */
+    public static MathExp formSharedConjunct(Location l, Exp e1, Exp e2) {
+        return createConjunct(l, e1, e2, false);
     }
 
     /**
@@ -482,6 +477,53 @@ public abstract class MathExp extends Exp {
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that forms a conjunct with either {@code e1} and {@code e2} or deep copies of them.
+     * </p>
+     *
+     * @param l
+     *            A {@link Location} for the new conjuncted expression.
+     * @param e1
+     *            The first {@link Exp} representation object.
+     * @param e2
+     *            The second {@link Exp} representation object.
+     * @param copyOperands
+     *            A flag that indicates whether or not we need to make deep copies of {@code e1} and {@code e2}.
+     *
+     * @return The resulting {@link Exp}.
+     */
+    private static MathExp createConjunct(Location l, Exp e1, Exp e2, boolean copyOperands) {
+        if (e1.getMathType() == null) {
+            throw new NullMathTypeException("The math type for " + e1.toString() + " is null.");
+        } else if (e2.getMathType() == null) {
+            throw new NullMathTypeException("The math type for " + e2.toString() + " is null.");
+        }
+
+        TypeGraph typeGraph = e1.getMathType().getTypeGraph();
+        if (typeGraph == null) {
+            throw new MiscErrorException("The type graph is null.", new NullPointerException());
+        }
+
+        // Attempt to find a location for the conjunct
+        Location newExpLoc = cloneLocation(l);
+        if (newExpLoc == null) {
+            newExpLoc = cloneLocation(e1.getLocation());
+
+            if (newExpLoc == null) {
+                newExpLoc = cloneLocation(e2.getLocation());
+            }
+        }
+        Location newPosSymbolLoc = cloneLocation(newExpLoc);
+
+        Exp left = copyOperands ? e1.clone() : e1;
+        Exp right = copyOperands ? e2.clone() : e2;
+        MathExp retval = new InfixExp(newExpLoc, left, null, new PosSymbol(newPosSymbolLoc, "and"), right);
+        retval.setMathType(typeGraph.BOOLEAN);
+
+        return retval;
+    }
+
     /**
      * <p>
      * An helper method to clone a {@link Location}.
@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -130,6 +131,10 @@ public class OldExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = (e instanceof OldExp);
         if (retval) {
             OldExp eAsOldExp = (OldExp) e;
@@ -211,6 +216,17 @@ public class OldExp extends MathExp {
         return new OldExp(cloneLocation(), myOrigExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = OldExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myOrigExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
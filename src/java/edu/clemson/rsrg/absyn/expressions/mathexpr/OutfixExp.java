@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -269,6 +270,10 @@ public class OutfixExp extends AbstractFunctionExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof OutfixExp;
 
         if (retval) {
@@ -359,6 +364,18 @@ public class OutfixExp extends AbstractFunctionExp {
         return new OutfixExp(cloneLocation(), myOperator, myArgument.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = OutfixExp.class.getName().hashCode();
+        result = 31 * result + myOperator.ordinal();
+        result = 31 * result + childHash.applyAsInt(myArgument);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
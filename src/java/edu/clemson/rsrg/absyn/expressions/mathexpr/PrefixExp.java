@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -130,6 +131,10 @@ public class PrefixExp extends AbstractFunctionExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = (e instanceof PrefixExp);
 
         if (retval) {
@@ -215,6 +220,18 @@ public class PrefixExp extends AbstractFunctionExp {
         return new PrefixExp(cloneLocation(), qualifier, myOperationName.clone(), myArgument.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = PrefixExp.class.getName().hashCode();
+        result = 31 * result + posSymbolHashCode(myOperationName);
+        result = 31 * result + childHash.applyAsInt(myArgument);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -191,6 +192,10 @@ public class QuantExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof QuantExp;
         if (retval) {
             QuantExp eAsQuantExp = (QuantExp) e;
@@ -303,6 +308,19 @@ public class QuantExp extends MathExp {
         return new QuantExp(cloneLocation(), myQuantification, myVars, newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The bound variables are left out, since they are only compared when both lists are present
+        int result = QuantExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myWhereExp);
+        result = 31 * result + childHash.applyAsInt(myBodyExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -115,6 +116,10 @@ public class RecpExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = false;
         if (e instanceof RecpExp) {
             RecpExp eAsRecpExp = (RecpExp) e;
@@ -165,6 +170,17 @@ public class RecpExp extends MathExp {
         return new RecpExp(cloneLocation(), myVarAsExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = RecpExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myVarAsExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
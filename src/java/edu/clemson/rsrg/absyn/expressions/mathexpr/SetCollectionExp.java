@@ -15,6 +15,7 @@ package edu.clemson.rsrg.absyn.expressions.mathexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -147,6 +148,10 @@ public class SetCollectionExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = (e instanceof SetCollectionExp);
 
         if (result) {
@@ -224,6 +229,21 @@ public class SetCollectionExp extends MathExp {
         return new SetCollectionExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // Members aren't ordered and can be repeated, so only the number of members is part of the hash code
+        int result = SetCollectionExp.class.getName().hashCode();
+        result = 31 * result + myMembers.size();
+        for (MathExp m : myMembers) {
+            childHash.applyAsInt(m);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -157,6 +158,10 @@ public class SetExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = e instanceof SetExp;
         if (retval) {
             SetExp eAsSetExp = (SetExp) e;
@@ -242,6 +247,19 @@ public class SetExp extends MathExp {
         return new SetExp(cloneLocation(), (MathVarDec) myVar.clone(), newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = SetExp.class.getName().hashCode();
+        result = 31 * result + posSymbolHashCode(myVar.getName());
+        result = 31 * result + childHash.applyAsInt(myWhereExp);
+        result = 31 * result + childHash.applyAsInt(myBodyExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
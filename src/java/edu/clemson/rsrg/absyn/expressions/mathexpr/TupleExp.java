@@ -19,6 +19,7 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -167,6 +168,10 @@ public class TupleExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean result = (e instanceof TupleExp);
 
         if (result) {
@@ -296,6 +301,19 @@ public class TupleExp extends MathExp {
         return new TupleExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = TupleExp.class.getName().hashCode();
+        for (Exp e : myFields) {
+            result = 31 * result + childHash.applyAsInt(e);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
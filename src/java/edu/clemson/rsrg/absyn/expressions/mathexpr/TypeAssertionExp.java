@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -169,6 +170,10 @@ public class TypeAssertionExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = (e instanceof TypeAssertionExp);
         if (retval) {
             TypeAssertionExp eAsTypeAssertionExp = (TypeAssertionExp) e;
@@ -232,6 +237,20 @@ public class TypeAssertionExp extends MathExp {
         return new TypeAssertionExp(cloneLocation(), myExp.clone(), getAssertedTy());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The asserted type is substituted into, but it is compared using equals
+        childHash.applyAsInt(myAssertedTy.getArbitraryExp());
+
+        int result = TypeAssertionExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
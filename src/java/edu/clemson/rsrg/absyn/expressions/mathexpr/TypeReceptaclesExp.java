@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -122,6 +123,10 @@ public class TypeReceptaclesExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = false;
         if (e instanceof TypeReceptaclesExp) {
             TypeReceptaclesExp eAsTypeReceptaclesExp = (TypeReceptaclesExp) e;
@@ -172,6 +177,17 @@ public class TypeReceptaclesExp extends MathExp {
         return new TypeReceptaclesExp(cloneLocation(), (VarExp) myTypeAsVarExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = TypeReceptaclesExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myTypeAsVarExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -125,6 +126,10 @@ public class UnaryMinusExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = (e instanceof UnaryMinusExp);
         if (retval) {
             UnaryMinusExp eAsUnaryMinusExp = (UnaryMinusExp) e;
@@ -178,6 +183,17 @@ public class UnaryMinusExp extends MathExp {
         return new UnaryMinusExp(cloneLocation(), myInnerArgumentExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = UnaryMinusExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myInnerArgumentExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -185,6 +186,10 @@ public class VCVarExp extends MathExp {
      */
     @Override
     public final boolean equivalent(Exp e) {
+        if (e == this) {
+            return true;
+        }
+
         boolean retval = false;
         if (e instanceof VCVarExp) {
             VCVarExp eAsVarExp = (VCVarExp) e;
@@ -250,6 +255,18 @@ public class VCVarExp extends MathExp {
         return new VCVarExp(cloneLocation(), myOrigExp.clone(), myStateNum);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = VCVarExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myOrigExp);
+        result = 31 * result + myStateNum;
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
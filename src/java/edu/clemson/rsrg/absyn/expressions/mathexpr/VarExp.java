@@ -19,6 +19,7 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -330,6 +331,15 @@ public class VarExp extends MathExp {
         return new VarExp(cloneLocation(), newQualifier, newName, myQuantification, myIsPrecisDefinitionName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // The qualifier is left out, so qualified keys end up in the same bucket as the function names they match
+        return 31 * VarExp.class.getName().hashCode() + posSymbolHashCode(myName);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.absyn.expressions.programexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -138,6 +139,15 @@ public class ProgramDoubleExp extends ProgramLiteralExp {
         return new ProgramDoubleExp(cloneLocation(), myDouble);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        // 0.0 and -0.0 are equivalent, so they need the same hash code
+        return 31 * ProgramDoubleExp.class.getName().hashCode() + Double.hashCode(myDouble == 0.0 ? 0.0 : myDouble);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -288,6 +289,20 @@ public class ProgramFunctionExp extends ProgramExp {
         return new ProgramFunctionExp(cloneLocation(), newQualifier, myOperationName.clone(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = ProgramFunctionExp.class.getName().hashCode();
+        result = 31 * result + posSymbolHashCode(myOperationName);
+        for (ProgramExp arg : myExpressionArgs) {
+            result = 31 * result + childHash.applyAsInt(arg);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,8 @@ package edu.clemson.rsrg.absyn.expressions.programexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -136,6 +138,14 @@ public class ProgramIntegerExp extends ProgramLiteralExp {
         return new ProgramIntegerExp(cloneLocation(), myInteger);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        return 31 * ProgramIntegerExp.class.getName().hashCode() + Objects.hashCode(myInteger);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -192,6 +193,18 @@ public class ProgramVariableArrayExp extends ProgramVariableExp {
                 myProgramIndexExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = ProgramVariableArrayExp.class.getName().hashCode();
+        result = 31 * result + childHash.applyAsInt(myProgramNameExp);
+        result = 31 * result + childHash.applyAsInt(myProgramIndexExp);
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
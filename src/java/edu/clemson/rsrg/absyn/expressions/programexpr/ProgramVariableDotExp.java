@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -174,6 +175,19 @@ public class ProgramVariableDotExp extends ProgramVariableExp {
         return new ProgramVariableDotExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        int result = ProgramVariableDotExp.class.getName().hashCode();
+        for (ProgramVariableExp segment : mySegmentExps) {
+            result = 31 * result + childHash.applyAsInt(segment);
+        }
+
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
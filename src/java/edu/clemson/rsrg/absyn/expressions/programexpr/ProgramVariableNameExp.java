@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * <p>
@@ -163,6 +164,14 @@ public class ProgramVariableNameExp extends ProgramVariableExp {
         return new ProgramVariableNameExp(cloneLocation(), newQualifier, myVarName.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final int structuralHashCode(ToIntFunction<Exp> childHash) {
+        return 31 * ProgramVariableNameExp.class.getName().hashCode() + posSymbolHashCode(myVarName);
+    }
+
     /**
      * {@inheritDoc}
      */
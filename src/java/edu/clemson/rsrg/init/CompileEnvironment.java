@@ -13,7 +13,9 @@
 package edu.clemson.rsrg.init;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.file.ParsedModuleCache;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.file.WorkspaceFileIndex;
 import edu.clemson.rsrg.init.output.FileOutputListener;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
@@ -98,6 +100,13 @@ public class CompileEnvironment {
      */
     private final List<OutputListener> myOutputListeners;
 
+    /**
+     * <p>
+     * The cache for the modules built from the RESOLVE files. This is {@code null} if we aren't caching modules.
+     * </p>
+     */
+    private final ParsedModuleCache myParsedModuleCache;
+
     /**
      * <p>
      * The symbol table for the compiler.
@@ -119,6 +128,14 @@ public class CompileEnvironment {
      */
     private Map<ResolveFileBasicInfo, ResolveFile> myUserFileMap;
 
+    /**
+     * <p>
+     * The index of all the files in the RESOLVE workspace directory. This is created the first time someone needs to
+     * locate a file.
+     * </p>
+     */
+    private WorkspaceFileIndex myWorkspaceFileIndex = null;
+
     // ===========================================================
     // Objects
     // ===========================================================
@@ -167,6 +184,14 @@ public class CompileEnvironment {
         }
         myCompileDir = Utilities.getWorkspaceDir(path);
 
+        // Check for a module cache directory
+        if (flags.isFlagSet(ResolveCompiler.FLAG_MODULE_CACHE_DIR)) {
+            File cacheDir = new File(flags.getFlagArgument(ResolveCompiler.FLAG_MODULE_CACHE_DIR, "Path"));
+            myParsedModuleCache = new ParsedModuleCache(cacheDir.getAbsoluteFile(), compilerVersion);
+        } else {
+            myParsedModuleCache = null;
+        }
+
         // Check for file error output flag
         if (flags.isFlagSet(ResolveCompiler.FLAG_DEBUG_FILE_OUT)) {
             Date date = new Date();
@@ -325,6 +350,17 @@ public class CompileEnvironment {
         return myOutputListeners;
     }
 
+    /**
+     * <p>
+     * Returns the cache for the modules built from the RESOLVE files.
+     * </p>
+     *
+     * @return A {@link ParsedModuleCache} object or {@code null} if we aren't caching modules.
+     */
+    public final ParsedModuleCache getParsedModuleCache() {
+        return myParsedModuleCache;
+    }
+
     /**
      * <p>
      * Returns the compiler's status handler object.
@@ -384,6 +420,22 @@ public class CompileEnvironment {
         return myCompileDir;
     }
 
+    /**
+     * <p>
+     * Returns the index of all the files in the current RESOLVE workspace directory. The workspace is only walked the
+     * first time this method is called.
+     * </p>
+     *
+     * @return A {@link WorkspaceFileIndex} object
+     */
+    public synchronized final WorkspaceFileIndex getWorkspaceFileIndex() {
+        if (myWorkspaceFileIndex == null) {
+            myWorkspaceFileIndex = new WorkspaceFileIndex(myCompileDir);
+        }
+
+        return myWorkspaceFileIndex;
+    }
+
     /**
      * <p>
      * This checks to see if the module associated with this id is an externally realized file.
@@ -398,6 +450,18 @@ public class CompileEnvironment {
         return myExternalRealizFiles.containsKey(id);
     }
 
+    /**
+     * <p>
+     * This checks to see if the tree walkers for this job should locate and invoke every visitor method using
+     * reflection instead of the cached method handles.
+     * </p>
+     *
+     * @return {@code true} if the reflection based engine was selected, {@code false} otherwise.
+     */
+    public final boolean isReflectiveDispatchSelected() {
+        return flags.isFlagSet(ResolveCompiler.FLAG_REFLECTIVE_WALKER);
+    }
+
     /**
      * <p>
      * This checks to see if the module associated with this id has been compiled or not.
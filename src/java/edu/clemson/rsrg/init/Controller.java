@@ -13,10 +13,11 @@
 package edu.clemson.rsrg.init;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
-import edu.clemson.rsrg.init.file.FileLocator;
 import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ParsedModuleCache;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.file.WorkspaceFileIndex;
 import edu.clemson.rsrg.init.pipeline.*;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
@@ -30,15 +31,21 @@ import edu.clemson.rsrg.statushandling.AntlrParserErrorListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.statushandling.exception.*;
 import edu.clemson.rsrg.translation.AbstractTranslator;
+import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -164,8 +171,16 @@ class Controller {
             g.addVertex(new ModuleIdentifier(targetModule));
             findDependencies(g, targetModule, file.getParentPath());
 
+            // Analyze the imported modules that don't depend on each other in parallel (if requested)
+            ModuleIdentifier targetModuleId = new ModuleIdentifier(targetModule);
+            List<ModuleIdentifier> compileOrder = getCompileOrder(g);
+            int numAnalysisThreads = getNumAnalysisThreads();
+            if (numAnalysisThreads > 1) {
+                analyzeImportedModules(g, compileOrder, targetModuleId, numAnalysisThreads);
+            }
+
             // Perform different compilation tasks to each file
-            for (ModuleIdentifier m : getCompileOrder(g)) {
+            for (ModuleIdentifier m : compileOrder) {
                 // Print the entire ModuleDec
                 if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PRINT_MODULE)
                         && m.equals(new ModuleIdentifier(targetModule))) {
@@ -182,9 +197,11 @@ class Controller {
                     astOutputPipe.process(m);
                 }
 
-                // Type and populate symbol table
-                AnalysisPipeline analysisPipe = new AnalysisPipeline(myCompileEnvironment, mySymbolTable);
-                analysisPipe.process(m);
+                // Type and populate symbol table (unless we have already done it in parallel)
+                if (numAnalysisThreads <= 1 || m.equals(targetModuleId)) {
+                    AnalysisPipeline analysisPipe = new AnalysisPipeline(myCompileEnvironment, mySymbolTable);
+                    analysisPipe.process(m);
+                }
 
                 // Translate source file to target file
                 if (myCompileEnvironment.flags.isFlagSet(AbstractTranslator.FLAG_TRANSLATE)
@@ -203,7 +220,7 @@ class Controller {
                     // Invoke Automated Prover (if requested)
                     if (myCompileEnvironment.flags.isFlagSet(CongruenceClassProver.FLAG_PROVE)
                             && m.equals(new ModuleIdentifier(targetModule))) {
-                        ProverPipeline proverPipeline = new ProverPipeline(myCompileEnvironment, mySymbolTable);
+                        ProverPipeline proverPipeline = new ProverPipeline(myCompileEnvironment, mySymbolTable, vcs);
                         proverPipeline.process(m);
                     }
 
@@ -262,18 +279,17 @@ class Controller {
      */
     private void addFileAsExternalImport(String importName) {
         try {
-            FileLocator l = new FileLocator(importName, NON_NATIVE_EXT);
             File workspaceDir = myCompileEnvironment.getWorkspaceDir();
-            Files.walkFileTree(workspaceDir.toPath(), l);
+            List<File> foundFiles = myCompileEnvironment.getWorkspaceFileIndex().findFiles(workspaceDir.toPath(),
+                    importName, NON_NATIVE_EXT);
 
             // Only attempt to add
-            List<File> foundFiles = l.getFiles();
             if (foundFiles.size() == 1) {
                 ModuleIdentifier externalImport = new ModuleIdentifier(importName);
 
                 // Add this as an external realiz file if it is not already declared to be one.
                 if (!myCompileEnvironment.isExternalRealizFile(externalImport)) {
-                    myCompileEnvironment.addExternalRealizFile(externalImport, l.getFile());
+                    myCompileEnvironment.addExternalRealizFile(externalImport, foundFiles.get(0));
 
                     // Print out debugging message
                     if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
@@ -288,11 +304,103 @@ class Controller {
         }
     }
 
+    /**
+     * <p>
+     * This method types and populates the symbol table for every module in {@code compileOrder} except the target
+     * module using a bounded pool of worker threads. A module is handed to a worker as soon as all the modules it
+     * imports have been analyzed, so modules that don't depend on each other can be analyzed at the same time. Ready
+     * modules are submitted in compile order.
+     * </p>
+     *
+     * @param g
+     *            The compilation's file dependency graph.
+     * @param compileOrder
+     *            The modules that need to be compiled in dependency order.
+     * @param targetModuleId
+     *            The target module's identifier. This module depends on every other module and is left for the caller.
+     * @param numThreads
+     *            The maximum number of worker threads.
+     */
+    private void analyzeImportedModules(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g,
+            List<ModuleIdentifier> compileOrder, ModuleIdentifier targetModuleId, int numThreads) {
+        // Count the number of imports that still need to be analyzed for each module
+        Map<ModuleIdentifier, Integer> numPendingImports = new LinkedHashMap<>();
+        for (ModuleIdentifier m : compileOrder) {
+            if (!m.equals(targetModuleId)) {
+                numPendingImports.put(m, 0);
+            }
+        }
+        for (ModuleIdentifier m : numPendingImports.keySet()) {
+            for (DefaultEdge edge : g.outgoingEdgesOf(m)) {
+                if (numPendingImports.containsKey(g.getEdgeTarget(edge))) {
+                    numPendingImports.put(m, numPendingImports.get(m) + 1);
+                }
+            }
+        }
+
+        if (numPendingImports.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger workerCount = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, numPendingImports.size()),
+                runnable -> {
+                    Thread worker = new Thread(runnable, "analysis-worker-" + workerCount.incrementAndGet());
+                    worker.setDaemon(true);
+                    return worker;
+                });
+
+        try {
+            CompletionService<ModuleIdentifier> completionService = new ExecutorCompletionService<>(executor);
+            int numSubmitted = 0;
+            for (Map.Entry<ModuleIdentifier, Integer> entry : numPendingImports.entrySet()) {
+                if (entry.getValue() == 0) {
+                    submitAnalysis(completionService, entry.getKey());
+                    numSubmitted++;
+                }
+            }
+
+            // Each completed module might allow some of the modules that import it to be analyzed
+            for (int numCompleted = 0; numCompleted < numSubmitted; numCompleted++) {
+                ModuleIdentifier completed = completionService.take().get();
+                for (ModuleIdentifier m : numPendingImports.keySet()) {
+                    if (g.containsEdge(m, completed)) {
+                        int remaining = numPendingImports.get(m) - 1;
+                        numPendingImports.put(m, remaining);
+                        if (remaining == 0) {
+                            submitAnalysis(completionService, m);
+                            numSubmitted++;
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MiscErrorException("Interrupted while analyzing imported modules.", e);
+        } catch (ExecutionException e) {
+            // Let the caller report the actual error
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MiscErrorException("Error encountered while analyzing imported modules.", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * <p>
      * This method uses the {@link ResolveFile} provided to construct a parser and create an ANTLR4 module AST.
      * </p>
      *
+     * <p>
+     * If we are caching modules, the module is restored from the cache when the file hasn't changed since it was
+     * stored. Otherwise, we store the module we built for the next compilation.
+     * </p>
+     *
      * @param file
      *            The RESOLVE file that we are going to compile.
      *
@@ -309,6 +417,20 @@ class Controller {
             throw new MiscErrorException("CharStream null", new IllegalArgumentException());
         }
 
+        // Check to see if we have already built this module
+        ParsedModuleCache moduleCache = myCompileEnvironment.getParsedModuleCache();
+        if (moduleCache != null) {
+            ModuleDec cachedModule = moduleCache.get(file, myCompileEnvironment.getTypeGraph());
+            if (cachedModule != null) {
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                    myStatusHandler.info(null, "Restored " + file.getName() + " from the module cache.");
+                }
+
+                return cachedModule;
+            }
+        }
+        int numLexerErrors = myAntlrLexerErrorListener.getNumberOfSyntaxErrors();
+
         // Create a RESOLVE language lexer
         ResolveLexer lexer = new ResolveLexer(input);
         ResolveTokenFactory factory = new ResolveTokenFactory(file);
@@ -347,10 +469,27 @@ class Controller {
         }
 
         // Build the intermediate representation
+        // (any tree walkers used while building it use the engine selected for this job)
         TreeBuildingListener v = new TreeBuildingListener(file, myCompileEnvironment.getTypeGraph());
-        ParseTreeWalker.DEFAULT.walk(v, rootModuleCtx);
+        ParserRuleContext parsedModuleCtx = rootModuleCtx;
+        ModuleDec module = TreeWalker.withDefaultDispatch(myCompileEnvironment.isReflectiveDispatchSelected(), () -> {
+            ParseTreeWalker.DEFAULT.walk(v, parsedModuleCtx);
+            return v.getModule();
+        });
+
+        // Store the module for the next compilation (unless the lexer had something to complain about)
+        if (moduleCache != null && numLexerErrors == myAntlrLexerErrorListener.getNumberOfSyntaxErrors()) {
+            try {
+                moduleCache.put(file, module, myCompileEnvironment.getTypeGraph());
+            } catch (IOException ioe) {
+                // Don't do anything. We will simply parse this file again next time.
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                    myStatusHandler.info(null, "Could not store " + file.getName() + " in the module cache: " + ioe);
+                }
+            }
+        }
 
-        return v.getModule();
+        return module;
     }
 
     /**
@@ -455,22 +594,20 @@ class Controller {
                 // There might be files with the same name all throughout the workspace,
                 // so ideally we want to start from the innermost path possible.
                 File actualFile = null;
+                WorkspaceFileIndex fileIndex = myCompileEnvironment.getWorkspaceFileIndex();
                 if (parentPath != null) {
                     try {
-                        FileLocator l = new FileLocator(fileBasicInfo.getName(), ModuleType.getAllExtensions());
-
                         // If our file's basic information contains a parent directory
                         // that matches a file we have already compiled, use that path
                         // instead of the parent path passed in.
+                        Path searchPath = parentPath;
                         if (myCompileEnvironment.containsID(new ModuleIdentifier(fileBasicInfo.getParentDirName()))) {
-                            Files.walkFileTree(myCompileEnvironment
-                                    .getFile(new ModuleIdentifier(fileBasicInfo.getParentDirName())).getParentPath(),
-                                    l);
-                        } else {
-                            Files.walkFileTree(parentPath, l);
+                            searchPath = myCompileEnvironment
+                                    .getFile(new ModuleIdentifier(fileBasicInfo.getParentDirName())).getParentPath();
                         }
 
-                        actualFile = l.getFile();
+                        actualFile = fileIndex.findFile(searchPath, fileBasicInfo.getName(),
+                                ModuleType.getAllExtensions());
                     } catch (IOException ioe2) {
                         // Don't do anything. We simply didn't find it using the parent path.
                     }
@@ -479,9 +616,8 @@ class Controller {
                 // If we couldn't find it, try searching the entire workspace.
                 File workspaceDir = myCompileEnvironment.getWorkspaceDir();
                 if (actualFile == null) {
-                    FileLocator l = new FileLocator(fileBasicInfo.getName(), ModuleType.getAllExtensions());
-                    Files.walkFileTree(workspaceDir.toPath(), l);
-                    actualFile = l.getFile();
+                    actualFile = fileIndex.findFile(workspaceDir.toPath(), fileBasicInfo.getName(),
+                            ModuleType.getAllExtensions());
                 }
 
                 // Convert to ResolveFile
@@ -522,6 +658,23 @@ class Controller {
         return result;
     }
 
+    /**
+     * <p>
+     * This method returns the number of worker threads we can use to analyze the imported modules.
+     * </p>
+     *
+     * @return The number of worker threads. A value of {@code 1} means that the modules are analyzed one at a time.
+     */
+    private int getNumAnalysisThreads() {
+        int numThreads = 1;
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_ANALYSIS_THREADS)) {
+            numThreads = Math.max(1, Integer.parseInt(
+                    myCompileEnvironment.flags.getFlagArgument(ResolveCompiler.FLAG_ANALYSIS_THREADS, "numThreads")));
+        }
+
+        return numThreads;
+    }
+
     /**
      * <p>
      * This method is used to check for circular dependencies when importing modules using our file dependencies graph.
@@ -554,4 +707,24 @@ class Controller {
         }
         return false;
     }
+
+    /**
+     * <p>
+     * An helper method that submits a module to be typed and populated by one of the worker threads.
+     * </p>
+     *
+     * @param completionService
+     *            The service that runs the worker threads.
+     * @param m
+     *            The module's identifier.
+     */
+    private void submitAnalysis(CompletionService<ModuleIdentifier> completionService, ModuleIdentifier m) {
+        completionService.submit(() -> {
+            AnalysisPipeline analysisPipe = new AnalysisPipeline(myCompileEnvironment, mySymbolTable);
+            analysisPipe.process(m);
+
+            return m;
+        });
+    }
+
 }
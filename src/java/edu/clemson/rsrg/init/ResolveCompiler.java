@@ -108,10 +108,15 @@ public class ResolveCompiler {
     private static final String FLAG_DESC_PRINT_MODULE = "Print the modules we are compiling.";
     private static final String FLAG_DESC_EXPORT_AST = "Exports the AST for the target file as a .dot file that can be viewed in Graphviz";
     private static final String FLAG_DESC_WORKSPACE_DIR = "Changes the workspace directory path.";
+    private static final String FLAG_DESC_REFLECTIVE_WALKER = "Locate and invoke every tree walker visitor method using reflection instead of the cached method handles.";
+    private static final String FLAG_DESC_ANALYSIS_THREADS = "Number of worker threads used to analyze independent imported modules in parallel.";
+    private static final String FLAG_DESC_MODULE_CACHE_DIR = "Reuse the modules built from unchanged files by storing them in the specified directory.";
     private static final String FLAG_SECTION_GENERAL = "General";
     private static final String FLAG_SECTION_DEBUG = "Debugging";
 
     private static final String[] WORKSPACE_DIR_ARG_NAME = { "Path" };
+    private static final String[] ANALYSIS_THREADS_ARG_NAME = { "numThreads" };
+    private static final String[] MODULE_CACHE_DIR_ARG_NAME = { "Path" };
 
     // ===========================================================
     // Flags
@@ -184,6 +189,32 @@ public class ResolveCompiler {
     static final Flag FLAG_WORKSPACE_DIR = new Flag(FLAG_SECTION_GENERAL, "workspaceDir", FLAG_DESC_WORKSPACE_DIR,
             WORKSPACE_DIR_ARG_NAME);
 
+    /**
+     * <p>
+     * Tells the compiler to use the reflection based tree walker engine. This is used to compare the two engines.
+     * </p>
+     */
+    static final Flag FLAG_REFLECTIVE_WALKER = new Flag(FLAG_SECTION_DEBUG, "reflectiveWalker",
+            FLAG_DESC_REFLECTIVE_WALKER, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tells the compiler how many worker threads it can use to analyze the imported modules. Modules are analyzed one
+     * at a time in dependency order unless this is set to more than one thread.
+     * </p>
+     */
+    static final Flag FLAG_ANALYSIS_THREADS = new Flag(FLAG_SECTION_GENERAL, "analysisThreads",
+            FLAG_DESC_ANALYSIS_THREADS, ANALYSIS_THREADS_ARG_NAME, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tells the compiler where to store the modules it has built, so that later compilations don't need to parse the
+     * files that haven't changed again.
+     * </p>
+     */
+    static final Flag FLAG_MODULE_CACHE_DIR = new Flag(FLAG_SECTION_GENERAL, "moduleCacheDir",
+            FLAG_DESC_MODULE_CACHE_DIR, MODULE_CACHE_DIR_ARG_NAME);
+
     // ===========================================================
     // Constructors
     // ===========================================================
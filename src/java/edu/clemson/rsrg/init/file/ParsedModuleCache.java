@@ -0,0 +1,512 @@
+/*
+ * ParsedModuleCache.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.file;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * <p>
+ * This is an on-disk cache of the {@link ModuleDec ModuleDecs} built from RESOLVE files. Each module is stored in its
+ * own file, which is named after a hash of the compiler version, the name of the file and its contents. A file that
+ * hasn't changed since the last compilation can be restored from the cache instead of being lexed, parsed and built
+ * again.
+ * </p>
+ *
+ * <p>
+ * The modules are stored using Java serialization. The objects that belong to the compilation rather than to the module
+ * (the {@link ResolveFile} and the built-in types of the {@link TypeGraph}) are replaced by placeholders that are
+ * resolved against the current compilation when the module is restored. If a module can't be stored this way (for
+ * example, because it refers to a type we don't know how to replace), it simply isn't cached. If a cached module can't
+ * be restored (for example, because it was stored by a different version of the compiler), we parse the file as usual.
+ * </p>
+ *
+ * <p>
+ * Since anyone who can write to the cache directory controls what we deserialize, a cached module may only contain the
+ * classes we expect to find in a module.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ParsedModuleCache {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The directory that contains the cached modules.
+     * </p>
+     */
+    private final Path myCacheDir;
+
+    /**
+     * <p>
+     * The current compiler version.
+     * </p>
+     */
+    private final String myCompilerVersion;
+
+    /**
+     * <p>
+     * The extension for the cached module files.
+     * </p>
+     */
+    private static final String CACHE_FILE_EXT = ".ast";
+
+    /**
+     * <p>
+     * The only classes we are willing to restore from a cached module. Besides the AST classes, this covers our
+     * placeholders and the objects they are resolved to, the enumerations the AST refers to, and the boxed primitives
+     * and collections that the AST classes use. Everything else is rejected before it is instantiated, so a cache file
+     * that has been tampered with can't be used to run code in the compiler.
+     * </p>
+     */
+    private static final ObjectInputFilter MODULE_CLASS_FILTER = ObjectInputFilter.Config
+            .createFilter("edu.clemson.rsrg.absyn.**;edu.clemson.rsrg.parsing.data.*;"
+                    + "edu.clemson.rsrg.init.file.ParsedModuleCache$*;edu.clemson.rsrg.init.file.ResolveFileBasicInfo;"
+                    + "edu.clemson.rsrg.typeandpopulate.entry.ProgramParameterEntry$ParameterMode;"
+                    + "edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry$Quantification;"
+                    + "edu.clemson.rsrg.typeandpopulate.mathtypes.*;java.lang.Boolean;java.lang.Character;"
+                    + "java.lang.Enum;java.lang.Integer;java.lang.Long;java.lang.Number;java.lang.Object;"
+                    + "java.lang.String;java.util.ArrayList;java.util.CollSer;java.util.Collections$*;"
+                    + "java.util.HashMap;java.util.HashSet;java.util.Hashtable;java.util.IdentityHashMap;"
+                    + "java.util.ImmutableCollections$*;java.util.LinkedHashMap;java.util.LinkedHashSet;"
+                    + "java.util.LinkedList;java.util.Map$Entry;!*");
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a cache that stores the modules in {@code cacheDir}.
+     * </p>
+     *
+     * @param cacheDir
+     *            The directory that contains the cached modules. It is created when we store the first module.
+     * @param compilerVersion
+     *            The current compiler version.
+     */
+    public ParsedModuleCache(File cacheDir, String compilerVersion) {
+        myCacheDir = cacheDir.toPath();
+        myCompilerVersion = compilerVersion;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method restores the module built from {@code file} if it is in the cache.
+     * </p>
+     *
+     * @param file
+     *            A RESOLVE file.
+     * @param g
+     *            The current compilation's type graph.
+     *
+     * @return The {@link ModuleDec} if we were able to restore it, {@code null} otherwise.
+     */
+    public final ModuleDec get(ResolveFile file, TypeGraph g) {
+        Path cacheFile = getCacheFile(file);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (ModuleInputStream in = new ModuleInputStream(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(cacheFile))), file, g)) {
+            if (!myCompilerVersion.equals(in.readUTF())) {
+                return null;
+            }
+
+            return (ModuleDec) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            // Most likely the module was stored by a different version of
+            // the compiler, so we will need to parse it again. Modules that
+            // contain a class we don't allow end up here as well.
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * This method stores the module built from {@code file} in the cache.
+     * </p>
+     *
+     * @param file
+     *            A RESOLVE file.
+     * @param moduleDec
+     *            The module built from {@code file}.
+     * @param g
+     *            The current compilation's type graph.
+     *
+     * @throws IOException
+     *             We couldn't store the module.
+     */
+    public final void put(ResolveFile file, ModuleDec moduleDec, TypeGraph g) throws IOException {
+        // Write the module to a temporary file first, so that no one ever
+        // sees a partially written module.
+        Files.createDirectories(myCacheDir);
+        Path cacheFile = getCacheFile(file);
+        Path tempFile = Files.createTempFile(myCacheDir, file.getName(), CACHE_FILE_EXT + ".tmp");
+        try {
+            try (ModuleOutputStream out = new ModuleOutputStream(
+                    new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile))), file, g)) {
+                out.writeUTF(myCompilerVersion);
+                out.writeObject(moduleDec);
+            }
+
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the built-in types in a type graph that can be replaced by placeholders.
+     * </p>
+     *
+     * @param g
+     *            The current compilation's type graph.
+     *
+     * @return A map from the names of the types to the types.
+     */
+    private static Map<String, MTType> getBuiltInTypes(TypeGraph g) {
+        Map<String, MTType> builtInTypes = new LinkedHashMap<>();
+        builtInTypes.put("ELEMENT", g.ELEMENT);
+        builtInTypes.put("ENTITY", g.ENTITY);
+        builtInTypes.put("CLS", g.CLS);
+        builtInTypes.put("SSET", g.SSET);
+        builtInTypes.put("BOOLEAN", g.BOOLEAN);
+        builtInTypes.put("R", g.R);
+        builtInTypes.put("ATOM", g.ATOM);
+        builtInTypes.put("VOID", g.VOID);
+        builtInTypes.put("EMPTY_CLASS", g.EMPTY_CLASS);
+        builtInTypes.put("EMPTY_SET", g.EMPTY_SET);
+        builtInTypes.put("RECEPTACLES", g.RECEPTACLES);
+
+        return builtInTypes;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the cache file for the module built from {@code file}.
+     * </p>
+     *
+     * @param file
+     *            A RESOLVE file.
+     *
+     * @return The path to the cache file.
+     */
+    private Path getCacheFile(ResolveFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        CharStream input = file.getInputStream();
+        digest.update(myCompilerVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(file.getModuleType().getExtension().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(input.getText(Interval.of(0, input.size() - 1)).getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder sb = new StringBuilder(file.getName());
+        sb.append("_");
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        sb.append(CACHE_FILE_EXT);
+
+        return myCacheDir.resolve(sb.toString());
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An object input stream that resolves the placeholders written by a {@link ModuleOutputStream}.
+     * </p>
+     */
+    private static class ModuleInputStream extends ObjectInputStream {
+
+        /**
+         * <p>
+         * The built-in types in the current compilation's type graph.
+         * </p>
+         */
+        private final Map<String, MTType> myBuiltInTypes;
+
+        /**
+         * <p>
+         * The file the module was built from.
+         * </p>
+         */
+        private final ResolveFile myFile;
+
+        /**
+         * <p>
+         * This creates an input stream that restores a module built from {@code file}.
+         * </p>
+         *
+         * @param in
+         *            The underlying input stream.
+         * @param file
+         *            The file the module was built from.
+         * @param g
+         *            The current compilation's type graph.
+         *
+         * @throws IOException
+         *             We couldn't read the stream header.
+         */
+        ModuleInputStream(InputStream in, ResolveFile file, TypeGraph g) throws IOException {
+            super(in);
+            myBuiltInTypes = getBuiltInTypes(g);
+            myFile = file;
+            enableResolveObject(true);
+            setObjectInputFilter(MODULE_CLASS_FILTER);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final Object resolveObject(Object obj) throws IOException {
+            Object result = obj;
+            if (obj instanceof LocationPlaceholder) {
+                LocationPlaceholder location = (LocationPlaceholder) obj;
+                result = new Location(myFile, location.line, location.column);
+            } else if (obj instanceof PosSymbolPlaceholder) {
+                PosSymbolPlaceholder posSymbol = (PosSymbolPlaceholder) obj;
+                result = new PosSymbol((Location) posSymbol.location, posSymbol.name);
+            } else if (obj instanceof TypePlaceholder) {
+                result = myBuiltInTypes.get(((TypePlaceholder) obj).name);
+                if (result == null) {
+                    throw new InvalidObjectException("Unknown built-in type: " + ((TypePlaceholder) obj).name);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * <p>
+     * An object output stream that replaces the objects that belong to the compilation with placeholders.
+     * </p>
+     */
+    private static class ModuleOutputStream extends ObjectOutputStream {
+
+        /**
+         * <p>
+         * The names of the built-in types in the current compilation's type graph.
+         * </p>
+         */
+        private final Map<MTType, String> myBuiltInTypeNames;
+
+        /**
+         * <p>
+         * The file the module was built from.
+         * </p>
+         */
+        private final ResolveFile myFile;
+
+        /**
+         * <p>
+         * This creates an output stream that stores a module built from {@code file}.
+         * </p>
+         *
+         * @param out
+         *            The underlying output stream.
+         * @param file
+         *            The file the module was built from.
+         * @param g
+         *            The current compilation's type graph.
+         *
+         * @throws IOException
+         *             We couldn't write the stream header.
+         */
+        ModuleOutputStream(OutputStream out, ResolveFile file, TypeGraph g) throws IOException {
+            super(out);
+            myBuiltInTypeNames = new IdentityHashMap<>();
+            for (Map.Entry<String, MTType> entry : getBuiltInTypes(g).entrySet()) {
+                myBuiltInTypeNames.put(entry.getValue(), entry.getKey());
+            }
+            myFile = file;
+            enableReplaceObject(true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final Object replaceObject(Object obj) throws IOException {
+            Object result = obj;
+            if (obj instanceof Location) {
+                Location location = (Location) obj;
+                if (location.getFile() != myFile) {
+                    throw new NotSerializableException("Location in another file: " + location);
+                }
+
+                result = new LocationPlaceholder(location.getLine(), location.getColumn());
+            } else if (obj instanceof PosSymbol) {
+                PosSymbol posSymbol = (PosSymbol) obj;
+                result = new PosSymbolPlaceholder(posSymbol.getLocation(), posSymbol.getName());
+            } else if (obj instanceof MTType) {
+                String name = myBuiltInTypeNames.get(obj);
+                if (name == null) {
+                    throw new NotSerializableException("Not a built-in type: " + obj);
+                }
+
+                result = new TypePlaceholder(name);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * <p>
+     * The placeholder for a {@link Location} in the file the module was built from.
+     * </p>
+     */
+    private static class LocationPlaceholder implements Serializable {
+
+        /**
+         * <p>
+         * The column number.
+         * </p>
+         */
+        private final int column;
+
+        /**
+         * <p>
+         * The line number.
+         * </p>
+         */
+        private final int line;
+
+        /**
+         * <p>
+         * This creates a placeholder for a location.
+         * </p>
+         *
+         * @param line
+         *            The line number.
+         * @param column
+         *            The column number.
+         */
+        LocationPlaceholder(int line, int column) {
+            this.line = line;
+            this.column = column;
+        }
+    }
+
+    /**
+     * <p>
+     * The placeholder for a {@link PosSymbol}. The symbols are shared by every {@link PosSymbol} with the same name, so
+     * we need to create the {@link PosSymbol} again rather than restore it.
+     * </p>
+     */
+    private static class PosSymbolPlaceholder implements Serializable {
+
+        /**
+         * <p>
+         * The symbol's location. This is a {@link Location} once it has been restored.
+         * </p>
+         */
+        private final Object location;
+
+        /**
+         * <p>
+         * The symbol's name.
+         * </p>
+         */
+        private final String name;
+
+        /**
+         * <p>
+         * This creates a placeholder for a symbol.
+         * </p>
+         *
+         * @param location
+         *            The symbol's location.
+         * @param name
+         *            The symbol's name.
+         */
+        PosSymbolPlaceholder(Object location, String name) {
+            this.location = location;
+            this.name = name;
+        }
+    }
+
+    /**
+     * <p>
+     * The placeholder for one of the built-in types in the {@link TypeGraph}.
+     * </p>
+     */
+    private static class TypePlaceholder implements Serializable {
+
+        /**
+         * <p>
+         * The name of the type's field in the {@link TypeGraph}.
+         * </p>
+         */
+        private final String name;
+
+        /**
+         * <p>
+         * This creates a placeholder for a built-in type.
+         * </p>
+         *
+         * @param name
+         *            The name of the type's field in the {@link TypeGraph}.
+         */
+        TypePlaceholder(String name) {
+            this.name = name;
+        }
+    }
+
+}
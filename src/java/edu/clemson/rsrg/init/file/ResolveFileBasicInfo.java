@@ -12,6 +12,8 @@
  */
 package edu.clemson.rsrg.init.file;
 
+import java.io.Serializable;
+
 /**
  * <p>
  * This class contains all the basic information for describing a {@link ResolveFile}.
@@ -21,7 +23,7 @@ package edu.clemson.rsrg.init.file;
  *
  * @version 1.0
  */
-public class ResolveFileBasicInfo {
+public class ResolveFileBasicInfo implements Serializable {
 
     // ===========================================================
     // Member Fields
@@ -0,0 +1,213 @@
+/*
+ * WorkspaceFileIndex.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.file;
+
+import edu.clemson.rsrg.misc.Utilities;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * <p>
+ * An index of every file in a RESOLVE workspace by name. The workspace is walked once when the index is created, so
+ * locating a module or an externally realized file doesn't need to walk the directory tree again.
+ * </p>
+ *
+ * <p>
+ * A search can be restricted to a directory inside the workspace, which gives us the same results as using a
+ * {@link FileLocator} to walk that directory. Searches that start outside of the workspace, or any search when we
+ * couldn't read part of the workspace, fall back to walking the directory tree.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class WorkspaceFileIndex {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map from the lower case file names without their extensions to the files in the workspace with that name.
+     * </p>
+     */
+    private final Map<String, List<Path>> myFilesByName;
+
+    /**
+     * <p>
+     * This indicates if we were able to visit every file in the workspace.
+     * </p>
+     */
+    private boolean myIsComplete;
+
+    /**
+     * <p>
+     * The absolute and normalized path to the workspace.
+     * </p>
+     */
+    private final Path myWorkspacePath;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an index for all the files in {@code workspaceDir}.
+     * </p>
+     *
+     * @param workspaceDir
+     *            The RESOLVE workspace directory.
+     */
+    public WorkspaceFileIndex(File workspaceDir) {
+        myFilesByName = new HashMap<>();
+        myIsComplete = true;
+        myWorkspacePath = workspaceDir.toPath().toAbsolutePath().normalize();
+
+        try {
+            Files.walkFileTree(myWorkspacePath, new SimpleFileVisitor<>() {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public final FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    Path name = file.getFileName();
+                    if (name != null) {
+                        myFilesByName.computeIfAbsent(getIndexKey(name), k -> new ArrayList<>(1)).add(file);
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public final FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    myIsComplete = false;
+
+                    return FileVisitResult.TERMINATE;
+                }
+            });
+        } catch (IOException ioe) {
+            myIsComplete = false;
+        }
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Returns the single file inside {@code searchPath} that has the name {@code name} and one of the
+     * {@code extensions}.
+     * </p>
+     *
+     * @param searchPath
+     *            The directory to search in.
+     * @param name
+     *            An extensionless file name.
+     * @param extensions
+     *            An list of valid extensions (e.g. {@code ["java", "c", "h"]}).
+     *
+     * @return The matching file.
+     *
+     * @throws FileSystemException
+     *             If a file matching {@code name} could not be found or if we found more than one file.
+     * @throws IOException
+     *             We couldn't walk {@code searchPath}.
+     */
+    public final File findFile(Path searchPath, String name, List<String> extensions) throws IOException {
+        List<File> matches = findFiles(searchPath, name, extensions);
+        if (matches.size() == 0) {
+            throw new NoSuchFileException("File matching name '" + name + "' could not be found");
+        } else if (matches.size() > 1) {
+            throw new FileSystemException("Found more than one file matching the name '" + name + "'.");
+        }
+
+        return matches.get(0);
+    }
+
+    /**
+     * <p>
+     * Returns all the files inside {@code searchPath} that have the name {@code name} and one of the
+     * {@code extensions}.
+     * </p>
+     *
+     * @param searchPath
+     *            The directory to search in.
+     * @param name
+     *            An extensionless file name.
+     * @param extensions
+     *            An list of valid extensions (e.g. {@code ["java", "c", "h"]}).
+     *
+     * @return A list of matching files. The paths start with {@code searchPath}, just like the ones we would have
+     *         obtained by walking it.
+     *
+     * @throws IOException
+     *             We couldn't walk {@code searchPath}.
+     */
+    public final List<File> findFiles(Path searchPath, String name, List<String> extensions) throws IOException {
+        Path normalizedSearchPath = searchPath.toAbsolutePath().normalize();
+        if (!myIsComplete || !normalizedSearchPath.startsWith(myWorkspacePath)) {
+            FileLocator l = new FileLocator(name, extensions);
+            Files.walkFileTree(searchPath, l);
+
+            return l.getFiles();
+        }
+
+        List<File> matches = new ArrayList<>(1);
+        List<Path> candidates = myFilesByName.get(name.toLowerCase(Locale.ROOT));
+        if (candidates != null) {
+            PathMatcher pathMatcher = FileSystems.getDefault()
+                    .getPathMatcher("glob:" + name + "." + Utilities.join(extensions, ",", "{", "}"));
+            for (Path file : candidates) {
+                if (file.startsWith(normalizedSearchPath) && pathMatcher.matches(file.getFileName())) {
+                    matches.add(searchPath.resolve(normalizedSearchPath.relativize(file)).toFile());
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the key we use to index a file name.
+     * </p>
+     *
+     * @param fileName
+     *            A file name.
+     *
+     * @return The lower case file name without its extension.
+     */
+    private static String getIndexKey(Path fileName) {
+        String name = fileName.toString();
+        int extensionStart = name.lastIndexOf('.');
+        if (extensionStart >= 0) {
+            name = name.substring(0, extensionStart);
+        }
+
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -17,6 +17,7 @@ import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
+import edu.clemson.rsrg.prover.CongruenceClassProver;
 import edu.clemson.rsrg.prover.output.Metrics;
 import edu.clemson.rsrg.prover.output.PerVCProverModel;
 import edu.clemson.rsrg.statushandling.StatusHandler;
@@ -31,12 +32,12 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import org.stringtemplate.v4.ST;
-import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
-import org.stringtemplate.v4.StringRenderer;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import org.stringtemplate.v4.*;
 
 /**
  * <p>
@@ -54,6 +55,13 @@ public class FileOutputListener implements OutputListener {
     // Member Fields
     // ===========================================================
 
+    /**
+     * <p>
+     * The {@code VC} results from the {@link CongruenceClassProver} that haven't been written to file.
+     * </p>
+     */
+    private final List<CCProverVCResult> myCCProverVCResults;
+
     /**
      * <p>
      * This is the status handler for the RESOLVE compiler.
@@ -74,6 +82,7 @@ public class FileOutputListener implements OutputListener {
      *            The status handler for the RESOLVE compiler.
      */
     public FileOutputListener(StatusHandler handler) {
+        myCCProverVCResults = new ArrayList<>();
         myStatusHandler = handler;
     }
 
@@ -154,66 +163,73 @@ public class FileOutputListener implements OutputListener {
     @Override
     public final void nProverResult(String inputFileName, String outputFileName, long timeOut, int numTries,
             List<VCProverResult> results, long totalTime, String verboseOutput) {
-        StringBuilder sb = new StringBuilder();
-
         // String template to hold the VC generation details
         STGroup group = new STGroupFile("templates/proverOutput.stg");
         group.registerRenderer(String.class, new StringRenderer());
-        ST model = group.getInstanceOf("outputProofFile").add("fileName", inputFileName)
-                .add("dateGenerated", new Date()).add("proverName", "General Purpose Prover").add("timeOut", timeOut)
-                .add("numTries", numTries).add("totalTime", totalTime);
-
-        // Store the results for each VC
-        int numProved = 0;
-        int numUnproved = 0;
-        for (VCProverResult result : results) {
-            // Create a model for adding all the details
-            // associated with this VC.
-            ST vcProofModel = group.getInstanceOf("outputVCProofResult");
-            vcProofModel.add("vcNum", result.getVerificationCondition().getName());
-            vcProofModel.add("isProved", result.isProved());
-            vcProofModel.add("wasSkipped", result.getWasSkippedFlag());
-            vcProofModel.add("timedOut", result.getTimedOutFlag());
-            vcProofModel.add("time", result.getProofTime());
 
-            // Increment count
-            if (result.isProved()) {
-                numProved++;
-            } else {
-                numUnproved++;
-            }
-
-            // Add the VC to the model
-            model.add("vcs", vcProofModel.render());
-        }
-
-        // Store the number of proved and unproved VCs
-        model.add("numProved", numProved);
-        model.add("numUnproved", numUnproved);
-
-        // Append the VC proof details from the model
-        sb.append(model.render());
-
-        // Append VC details with any verbose output
-        sb.append(verboseOutput);
-
-        // Output the results to file
-        writeToFile(outputFileName + ".gp.proof", sb.toString());
+        // Output the results to file as we go
+        writeToFile(outputFileName + ".gp.proof", writer -> {
+            STWriter stWriter = new AutoIndentWriter(writer);
+            writeProofResults(group, stWriter, inputFileName, "General Purpose Prover", timeOut, numTries, totalTime,
+                    results, VCProverResult::isProved,
+                    (vcProofModel, result) -> vcProofModel.add("vcNum", result.getVerificationCondition().getName())
+                            .add("wasSkipped", result.getWasSkippedFlag()).add("timedOut", result.getTimedOutFlag())
+                            .add("time", result.getProofTime()));
+
+            // Append VC details with any verbose output
+            writer.write(verboseOutput);
+        });
     }
 
     /**
      * <p>
-     * This method outputs the provided results from the {@code CCProver}.
+     * This method outputs the {@code VC} results that we have received from the {@link CongruenceClassProver}.
      * </p>
      *
      * @param inputFileName
      *            Name of the {@link ResolveFile} we are generating proofs.
      * @param outputFileName
      *            A name for the output file.
+     * @param timeOut
+     *            The prover setting for the amount of time that can be spent on each VC.
+     * @param numTries
+     *            The prover setting for how many unproved VCs we can have before halting.
+     * @param totalTime
+     *            Total time spent on proving this file.
      */
     @Override
-    public final void proverResult(String inputFileName, String outputFileName) {
-        throw new UnsupportedOperationException("Needs to be implemented!");
+    public final void proverResult(String inputFileName, String outputFileName, long timeOut, int numTries,
+            long totalTime) {
+        // String template to hold the proof results
+        STGroup group = new STGroupFile("templates/proverOutput.stg");
+        group.registerRenderer(String.class, new StringRenderer());
+
+        // Output the results to file as we go
+        writeToFile(outputFileName + ".cc.proof", writer -> {
+            STWriter stWriter = new AutoIndentWriter(writer);
+            writeProofResults(group, stWriter, inputFileName, "Congruence Closure Prover", timeOut, numTries, totalTime,
+                    myCCProverVCResults, result -> result.isProved,
+                    (vcProofModel, result) -> vcProofModel.add("vcNum", result.model.getVCName())
+                            .add("wasSkipped", result.model.getWasSkippedFlag())
+                            .add("timedOut", result.model.getTimedOutFlag())
+                            .add("time", result.metrics.getProofDuration()));
+
+            // Append the final state of each VC that we attempted to prove
+            for (CCProverVCResult result : myCCProverVCResults) {
+                if (result.model.getFinalVCState() != null) {
+                    writer.write("\n========================= VC " + result.model.getVCName()
+                            + " =========================\n");
+                    for (String appliedTheorem : result.model.getAppliedTheorems()) {
+                        writer.write(appliedTheorem);
+                        writer.write("\n");
+                    }
+                    writer.write(result.model.getFinalVCState());
+                }
+            }
+        });
+
+        // These results have been written, so start over for the next file.
+        myCCProverVCResults.clear();
     }
 
     /**
@@ -234,60 +250,66 @@ public class FileOutputListener implements OutputListener {
     @Override
     public final void vcGeneratorResult(String inputFileName, String outputFileName, List<AssertiveCodeBlock> blocks,
             String verboseOutput) {
-        StringBuilder sb = new StringBuilder();
-
         // String template to hold the VC generation details
         STGroup group = new STGroupFile("templates/VCGenOutput.stg");
-        ST model = group.getInstanceOf("outputVCGenFile").add("fileName", inputFileName).add("dateGenerated",
-                new Date());
-
-        // Add the VC output in human readable format
-        for (AssertiveCodeBlock block : blocks) {
-            // Obtain the final list of vcs
-            List<VerificationCondition> vcs = block.getVCs();
-            for (VerificationCondition vc : vcs) {
-                // Create a model for adding all the details
-                // associated with this VC.
-                LocationDetailModel detailModel = vc.getLocationDetailModel();
-                ST vcModel = group.getInstanceOf("outputVC");
-                vcModel.add("vcNum", vc.getName());
-
-                // Add additional detail if this VC has impacting reduction
-                if (vc.getHasImpactingReductionFlag()) {
-                    vcModel.add("hasImpactingReduction", true);
-                }
 
-                // Warn the user if are missing the LocationDetailModel
-                if (detailModel != null) {
-                    vcModel.add("location", detailModel.getDestinationLoc());
-                    vcModel.add("locationDetail", detailModel.getDetailMessage());
-                } else {
-                    myStatusHandler.warning(vc.getLocation(), "[FileOutputListener] VC " + vc.getName()
-                            + " is missing information about how this VC got generated.");
+        // Output the results to file as we go
+        writeToFile(outputFileName + ".asrt", writer -> {
+            STWriter stWriter = new AutoIndentWriter(writer);
+            group.getInstanceOf("outputVCGenFileHeader").add("fileName", inputFileName).add("dateGenerated", new Date())
+                    .write(stWriter);
+
+            // Add the VC output in human readable format
+            boolean hasVCs = false;
+            for (AssertiveCodeBlock block : blocks) {
+                // Obtain the final list of vcs
+                List<VerificationCondition> vcs = block.getVCs();
+                for (VerificationCondition vc : vcs) {
+                    // Create a model for adding all the details
+                    // associated with this VC.
+                    LocationDetailModel detailModel = vc.getLocationDetailModel();
+                    ST vcModel = group.getInstanceOf("outputVC");
+                    vcModel.add("vcNum", vc.getName());
+
+                    // Add additional detail if this VC has impacting reduction
+                    if (vc.getHasImpactingReductionFlag()) {
+                        vcModel.add("hasImpactingReduction", true);
+                    }
+
+                    // Warn the user if are missing the LocationDetailModel
+                    if (detailModel != null) {
+                        vcModel.add("location", detailModel.getDestinationLoc());
+                        vcModel.add("locationDetail", detailModel.getDetailMessage());
+                    } else {
+                        myStatusHandler.warning(vc.getLocation(), "[FileOutputListener] VC " + vc.getName()
+                                + " is missing information about how this VC got generated.");
+                    }
+
+                    // Output the associated sequent
+                    Sequent sequent = vc.getSequent();
+                    ST sequentModel = group.getInstanceOf("outputSequent");
+                    sequentModel.add("consequents", sequent.getConcequents());
+                    sequentModel.add("antecedents", sequent.getAntecedents());
+
+                    // Add this sequent to our vc model
+                    vcModel.add("sequent", sequentModel.render());
+
+                    // Write the VC (separated from the previous one by a new line)
+                    if (hasVCs) {
+                        stWriter.write("\n");
+                    }
+                    vcModel.write(stWriter);
+                    hasVCs = true;
                 }
-
-                // Output the associated sequent
-                Sequent sequent = vc.getSequent();
-                ST sequentModel = group.getInstanceOf("outputSequent");
-                sequentModel.add("consequents", sequent.getConcequents());
-                sequentModel.add("antecedents", sequent.getAntecedents());
-
-                // Add this sequent to our vc model
-                vcModel.add("sequent", sequentModel.render());
-
-                // Add the VC to the model
-                model.add("vcs", vcModel.render());
             }
-        }
-
-        // Append the generated VC details from the model
-        sb.append(model.render());
 
-        // Append VC details with any verbose output
-        sb.append(verboseOutput);
+            if (hasVCs) {
+                stWriter.write("\n");
+            }
 
-        // Output the results to file
-        writeToFile(outputFileName + ".asrt", sb.toString());
+            // Append VC details with any verbose output
+            writer.write(verboseOutput);
+        });
     }
 
     /**
@@ -304,13 +326,84 @@ public class FileOutputListener implements OutputListener {
      */
     @Override
     public final void vcResult(boolean proved, PerVCProverModel finalModel, Metrics m) {
-        throw new UnsupportedOperationException("Needs to be implemented!");
+        // The results are written once the prover is done with all the VCs.
+        myCCProverVCResults.add(new CCProverVCResult(proved, finalModel, m));
     }
 
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Writes the header, the result for each {@code VC} and the footer of a proof file.
+     * </p>
+     *
+     * @param group
+     *            The string template group for the prover output.
+     * @param stWriter
+     *            The string template writer for the proof file.
+     * @param inputFileName
+     *            Name of the {@link ResolveFile} we are generating proofs.
+     * @param proverName
+     *            Name of the prover that generated the results.
+     * @param timeOut
+     *            The prover setting for the amount of time that can be spent on each VC.
+     * @param numTries
+     *            The prover setting for how many unproved VCs we can have before halting.
+     * @param totalTime
+     *            Total time spent on proving this file.
+     * @param results
+     *            A list containing the prover results for each VC.
+     * @param isProved
+     *            Tells us whether or not the {@code VC} for a result was proved.
+     * @param addVCDetails
+     *            Adds the name, skipped flag, timed out flag and proof time for a result to the {@code VC} model.
+     * @param <T>
+     *            The type of prover result.
+     *
+     * @throws IOException
+     *             There was an error while writing to file.
+     */
+    private <T> void writeProofResults(STGroup group, STWriter stWriter, String inputFileName, String proverName,
+            long timeOut, int numTries, long totalTime, List<T> results, Predicate<T> isProved,
+            BiConsumer<ST, T> addVCDetails) throws IOException {
+        group.getInstanceOf("outputProofFileHeader").add("fileName", inputFileName).add("dateGenerated", new Date())
+                .add("proverName", proverName).add("timeOut", timeOut).add("numTries", numTries).write(stWriter);
+
+        // Write the results for each VC
+        int numProved = 0;
+        int numUnproved = 0;
+        for (T result : results) {
+            // Create a model for adding all the details
+            // associated with this VC.
+            ST vcProofModel = group.getInstanceOf("outputVCProofResult");
+            vcProofModel.add("isProved", isProved.test(result));
+            addVCDetails.accept(vcProofModel, result);
+
+            // Write the VC (separated from the previous one by a new line)
+            if (numProved + numUnproved > 0) {
+                stWriter.write("\n");
+            }
+            vcProofModel.write(stWriter);
+
+            // Increment count
+            if (isProved.test(result)) {
+                numProved++;
+            } else {
+                numUnproved++;
+            }
+        }
+
+        if (!results.isEmpty()) {
+            stWriter.write("\n");
+        }
+
+        // Write the number of proved and unproved VCs
+        group.getInstanceOf("outputProofFileFooter").add("totalTime", totalTime).add("numProved", numProved)
+                .add("numUnproved", numUnproved).write(stWriter);
+    }
+
     /**
      * <p>
      * Writes the content to the specified filename.
@@ -322,16 +415,108 @@ public class FileOutputListener implements OutputListener {
      *            Contents to be written in file.
      */
     private void writeToFile(String outputFileName, String outputString) {
-        try {
-            Path outputFilePath = Paths.get(outputFileName);
-            Charset charset = Charset.forName("UTF-8");
-
-            // Write the contents to file
-            Writer writer = Files.newBufferedWriter(outputFilePath, charset);
-            writer.write(outputString);
-            writer.close();
+        writeToFile(outputFileName, writer -> writer.write(outputString));
+    }
+
+    /**
+     * <p>
+     * Writes the content to the specified filename while it is being produced.
+     * </p>
+     *
+     * @param outputFileName
+     *            Output filename.
+     * @param contentsWriter
+     *            Writes the contents to the (buffered) file writer.
+     */
+    private void writeToFile(String outputFileName, ContentsWriter contentsWriter) {
+        Path outputFilePath = Paths.get(outputFileName);
+        Charset charset = Charset.forName("UTF-8");
+
+        // Write the contents to file
+        try (Writer writer = Files.newBufferedWriter(outputFilePath, charset)) {
+            contentsWriter.write(writer);
         } catch (IOException ioe) {
             myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + outputFileName);
         }
     }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * The prover result for a {@code VC} from the {@link CongruenceClassProver}.
+     * </p>
+     */
+    private static class CCProverVCResult {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * This indicates whether or not the {@code VC} was proved.
+         * </p>
+         */
+        private final boolean isProved;
+
+        /**
+         * <p>
+         * The prover generated metrics.
+         * </p>
+         */
+        private final Metrics metrics;
+
+        /**
+         * <p>
+         * The prover representation for the {@code VC}.
+         * </p>
+         */
+        private final PerVCProverModel model;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This stores the prover result for a {@code VC}.
+         * </p>
+         *
+         * @param proved
+         *            {@code true} if the {@code VC} was proved, {@code false} otherwise.
+         * @param finalModel
+         *            The prover representation for the {@code VC}.
+         * @param m
+         *            The prover generated metrics.
+         */
+        private CCProverVCResult(boolean proved, PerVCProverModel finalModel, Metrics m) {
+            isProved = proved;
+            metrics = m;
+            model = finalModel;
+        }
+    }
+
+    /**
+     * <p>
+     * Something that writes the contents of a file.
+     * </p>
+     */
+    private interface ContentsWriter {
+
+        /**
+         * <p>
+         * This method writes the contents to {@code writer}.
+         * </p>
+         *
+         * @param writer
+         *            The file writer.
+         *
+         * @throws IOException
+         *             There was an error while writing to file.
+         */
+        void write(Writer writer) throws IOException;
+    }
 }
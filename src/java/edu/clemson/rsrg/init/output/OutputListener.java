@@ -111,8 +111,14 @@ public interface OutputListener {
      *            Name of the {@link ResolveFile} we are generating proofs.
      * @param outputFileName
      *            A name for the output file.
+     * @param timeOut
+     *            The prover setting for the amount of time that can be spent on each VC.
+     * @param numTries
+     *            The prover setting for how many unproved VCs we can have before halting.
+     * @param totalTime
+     *            Total time spent on proving this file.
      */
-    void proverResult(String inputFileName, String outputFileName);
+    void proverResult(String inputFileName, String outputFileName, long timeOut, int numTries, long totalTime);
 
     /**
      * <p>
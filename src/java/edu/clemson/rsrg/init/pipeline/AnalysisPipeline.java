@@ -62,12 +62,18 @@ public class AnalysisPipeline extends AbstractPipeline {
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
         Populator populator = new Populator(mySymbolTable, myCompileEnvironment);
         myCompileEnvironment.setTypeGraph(populator.getTypeGraph());
+        populator.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
         TreeWalker.visit(populator, moduleDec);
 
         if (myCompileEnvironment.flags.isFlagSet(Populator.FLAG_POPULATOR_DEBUG)) {
             StringBuffer sb = new StringBuffer();
             sb.append("\n---------------Current Type Graph---------------\n\n");
             sb.append(mySymbolTable.getTypeGraph().toString());
+            sb.append("\n\nFailed type check cache: ");
+            sb.append(mySymbolTable.getTypeGraph().getFailedCheckCacheHits());
+            sb.append(" hits, ");
+            sb.append(mySymbolTable.getTypeGraph().getFailedCheckCacheMisses());
+            sb.append(" misses");
             sb.append("\n---------------End Current Type Graph---------------\n");
             statusHandler.info(null, sb.toString());
         }
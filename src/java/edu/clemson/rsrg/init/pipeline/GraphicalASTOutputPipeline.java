@@ -71,6 +71,7 @@ public class GraphicalASTOutputPipeline extends AbstractPipeline {
         String moduleName = dec.getName().getName();
         GenerateGraphvizModel twv = new GenerateGraphvizModel(group,
                 group.getInstanceOf("outputGraphvizGVFile").add("moduleName", moduleName));
+        twv.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
         TreeWalker.visit(twv, dec);
 
         // Output the contents to listener objects
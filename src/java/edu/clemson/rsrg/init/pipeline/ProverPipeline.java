@@ -14,12 +14,14 @@ package edu.clemson.rsrg.init.pipeline;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.prover.CongruenceClassProver;
-import edu.clemson.rsrg.prover.utilities.ImmutableVC;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
-import java.util.ArrayList;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.List;
 
 /**
  * <p>
@@ -32,6 +34,17 @@ import java.util.ArrayList;
  */
 public class ProverPipeline extends AbstractPipeline {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The module's final list of verification conditions.
+     * </p>
+     */
+    private final List<VerificationCondition> myVerificationConditions;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -45,9 +58,12 @@ public class ProverPipeline extends AbstractPipeline {
      *            The current compilation environment.
      * @param symbolTable
      *            The symbol table.
+     * @param vcs
+     *            The module's final list of verification conditions.
      */
-    public ProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public ProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable, List<VerificationCondition> vcs) {
         super(ce, symbolTable);
+        myVerificationConditions = vcs;
     }
 
     // ===========================================================
@@ -61,8 +77,32 @@ public class ProverPipeline extends AbstractPipeline {
     public final void process(ModuleIdentifier currentTarget) {
         ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-        CongruenceClassProver prover = new CongruenceClassProver(new ArrayList<ImmutableVC>(),
+        CongruenceClassProver prover = new CongruenceClassProver(myVerificationConditions,
                 mySymbolTable.getModuleScope(currentTarget), myCompileEnvironment);
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("\n---------------Proving VCs---------------\n\n");
+            sb.append("Proving VCs in: ");
+            sb.append(moduleDec.getName());
+
+            statusHandler.info(null, sb.toString());
+        }
+
+        // Invoke the prover on all vcs (the results for each VC are sent to the listeners as we go).
+        prover.proveVCs();
+
+        // Output the contents to listener objects
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.proverResult(myCompileEnvironment.getFile(currentTarget).toString(), moduleDec.getName().getName(),
+                    prover.getTimeout(), prover.getNumTriesBeforeHalting(), prover.getTotalElapsedTime());
+        }
+
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("\n---------------End Proving VCs---------------\n");
+
+            statusHandler.info(null, sb.toString());
+        }
     }
 
 }
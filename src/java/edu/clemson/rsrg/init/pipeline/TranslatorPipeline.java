@@ -86,6 +86,7 @@ public class TranslatorPipeline extends AbstractPipeline {
             }
 
             // Walk the AST and translate into the appropriate target source file
+            translator.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
             TreeWalker.visit(translator, moduleDec);
 
             // Output the contents to listener objects
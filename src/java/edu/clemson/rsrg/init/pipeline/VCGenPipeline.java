@@ -100,6 +100,7 @@ public class VCGenPipeline extends AbstractPipeline {
         }
 
         // Walk the AST and generate VCs
+        vcGenerator.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
         TreeWalker.visit(vcGenerator, moduleDec);
 
         // Output the contents to listener objects
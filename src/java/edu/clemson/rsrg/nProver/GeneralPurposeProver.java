@@ -18,25 +18,37 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
 import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.nProver.exception.ProverTimeoutException;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
-import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.exception.RegistryCapacityException;
+import edu.clemson.rsrg.nProver.registry.*;
+import edu.clemson.rsrg.nProver.utilities.ProverDeadline;
 import edu.clemson.rsrg.nProver.utilities.theorems.RelevantTheoremExtractor;
+import edu.clemson.rsrg.nProver.utilities.theorems.TheoremInstantiator;
 import edu.clemson.rsrg.nProver.utilities.treewakers.AbstractRegisterSequent;
 import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterAntecedent;
 import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterSuccedent;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.treewalk.TreeWalker;
-import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.LinkedHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
@@ -79,6 +91,21 @@ public class GeneralPurposeProver {
      */
     private final int myNumTriesBeforeHalting;
 
+    /**
+     * <p>
+     * The maximum number of theorem instances registered for each {@code VC}.
+     * </p>
+     */
+    private final int myInstantiationBudget;
+
+    /**
+     * <p>
+     * The number of worker threads used to prove {@code VCs}. A value of {@code 1} proves them sequentially on the
+     * calling thread.
+     * </p>
+     */
+    private final int myNumThreads;
+
     /**
      * <p>
      * The various different output listeners that are expecting an update.
@@ -86,6 +113,21 @@ public class GeneralPurposeProver {
      */
     private List<OutputListener> myOutputListeners;
 
+    /**
+     * <p>
+     * This flag indicates whether or not the proof details for each {@code VC} are going to be used by someone. If not,
+     * we don't need to keep a copy of each {@code VC}'s registry arrays around.
+     * </p>
+     */
+    private final boolean myRecordProofDetails;
+
+    /**
+     * <p>
+     * The pool that gives each thread a reusable congruence class registry.
+     * </p>
+     */
+    private final CongruenceClassRegistryPool<Integer, String, String, String> myRegistryPool;
+
     /**
      * <p>
      * The number of milliseconds before stopping the prove for a VC.
@@ -93,6 +135,13 @@ public class GeneralPurposeProver {
      */
     private final long myTimeout;
 
+    /**
+     * <p>
+     * This extracts the theorems that can be instantiated while proving the {@code VCs}.
+     * </p>
+     */
+    private final RelevantTheoremExtractor myTheoremExtractor;
+
     /**
      * <p>
      * The total number of milliseconds spent proving VCs in this file.
@@ -139,6 +188,13 @@ public class GeneralPurposeProver {
      */
     private final List<VCProverResult> myVCProverResults;
 
+    /**
+     * <p>
+     * A map containing the time each worker thread spent proving {@code VCs}.
+     * </p>
+     */
+    private final Map<String, WorkerTime> myWorkerTimes;
+
     // ===========================================================
     // Flag Strings
     // ===========================================================
@@ -149,6 +205,23 @@ public class GeneralPurposeProver {
     private static final String[] NUMTRIES_ARGS = { "numtries" };
     private static final String FLAG_DESC_PROVER_TIMEOUT = "Number of Milliseconds to Use as a Timeout Before Skipping Proving a VC.";
     private static final String[] FLAG_TIMEOUT_ARGS = { "milliseconds" };
+    private static final String FLAG_DESC_PROVER_THREADS = "Number of Worker Threads Used to Prove VCs in Parallel.";
+    private static final String[] FLAG_THREADS_ARGS = { "numThreads" };
+    private static final String FLAG_DESC_PROVER_CAPACITY = "Maximum Number of Classes, Clusters, Arguments and Labels Stored in the Registry for Each VC.";
+    private static final String[] FLAG_CAPACITY_ARGS = { "classes", "clusters", "arguments", "labels" };
+    private static final String FLAG_DESC_PROVER_INSTANTIATIONS = "Maximum Number of Theorem Instances Registered for Each VC (0 Turns Off Theorem Instantiation).";
+    private static final String[] FLAG_INSTANTIATIONS_ARGS = { "numInstances" };
+    private static final String FLAG_DESC_PROVER_OBJECT_REGISTRY = "Store Each VC in the Object Based Congruence Class Registry Instead of the Columnar One.";
+
+    // ===========================================================
+    // Default Registry Capacities
+    // ===========================================================
+
+    private static final int DEFAULT_CC_DESIGNATOR_CAPACITY = 1000;
+    private static final int DEFAULT_CCLUSTER_DESIGNATOR_CAPACITY = 1000;
+    private static final int DEFAULT_ARGUMENT_LIST_CAPACITY = 100000;
+    private static final int DEFAULT_ROOT_LABEL_CAPACITY = 1000;
+    private static final int DEFAULT_INSTANTIATION_BUDGET = 100;
 
     // ===========================================================
     // Flags
@@ -175,6 +248,40 @@ public class GeneralPurposeProver {
     private static final Flag FLAG_NUMTRIES = new Flag(FLAG_SECTION_NAME, "num_tries", FLAG_DESC_PROVER_NUMTRIES,
             NUMTRIES_ARGS, Flag.Type.HIDDEN);
 
+    /**
+     * <p>
+     * Specify number of worker threads used to prove VCs.
+     * </p>
+     */
+    private static final Flag FLAG_PROVE_THREADS = new Flag(FLAG_SECTION_NAME, "sproveThreads",
+            FLAG_DESC_PROVER_THREADS, FLAG_THREADS_ARGS, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Specify the capacities for the congruence class registry used to prove each VC.
+     * </p>
+     */
+    private static final Flag FLAG_PROVE_CAPACITY = new Flag(FLAG_SECTION_NAME, "sproveCapacity",
+            FLAG_DESC_PROVER_CAPACITY, FLAG_CAPACITY_ARGS, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Specify the maximum number of theorem instances registered for each VC. A value of {@code 0} turns off theorem
+     * instantiation. When this flag is not set, we register up to {@link #DEFAULT_INSTANTIATION_BUDGET} instances.
+     * </p>
+     */
+    private static final Flag FLAG_PROVE_INSTANTIATIONS = new Flag(FLAG_SECTION_NAME, "sproveInstantiations",
+            FLAG_DESC_PROVER_INSTANTIATIONS, FLAG_INSTANTIATIONS_ARGS, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tells the prover to use the {@link ObjectCongruenceClassRegistry} instead of the
+     * {@link ColumnarCongruenceClassRegistry}. Both registries should reach the same verdicts.
+     * </p>
+     */
+    private static final Flag FLAG_PROVE_OBJECT_REGISTRY = new Flag(FLAG_SECTION_NAME, "sproveObjectRegistry",
+            FLAG_DESC_PROVER_OBJECT_REGISTRY, Flag.Type.HIDDEN);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code GeneralPurposeProver}.
@@ -184,6 +291,10 @@ public class GeneralPurposeProver {
         FlagDependencies.addImplies(FLAG_PROVE, FLAG_VERIFY_VC); // adding prove flag, also add verify VC flag
         FlagDependencies.addRequires(FLAG_TIMEOUT, FLAG_PROVE);
         FlagDependencies.addRequires(FLAG_NUMTRIES, FLAG_PROVE);
+        FlagDependencies.addRequires(FLAG_PROVE_THREADS, FLAG_PROVE);
+        FlagDependencies.addRequires(FLAG_PROVE_CAPACITY, FLAG_PROVE);
+        FlagDependencies.addRequires(FLAG_PROVE_INSTANTIATIONS, FLAG_PROVE);
+        FlagDependencies.addRequires(FLAG_PROVE_OBJECT_REGISTRY, FLAG_PROVE);
     }
 
     // ===========================================================
@@ -207,12 +318,15 @@ public class GeneralPurposeProver {
         myCompileEnvironment = compileEnvironment;
         myCurrentModuleScope = moduleScope;
         myOutputListeners = myCompileEnvironment.getOutputListeners();
+        myRecordProofDetails = !myOutputListeners.isEmpty();
         mySTGroup = new STGroupFile("templates/nProverVerboseOutput.stg");
         myTotalElapsedTime = 0;
         myTypeGraph = compileEnvironment.getTypeGraph();
         myVCProverResults = new ArrayList<>(vcs.size());
         myVerificationConditions = vcs;
+        myWorkerTimes = new LinkedHashMap<>();
         myProofGenDetailsModel = mySTGroup.getInstanceOf("outputProofGenDetails");
+        myTheoremExtractor = new RelevantTheoremExtractor(myCurrentModuleScope);
 
         // Timeout
         if (myCompileEnvironment.flags.isFlagSet(FLAG_TIMEOUT)) {
@@ -229,6 +343,37 @@ public class GeneralPurposeProver {
             myNumTriesBeforeHalting = -1;
         }
 
+        // Number of worker threads
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_PROVE_THREADS)) {
+            myNumThreads = Math.max(1,
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_THREADS, "numThreads")));
+        } else {
+            myNumThreads = 1;
+        }
+
+        // Theorem instantiation budget
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_PROVE_INSTANTIATIONS)) {
+            myInstantiationBudget = Math.max(0, Integer
+                    .parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_INSTANTIATIONS, "numInstances")));
+        } else {
+            myInstantiationBudget = DEFAULT_INSTANTIATION_BUDGET;
+        }
+
+        // Registry implementation and capacities
+        boolean useObjectRegistry = myCompileEnvironment.flags.isFlagSet(FLAG_PROVE_OBJECT_REGISTRY);
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_PROVE_CAPACITY)) {
+            myRegistryPool = new CongruenceClassRegistryPool<>(
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_CAPACITY, "classes")),
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_CAPACITY, "clusters")),
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_CAPACITY, "arguments")),
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_PROVE_CAPACITY, "labels")),
+                    useObjectRegistry);
+        } else {
+            myRegistryPool = new CongruenceClassRegistryPool<>(DEFAULT_CC_DESIGNATOR_CAPACITY,
+                    DEFAULT_CCLUSTER_DESIGNATOR_CAPACITY, DEFAULT_ARGUMENT_LIST_CAPACITY, DEFAULT_ROOT_LABEL_CAPACITY,
+                    useObjectRegistry);
+        }
+
         // Store verbose output about this module
         ST header;
         ModuleDec moduleDec = myCurrentModuleScope.getDefiningElement();
@@ -268,6 +413,17 @@ public class GeneralPurposeProver {
         return myNumTriesBeforeHalting;
     }
 
+    /**
+     * <p>
+     * This method returns the prover setting for how many worker threads we use to prove {@code VCs}.
+     * </p>
+     *
+     * @return The number of worker threads with 1 indicating that we prove the VCs sequentially.
+     */
+    public final int getNumThreads() {
+        return myNumThreads;
+    }
+
     /**
      * <p>
      * This method returns the prover setting for the maximum amount of time we can spend proving each {@code VC}.
@@ -310,6 +466,12 @@ public class GeneralPurposeProver {
      * @return A string containing lots of details.
      */
     public final String getVerboseModeOutput() {
+        // Only report the worker times when we actually proved VCs in parallel
+        if (myNumThreads > 1) {
+            myProofGenDetailsModel.remove("workerTimes");
+            myProofGenDetailsModel.add("workerTimes", myWorkerTimes.values());
+        }
+
         return myProofGenDetailsModel.render();
     }
 
@@ -319,68 +481,289 @@ public class GeneralPurposeProver {
      * </p>
      */
     public void proveVCs() {
-        // Keep track to total elapsed time and number of unproved/timed out VCs
+        // Keep track to total elapsed time
         myTotalElapsedTime = System.currentTimeMillis();
-        int numUnproved = 0;
-
-        // Loop through each of the VCs and attempt to prove them
-        for (VerificationCondition vc : myVerificationConditions) {
-            // Store the start time for generating proofs for this VC
-            long startTime = System.nanoTime();
-            // Obtain the sequent to be proved
-            Sequent sequent = vc.getSequent();
-            // Create a registry and label map
-            CongruenceClassRegistry<Integer, String, String, String> registry = new CongruenceClassRegistry<>(1000,
-                    1000, 1000, 1000);
-            Map<String, Integer> expLabels = new LinkedHashMap<>();
-
-            // NM: 0, 1 are spared for <= (1), = (2), etc., the list can expand with more reflexive operators
-            // preload <=, = into the map
-            expLabels.put("<=", AbstractRegisterSequent.OP_LESS_THAN_OR_EQUALS);
-            expLabels.put("=", AbstractRegisterSequent.OP_EQUALS);
 
+        // Extract the theorems before any of the workers need them
+        if (myInstantiationBudget > 0) {
+            myTheoremExtractor.getTheoremPatterns();
+        }
+
+        // Attempt to prove each of the VCs (sequentially or using a pool of workers)
+        if (myNumThreads > 1 && myVerificationConditions.size() > 1) {
+            proveVCsInParallel();
+        } else {
+            int numUnproved = 0;
+            for (VerificationCondition vc : myVerificationConditions) {
+                // Skip the remaining VCs once we have too many unproved VCs
+                if (shouldHalt(numUnproved)) {
+                    storeSkippedVC(vc);
+                } else {
+                    ProverDeadline deadline = new ProverDeadline(myTimeout);
+                    deadline.start();
+                    if (!storeProofAttempt(proveVCWithSelectedWalker(vc, deadline))) {
+                        numUnproved++;
+                    }
+                }
+            }
+        }
+
+        // Compute the total elapsed time in generating proofs for the VCs in this module
+        myTotalElapsedTime = System.currentTimeMillis() - myTotalElapsedTime;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that attempts to prove a single {@code VC}. Every thread reuses its own registry from
+     * {@link #myRegistryPool} and every {@code VC} gets its own label map, so this method can be safely invoked by
+     * different worker threads. The registry contents needed for the verbose output are copied into the result before
+     * the registry gets reused.
+     * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} we are attempting to prove.
+     * @param deadline
+     *            The deadline token for this {@code VC}.
+     *
+     * @return The result of our proof attempt.
+     */
+    private VCProofAttempt proveVC(VerificationCondition vc, ProverDeadline deadline) {
+        // Store the start time for generating proofs for this VC
+        long startTime = System.nanoTime();
+        long startCPUTime = getCurrentThreadCPUTime();
+
+        // Obtain the sequent to be proved
+        Sequent sequent = vc.getSequent();
+        // Obtain an empty registry and create a label map and a cluster type map
+        CongruenceClassRegistry<Integer, String, String, String> registry = myRegistryPool.acquire();
+        registry.setDeadline(deadline);
+        Map<String, Integer> expLabels = new LinkedHashMap<>();
+        Map<Integer, MTType[]> clusterTypes = new LinkedHashMap<>();
+
+        // NM: 0, 1 are spared for <= (1), = (2), etc., the list can expand with more reflexive operators
+        // preload <=, = into the map
+        expLabels.put("<=", AbstractRegisterSequent.OP_LESS_THAN_OR_EQUALS);
+        expLabels.put("=", AbstractRegisterSequent.OP_EQUALS);
+
+        boolean timedOut = false;
+        String capacityError = null;
+        try {
             // Visit antecedents
-            RegisterAntecedent regAntecedent = new RegisterAntecedent(registry, expLabels, 3);
+            RegisterAntecedent regAntecedent = new RegisterAntecedent(registry, expLabels, clusterTypes, 3);
+            regAntecedent.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
             for (Exp exp : sequent.getAntecedents()) {
+                deadline.checkDeadline();
                 TreeWalker.visit(regAntecedent, exp);
             }
 
             // Visit consequents
             RegisterSuccedent regConsequent = new RegisterSuccedent(regAntecedent.getRegistry(),
-                    regAntecedent.getExpLabels(), regAntecedent.getNextLabel());
+                    regAntecedent.getExpLabels(), regAntecedent.getClusterTypes(), regAntecedent.getNextLabel());
+            regConsequent.setUseReflectiveDispatch(myCompileEnvironment.isReflectiveDispatchSelected());
             for (Exp exp : sequent.getConcequents()) {
+                deadline.checkDeadline();
                 TreeWalker.visit(regConsequent, exp);
             }
 
-            // Store the end time for generating proofs for this VC
-            long endTime = System.nanoTime();
+            // Instantiate the relevant theorems if the sequent alone isn't enough
+            if (!registry.checkIfProved() && myInstantiationBudget > 0) {
+                TheoremInstantiator instantiator = new TheoremInstantiator(registry, expLabels, clusterTypes,
+                        myTypeGraph, deadline, myInstantiationBudget);
+                instantiator.instantiate(myTheoremExtractor.getRelevantTheorems(expLabels));
+            }
+        } catch (RuntimeException e) {
+            // The tree walker wraps anything thrown while visiting, so look for the cause
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof ProverTimeoutException)
+                    && !(cause instanceof RegistryCapacityException)) {
+                cause = cause.getCause();
+            }
 
-            // Store the prover results for this VC
-            myVCProverResults.add(
-                    new VCProverResult(vc, TimeUnit.MILLISECONDS.convert(endTime - startTime, TimeUnit.NANOSECONDS),
-                            registry.checkIfProved(), false, false));
+            if (cause instanceof ProverTimeoutException) {
+                // The deadline has expired (or has been cancelled) while we were still registering the sequent.
+                timedOut = true;
+            } else if (cause instanceof RegistryCapacityException) {
+                // The sequent is too big for the registry capacities we have been given.
+                capacityError = cause.getMessage();
+            } else {
+                throw e;
+            }
+        }
+        boolean isProved = !timedOut && capacityError == null && registry.checkIfProved();
 
-            // Store the verbose proof detail for this VC
-            String result = registry.checkIfProved() ? "Proved" : "Not Proved";
-            storeVCProofVerboseDetail(vc, result, registry, expLabels);
+        // Store the end time for generating proofs for this VC
+        long endTime = System.nanoTime();
+        long endCPUTime = getCurrentThreadCPUTime();
+
+        // Only copy the registry arrays if we are going to output them
+        RegistrySnapshot snapshot = myRecordProofDetails ? new RegistrySnapshot(registry) : null;
+
+        return new VCProofAttempt(vc, snapshot, expLabels, isProved, timedOut, capacityError,
+                Thread.currentThread().getName(), endTime - startTime, endCPUTime - startCPUTime);
+    }
+
+    /**
+     * <p>
+     * An helper method that attempts to prove a single {@code VC} on the current thread. Any tree walker created while
+     * proving it uses the engine selected for this job.
+     * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} we are attempting to prove.
+     * @param deadline
+     *            The deadline token for this {@code VC}.
+     *
+     * @return The result of our proof attempt.
+     */
+    private VCProofAttempt proveVCWithSelectedWalker(VerificationCondition vc, ProverDeadline deadline) {
+        return TreeWalker.withDefaultDispatch(myCompileEnvironment.isReflectiveDispatchSelected(),
+                () -> proveVC(vc, deadline));
+    }
+
+    /**
+     * <p>
+     * An helper method that dispatches each {@code VC} to a bounded pool of worker threads. The results are collected
+     * in the original {@code VC} order, so the prover results and the verbose output stay deterministic. Once we have
+     * reached the number of unproved {@code VCs} allowed, the remaining {@code VCs} are cancelled and marked as skipped
+     * regardless of whether a worker has already attempted them.
+     * </p>
+     */
+    private void proveVCsInParallel() {
+        AtomicInteger workerCount = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(myNumThreads, myVerificationConditions.size()),
+                runnable -> {
+                    Thread worker = new Thread(runnable, "nProver-worker-" + workerCount.incrementAndGet());
+                    worker.setDaemon(true);
+                    return worker;
+                });
+
+        try {
+            List<ProverDeadline> deadlines = new ArrayList<>(myVerificationConditions.size());
+            List<Future<VCProofAttempt>> futures = new ArrayList<>(myVerificationConditions.size());
+            for (VerificationCondition vc : myVerificationConditions) {
+                // The clock on each deadline only starts when a worker picks up the VC
+                ProverDeadline deadline = new ProverDeadline(myTimeout);
+                deadlines.add(deadline);
+                futures.add(executor.submit(() -> {
+                    deadline.start();
+                    return proveVCWithSelectedWalker(vc, deadline);
+                }));
+            }
+
+            // Wait for each of the proof attempts in VC order
+            int numUnproved = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                if (shouldHalt(numUnproved)) {
+                    // Cancel the remaining VCs
+                    for (int j = i; j < futures.size(); j++) {
+                        deadlines.get(j).cancel();
+                        futures.get(j).cancel(false);
+                        storeSkippedVC(myVerificationConditions.get(j));
+                    }
+                    break;
+                }
+
+                if (!storeProofAttempt(futures.get(i).get())) {
+                    numUnproved++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MiscErrorException("Interrupted while proving VCs.", e);
+        } catch (ExecutionException e) {
+            throw new MiscErrorException("Error encountered while proving VCs.", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        // Compute the total elapsed time in generating proofs for the VCs in this module
-        myTotalElapsedTime = System.currentTimeMillis() - myTotalElapsedTime;
+    /**
+     * <p>
+     * An helper method that returns the {@code CPU} time used by the current thread.
+     * </p>
+     *
+     * @return The {@code CPU} time in nanoseconds or {@code 0} if it isn't supported by the {@code JVM}.
+     */
+    private static long getCurrentThreadCPUTime() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
 
-        // applying theorems
+        return 0;
+    }
 
-        RelevantTheoremExtractor theorems = new RelevantTheoremExtractor(myCurrentModuleScope);
+    /**
+     * <p>
+     * An helper method that indicates whether or not we have reached the number of unproved {@code VCs} allowed before
+     * halting the prover.
+     * </p>
+     *
+     * @param numUnproved
+     *            The number of unproved (or timed out) {@code VCs} so far.
+     *
+     * @return {@code true} if the remaining {@code VCs} should be skipped, {@code false} otherwise.
+     */
+    private boolean shouldHalt(int numUnproved) {
+        return myNumTriesBeforeHalting >= 0 && numUnproved >= myNumTriesBeforeHalting;
+    }
+
+    /**
+     * <p>
+     * An helper method that stores the results of a proof attempt. This method must be called by the thread that
+     * invoked {@link #proveVCs()} in {@code VC} order.
+     * </p>
+     *
+     * @param attempt
+     *            The result of attempting to prove a {@code VC}.
+     *
+     * @return {@code true} if the {@code VC} was proved, {@code false} otherwise.
+     */
+    private boolean storeProofAttempt(VCProofAttempt attempt) {
+        // Store the prover results for this VC
+        boolean isProved = attempt.isProved;
+        myVCProverResults.add(
+                new VCProverResult(attempt.vc, TimeUnit.MILLISECONDS.convert(attempt.wallTime, TimeUnit.NANOSECONDS),
+                        isProved, attempt.timedOut, false));
 
-        for (TheoremEntry te : theorems.theoremEntryQuery()) {
-            System.out.println(te.getAssertion());
+        // Store the verbose proof detail for this VC
+        if (myRecordProofDetails) {
+            String result;
+            if (attempt.timedOut) {
+                result = "Timed Out";
+            } else if (attempt.capacityError != null) {
+                result = "Not Proved (" + attempt.capacityError + ")";
+            } else {
+                result = isProved ? "Proved" : "Not Proved";
+            }
+            storeVCProofVerboseDetail(attempt.vc, result, attempt.registry, attempt.expLabels);
         }
 
+        // Update the time spent by this worker
+        myWorkerTimes.computeIfAbsent(attempt.workerName, WorkerTime::new).addProofAttempt(attempt);
+
+        return isProved;
     }
 
-    // ===========================================================
-    // Private Methods
-    // ===========================================================
+    /**
+     * <p>
+     * An helper method that stores the results for a {@code VC} that we skipped because we had too many unproved
+     * {@code VCs}.
+     * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} we have skipped.
+     */
+    private void storeSkippedVC(VerificationCondition vc) {
+        myVCProverResults.add(new VCProverResult(vc, 0, false, false, true));
+        if (myRecordProofDetails) {
+            storeVCProofVerboseDetail(vc, "Skipped", null, null);
+        }
+    }
 
     /**
      * <p>
@@ -392,12 +775,14 @@ public class GeneralPurposeProver {
      * @param result
      *            The prover results.
      * @param registry
-     *            The congruence class registry used on this {@code VC}.
+     *            The contents of the congruence class registry used on this {@code VC} or {@code null} if this
+     *            {@code VC} was skipped.
      * @param expLabels
-     *            The expression labels assigned to the expressions in this {@code VC}.
+     *            The expression labels assigned to the expressions in this {@code VC} or {@code null} if this
+     *            {@code VC} was skipped.
      */
-    private void storeVCProofVerboseDetail(VerificationCondition vc, String result,
-            CongruenceClassRegistry<Integer, String, String, String> registry, Map<String, Integer> expLabels) {
+    private void storeVCProofVerboseDetail(VerificationCondition vc, String result, RegistrySnapshot registry,
+            Map<String, Integer> expLabels) {
         // Create a model for adding all the details associated with this VC.
         LocationDetailModel detailModel = vc.getLocationDetailModel();
         ST vcModel = mySTGroup.getInstanceOf("outputVC");
@@ -426,22 +811,297 @@ public class GeneralPurposeProver {
         // Add this sequent to our vc model
         vcModel.add("sequent", sequentModel.render());
 
-        // Store the congruence class registry array information
-        ST ccRegistryArraysModel = mySTGroup.getInstanceOf("outputCCRegistryArrays");
-        ccRegistryArraysModel.add("clusterArguments", registry.getClusterArgArray());
-        ccRegistryArraysModel.add("clusters", registry.getClusterArray());
-        ccRegistryArraysModel.add("plantations", registry.getPlantationArray());
-        ccRegistryArraysModel.add("classes", registry.getCongruenceClassArray());
-
         // Add the VC to the VC proof detail model
         ST vcProofDetailModel = mySTGroup.getInstanceOf("outputVCProofDetails");
         vcProofDetailModel.add("vcNum", vc.getName());
         vcProofDetailModel.add("vc", vcModel.render());
         vcProofDetailModel.add("result", result);
-        vcProofDetailModel.add("expLabels", expLabels);
-        vcProofDetailModel.add("registryArrays", ccRegistryArraysModel.render());
+
+        // Store the congruence class registry array information (skipped VCs don't have one)
+        if (registry != null) {
+            ST ccRegistryArraysModel = mySTGroup.getInstanceOf("outputCCRegistryArrays");
+            ccRegistryArraysModel.add("clusterArguments", registry.clusterArguments);
+            ccRegistryArraysModel.add("clusters", registry.clusters);
+            ccRegistryArraysModel.add("plantations", registry.plantations);
+            ccRegistryArraysModel.add("classes", registry.classes);
+
+            vcProofDetailModel.add("expLabels", expLabels);
+            vcProofDetailModel.add("registryArrays", ccRegistryArraysModel.render());
+        }
 
         // Add VC proof detail model to prover generation details
         myProofGenDetailsModel.add("vcProofDetails", vcProofDetailModel.render());
     }
-}
\ No newline at end of file
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class stores the outcome of attempting to prove a {@code VC} by a worker thread.
+     * </p>
+     */
+    private static class VCProofAttempt {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The {@code VC} we have attempted to prove.
+         * </p>
+         */
+        private final VerificationCondition vc;
+
+        /**
+         * <p>
+         * The contents of the congruence class registry used on this {@code VC} or {@code null} if we aren't recording
+         * the proof details.
+         * </p>
+         */
+        private final RegistrySnapshot registry;
+
+        /**
+         * <p>
+         * The expression labels assigned to the expressions in this {@code VC}.
+         * </p>
+         */
+        private final Map<String, Integer> expLabels;
+
+        /**
+         * <p>
+         * A flag that indicates if this {@code VC} was proved.
+         * </p>
+         */
+        private final boolean isProved;
+
+        /**
+         * <p>
+         * A flag that indicates if the deadline for this {@code VC} expired before we finished.
+         * </p>
+         */
+        private final boolean timedOut;
+
+        /**
+         * <p>
+         * The error message if this {@code VC} exceeded one of the registry capacities, {@code null} otherwise.
+         * </p>
+         */
+        private final String capacityError;
+
+        /**
+         * <p>
+         * The name of the worker thread that attempted to prove this {@code VC}.
+         * </p>
+         */
+        private final String workerName;
+
+        /**
+         * <p>
+         * The wall time (in nanoseconds) spent proving this {@code VC}.
+         * </p>
+         */
+        private final long wallTime;
+
+        /**
+         * <p>
+         * The {@code CPU} time (in nanoseconds) spent proving this {@code VC}.
+         * </p>
+         */
+        private final long cpuTime;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an object that stores the outcome of a proof attempt.
+         * </p>
+         *
+         * @param vc
+         *            The {@code VC} we have attempted to prove.
+         * @param registry
+         *            The contents of the congruence class registry used on this {@code VC} or {@code null} if we aren't
+         *            recording the proof details.
+         * @param expLabels
+         *            The expression labels assigned to the expressions in this {@code VC}.
+         * @param isProved
+         *            A flag that indicates if this {@code VC} was proved.
+         * @param timedOut
+         *            A flag that indicates if the deadline for this {@code VC} expired.
+         * @param capacityError
+         *            The error message if a registry capacity was exceeded, {@code null} otherwise.
+         * @param workerName
+         *            The name of the worker thread.
+         * @param wallTime
+         *            The wall time spent proving this {@code VC}.
+         * @param cpuTime
+         *            The {@code CPU} time spent proving this {@code VC}.
+         */
+        VCProofAttempt(VerificationCondition vc, RegistrySnapshot registry, Map<String, Integer> expLabels,
+                boolean isProved, boolean timedOut, String capacityError, String workerName, long wallTime,
+                long cpuTime) {
+            this.vc = vc;
+            this.registry = registry;
+            this.expLabels = expLabels;
+            this.isProved = isProved;
+            this.timedOut = timedOut;
+            this.capacityError = capacityError;
+            this.workerName = workerName;
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+        }
+    }
+
+    /**
+     * <p>
+     * This class stores copies of the congruence class registry arrays used in the verbose output. The registry itself
+     * gets reset and reused for the next {@code VC}, but the records stored in these arrays are never modified after
+     * the reset, so a shallow copy is enough.
+     * </p>
+     */
+    private static class RegistrySnapshot {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The cluster arguments stored in the registry.
+         * </p>
+         */
+        private final ClusterArgument[] clusterArguments;
+
+        /**
+         * <p>
+         * The congruence clusters stored in the registry.
+         * </p>
+         */
+        private final CongruenceCluster[] clusters;
+
+        /**
+         * <p>
+         * The plantations stored in the registry.
+         * </p>
+         */
+        private final Plantation[] plantations;
+
+        /**
+         * <p>
+         * The congruence classes stored in the registry.
+         * </p>
+         */
+        private final CongruenceClass[] classes;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates a copy of the arrays in {@code registry}.
+         * </p>
+         *
+         * @param registry
+         *            The congruence class registry used on a {@code VC}.
+         */
+        RegistrySnapshot(CongruenceClassRegistry<Integer, String, String, String> registry) {
+            clusterArguments = registry.getClusterArgArray().clone();
+            clusters = registry.getClusterArray().clone();
+            plantations = registry.getPlantationArray().clone();
+            classes = registry.getCongruenceClassArray().clone();
+        }
+    }
+
+    /**
+     * <p>
+     * This class accumulates the time a worker thread spent proving {@code VCs}.
+     * </p>
+     */
+    private static class WorkerTime {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The name of the worker thread.
+         * </p>
+         */
+        private final String myWorkerName;
+
+        /**
+         * <p>
+         * The number of {@code VCs} this worker attempted to prove.
+         * </p>
+         */
+        private int myNumVCs;
+
+        /**
+         * <p>
+         * The total wall time (in nanoseconds).
+         * </p>
+         */
+        private long myWallTime;
+
+        /**
+         * <p>
+         * The total {@code CPU} time (in nanoseconds).
+         * </p>
+         */
+        private long myCPUTime;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an empty time record for a worker thread.
+         * </p>
+         *
+         * @param workerName
+         *            The name of the worker thread.
+         */
+        WorkerTime(String workerName) {
+            myWorkerName = workerName;
+        }
+
+        // ===========================================================
+        // Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method adds the time spent on a proof attempt.
+         * </p>
+         *
+         * @param attempt
+         *            The result of attempting to prove a {@code VC}.
+         */
+        final void addProofAttempt(VCProofAttempt attempt) {
+            myNumVCs++;
+            myWallTime += attempt.wallTime;
+            myCPUTime += attempt.cpuTime;
+        }
+
+        /**
+         * <p>
+         * This method returns the worker time in string format.
+         * </p>
+         *
+         * @return A string.
+         */
+        @Override
+        public final String toString() {
+            return myWorkerName + ": " + myNumVCs + " VC(s), wall time: "
+                    + TimeUnit.MILLISECONDS.convert(myWallTime, TimeUnit.NANOSECONDS) + " ms, CPU time: "
+                    + TimeUnit.MILLISECONDS.convert(myCPUTime, TimeUnit.NANOSECONDS) + " ms";
+        }
+    }
+}
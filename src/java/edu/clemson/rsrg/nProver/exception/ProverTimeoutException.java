@@ -0,0 +1,54 @@
+/*
+ * ProverTimeoutException.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.exception;
+
+import edu.clemson.rsrg.nProver.utilities.ProverDeadline;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+
+/**
+ * <p>
+ * A {@code ProverTimeoutException} indicates that the {@link ProverDeadline} associated with the {@code VC} we are
+ * attempting to prove has either expired or has been cancelled.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ *
+ * @version 1.0
+ */
+public class ProverTimeoutException extends CompilerException {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Serial version for Serializable objects
+     * </p>
+     */
+    private static final long serialVersionUID = 1L;
+
+    // ==========================================================
+    // Constructors
+    // ==========================================================
+
+    /**
+     * <p>
+     * This constructor creates a timeout exception that will be handled by the automated prover.
+     * </p>
+     */
+    public ProverTimeoutException() {
+        super("", (Throwable) null);
+    }
+
+}
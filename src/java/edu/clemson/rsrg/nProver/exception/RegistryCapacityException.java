@@ -0,0 +1,59 @@
+/*
+ * RegistryCapacityException.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.exception;
+
+import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+
+/**
+ * <p>
+ * A {@code RegistryCapacityException} indicates that the sequent {@code VC} we are attempting to prove needs more space
+ * than one of the capacities configured for the {@link CongruenceClassRegistry}.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ *
+ * @version 1.0
+ */
+public class RegistryCapacityException extends CompilerException {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Serial version for Serializable objects
+     * </p>
+     */
+    private static final long serialVersionUID = 1L;
+
+    // ==========================================================
+    // Constructors
+    // ==========================================================
+
+    /**
+     * <p>
+     * This constructor creates an exception indicating that the named registry store cannot hold any more entries.
+     * </p>
+     *
+     * @param storeName
+     *            Name of the registry store that is full.
+     * @param capacity
+     *            The configured capacity for that store.
+     */
+    public RegistryCapacityException(String storeName, int capacity) {
+        super("The " + storeName + " capacity (" + capacity + ") has been exceeded.", (Throwable) null);
+    }
+
+}
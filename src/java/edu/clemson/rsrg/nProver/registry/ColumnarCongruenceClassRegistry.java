@@ -0,0 +1,3124 @@
+/*
+ * ColumnarCongruenceClassRegistry.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import edu.clemson.rsrg.nProver.exception.ProverTimeoutException;
+import edu.clemson.rsrg.nProver.exception.RegistryCapacityException;
+import edu.clemson.rsrg.nProver.utilities.ProverDeadline;
+import java.util.*;
+
+/**
+ * <p>
+ * Congruence class registry, a key component in the nProver. It stores the sequent VC and performs all the
+ * manipulations necessary to prove the VC's correctness.
+ * </p>
+ *
+ * <p>
+ * The varieties, plantations, clusters, classes and cluster arguments are not stored as objects. Each field is kept in
+ * its own primitive column indexed by the designator, so walking the registry doesn't dereference (or allocate) a
+ * record for every step. {@link ClusterArgument}, {@link CongruenceCluster}, {@link Plantation} and
+ * {@link CongruenceClass} objects are only created when the contents of the registry are requested for display.
+ * </p>
+ *
+ * @author Nicodemus Msafiri J. M.
+ *
+ * @version v1.0
+ *
+ * @param <T1>
+ *            type of tree node label selected
+ * @param <T2>
+ *            tree category tag
+ * @param <T3>
+ *            default tree category attribute
+ * @param <T4>
+ */
+
+public class ColumnarCongruenceClassRegistry<T1, T2, T3, T4> implements CongruenceClassRegistry<T1, T2, T3, T4> {
+
+    /**
+     * <p>
+     * Maximum capacity set for congruece class designators
+     * </p>
+     */
+    private int ccDesignatorCapacity;
+    /**
+     * <p>
+     * Maximum capacity set for cluster designators
+     * </p>
+     */
+    private int cClusterDesignatorCapacity;
+
+    /**
+     * <p>
+     * Maximum capacity set for the arguments
+     * </p>
+     */
+    private int argumentListCapacity;
+
+    /**
+     * <p>
+     * Maximum capacity set for the registry root labels
+     * </p>
+     */
+    private int rootLabelCapacity;
+
+    /**
+     * <p>
+     * Maximum capacity set for the registry labels
+     * </p>
+     */
+    private int topLabelCapacity;
+
+    /**
+     * <p>
+     * Top congruence class designator representing the most recent used integer value to designate a class
+     * </p>
+     */
+    private int topCongruenceClassDesignator;
+
+    /**
+     * <p>
+     * Top congruence cluster designator representing the most recent used integer value to designate a class
+     * </p>
+     */
+    private int topCongruenceClusterDesignator;
+
+    // -----------------------------------------------------------
+    // Variety List Columns (indexed by the tree node label)
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The first plantation in the variety list for a tree node label. The variety list keeps a list of congruence
+     * classes containing at least one tree with a root node specified by the tree node label.
+     * </p>
+     */
+    private int[] varietyFirstPlantation;
+
+    /**
+     * <p>
+     * The tag for the variety list. A tag of {@code 0} indicates that the tree node label hasn't been registered.
+     * </p>
+     */
+    private int[] varietyTag;
+
+    /**
+     * <p>
+     * The most recently registered congruence cluster with the tree node label as its root node. Together with
+     * {@link #clusterNextWithSameLabel}, this lets a client enumerate every cluster for a tree node label.
+     * </p>
+     */
+    private int[] varietyFirstCluster;
+
+    // -----------------------------------------------------------
+    // Plantation Columns (indexed by the plantation designator)
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The root node label shared by all the congruence clusters in a plantation.
+     * </p>
+     */
+    private int[] plantationTreeNodeLabel;
+
+    /**
+     * <p>
+     * The first congruence cluster in a plantation.
+     * </p>
+     */
+    private int[] plantationFirstCluster;
+
+    /**
+     * <p>
+     * The plantation tag.
+     * </p>
+     */
+    private int[] plantationTag;
+
+    /**
+     * <p>
+     * The next plantation in the same congruence class.
+     * </p>
+     */
+    private int[] plantationNextCCPlantation;
+
+    /**
+     * <p>
+     * The next plantation in the same variety list.
+     * </p>
+     */
+    private int[] plantationNextVrtyPlantation;
+
+    /**
+     * <p>
+     * The previous plantation in the same variety list.
+     * </p>
+     */
+    private int[] plantationPrvVrtyPlantation;
+
+    // -----------------------------------------------------------
+    // Congruence Cluster Columns (indexed by the cluster designator)
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The root node label for a congruence cluster.
+     * </p>
+     */
+    private int[] clusterTreeNodeLabel;
+
+    /**
+     * <p>
+     * The index to the cluster argument columns where the argument string for a congruence cluster ends.
+     * </p>
+     */
+    private int[] clusterIndexToArgList;
+
+    /**
+     * <p>
+     * The congruence class a congruence cluster belongs to.
+     * </p>
+     */
+    private int[] clusterIndexToCClass;
+
+    /**
+     * <p>
+     * The congruence cluster tag.
+     * </p>
+     */
+    private int[] clusterTag;
+
+    /**
+     * <p>
+     * The next congruence cluster in the same plantation.
+     * </p>
+     */
+    private int[] clusterNextPlantationCluster;
+
+    /**
+     * <p>
+     * The previous congruence cluster in the same plantation.
+     * </p>
+     */
+    private int[] clusterPrevPlantationCluster;
+
+    /**
+     * <p>
+     * The dominant congruence cluster.
+     * </p>
+     */
+    private int[] clusterDominantCluster;
+
+    /**
+     * <p>
+     * The next congruence cluster with the same argument string.
+     * </p>
+     */
+    private int[] clusterNextWithSameArg;
+
+    /**
+     * <p>
+     * The next (previously registered) congruence cluster with the same root node label.
+     * </p>
+     */
+    private int[] clusterNextWithSameLabel;
+
+    /**
+     * <p>
+     * The index to {@link #clusterArgumentClasses} where the argument classes for a congruence cluster start.
+     * </p>
+     */
+    private int[] clusterArgumentsStart;
+
+    /**
+     * <p>
+     * The number of arguments for a congruence cluster.
+     * </p>
+     */
+    private int[] clusterArgumentsLength;
+
+    /**
+     * <p>
+     * The congruence class designators that were used as arguments when each congruence cluster got registered. The
+     * classes might have been merged since then, so clients should always ask for the dominant class.
+     * </p>
+     */
+    private int[] clusterArgumentClasses;
+
+    /**
+     * <p>
+     * The next free index in {@link #clusterArgumentClasses}.
+     * </p>
+     */
+    private int topClusterArgumentClassIndex;
+
+    // -----------------------------------------------------------
+    // Congruence Class Columns (indexed by the class designator)
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The first plantation in a congruence class.
+     * </p>
+     */
+    private int[] classFirstPlantation;
+
+    /**
+     * <p>
+     * The congruence class tag.
+     * </p>
+     */
+    private int[] classTag;
+
+    /**
+     * <p>
+     * The attribute bits for a congruence class.
+     * </p>
+     */
+    private long[] classAttributes;
+
+    /**
+     * <p>
+     * The argument string occurrence positions (ASOP) for all congruence classes. Each class owns
+     * {@link #argStringOccPosStride} consecutive entries, one for each level in the argument strings.
+     * </p>
+     */
+    private int[] classArgStringOccPos;
+
+    /**
+     * <p>
+     * The number of levels stored for each class in {@link #classArgStringOccPos}.
+     * </p>
+     */
+    private int argStringOccPosStride;
+
+    /**
+     * <p>
+     * The last level a congruence class shows up in the cluster argument columns.
+     * </p>
+     */
+    private int[] classLastArgStringPosition;
+
+    /**
+     * <p>
+     * The dominant congruence class.
+     * </p>
+     */
+    private int[] classDominantCClass;
+
+    // -----------------------------------------------------------
+    // Cluster Argument Columns (indexed by the argument index)
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The next argument in the argument string. Arguments used in more than one cluster are created only once.
+     * </p>
+     */
+    private int[] argNextClusterArg;
+
+    /**
+     * <p>
+     * The previous argument in the argument string.
+     * </p>
+     */
+    private int[] argPrevClusterArg;
+
+    /**
+     * <p>
+     * The congruence class designator for an argument.
+     * </p>
+     */
+    private int[] argCcNumber;
+
+    /**
+     * <p>
+     * The next argument with the same congruence class designator in the same level.
+     * </p>
+     */
+    private int[] argNextWithSameCCInLevel;
+
+    /**
+     * <p>
+     * The first of the chained congruence clusters with this argument string.
+     * </p>
+     */
+    private int[] argClusterNumber;
+
+    /**
+     * <p>
+     * The alternative argument in the same level.
+     * </p>
+     */
+    private int[] argAlternativeArg;
+
+    /**
+     * <p>
+     * This boolean flag indicates whether the empty argument string (used by variables and constants) has been created.
+     * </p>
+     */
+    private boolean hasEmptyArgString;
+
+    /**
+     * <p>
+     * This Queue store the arguments appended by the client before creating a cluster.
+     * </p>
+     */
+    private Queue<Integer> clusterArgumentString;
+
+    /**
+     * <p>
+     * This Queue keeps the list of all classes that are to be merged as a consequence of two current classes
+     * collapsing.
+     * </p>
+     */
+    private Queue<Integer> classMergeList;
+
+    /**
+     * <p>
+     * This Set keeps the reflexive operators that appears on the succedent of the sequent VC to be proved. The client
+     * add respective integers for the operators before the operator is registered.
+     * </p>
+     */
+    private Set<Integer> succedentReflexiveOperatorsSet;
+
+    /**
+     * <p>
+     * This is plantation designator used as an index in plantation array and plantation tag as the cluster is created
+     * </p>
+     */
+    private int indexForPlantationArray;
+
+    /**
+     * <p>
+     * The most recent used index in the cluster argument columns
+     * </p>
+     */
+    private int topArgStrArrIndex;
+
+    /**
+     * <p>
+     * Starting index for the arguments, first two indices are reserved.
+     * </p>
+     */
+    private static final int START_ARG_INDEX = 2;
+
+    /**
+     * <p>
+     * Number of slots each backing store starts with. The stores grow on demand up to their respective capacities.
+     * </p>
+     */
+    private static final int INITIAL_STORE_SIZE = 64;
+
+    /**
+     * <p>
+     * Number of argument string levels stored for each congruence class before {@link #classArgStringOccPos} needs to
+     * be widened.
+     * </p>
+     */
+    private static final int INITIAL_ARG_STRING_LEVELS = 10;
+
+    /**
+     * <p>
+     * The attribute bit that marks a congruence class as ultimate.
+     * </p>
+     */
+    private static final long ULTIMATE_ATTRIBUTE = 1L << 2;
+
+    /**
+     * <p>
+     * This boolean flag indicates whether the sequent VC is proved or not.
+     * </p>
+     */
+    private boolean isProved;
+
+    /**
+     * <p>
+     * This boolean flag indicates whether the sequent VC contains the reflexive operators in the succedent.
+     * </p>
+     */
+    private boolean succedentReflexiveOperatorTest;
+
+    /**
+     * <p>
+     * The deadline token polled by the merge loops. A {@code null} value indicates that there is no deadline.
+     * </p>
+     */
+    private ProverDeadline deadline;
+
+    /**
+     * <p>
+     * The constructor for the registry that stores the target sequent VC in classes that contain clusters organized in
+     * varieties and plantations.
+     * </p>
+     *
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param argumentListCapacity
+     *            The maximum capacity provided for arguments
+     * @param rootLabelCapacity
+     *            The maximum capacity provided for root labels.
+     */
+    public ColumnarCongruenceClassRegistry(int ccDesignatorCapacity, int cClusterDesignatorCapacity,
+            int argumentListCapacity, int rootLabelCapacity) {
+        this.ccDesignatorCapacity = ccDesignatorCapacity;
+        this.cClusterDesignatorCapacity = cClusterDesignatorCapacity;
+        this.argumentListCapacity = argumentListCapacity;
+        this.rootLabelCapacity = rootLabelCapacity;
+
+        // the columns start small and grow as the sequent VC gets registered
+        int labelStoreSize = initialStoreSize(rootLabelCapacity);
+        varietyFirstPlantation = new int[labelStoreSize];
+        varietyTag = new int[labelStoreSize];
+        varietyFirstCluster = new int[labelStoreSize];
+
+        int plantationStoreSize = initialStoreSize(rootLabelCapacity);
+        plantationTreeNodeLabel = new int[plantationStoreSize];
+        plantationFirstCluster = new int[plantationStoreSize];
+        plantationTag = new int[plantationStoreSize];
+        plantationNextCCPlantation = new int[plantationStoreSize];
+        plantationNextVrtyPlantation = new int[plantationStoreSize];
+        plantationPrvVrtyPlantation = new int[plantationStoreSize];
+
+        int clusterStoreSize = initialStoreSize(cClusterDesignatorCapacity);
+        clusterTreeNodeLabel = new int[clusterStoreSize];
+        clusterIndexToArgList = new int[clusterStoreSize];
+        clusterIndexToCClass = new int[clusterStoreSize];
+        clusterTag = new int[clusterStoreSize];
+        clusterNextPlantationCluster = new int[clusterStoreSize];
+        clusterPrevPlantationCluster = new int[clusterStoreSize];
+        clusterDominantCluster = new int[clusterStoreSize];
+        clusterNextWithSameArg = new int[clusterStoreSize];
+        clusterNextWithSameLabel = new int[clusterStoreSize];
+        clusterArgumentsStart = new int[clusterStoreSize];
+        clusterArgumentsLength = new int[clusterStoreSize];
+        clusterArgumentClasses = new int[clusterStoreSize];
+
+        int classStoreSize = initialStoreSize(ccDesignatorCapacity);
+        argStringOccPosStride = INITIAL_ARG_STRING_LEVELS;
+        classFirstPlantation = new int[classStoreSize];
+        classTag = new int[classStoreSize];
+        classAttributes = new long[classStoreSize];
+        classArgStringOccPos = new int[classStoreSize * argStringOccPosStride];
+        classLastArgStringPosition = new int[classStoreSize];
+        classDominantCClass = new int[classStoreSize];
+
+        int argStoreSize = initialStoreSize(argumentListCapacity);
+        argNextClusterArg = new int[argStoreSize];
+        argPrevClusterArg = new int[argStoreSize];
+        argCcNumber = new int[argStoreSize];
+        argNextWithSameCCInLevel = new int[argStoreSize];
+        argClusterNumber = new int[argStoreSize];
+        argAlternativeArg = new int[argStoreSize];
+
+        clusterArgumentString = new ArrayDeque<>();
+        classMergeList = new ArrayDeque<>();
+        succedentReflexiveOperatorsSet = new HashSet<>();
+
+        reset();
+    }
+
+    /****************************************************************************************************************
+     * PUBLIC METHODS
+     ***************************************************************************************************************/
+
+    /**
+     * <p>
+     * This operation clears everything stored in the registry so that it can be used to prove another sequent VC. The
+     * backing stores keep the size they have grown to, so a registry that is reset and reused does not have to allocate
+     * them again.
+     * </p>
+     */
+    @Override
+    public void reset() {
+        topCongruenceClassDesignator = 0;
+        topCongruenceClusterDesignator = 0;
+        indexForPlantationArray = 0;
+        topLabelCapacity = 0;
+        topArgStrArrIndex = START_ARG_INDEX;
+        topClusterArgumentClassIndex = 0;
+        hasEmptyArgString = false;
+        isProved = false;
+        succedentReflexiveOperatorTest = false;
+        deadline = null;
+
+        // every other row is overwritten when it gets created, so we only need to forget the registered labels
+        Arrays.fill(varietyFirstPlantation, 0);
+        Arrays.fill(varietyTag, 0);
+        Arrays.fill(varietyFirstCluster, 0);
+        clusterArgumentString.clear();
+        classMergeList.clear();
+        succedentReflexiveOperatorsSet.clear();
+
+        // start the index 0 with {0,0,0,0,0,0} for the cluster, with 0 index to argument list then update later
+        storeCluster(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        // start the index 0 with {0,0,0,0,0,0} for the argument
+        storeClusterArgument(0, 0, 0, 0, 0, 0);
+
+        // start the index 0 with {0,0,0,0,0,0} for the plantation
+        storePlantation(0, 0, 0, 0, 0, 0, 0);
+
+        // start the index 0 with {0,0,0,0,0} with {0,0,0} attribute for the congruence class.
+        storeCongruenceClass(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * <p>
+     * The operation registers a new singleton class with one cluster, both are assigned a new designator and accessor
+     * to the class is returned
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            An integer value to represent the tree node being registered.
+     *
+     * @return integer value representing accessor for the class created.
+     */
+    @Override
+    public int registerCluster(Integer treeNodeLabel) {
+        int nextWithSimilarArgString = 0;
+        int nextPlantationCluster = 0;
+        int prevPlantationCluster = 0;
+        int nextCCPlantation = 0;
+        int nextVrtyPlantation = 0;
+        int prvVrtyPlantation = 0;
+
+        // special Bingo check for reflexive operators in the succedent before we continue normally if the VC is not
+        // proved
+        if (succedentReflexiveOperatorsSet.contains(treeNodeLabel)) {
+            Queue<Integer> tempArgList = new ArrayDeque<>();
+            Integer tempClassDesignator;
+            int iter = clusterArgumentString.size();
+
+            // create a copy as it will be needed if the VC is not proved and normal registration of reflexive operator
+            // is resumed.
+            while (iter > 0) {
+                tempClassDesignator = clusterArgumentString.remove();
+                tempArgList.add(tempClassDesignator);
+                clusterArgumentString.add(tempClassDesignator);
+                iter--;
+            }
+
+            // use an internal procedure to do what are congruent is doing, and call that inside are congruent operation
+            // are congruent is meant for the client outside
+            if (areClassesCongruent(tempArgList.remove(), tempArgList.remove())) {
+                isProved = true;
+            } else {
+                // for efficiency, this will tell the registry there is a reflexive operator in the succedent and the
+                // special test should be activated otherwise don't waste any resources
+                succedentReflexiveOperatorTest = true;
+            }
+        }
+
+        if (isProved == false) {
+            // make room for the new class, cluster, plantation and label before touching any of the columns
+            ensurePlantationStoreSize(indexForPlantationArray + 1);
+            ensureCongruenceClassStoreSize(topCongruenceClassDesignator + 1);
+            ensureClusterStoreSize(topCongruenceClusterDesignator + 1);
+            ensureVarietyStoreSize(treeNodeLabel);
+
+            topCongruenceClassDesignator++;
+            topCongruenceClusterDesignator++;
+            indexForPlantationArray++;
+            topLabelCapacity++;
+
+            // this is the last position in the argument string array in terms of depth from the empty arg string
+            int lastArgStringPos = 0;
+            // create the plantation
+            storePlantation(indexForPlantationArray, treeNodeLabel, indexForPlantationArray, indexForPlantationArray,
+                    nextCCPlantation, nextVrtyPlantation, prvVrtyPlantation);
+
+            // create the congruence class
+            // indexInArgArray is the Arg string occurrence position, an index for the created arg string for this
+            // cluster
+            storeCongruenceClass(topCongruenceClassDesignator, indexForPlantationArray, topCongruenceClassDesignator,
+                    lastArgStringPos, topCongruenceClassDesignator);
+
+            // create the cluster, with 0 index to argument list then update later once tags are included
+            storeCluster(topCongruenceClusterDesignator, treeNodeLabel, 0, topCongruenceClassDesignator,
+                    topCongruenceClusterDesignator, nextPlantationCluster, prevPlantationCluster,
+                    topCongruenceClusterDesignator, nextWithSimilarArgString);
+
+            // remember the argument classes and the other clusters with the same label before the argument string
+            // gets consumed
+            recordClusterArguments(topCongruenceClusterDesignator, treeNodeLabel, clusterArgumentString);
+
+            // get the index created after putting the argument string for this cluster
+            int indexInArgArray = createClusterArgumentArray(treeNodeLabel, clusterArgumentString);
+
+            // set the index to argument array,
+            clusterIndexToArgList[topCongruenceClusterDesignator] = indexInArgArray;
+
+            // update variety list array
+            addInVarietyListArray(treeNodeLabel, indexForPlantationArray, indexForPlantationArray);
+
+            return topCongruenceClassDesignator;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * <p>
+     * This operatipon checks if the cluster to be registered already exists in the registry. It involves checking into
+     * the cluster argument array if the argument exists
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The root node for the cluster to be checked
+     *
+     * @return {@code true} if the cluster exists in the registry, otherwise, it returns false.
+     */
+    @Override
+    public boolean checkIfRegistered(Integer treeNodeLabel) { /* Is_Already_Reg_Clstr */
+        int classDesignator = 0;
+        int nextClusterArgIndex = 0;
+        int count = 0;
+        int argStringLengh = argListLength(clusterArgumentString);
+        int currentClusterArgIndex = 1;
+        Queue<Integer> tempQueue = new ArrayDeque<>();
+        // if argStringLength is 0, it is variable or constant
+        if (argStringLengh == 0) {
+            if (!hasEmptyArgString) {
+                // there is nothing in the argument string yet, just return false
+                return false;
+            } else {
+                // The condition checks if the label and the argument is the same as one to be registered
+                if (clusterTreeNodeLabel[argClusterNumber[currentClusterArgIndex]] == treeNodeLabel
+                        && clusterIndexToArgList[argClusterNumber[currentClusterArgIndex]] == currentClusterArgIndex) {
+                    return true;
+                }
+                // The while loop checks clusters in cluster array with one argument by following a pointer next with
+                // same argument filed until we find one or we get to the end.
+                int currentClusterIndex = clusterNextWithSameArg[argClusterNumber[currentClusterArgIndex]];
+                while (clusterNextWithSameArg[currentClusterIndex] != 0) {
+                    if (clusterTreeNodeLabel[currentClusterIndex] == treeNodeLabel
+                            && clusterIndexToArgList[currentClusterIndex] == currentClusterArgIndex) {
+                        return true;
+                    }
+                    currentClusterIndex = clusterNextWithSameArg[currentClusterIndex];
+                    if (currentClusterIndex == 0) {
+                        // if it is 0 there is nothing more we can do, it is not there.
+                        return false;
+                    }
+                }
+
+                if (clusterNextWithSameArg[currentClusterIndex] == 0) {
+                    if (clusterTreeNodeLabel[currentClusterIndex] == treeNodeLabel
+                            && clusterIndexToArgList[currentClusterIndex] == currentClusterArgIndex) {
+                        return true;
+                    }
+                }
+
+            }
+            return false;
+        }
+        // The while loop checks for clusters with arguments, and assumed they are already appended in the argument list
+        while (clusterArgumentString.size() > 0) {
+            classDesignator = removeFirstArgDesignator();
+            tempQueue.add(classDesignator);
+            classDesignator = getTheUltimateDominantClass(classDominantCClass[classDesignator]);
+
+            nextClusterArgIndex = argNextClusterArg[currentClusterArgIndex];
+            if (nextClusterArgIndex == 0) {
+                // This if statement is entered if there is no next level after the argument being checked.
+                // Just restore the argument list and return false.
+                while (clusterArgumentString.size() > 0) {
+                    tempQueue.add(clusterArgumentString.remove());
+                }
+                while (tempQueue.size() > 0) {
+                    appendToClusterArgList(tempQueue.remove());
+                }
+                return false;
+            } else {
+                if (getTheUltimateDominantClass(
+                        classDominantCClass[argCcNumber[nextClusterArgIndex]]) == classDesignator) {
+                    count++;
+                    currentClusterArgIndex = nextClusterArgIndex;
+                } else {
+                    // it didn't have even the first class for the first argument, just return false and exit
+                    if (argAlternativeArg[nextClusterArgIndex] == 0) {
+
+                        while (clusterArgumentString.size() > 0) {
+                            tempQueue.add(clusterArgumentString.remove());
+                        }
+                        // restore the cluster argument list
+                        while (tempQueue.size() > 0) {
+                            appendToClusterArgList(tempQueue.remove());
+                        }
+                        return false;
+                    }
+                    // check the alternative args if we can find it
+                    while (argAlternativeArg[nextClusterArgIndex] != 0) {
+
+                        if (getTheUltimateDominantClass(
+                                argCcNumber[argAlternativeArg[nextClusterArgIndex]]) == classDesignator) {
+                            // argument found, increase the count and exit
+                            count++;
+                            currentClusterArgIndex = argAlternativeArg[nextClusterArgIndex];
+                            break;
+                        } else {
+                            // argument not found, check the next one
+                            nextClusterArgIndex = argAlternativeArg[nextClusterArgIndex];
+                        }
+                    }
+                }
+
+            }
+            // check if we found all arguments
+            if (argStringLengh == count) {
+                // now check if the cluster exists by checking the label and the arg string
+                if (clusterTreeNodeLabel[argClusterNumber[currentClusterArgIndex]] == treeNodeLabel
+                        && clusterIndexToArgList[argClusterNumber[currentClusterArgIndex]] == currentClusterArgIndex) {
+                    // restore the cluster argument list
+                    while (tempQueue.size() > 0) {
+                        appendToClusterArgList(tempQueue.remove());
+                    }
+                    return true;
+                }
+                int clusterNumber = clusterNextWithSameArg[argClusterNumber[currentClusterArgIndex]];
+                while (clusterNumber != 0) {
+                    if (clusterTreeNodeLabel[clusterNumber] == treeNodeLabel
+                            && clusterIndexToArgList[clusterNumber] == currentClusterArgIndex) {
+                        // restore the cluster argument list
+                        while (tempQueue.size() > 0) {
+                            appendToClusterArgList(tempQueue.remove());
+                        }
+                        return true;
+                    }
+                    clusterNumber = clusterNextWithSameArg[clusterNumber];
+                }
+            }
+        }
+
+        // restore the cluster argument list
+        while (tempQueue.size() > 0) {
+            appendToClusterArgList(tempQueue.remove());
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This operation is used to get the accessor for the class with the cluster we are about to register.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            A label for the cluster to be registered
+     *
+     * @return an accessor for the class containing the cluster to be created.
+     */
+    @Override
+    public int getAccessorFor(Integer treeNodeLabel) {/* Get_Accr_for */
+        int currentIndexInArgumentString = 1;
+        int currentIndexInClusterArray = argClusterNumber[currentIndexInArgumentString];
+        if (clusterArgumentString.size() == 0) {
+            // Assuming everything in the list of clusters with same arguments will point to
+            // currentIndexInArgumentString, walking the list we should eventually find one with the tree node label
+            // we are looking for
+            while (clusterTreeNodeLabel[currentIndexInClusterArray] != treeNodeLabel) {
+                currentIndexInClusterArray = clusterNextWithSameArg[currentIndexInClusterArray];
+            }
+            // return the class designator and it should be the dominant one
+            return classDominantCClass[clusterIndexToCClass[currentIndexInClusterArray]];
+
+        } else {
+            // The approach assumes the way the args were put in the structure is maintained all throughout
+            int finalCountNeeded = clusterArgumentString.size();
+            int currentClassDesignator = 0;
+            int nextClusterArgument = 1;
+            int countArgumentsFound = 0;
+
+            // The operation is called when we know the cluster exists. Therefore, we should find everything in the
+            // argument string no need to keep the count.
+            while (clusterArgumentString.size() > 0) {
+                currentClassDesignator = removeFirstArgDesignator();
+                currentClassDesignator = classDominantCClass[currentClassDesignator];
+                nextClusterArgument = argNextClusterArg[nextClusterArgument];
+
+                if (classDominantCClass[argCcNumber[nextClusterArgument]] == currentClassDesignator) {
+                    countArgumentsFound++;
+                } else {
+                    while (argAlternativeArg[nextClusterArgument] != 0) {
+                        if (getTheUltimateDominantClass(
+                                argCcNumber[argAlternativeArg[nextClusterArgument]]) == currentClassDesignator) {
+                            countArgumentsFound++;
+                            nextClusterArgument = argAlternativeArg[nextClusterArgument];
+                            break;
+                        } else {
+                            nextClusterArgument = argAlternativeArg[nextClusterArgument];
+                        }
+                    }
+                }
+            }
+
+            if (finalCountNeeded == countArgumentsFound) {
+                return classDominantCClass[clusterIndexToCClass[argClusterNumber[nextClusterArgument]]];
+            } else {
+                // we should not get here if everything is set up correctly
+                // but just for safety return 0
+                return 0;
+            }
+        }
+
+    }
+
+    /**
+     * <p>
+     * This operation allows us to move from one congruence class accessor to another in the variety.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The tree node label a class we are looking for should contain in its clusters
+     * @param currentCCAccessor
+     *            The current class accessor
+     *
+     * @return the next congruence class accessor after {@param currentCCAccessor}.
+     */
+    @Override
+    public int advanceCClassAccessor(Integer treeNodeLabel, int currentCCAccessor) { // Advance_CC_Accr_for
+        int currentPlantationForTreeNodeLabel = 0;
+        int nextPlantationInNextClassAccessor = 0;
+
+        currentPlantationForTreeNodeLabel = varietyFirstPlantation[treeNodeLabel];
+
+        int congruenceClassForCluster = clusterIndexToCClass[plantationFirstCluster[currentPlantationForTreeNodeLabel]];
+        int dominantCongruenceClassForCluster = classDominantCClass[congruenceClassForCluster];
+
+        while (currentPlantationForTreeNodeLabel != 0) {
+            if (congruenceClassForCluster == currentCCAccessor
+                    || dominantCongruenceClassForCluster == currentCCAccessor) {
+                nextPlantationInNextClassAccessor = plantationNextVrtyPlantation[currentPlantationForTreeNodeLabel];
+                congruenceClassForCluster = clusterIndexToCClass[plantationFirstCluster[nextPlantationInNextClassAccessor]];
+                dominantCongruenceClassForCluster = classDominantCClass[congruenceClassForCluster];
+                return dominantCongruenceClassForCluster;
+            } else {
+                currentPlantationForTreeNodeLabel = plantationNextVrtyPlantation[currentPlantationForTreeNodeLabel];
+                if (currentPlantationForTreeNodeLabel != 0) {
+                    congruenceClassForCluster = clusterIndexToCClass[plantationFirstCluster[currentPlantationForTreeNodeLabel]];
+                    dominantCongruenceClassForCluster = classDominantCClass[congruenceClassForCluster];
+                }
+            }
+        }
+        // this is just defensive, we will never get here as the operation is always called when we have next accessor
+        return 0;
+    }
+
+    /**
+     * <p>
+     * This operation checks if the classes are exhausted in the veriety.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The designator for the variety we are checking.
+     * @param currentCCAccessor
+     *            Current congruence class accessor.
+     *
+     * @return {@code true} if we have exhausted all the classes in the variety designated by {@param treeNodeLabel}.
+     */
+    @Override
+    public boolean isVarietyMaximal(Integer treeNodeLabel, int currentCCAccessor) { /* Is_Vrty_Maximal_for */
+        int currentPlantationForTreeNodeLabel = 0;
+        int nextPlantationInNextClassAccessor = 0;
+
+        currentPlantationForTreeNodeLabel = varietyFirstPlantation[treeNodeLabel];
+
+        int congruenceClassForCluster = clusterIndexToCClass[plantationFirstCluster[currentPlantationForTreeNodeLabel]];
+        int dominantCongruenceClassForCluster = classDominantCClass[congruenceClassForCluster];
+
+        while (currentPlantationForTreeNodeLabel != 0) {
+            if (congruenceClassForCluster == currentCCAccessor
+                    || dominantCongruenceClassForCluster == currentCCAccessor) {
+                nextPlantationInNextClassAccessor = plantationNextVrtyPlantation[currentPlantationForTreeNodeLabel];
+                if (nextPlantationInNextClassAccessor == 0) {
+                    return true;
+                } else {
+                    return false;
+                }
+            } else {
+                currentPlantationForTreeNodeLabel = plantationNextVrtyPlantation[currentPlantationForTreeNodeLabel];
+                if (currentPlantationForTreeNodeLabel != 0) {
+                    congruenceClassForCluster = clusterIndexToCClass[plantationFirstCluster[currentPlantationForTreeNodeLabel]];
+                    dominantCongruenceClassForCluster = classDominantCClass[congruenceClassForCluster];
+                }
+            }
+        }
+        // this is just defensive, we hope it will be existing and decision will be made earlier
+        return true;
+    }
+
+    /**
+     * <p>
+     * This operation checks if the supplied tree node label is among the root node labels in the registry.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            Tree node lable to be checked.
+     *
+     * @return {@code true} if the {@param treeNodeLabel} is within the nodes in the registry, returns {@code false}
+     *         otherwise.
+     */
+    @Override
+    public boolean isRegistryLabel(Integer treeNodeLabel) { /* Is_Rgry_Lab */
+        if (treeNodeLabel < varietyTag.length && varietyTag[treeNodeLabel] != 0) {
+            // each node at some point is considered a root node label
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This operation return the remaining capacity for the congruence class designators in the registry.
+     * </p>
+     *
+     * @return the difference between the maximum class capacity and the current used count of class designators.
+     */
+    @Override
+    public int remainingCCDesignatorCap() {
+        return ccDesignatorCapacity - topCongruenceClassDesignator;
+    }
+
+    /**
+     * <p>
+     * This operation return the remaining capacity for the cluster designators in the registry.
+     * </p>
+     *
+     * @return the difference between the maximum cluster capacity and the current used count of cluster designators.
+     */
+    @Override
+    public int remainingCClusterDesignatorCap() {
+        return cClusterDesignatorCapacity - topCongruenceClusterDesignator;
+    }
+
+    /**
+     * <p>
+     * This operation return the remaining label capacity for the labels in the registry.
+     * </p>
+     *
+     * @return the difference between the maximum label capacity and the current used count on the label.
+     */
+    @Override
+    public int remainingLabelCap() {
+        return rootLabelCapacity - topLabelCapacity;
+    }
+
+    /**
+     * <p>
+     * This operation allows us to move from one cluster to another inside a plantation.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The root node label for the plantation.
+     * @param currentClusterAccessor
+     *            The current cluster designator.
+     *
+     * @return the next cluster accessor after {@param currentClusterAccessor}.
+     */
+    @Override
+    public int advanceClusterAccessor(Integer treeNodeLabel, int currentClusterAccessor) {
+        int dominantCluster = currentClusterAccessor;
+        while (clusterDominantCluster[dominantCluster] != currentClusterAccessor) {
+            dominantCluster = clusterDominantCluster[dominantCluster];
+        }
+        return clusterNextPlantationCluster[dominantCluster];
+    }
+
+    /**
+     * <p>
+     * This operation checks if the cluster designators are exhausted inside the plantation.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            A tree node label that designates the plantation being checked
+     * @param currentClusterAccessor
+     *            A current cluster accessor in the plantation
+     *
+     * @return {@code true} if we have exhausted all the clusters in the plantation, otherwise it returns {@code false}
+     */
+    @Override
+    public boolean isPlantationMaximal(Integer treeNodeLabel, int currentClusterAccessor) {
+        int dominantCluster = currentClusterAccessor;
+        while (clusterDominantCluster[dominantCluster] != currentClusterAccessor) {
+            dominantCluster = clusterDominantCluster[dominantCluster];
+        }
+        if (clusterNextPlantationCluster[dominantCluster] == 0) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This operation checks to see if provided congruence class accessor is minimal.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            A tree node label designating the variety where class designated by {@param cClassAccessor} resides
+     * @param cClassAccessor
+     *            A congruence class accessor to check if it is minimal
+     *
+     * @return {@code true} iff the {@param cClassAccessor} is minimal, otherwise, return {@code false}
+     */
+    @Override
+    public boolean isMinimalVCCDesignator(Integer treeNodeLabel, int cClassAccessor) {
+        if (classDominantCClass[cClassAccessor] == cClassAccessor && treeNodeLabel < varietyTag.length
+                && varietyTag[treeNodeLabel] != 0) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This operation checks if the plantation designator is minimal
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The tree node label for the clusters in the plantation
+     * @param cClassAccessor
+     *            The accessor for the class the plantation is in
+     * @param clusterAccessor
+     *            The accessor for the cluster in the plantation
+     *
+     * @return {@code true} if the plantation designator is minimal, otherwise, it returns {@code false}
+     */
+    @Override
+    public boolean isMinimalPlantationClusterDesignator(Integer treeNodeLabel, int cClassAccessor,
+            int clusterAccessor) {
+        if (clusterDominantCluster[clusterAccessor] == clusterAccessor
+                && isMinimalVCCDesignator(treeNodeLabel, cClassAccessor)) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This operation removes the first argument class designator from the registry's argument list
+     * </p>
+     *
+     * @return the accessor for the first argument in the registry's argument list
+     */
+    @Override
+    public int removeFirstArgDesignator() {
+        return clusterArgumentString.remove();
+    }
+
+    /**
+     * <p>
+     * This operation gets the length of an argument string in the registry
+     * </p>
+     *
+     * @param clusterArgumentString
+     *            The argument string
+     *
+     * @return the length of an argument string in the registry
+     */
+    @Override
+    public int argListLength(Queue<Integer> clusterArgumentString) {
+        return clusterArgumentString.size();
+    }
+
+    /**
+     * <p>
+     * The operation appends the argument passed from the client to the argument list in the registry
+     * </p>
+     *
+     * @param cClassDesignator
+     *            The congruence class accessor for the argument.
+     */
+    @Override
+    public void appendToClusterArgList(int cClassDesignator) {
+        clusterArgumentString.add(cClassDesignator);
+    }
+
+    /**
+     * <p>
+     * This operation merges two congruence class designated by the accessor passed in the parameters.
+     * </p>
+     *
+     * @param firstCCAccessor
+     *            The first congruence class accessor
+     * @param secondCCAccessor
+     *            The second congruence class accessor
+     */
+    @Override
+    public void makeCongruent(int firstCCAccessor, int secondCCAccessor) {
+        // The approach takes assumes firstCCAccessor is smaller than secondCCAccessor always.
+        // The example used is for first accessor being 3 and second accessor being 7
+        // The variables are named with 3 and 7 to simplify tracing
+        int indexToArgString_3_L1 = 0;
+        int indexToArgString_7_L2 = 0;
+        int indexToArgString_3_L2 = 0;
+        int indexTOArgString_7_L1 = 0;
+        int level_2 = 2;
+        int level_1 = 1;
+        long attributes;
+
+        // make sure they are dominant classes
+        firstCCAccessor = getTheUltimateDominantClass(classDominantCClass[firstCCAccessor]);
+        secondCCAccessor = getTheUltimateDominantClass(classDominantCClass[secondCCAccessor]);
+
+        // addFirst and removeFirst uses FIFO
+        classMergeList.add(firstCCAccessor);
+        classMergeList.add(secondCCAccessor);
+
+        // if no classes are added during merging process it will only execute once. Otherwise, the while loop continue
+        // until the class merge list is exhausted
+        while (classMergeList.size() != 0) {
+            checkDeadline();
+            firstCCAccessor = classMergeList.remove();
+            secondCCAccessor = classMergeList.remove();
+            attributes = mergeAttribute(firstCCAccessor, secondCCAccessor);
+            // in either case we will have 4 values to help in narrowing the search
+            if (firstCCAccessor < secondCCAccessor) {
+                indexToArgString_3_L1 = getArgStringOccPos(firstCCAccessor, 1);
+                indexToArgString_7_L2 = getArgStringOccPos(secondCCAccessor, 2);
+                indexToArgString_3_L2 = getArgStringOccPos(firstCCAccessor, 2);
+                indexTOArgString_7_L1 = getArgStringOccPos(secondCCAccessor, 1);
+            } else {
+                indexToArgString_3_L1 = getArgStringOccPos(secondCCAccessor, 1);
+                indexToArgString_7_L2 = getArgStringOccPos(firstCCAccessor, 2);
+                indexToArgString_3_L2 = getArgStringOccPos(secondCCAccessor, 2);
+                indexTOArgString_7_L1 = getArgStringOccPos(firstCCAccessor, 1);
+            }
+            // check if it is proved
+            if (isSequentVCProvedByAttributes(attributes)) {
+                isProved = true;
+            } else if (succedentReflexiveOperatorTest) {
+                if (indexToArgString_7_L2 != 0 && indexToArgString_3_L1 != 0) {
+                    if (firstCCAccessor < secondCCAccessor) {
+                        if (reflexivityBingoTest(firstCCAccessor, secondCCAccessor, level_2)) {
+                            isProved = true;
+                        }
+                    } else {
+                        if (reflexivityBingoTest(secondCCAccessor, firstCCAccessor, level_2)) {
+                            isProved = true;
+                        }
+                    }
+                } else if (indexTOArgString_7_L1 != 0 && indexToArgString_3_L2 != 0) {
+                    if (firstCCAccessor < secondCCAccessor) {
+                        if (reflexivityBingoTest(firstCCAccessor, secondCCAccessor, level_1)) {
+                            isProved = true;
+                        }
+                    } else {
+                        if (reflexivityBingoTest(secondCCAccessor, firstCCAccessor, level_1)) {
+                            isProved = true;
+                        }
+                    }
+
+                }
+            }
+            // continue with the merge process
+            if (!isProved) {
+                mergeClasses(firstCCAccessor, secondCCAccessor);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This operation checks if the two provided congruence classes are already congruent
+     * </p>
+     *
+     * @param firstAccessor
+     *            The first congruence class accessor
+     * @param secondAccessor
+     *            The second congruence class accessor
+     *
+     * @return {@code true} iff the two classes are congruent. Otherwise, it returns {@code false}
+     */
+    @Override
+    public boolean areCongruent(int firstAccessor, int secondAccessor) {
+        return areClassesCongruent(firstAccessor, secondAccessor);
+    }
+
+    /**
+     * <p>
+     * This operation checks to see if the target sequent VC is proved
+     * </p>
+     *
+     * @return {@code true} iff the sequent VC is proved. Otherwise, it returns {@code false}
+     */
+    @Override
+    public boolean checkIfProved() {
+        return isProved;
+    }
+
+    /**
+     * <p>
+     * This operation updates the congruence class attributes
+     * </p>
+     *
+     * @param classAccessor
+     *            The accessor for the class to be updated
+     * @param attributeIn
+     *            The attribute to be attached to the class
+     *
+     * @throws IllegalArgumentException
+     *             If {@code attributeIn} sets a bit that doesn't fit in the 64 attribute bits stored for each class.
+     */
+    @Override
+    public void updateClassAttributes(int classAccessor, BitSet attributeIn) {
+        // Each class stores its attributes in a single long, so make sure we don't silently drop any bits.
+        // An empty attribute has nothing to add (and toLongArray() returns an empty array for it).
+        if (attributeIn.length() > Long.SIZE) {
+            throw new IllegalArgumentException("Attribute bit " + (attributeIn.length() - 1)
+                    + " can't be stored in a congruence class. Only bits 0 through " + (Long.SIZE - 1)
+                    + " are supported.");
+        }
+        if (!attributeIn.isEmpty()) {
+            classAttributes[classAccessor] |= attributeIn.toLongArray()[0];
+        }
+        if (isSequentVCProvedByAttributes(classAttributes[classAccessor])) {
+            isProved = true;
+        }
+    }
+
+    /**
+     * <p>
+     * This operation add the reflexive operators found in the succedent of the target sequent VC to the registry's
+     * reflexive set of operators
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The label for the reflexive operator
+     */
+    @Override
+    public void addOperatorToSuccedentReflexiveOperatorSet(Integer treeNodeLabel) {
+        succedentReflexiveOperatorsSet.add(treeNodeLabel);
+    }
+
+    /**
+     * <p>
+     * This operation returns the dominant congruence class for the provided class.
+     * </p>
+     *
+     * @param classAccessor
+     *            A congruence class accessor.
+     *
+     * @return the designator for the ultimate dominant class of {@param classAccessor}.
+     */
+    @Override
+    public int getDominantClass(int classAccessor) {
+        return getTheUltimateDominantClass(classAccessor);
+    }
+
+    /**
+     * <p>
+     * This operation returns the most recently registered congruence cluster with {@param treeNodeLabel} as its root
+     * node. The rest of the clusters can be obtained using {@link #getNextClusterWithSameLabel(int)}.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The root node label for the clusters we are looking for.
+     *
+     * @return a cluster designator or {@code 0} if there are no clusters with {@param treeNodeLabel}.
+     */
+    @Override
+    public int getFirstClusterWithLabel(int treeNodeLabel) {
+        if (treeNodeLabel < 0 || treeNodeLabel >= varietyFirstCluster.length) {
+            return 0;
+        }
+
+        return varietyFirstCluster[treeNodeLabel];
+    }
+
+    /**
+     * <p>
+     * This operation returns the next congruence cluster with the same root node label as {@param clusterDesignator}.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            A congruence cluster designator.
+     *
+     * @return a cluster designator or {@code 0} if there are no more clusters with the same label.
+     */
+    @Override
+    public int getNextClusterWithSameLabel(int clusterDesignator) {
+        return clusterNextWithSameLabel[clusterDesignator];
+    }
+
+    /**
+     * <p>
+     * This operation returns the dominant congruence class containing the provided cluster.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            A congruence cluster designator.
+     *
+     * @return the designator for the dominant class that contains {@param clusterDesignator}.
+     */
+    @Override
+    public int getClusterClass(int clusterDesignator) {
+        return getTheUltimateDominantClass(clusterIndexToCClass[clusterDesignator]);
+    }
+
+    /**
+     * <p>
+     * This operation returns the number of arguments for the provided cluster.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            A congruence cluster designator.
+     *
+     * @return the number of arguments used when {@param clusterDesignator} got registered.
+     */
+    @Override
+    public int getClusterArity(int clusterDesignator) {
+        return clusterArgumentsLength[clusterDesignator];
+    }
+
+    /**
+     * <p>
+     * This operation returns the dominant congruence class for one of the arguments of the provided cluster.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            A congruence cluster designator.
+     * @param position
+     *            The argument position (starting from {@code 0}).
+     *
+     * @return the designator for the dominant class of the argument at {@param position}.
+     */
+    @Override
+    public int getClusterArgument(int clusterDesignator, int position) {
+        return getTheUltimateDominantClass(clusterArgumentClasses[clusterArgumentsStart[clusterDesignator] + position]);
+    }
+
+    /**
+     * <p>
+     * This operation sets the deadline token that is polled while merging classes. Once the deadline expires, any
+     * registry operation that is merging classes aborts with a {@link ProverTimeoutException}.
+     * </p>
+     *
+     * @param deadline
+     *            The deadline token for the target sequent VC, or {@code null} if there is no deadline.
+     */
+    @Override
+    public void setDeadline(ProverDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /*************************************
+     * PRIVATE METHODS
+     ****************************************************************************/
+
+    /**
+     * <p>
+     * This operation polls the deadline token (if any) and aborts the current operation when it has expired.
+     * </p>
+     *
+     * @throws ProverTimeoutException
+     *             If the deadline has expired or has been cancelled.
+     */
+    private void checkDeadline() {
+        if (deadline != null) {
+            deadline.checkDeadline();
+        }
+    }
+
+    /**
+     * <p>
+     * The operation that gets the ultimate dominant class designator for a given class
+     * </p>
+     *
+     * @param cClassDesingator
+     *            is a current class designator.
+     *
+     * @return int value for the ultimate class designator for the provided designator.
+     */
+    private int getTheUltimateDominantClass(int cClassDesingator) {
+        while (classDominantCClass[cClassDesingator] != cClassDesingator) {
+            cClassDesingator = classDominantCClass[cClassDesingator];
+        }
+        return cClassDesingator;
+    }
+
+    /**
+     * <p>
+     * This operation checks to see of two classes are congruent
+     * </p>
+     *
+     * @param firstAccessor
+     *            is an accessor for the first class provided by the client.
+     * @param secondAccessor
+     *            is an accessor for the second class provided by the client
+     *
+     * @return {@code true} iff the two provided classes are congruent. Otherwise, return {@code false}.
+     */
+    private boolean areClassesCongruent(int firstAccessor, int secondAccessor) {
+        if (firstAccessor == secondAccessor) {
+            return true;
+        } else {// one is the dominant of each other, or both have the same dominant class
+            int dominantFirstClass = getTheUltimateDominantClass(firstAccessor);
+
+            int dominantSecondClass = getTheUltimateDominantClass(secondAccessor);
+
+            if (dominantFirstClass == dominantSecondClass) {
+                return true;
+            }
+
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This is a sub-procedure for the reflexivity Bingo test {@code reflexivityBingoTest}
+     * </p>
+     *
+     * @param indexToArgInSecondLevel
+     *            index to the argument string representing first occurrence of the class in second level.
+     * @param classAccessorInFirstLevel
+     *            accessor for the class in the first level that the second class should match.
+     *
+     * @return {@code true} iff the previous class from {@param indexToArgInSecondLevel} is
+     *         {@param classAccessorInFirstLevel}, and the root node of the cluster is in the set of reflexive
+     *         operators. Otherwise return {@code false}.
+     *
+     */
+    private boolean subReflexiveBingoTest(int indexToArgInSecondLevel, int classAccessorInFirstLevel) {
+
+        int currentCluster;
+        // this check is from the second level looking the second argument upwards
+        // moving from one 7 to another 7 in the same level to see if we hit the right 7 that has been changed to a 3
+        // and previous is 3
+        while (argNextWithSameCCInLevel[indexToArgInSecondLevel] != indexToArgInSecondLevel) {
+
+            if (argCcNumber[argPrevClusterArg[indexToArgInSecondLevel]] == classAccessorInFirstLevel) {
+                currentCluster = argClusterNumber[indexToArgInSecondLevel]; // first class
+                while (clusterNextWithSameArg[currentCluster] != currentCluster) {
+                    // check the cluster if it has the operator we are looking for
+                    if (succedentReflexiveOperatorsSet.contains(clusterTreeNodeLabel[currentCluster])
+                            && (classAttributes[clusterIndexToCClass[currentCluster]] & ULTIMATE_ATTRIBUTE) != 0) {
+                        // we may need the classes to be dominant
+                        return true;
+                    }
+                    // get to the next cluster that uses the same argument
+                    currentCluster = clusterNextWithSameArg[currentCluster];
+                }
+            }
+            // get the next 7 in the lavel 2, it might have been another seven preceded with 3
+            indexToArgInSecondLevel = argNextWithSameCCInLevel[indexToArgInSecondLevel];
+            // currentCluster = argClusterNumber[indexToArgString_7];
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * This is one way to check if the sequent VC is proved. It is called when there is an existence of the reflexive
+     * operator in the succedent.
+     * </p>
+     *
+     * @param firstClassAccessor
+     *            is accessor for the first class, {@param firstClassAccessor} is considered smaller than
+     *            {@param secondClassAccessor}.
+     * @param secondClassAccessor
+     *            is accessor for the second class, {@param secondClassAccessor} is considered greater than
+     *            {@param firstClassAccessor}.
+     * @param level
+     *            is the level in the argument string array for the second class.
+     *
+     * @return {@code true} iff the sequent VC is proved, otherwise it returns {@code false}
+     */
+    private boolean reflexivityBingoTest(int firstClassAccessor, int secondClassAccessor, int level) {
+
+        if (level == 2) {
+            int indexToArgString_7 = getArgStringOccPos(secondClassAccessor, 2);
+            return subReflexiveBingoTest(indexToArgString_7, firstClassAccessor);
+
+        } else if (level == 1) {
+
+            int indexToArgString_3 = getArgStringOccPos(firstClassAccessor, 2);
+            return subReflexiveBingoTest(indexToArgString_3, secondClassAccessor);
+
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * The operation merges two attributes for two merged classes into one. The attribute on the class with larger
+     * accessor is merged into the attribute on the class with smaller accessor
+     * </p>
+     *
+     * @param firstAccessor
+     *            is accessor for the first class, {@param firstAccessor} is considered smaller than
+     *            {@param secondAccessor}.
+     * @param secondAccessor
+     *            is accessor for the second class, {@param secondAccessor} is considered greater than
+     *            {@param firstAccessor}.
+     *
+     * @return the attribute bits resulting from merging the bits for the first class and second class.
+     */
+    private long mergeAttribute(int firstAccessor, int secondAccessor) {
+        // just as example, first accessor = 3, second accessor = 7
+        // OR the two sets of bits and the result will be in the attribute for 3.
+        classAttributes[firstAccessor] |= classAttributes[secondAccessor];
+        return classAttributes[firstAccessor];
+    }
+
+    /**
+     * <p>
+     * This operation checks whether the sequent VC is proved or not using the attribute bits on the classes
+     * </p>
+     *
+     * @param attributeBits
+     *            are the attribute bits provided to be checked if they prove the sequent VC.
+     *
+     * @return {@code true} iff the {@param attributeBits} has all the bits set, which proves the sequent VC. Otherwise,
+     *         the operation returns {@code false}.
+     */
+    private boolean isSequentVCProvedByAttributes(long attributeBits) {
+        // the number of 1's is 3 when all three bits are set.
+        if (Long.bitCount(attributeBits) == 3) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * The operation adds a new plantation to the variety list designated by {@param treeNodeLabel}. It starts a new
+     * list when the list is not existing or join to the existing list. The plantations are kept in ascending order
+     * according to their indices in plantation array.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            a designator for the variety
+     * @param newPlantation
+     *            a new plantation to be included into the variety list for the {@param treeNodeLabel}
+     * @param plantationTag
+     *            a plantation tag for the {@param newPlantation}
+     */
+    private void addInVarietyListArray(Integer treeNodeLabel, int newPlantation, int plantationTag) {
+        int currentPlantationInVarietyList = 0;
+        if (varietyTag[treeNodeLabel] == 0) {
+            varietyFirstPlantation[treeNodeLabel] = newPlantation;
+            varietyTag[treeNodeLabel] = plantationTag;
+        } else {
+            currentPlantationInVarietyList = varietyFirstPlantation[treeNodeLabel];
+            if (newPlantation < currentPlantationInVarietyList) {
+                // put it at the front
+                // set the next plantation on the new plantation
+                plantationNextVrtyPlantation[newPlantation] = currentPlantationInVarietyList;
+                plantationPrvVrtyPlantation[currentPlantationInVarietyList] = newPlantation;
+                // update the fist plantation in the variety list in array
+                varietyFirstPlantation[treeNodeLabel] = newPlantation;
+            } else {
+                // put it at the end of the list or somewhere suitable according to the order
+                while (newPlantation > currentPlantationInVarietyList
+                        && plantationNextVrtyPlantation[currentPlantationInVarietyList] != 0) {
+                    currentPlantationInVarietyList = plantationNextVrtyPlantation[currentPlantationInVarietyList];
+                }
+                plantationNextVrtyPlantation[currentPlantationInVarietyList] = newPlantation;
+                plantationPrvVrtyPlantation[newPlantation] = currentPlantationInVarietyList;
+            }
+
+        }
+    }
+
+    /**
+     * <p>
+     * The operation merges the two classes in the registry accessed by {@param firstCCAccessor} and
+     * {@param secondCCAccessor} the class with large accessor is merged to the one with smaller accessor. The new class
+     * containing the content of the two classes is designated with the smaller designator, and the dominant class for
+     * the larger designator is updated to the smaller designator
+     * </p>
+     *
+     * @param firstCCAccessor
+     *            is an accessor for the first class provided by the client.
+     * @param secondCCAccessor
+     *            is accessor for the second class provided by the client.
+     */
+    private void mergeClasses(int firstCCAccessor, int secondCCAccessor) {
+        // update dominant class and perform path compression upward the chain
+        if (firstCCAccessor < secondCCAccessor) {
+            // change the dominant class for the larger class designator between the two merge classes
+            updateDominantClass(firstCCAccessor, secondCCAccessor);
+            // update the plantation either by joining their clusters or moving the plantation to the smaller class
+            updatePlantationInSmallerClass(firstCCAccessor, secondCCAccessor);
+        } else {
+            // change the dominant class for the larger class designator
+            updateDominantClass(secondCCAccessor, firstCCAccessor);
+            // update the plantation either by joining their clusters or moving the plantation to the smaller class
+            updatePlantationInSmallerClass(secondCCAccessor, firstCCAccessor);
+        }
+        int level = 0;
+        // take the second accessor and find where we should start looking in the arg string, get the level and index in
+        // FASOP
+        if (firstCCAccessor < secondCCAccessor) {
+            level = classLastArgStringPosition[secondCCAccessor];
+        } else {
+            level = classLastArgStringPosition[firstCCAccessor];
+        }
+        while (level != 0) {
+            checkDeadline();
+            // the order matter for updateClusterArgumentAfterMerging operation
+            if (firstCCAccessor < secondCCAccessor) {
+                if (!isProved) {
+                    // update only when it is not proved
+                    updateClusterArgumentAfterMerging(firstCCAccessor, secondCCAccessor, level);
+                } else {
+                    break;
+                }
+            } else {
+                if (!isProved) {
+                    updateClusterArgumentAfterMerging(secondCCAccessor, firstCCAccessor, level);
+                } else {
+                    break;
+                }
+            }
+            level--;
+        }
+
+    }
+
+    /**
+     * <p>
+     * The operation updates the dominant class designator for the {@param secondCCAccessor} to point to the
+     * {@param firstCCAccessor} ultimate designator. The attributes are also updated, where {@param firstCCAccessor}
+     * will now have an attribute resulting from merging the two individual attributes
+     * </p>
+     *
+     * @param firstCCAccessor
+     *            is accessor for the first class, {@param firstCCAccessor} is considered smaller than
+     *            {@param secondCCAccessor}.
+     * @param secondCCAccessor
+     *            is accessor for the second class, {@param secondCCAccessor} is considered greater than
+     *            {@param firstCCAccessor}.
+     */
+    private void updateDominantClass(int firstCCAccessor, int secondCCAccessor) {
+        if (classDominantCClass[firstCCAccessor] == firstCCAccessor) {
+            // it is its own dominant class so no compression
+            classDominantCClass[secondCCAccessor] = firstCCAccessor;
+            // update the attribute at class level, which depends on the smaller firstCCAccessor
+            // the attribute for class 3 now contains new stuff from class 7
+            mergeAttribute(firstCCAccessor, secondCCAccessor);
+
+        } else {
+            // it is not, compression needed
+            int currentDominantClass = firstCCAccessor;
+            // go up the chain as far as possible, I did not consider going down the chain
+            currentDominantClass = getTheUltimateDominantClass(currentDominantClass);
+            classDominantCClass[secondCCAccessor] = currentDominantClass;
+
+            // update the attribute too at class level
+            // the attribute for currentDominantClass is now containing new stuff from class 7
+            mergeAttribute(currentDominantClass, secondCCAccessor);
+        }
+    }
+
+    /**
+     * <p>
+     * The operation removes the class in the variety list after the plantation that stood in that class for a root
+     * label is merged to another class
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            the tree node label designating the plantation
+     * @param plantationDesignatorToRemove
+     *            index to the plantation that is to be removed
+     */
+    private void removeClassFromVarietyList(Integer treeNodeLabel, int plantationDesignatorToRemove) {
+        int currentPlantationInList = varietyFirstPlantation[treeNodeLabel];
+        int previousPlantationInList = 0;
+        int nextPlantationInList = 0;
+        // it is the first one in the variety array list, now it has to be removed
+        if (currentPlantationInList == plantationDesignatorToRemove) {
+            // get rid of the first one and make the second one in the variety list the first one
+            varietyFirstPlantation[treeNodeLabel] = plantationNextVrtyPlantation[varietyFirstPlantation[treeNodeLabel]];
+            // make the previous pointer 0
+            plantationPrvVrtyPlantation[plantationNextVrtyPlantation[varietyFirstPlantation[treeNodeLabel]]] = 0;
+        } else {
+            // it is not the first one in the variety array list, just remove it
+            // this assumes plantation designator to remove must be in the variety list. If that is the case just
+            // remove it by re-allocating the pointers
+            previousPlantationInList = plantationPrvVrtyPlantation[plantationDesignatorToRemove];
+            nextPlantationInList = plantationNextVrtyPlantation[plantationDesignatorToRemove];
+
+            plantationNextVrtyPlantation[previousPlantationInList] = nextPlantationInList;
+            if (nextPlantationInList != 0) {
+                // note we have P0 as the initial plantation in
+                plantationPrvVrtyPlantation[nextPlantationInList] = previousPlantationInList;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * The operation update the plantations in the smaller class after the two classes are merged
+     * </p>
+     *
+     * @param firstCCAccessor
+     *            the smaller class designator
+     * @param secondCCAccessor
+     *            the larger class designator
+     */
+    private void updatePlantationInSmallerClass(int firstCCAccessor, int secondCCAccessor) {
+        int currentFirstAccessor = firstCCAccessor;
+        int currentSecondAccessor = secondCCAccessor;
+
+        int plantationDesignator_1 = classFirstPlantation[currentFirstAccessor];
+        int plantationDesignator_2 = classFirstPlantation[currentSecondAccessor];
+
+        Integer treeNodeLabel_2, treeNodeLabel_1;
+        // tree node label 2 is the one for the plantation being moved
+        int nextPlantationDesignator_1, nextPlantationDesignator_2;
+        while (plantationDesignator_2 != 0) {
+
+            treeNodeLabel_2 = plantationTreeNodeLabel[plantationDesignator_2];
+            // get the tree node label for this plantation
+            treeNodeLabel_1 = plantationTreeNodeLabel[plantationDesignator_1];
+
+            // things may be changed and re-arranged, keep this record and use it later
+            nextPlantationDesignator_1 = plantationNextCCPlantation[plantationDesignator_1];
+            nextPlantationDesignator_2 = plantationNextCCPlantation[plantationDesignator_2];
+
+            // compare the tree node labels and do what is necessary
+            if (treeNodeLabel_2 == treeNodeLabel_1) {
+                // the tree nodes for the plantations are the same, join the clusters
+                joinClustersOnSameRootNodePlantation(plantationDesignator_1, plantationDesignator_2);
+                // update the variety list in the variety array
+                removeClassFromVarietyList(treeNodeLabel_2, plantationDesignator_2);
+                plantationDesignator_2 = nextPlantationDesignator_2;
+                plantationDesignator_1 = nextPlantationDesignator_1;
+
+            } else if (treeNodeLabel_1 < treeNodeLabel_2) {
+                // this means we still need to check if the next in list one is still smaller than treeNodeLabel_2
+                // this is the case we can still find equality
+                joinPlantationFrom2ndListToFirstList(plantationDesignator_1, plantationDesignator_2);
+                // start from the plantation added to the first list
+                plantationDesignator_1 = plantationDesignator_2;
+                // start from the next one on the second list
+                plantationDesignator_2 = nextPlantationDesignator_2;
+
+            } else {
+                // this case, treeNodeLabel_1 > treeNodeLabel_2 so it is definitely not on the list,
+                // just merge the plantations.
+                // This condition will only happen once, as the rest will be greater than what we just added
+                // from the second list.
+                joinPlantationFrom2ndListToFirstList(plantationDesignator_1, plantationDesignator_2);
+                // start from the plantation added to the first list
+                plantationDesignator_1 = plantationDesignator_2;
+
+                // update the 1st plantation in the first class, this is assuming the idea that this part will only be
+                // executed once.
+                classFirstPlantation[firstCCAccessor] = plantationDesignator_2;
+                // start from the next one on the second list
+                plantationDesignator_2 = nextPlantationDesignator_2;
+            }
+
+        }
+    }
+
+    /**
+     * <p>
+     * The operation move a plantation from the larger class to the smaller class where it will be merged to the new
+     * list according to their root node label. In this case, the operation covers the merger when the root nodes are
+     * either greater than or less than than each other
+     * </p>
+     *
+     * @param plantationDesignator_1
+     *            index to the first plantation in the first class
+     * @param plantationDesignator_2
+     *            index to the second plantation in the second class
+     *
+     */
+    private void joinPlantationFrom2ndListToFirstList(int plantationDesignator_1, int plantationDesignator_2) {
+        int treeNodeLabel_1 = plantationTreeNodeLabel[plantationDesignator_1];
+        int treeNodeLabel_2 = plantationTreeNodeLabel[plantationDesignator_2];
+
+        if (treeNodeLabel_1 < treeNodeLabel_2) {
+            plantationJoinCase_01(plantationDesignator_1, plantationDesignator_2);
+        } else {
+            plantationJoinCase_02(plantationDesignator_1, plantationDesignator_2);
+        }
+    }
+
+    /**
+     * <p>
+     * The operation join clusters in plantations that have the same root node label by moving the clusters from the
+     * larger plantation to the smaller plantation
+     * </p>
+     *
+     * @param plantationDesignator_1
+     *            index to the smaller plantation
+     * @param plantationDesignator_2
+     *            index to the larger plantation
+     */
+    private void joinClustersOnSameRootNodePlantation(int plantationDesignator_1, int plantationDesignator_2) {
+        int currentClusterDesignator_1 = plantationFirstCluster[plantationDesignator_1];
+        int currentClusterDesignator_2 = plantationFirstCluster[plantationDesignator_2];
+
+        int reserveCurrentPlantationCluster_1 = currentClusterDesignator_1;
+        int reserveCurrentPlantationCluster_2 = currentClusterDesignator_2;
+        int tempCurrentClusterDesignator_2 = 0;
+
+        // update all clusters in the plantation to belong to the new class by changing their class field
+        // we are using the dominant class, and we do this before the merging of clusters
+        int dominantClassDesignator = getTheUltimateDominantClass(
+                classDominantCClass[clusterIndexToCClass[reserveCurrentPlantationCluster_1]]);
+        // This condition should work if the cluster at index 0 has all 0's. This is done in line 66
+        while (clusterNextPlantationCluster[reserveCurrentPlantationCluster_2] != reserveCurrentPlantationCluster_2) {
+            clusterIndexToCClass[reserveCurrentPlantationCluster_2] = dominantClassDesignator;
+            reserveCurrentPlantationCluster_2 = clusterNextPlantationCluster[reserveCurrentPlantationCluster_2];
+        }
+
+        // This condition will work if the cluster array at index 0 is initialized with zeroes.
+        while (clusterNextPlantationCluster[currentClusterDesignator_2] != currentClusterDesignator_2) {
+            // get all clusters in the larger plantation
+            if (currentClusterDesignator_1 < currentClusterDesignator_2) {
+                tempCurrentClusterDesignator_2 = currentClusterDesignator_2;
+
+                // get what next on list_2
+                currentClusterDesignator_2 = clusterJoinCase_01(currentClusterDesignator_1, currentClusterDesignator_2);
+
+                // start from where we added the cluster in list_1
+                currentClusterDesignator_1 = tempCurrentClusterDesignator_2;
+            } else {
+                tempCurrentClusterDesignator_2 = currentClusterDesignator_2;
+                // get what is next from list_2
+                currentClusterDesignator_2 = clusterJoinCase_02(currentClusterDesignator_1, currentClusterDesignator_2);
+                // start from where we added the cluster in list_1
+                currentClusterDesignator_1 = tempCurrentClusterDesignator_2;
+
+                // under the assumption this will only be executed once and that will now be our fist cluster in the
+                // list_1
+                plantationFirstCluster[plantationDesignator_1] = currentClusterDesignator_1;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This operation mergers two clusters one for the smaller plantation and one from the larger plantation, in this
+     * case, the cluster on the smaller plantation is less than the cluster on the larger plantation
+     * </p>
+     *
+     * @param currentClusterDesignator_1
+     *            is the class designator for the first cluster in smaller plantation
+     * @param currentClusterDesignator_2
+     *            is the class designator for the second cluster in a larger plantation
+     *
+     * @return a cluster designator for the cluster just moved to the smaller plantation
+     */
+    private int clusterJoinCase_01(int currentClusterDesignator_1, int currentClusterDesignator_2) {
+        int next_1, next_2, prev_2;
+
+        while (currentClusterDesignator_1 < currentClusterDesignator_2
+                && clusterNextPlantationCluster[currentClusterDesignator_1] != 0
+                && clusterNextPlantationCluster[currentClusterDesignator_1] < currentClusterDesignator_2) {
+            currentClusterDesignator_1 = clusterNextPlantationCluster[currentClusterDesignator_1];
+        }
+
+        // keep records of all pointers
+        next_1 = clusterNextPlantationCluster[currentClusterDesignator_1];
+        next_2 = clusterNextPlantationCluster[currentClusterDesignator_2];
+        prev_2 = clusterPrevPlantationCluster[currentClusterDesignator_2];
+
+        // completely restore everything, every prev and next to something that can be worked on from scratch, I guess
+        // it will solve the problem in a more general way
+        clusterNextPlantationCluster[currentClusterDesignator_1] = currentClusterDesignator_2;
+
+        clusterPrevPlantationCluster[currentClusterDesignator_2] = currentClusterDesignator_1;
+        clusterNextPlantationCluster[currentClusterDesignator_2] = next_1;
+        clusterPrevPlantationCluster[next_1] = currentClusterDesignator_2;
+
+        clusterPrevPlantationCluster[next_2] = prev_2;
+
+        // update the class designator field in the cluster to pointer to the new class they belong
+        clusterIndexToCClass[currentClusterDesignator_2] = clusterIndexToCClass[currentClusterDesignator_1];
+        // return where to start on list_2
+        return next_2;
+    }
+
+    /**
+     *
+     * <p>
+     * The operation join two plantations where the tree node designating the first one is less than the tree node
+     * designating the second one
+     * </p>
+     *
+     * @param plantationDesignator_1
+     *            index to plantation array for the first plantation
+     * @param plantationDesignator_2
+     *            index to plantation orray for the second plantation
+     */
+    private void plantationJoinCase_01(int plantationDesignator_1, int plantationDesignator_2) {
+        int next_1, currentPlantationCluster_2, currentPlantationCluster_1, dominantClassDesignator;
+
+        // sort them using tree node labels
+        Integer treeNodeLabel_1, treeNodeLabel_2;
+        treeNodeLabel_1 = plantationTreeNodeLabel[plantationDesignator_1];
+        treeNodeLabel_2 = plantationTreeNodeLabel[plantationDesignator_2];
+
+        while (treeNodeLabel_1 < treeNodeLabel_2 && plantationNextCCPlantation[plantationDesignator_1] != 0
+                && plantationTreeNodeLabel[plantationNextCCPlantation[plantationDesignator_1]] < treeNodeLabel_2) {
+            plantationDesignator_1 = plantationNextCCPlantation[plantationDesignator_1];
+            treeNodeLabel_1 = plantationTreeNodeLabel[plantationDesignator_1];
+        }
+        // the tree nodes for the plantations are the same, join the clusters
+        if (treeNodeLabel_2 == treeNodeLabel_1) {
+            joinClustersOnSameRootNodePlantation(plantationDesignator_1, plantationDesignator_2);
+        } else {
+            // keep records of all pointers
+            next_1 = plantationNextCCPlantation[plantationDesignator_1];
+
+            plantationNextCCPlantation[plantationDesignator_1] = plantationDesignator_2;
+            plantationNextCCPlantation[plantationDesignator_2] = next_1;
+
+            // update all clusters in the plantation to belong to the new class by changing their class field
+            currentPlantationCluster_2 = plantationFirstCluster[plantationDesignator_2];
+            currentPlantationCluster_1 = plantationFirstCluster[plantationDesignator_1];
+            // we are using the dominant class
+            dominantClassDesignator = getTheUltimateDominantClass(
+                    classDominantCClass[clusterIndexToCClass[currentPlantationCluster_1]]);
+            // This condition should work if the cluster at index 0 has all 0's. This is done in line 66
+            while (clusterNextPlantationCluster[currentPlantationCluster_2] != currentPlantationCluster_2) {
+                clusterIndexToCClass[currentPlantationCluster_2] = dominantClassDesignator;
+                currentPlantationCluster_2 = clusterNextPlantationCluster[currentPlantationCluster_2];
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This operation mergers two clusters one for the smaller plantation and one from the larger plantation, in this
+     * case, the cluster on the smaller plantation is greater than the cluster on the larger plantation
+     * </p>
+     *
+     * @param currentClusterDesignator_1
+     *            is the class designator for the first cluster in smaller plantation
+     * @param currentClusterDesignator_2
+     *            is the class designator for the second cluster in a larger plantation
+     *
+     * @return a cluster designator for the cluster moved to the smaller plantation
+     */
+    private int clusterJoinCase_02(int currentClusterDesignator_1, int currentClusterDesignator_2) {
+        int next_2, prev_2;
+
+        // this loop will possibly not be executed, think more if so delete it
+        while (currentClusterDesignator_1 > currentClusterDesignator_2
+                && clusterPrevPlantationCluster[currentClusterDesignator_1] != 0) {
+            currentClusterDesignator_1 = clusterPrevPlantationCluster[currentClusterDesignator_1];
+        }
+
+        // keep records of pointers
+        next_2 = clusterNextPlantationCluster[currentClusterDesignator_2];
+        prev_2 = clusterPrevPlantationCluster[currentClusterDesignator_2];
+
+        clusterPrevPlantationCluster[currentClusterDesignator_1] = currentClusterDesignator_2;
+        clusterNextPlantationCluster[currentClusterDesignator_2] = currentClusterDesignator_1;
+
+        clusterPrevPlantationCluster[next_2] = prev_2;
+
+        // update the class designator field in the cluster to pointer to the new class they belong
+        clusterIndexToCClass[currentClusterDesignator_2] = clusterIndexToCClass[currentClusterDesignator_1];
+
+        return next_2;
+    }
+
+    /**
+     * <p>
+     * The operation join two plantations where the tree node designating the first one is greater than the tree node
+     * designating the second one
+     * </p>
+     *
+     * @param plantationDesignator_1
+     *            index to plantation array for the first plantation
+     * @param plantationDesignator_2
+     *            index to plantation orray for the second plantation
+     */
+    private void plantationJoinCase_02(int plantationDesignator_1, int plantationDesignator_2) {
+        int currentPlantationCluster_2, currentPlantationCluster_1, dominantClassDesignator;
+
+        plantationNextCCPlantation[plantationDesignator_2] = plantationDesignator_1;
+
+        // update all clusters in the plantation to belong to the new class by changing their class field
+        currentPlantationCluster_2 = plantationFirstCluster[plantationDesignator_2];
+        currentPlantationCluster_1 = plantationFirstCluster[plantationDesignator_1];
+        // assign the dominant class
+        dominantClassDesignator = getTheUltimateDominantClass(
+                classDominantCClass[clusterIndexToCClass[currentPlantationCluster_1]]);
+        while (clusterNextPlantationCluster[currentPlantationCluster_2] != 0) {
+            clusterIndexToCClass[currentPlantationCluster_2] = dominantClassDesignator;
+            currentPlantationCluster_2 = clusterNextPlantationCluster[currentPlantationCluster_2];
+        }
+        // the final update when next plantation cluster is 0
+        clusterIndexToCClass[currentPlantationCluster_2] = dominantClassDesignator;
+
+    }
+
+    /**
+     * <p>
+     * The operation updates the cluster argument array after merging two classes, after merging we may need to update
+     * FASOP, rearrange arguments ond merge clusters
+     * </p>
+     *
+     * @param firstAccessor
+     *            congruence class accessor for the smaller class e.g., 3
+     * @param secondAccessor
+     *            congruence class accessor for the larger class e.g., 7
+     * @param level
+     *            the level in the cluster argument string
+     */
+    private void updateClusterArgumentAfterMerging(int firstAccessor, int secondAccessor, int level) {
+
+        int indexToArgString = getArgStringOccPos(secondAccessor, level);
+        int indexToArgString_3 = getArgStringOccPos(firstAccessor, level);
+        int tempIndexToArgString;
+        if (getArgStringOccPos(firstAccessor, level) == 0) { // 3 is not in the
+                                                             // level at all
+            // there are more than one argument string of 7 in the level enter the while loop, or pass forward
+            while (argNextWithSameCCInLevel[indexToArgString] != indexToArgString) {
+                checkDeadline();
+                argCcNumber[indexToArgString] = firstAccessor;
+
+                updateClassFASOP(firstAccessor, level, indexToArgString);
+                reArrangeArguments(indexToArgString);
+                indexToArgString = argNextWithSameCCInLevel[indexToArgString];
+            }
+
+            // there is no other argument string of 7 in the level and non is existing for 3 in the level or its the
+            // final 7 after the list
+            // first change the class number in the argument record from 7 to 3
+            argCcNumber[indexToArgString] = firstAccessor;
+            // now we should go to the FASOP for class 3 and update it as now 3 exists in the level
+            updateClassFASOP(firstAccessor, level, indexToArgString);
+            reArrangeArguments(indexToArgString);
+
+        } else {
+            // 3 is existing in the level and can be anywhere, take this by looking at each father and its children
+            while (indexToArgString != 0) {
+                checkDeadline();
+                // no two 7s will be under same father
+                tempIndexToArgString = argNextWithSameCCInLevel[indexToArgString];
+                // 3 is together with considered 7 under the same father
+                boolean checkIfUnderSameParent = areClassesUnderSameParentInArgArray(indexToArgString, firstAccessor,
+                        level);
+                if (checkIfUnderSameParent) {// 3 and 7 have the same parent
+                    if (argNextClusterArg[indexToArgString] == 0) {// but 3 has no children
+                        // first change the class number in the argument record from 7 to 3
+                        argCcNumber[indexToArgString] = firstAccessor;
+
+                        // now we should go to the FASOP for class 3 and update it as now we have two 3s existing under
+                        // same father
+                        updateClassFASOP(firstAccessor, level, indexToArgString);
+
+                        // make 7 which is now 3 dormant by skipping it
+                        int nextIndexToFollow = argNextClusterArg[argPrevClusterArg[indexToArgString]];
+                        int prevIndexToFollow = 0;
+                        // The if statement around while loop is a change after debugging
+                        if (nextIndexToFollow != 0) {
+                            // if it is zero it means it is the only argument, and alternative argument is 0
+                            while (nextIndexToFollow != indexToArgString) {
+                                prevIndexToFollow = nextIndexToFollow;
+                                nextIndexToFollow = argAlternativeArg[nextIndexToFollow];
+                            }
+                        }
+                        if (prevIndexToFollow == 0) {
+                            // it is the first one in the children make the second child first
+                            argNextClusterArg[argPrevClusterArg[indexToArgString]] = argAlternativeArg[indexToArgString];
+                        } else {
+                            // it is in between children, just deal with next alternative arguments
+                            argAlternativeArg[prevIndexToFollow] = argAlternativeArg[indexToArgString];
+                        }
+                        // update the clusters by merging the two lists
+                        mergeClusters(indexToArgString, indexToArgString_3);
+
+                    } else {
+                        // move what is under 7 to what is under 3
+                        mergeSuffixTo(indexToArgString, indexToArgString_3);
+
+                        // update the clusters by merging the two lists
+                        mergeClusters(indexToArgString, indexToArgString_3);
+                    }
+
+                } else {
+                    // 3 is not under the same father for the considered 7
+                    // first change the class number in the argument record from 7 to 3
+                    argCcNumber[indexToArgString] = firstAccessor;
+                    // now we should go to the FASOP for class 3 and update it as now 3 exists in the level
+                    updateClassFASOP(firstAccessor, level, indexToArgString);
+                    reArrangeArguments(indexToArgString);
+                }
+                // updated after debugging to the next line after commented one
+                indexToArgString = tempIndexToArgString;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * The operation updates the cluster argument string by merging the children of arguments with classes that got
+     * merged
+     * </p>
+     *
+     * @param indexToArgString
+     *            index to cluster argument array with a larger class e.g., 7
+     * @param indexToArgString_3
+     *            index to cluster argument array with a smaller class e.g., 3
+     */
+    private void mergeSuffixTo(int indexToArgString, int indexToArgString_3) {
+
+        int currentArgumentToMove = argNextClusterArg[indexToArgString];
+        int nextArgumentToMove = argAlternativeArg[currentArgumentToMove];
+        int currentLargestArgumentInList_3 = argNextClusterArg[indexToArgString_3];
+        int previousLargestArgumentInList_3 = 0;
+        int nextLargestArgumentInList_3 = 0;
+
+        // int nextLargestArgumentInList_3 = argAlternativeArg[currentLargestArgumentInList_3];
+
+        int classDesignator_7 = argCcNumber[currentArgumentToMove];
+        int classDesignator_3 = argCcNumber[currentLargestArgumentInList_3];
+
+        // the condition works if the cluster argument string at position 0, has all zeroes. Done in line 70
+        while (argAlternativeArg[currentArgumentToMove] != currentArgumentToMove) {
+            checkDeadline();
+
+            // case_01, moving argument under 7 that doesn't exist under 3
+            if (classDesignator_7 > classDesignator_3) {
+                // reallocate pointers in 3
+                argNextClusterArg[indexToArgString_3] = currentArgumentToMove;
+                argPrevClusterArg[currentArgumentToMove] = indexToArgString_3;
+                argAlternativeArg[currentArgumentToMove] = currentLargestArgumentInList_3;
+
+                // reset what to deal with on the next iteration
+                currentLargestArgumentInList_3 = currentArgumentToMove;
+
+            } else if (classDesignator_7 < classDesignator_3) {
+                // int previousLargestArgumentInList_3 = 0;
+                nextLargestArgumentInList_3 = currentLargestArgumentInList_3;
+                while (classDesignator_7 < classDesignator_3) {// it has to go into this loop at least once
+                                                               // previousLargestArgumentInList_3 can't be 0
+                    previousLargestArgumentInList_3 = nextLargestArgumentInList_3;
+                    nextLargestArgumentInList_3 = argAlternativeArg[nextLargestArgumentInList_3];
+                    classDesignator_3 = argCcNumber[nextLargestArgumentInList_3];
+                }
+                if (classDesignator_3 == classDesignator_7) {
+                    // cut to the chase, these two will be under same parent, second one adopted
+                    // call merge suffix again on the two new arguments
+                    mergeSuffixTo(currentArgumentToMove, nextLargestArgumentInList_3);
+
+                    // update the clusters by merging the two lists
+                    mergeClusters(currentArgumentToMove, nextLargestArgumentInList_3);
+
+                    // get the next one under 3
+                    currentLargestArgumentInList_3 = argAlternativeArg[currentLargestArgumentInList_3];
+                } else {
+                    // update things on 3 side
+                    argAlternativeArg[previousLargestArgumentInList_3] = currentArgumentToMove;
+                    argPrevClusterArg[currentArgumentToMove] = indexToArgString_3;
+                    argAlternativeArg[currentArgumentToMove] = nextLargestArgumentInList_3;
+
+                    // reset what to deal with on the next iteration
+                    currentLargestArgumentInList_3 = currentArgumentToMove;
+
+                }
+            } else {
+                // classDesignator_7 == classDesignator_3
+                mergeSuffixTo(currentArgumentToMove, currentLargestArgumentInList_3);
+
+                // update the clusters by merging the two lists
+                mergeClusters(currentArgumentToMove, currentLargestArgumentInList_3);
+
+                // get the next one under 3
+                currentLargestArgumentInList_3 = argAlternativeArg[currentLargestArgumentInList_3];
+            }
+            // reallocate pointers in 7
+            argNextClusterArg[indexToArgString] = nextArgumentToMove;
+
+            // reset what to deal with on the next iteration
+            // currentLargestArgumentInList_3 = currentArgumentToMove;
+            currentArgumentToMove = argNextClusterArg[indexToArgString];
+            nextArgumentToMove = argAlternativeArg[currentArgumentToMove];
+
+            // might be common for all cases move down
+            classDesignator_7 = argCcNumber[currentArgumentToMove];
+            classDesignator_3 = argCcNumber[currentLargestArgumentInList_3];
+        }
+        // forget about 7 which is now 3 and after all its children are moved to the 3
+        int indexToParentOfArg_7 = argPrevClusterArg[indexToArgString];
+        int nextAfter7 = argAlternativeArg[indexToArgString];
+        argNextClusterArg[indexToParentOfArg_7] = nextAfter7;
+
+    }
+
+    /**
+     * <p>
+     * The operation merges to two clusters that used to have different arguments and now they have the same argument
+     * after the larger class turning to the smaller class e.g., 7 ---> 3
+     * </p>
+     *
+     * @param indexToArgString
+     *            index to argument string for the larger class e.g., 7
+     * @param indexToArgString_3
+     *            index to argument string for the smaller class e.g., 3
+     */
+    private void mergeClusters(int indexToArgString, int indexToArgString_3) {
+
+        int indexInClusterArray_7 = argClusterNumber[indexToArgString];
+        int indexInClusterArray_3 = argClusterNumber[indexToArgString_3];
+
+        int nextIndexInClusterArray_7 = 0;
+        int nextIndexInClusterArray_3 = 0;
+        int label_7 = clusterTreeNodeLabel[indexInClusterArray_7];
+        int label_3 = clusterTreeNodeLabel[indexInClusterArray_3];
+
+        while (indexInClusterArray_7 != 0) {
+            checkDeadline();
+            // move until the next with same argument string is 0
+            if (label_7 > label_3) {
+                // the label for the 7 list is greater than the 3 list
+
+                nextIndexInClusterArray_7 = clusterNextWithSameArg[indexInClusterArray_7];
+                clusterNextWithSameArg[indexInClusterArray_7] = indexInClusterArray_3;
+                indexInClusterArray_3 = indexInClusterArray_7;
+                indexInClusterArray_7 = nextIndexInClusterArray_7;
+                label_7 = clusterTreeNodeLabel[indexInClusterArray_7];
+                label_3 = clusterTreeNodeLabel[indexInClusterArray_3];
+            } else if (label_7 < label_3) {
+                // the label for the 7 list is smaller than the 7 list
+
+                if (clusterTreeNodeLabel[clusterNextWithSameArg[indexInClusterArray_3]] == clusterTreeNodeLabel[indexInClusterArray_7]) {
+                    indexInClusterArray_3 = clusterNextWithSameArg[indexInClusterArray_3];
+                    label_3 = clusterTreeNodeLabel[indexInClusterArray_3];
+                } else {
+                    nextIndexInClusterArray_7 = clusterNextWithSameArg[indexInClusterArray_7];
+                    while (clusterTreeNodeLabel[clusterNextWithSameArg[indexInClusterArray_3]] > clusterTreeNodeLabel[indexInClusterArray_7]) {
+                        indexInClusterArray_3 = clusterNextWithSameArg[indexInClusterArray_3];
+                    }
+                    nextIndexInClusterArray_3 = clusterNextWithSameArg[indexInClusterArray_3];
+                    clusterNextWithSameArg[indexInClusterArray_3] = indexInClusterArray_7;
+                    clusterNextWithSameArg[indexInClusterArray_7] = nextIndexInClusterArray_3;
+                    indexInClusterArray_3 = indexInClusterArray_7;
+                    indexInClusterArray_7 = nextIndexInClusterArray_7;
+                    label_7 = clusterTreeNodeLabel[indexInClusterArray_7];
+                    label_3 = clusterTreeNodeLabel[indexInClusterArray_3];
+                }
+            } else if (label_3 == label_7) {
+                int dominantClass_3 = getTheUltimateDominantClass(
+                        classDominantCClass[clusterIndexToCClass[indexInClusterArray_3]]);
+                int dominantClass_7 = getTheUltimateDominantClass(
+                        classDominantCClass[clusterIndexToCClass[indexInClusterArray_7]]);
+
+                // gone back to the dominant class
+                if (dominantClass_7 == dominantClass_3) {
+                    // TODO: put unused cluster to the re-use list
+                } else {
+                    classMergeList.add(dominantClass_3);
+                    classMergeList.add(dominantClass_7);
+                }
+                // change the dominant class of 7 to 3, which happens in both cases above
+                clusterDominantCluster[indexInClusterArray_7] = clusterDominantCluster[indexInClusterArray_3];
+                // get to the next one with same argument on list 7
+                indexInClusterArray_7 = clusterNextWithSameArg[indexInClusterArray_7];
+                indexInClusterArray_3 = clusterNextWithSameArg[indexInClusterArray_3];
+                // get the new tree node labels
+                label_7 = clusterTreeNodeLabel[indexInClusterArray_7];
+                label_3 = clusterTreeNodeLabel[indexInClusterArray_3];
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>
+     * The operation rearrange children under a parent and keep them in order, children are ordered in descending order
+     * </p>
+     *
+     * @param argIndexWithChangedClass
+     *            index to the argument string of the class that got changed e.g., 7 ---> 3
+     */
+    private void reArrangeArguments(int argIndexWithChangedClass) {
+
+        // It is the only child under a parent, or the last one of the children,
+        // No rearrangement needed
+        if (argAlternativeArg[argIndexWithChangedClass] == 0) {
+        } else {
+            // changed class has siblings under the parent, some shifting will happen in different cases below
+            if (argNextClusterArg[argPrevClusterArg[argIndexWithChangedClass]] == argIndexWithChangedClass) {
+                // make the parent point to the next after cluster record that we have changed to a lower class
+                argNextClusterArg[argPrevClusterArg[argIndexWithChangedClass]] = argAlternativeArg[argIndexWithChangedClass];
+
+                // move it to the right place
+                int previousIndexToArgString = argIndexWithChangedClass;
+                int nextIndexToArgString = argAlternativeArg[argIndexWithChangedClass];
+                while (argCcNumber[argIndexWithChangedClass] < argCcNumber[nextIndexToArgString]) {
+                    previousIndexToArgString = nextIndexToArgString;
+                    nextIndexToArgString = argAlternativeArg[nextIndexToArgString];
+                }
+                // set our changed argument record to have an alternative argument less than it
+                argAlternativeArg[argIndexWithChangedClass] = nextIndexToArgString;
+
+                // the previous one should now point to our changed argument record
+                argAlternativeArg[previousIndexToArgString] = argIndexWithChangedClass;
+
+            } else {
+                // it is not the first child
+                int currentIndexToArgString = argNextClusterArg[argPrevClusterArg[argIndexWithChangedClass]];
+                int nextIndexToArgString = argAlternativeArg[currentIndexToArgString];
+                int previousIndexToArgString = currentIndexToArgString;
+
+                // walk the list of children until we get to the changed child
+                while (nextIndexToArgString != argIndexWithChangedClass) {
+                    previousIndexToArgString = nextIndexToArgString;
+                    nextIndexToArgString = argAlternativeArg[nextIndexToArgString];
+                }
+
+                // connect the two left and right children before we remove the middle one to its rightful place
+                argAlternativeArg[previousIndexToArgString] = argAlternativeArg[argIndexWithChangedClass];
+
+                previousIndexToArgString = argIndexWithChangedClass;
+                nextIndexToArgString = argAlternativeArg[argIndexWithChangedClass];
+
+                while (argCcNumber[argIndexWithChangedClass] < argCcNumber[nextIndexToArgString]) {
+                    previousIndexToArgString = nextIndexToArgString;
+                    nextIndexToArgString = argAlternativeArg[nextIndexToArgString];
+                }
+                // set our changed argument record to have an alternative argument less than it
+                argAlternativeArg[argIndexWithChangedClass] = nextIndexToArgString;
+
+                // the previous one should now point to our changed argument record
+                argAlternativeArg[previousIndexToArgString] = argIndexWithChangedClass;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * The operation checks if the two classes on the argument list are under the same parent
+     * </p>
+     *
+     * @param indexToString
+     *            index to the argument string with larger class e.g., 7
+     * @param firstAccessor
+     *            smaller class accessor e.g., 3
+     * @param level
+     *            the argument string level
+     *
+     * @return the operation returns true when a parent for the argument at
+     */
+    private boolean areClassesUnderSameParentInArgArray(int indexToString, int firstAccessor, int level) {
+        int parent_07 = argPrevClusterArg[indexToString];
+        int indexToFollow = getArgStringOccPos(firstAccessor, level);
+        int parent_03 = argPrevClusterArg[indexToFollow];
+
+        if (parent_07 == parent_03) {
+            return true;
+        } else if (parent_07 > parent_03) {
+            return false;
+        } else {
+            while (parent_07 < parent_03) {
+                indexToFollow = argNextWithSameCCInLevel[indexToFollow];
+                parent_03 = argPrevClusterArg[indexToFollow];
+            }
+            if (parent_07 == parent_03) {
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * <p>
+     * The operation create a cluster argument as an entry to the cluster argument array
+     * </p>
+     *
+     * @param label
+     *            a label to the respective cluster with arguments in {@param clusterArgumentString}
+     * @param clusterArgumentString
+     *            an argument string holding the arguments for the cluster with {@param label}
+     *
+     * @return an integer value representing an index to the argument array for the argument created
+     */
+    private int createClusterArgumentArray(Integer label, Queue<Integer> clusterArgumentString) {
+        // initial index for the cluster argument array (CAA)
+        int index = 1;
+        int precedingIndex = 0;
+        int indexInClusterArray = 0;
+        int clusterNumber = 0;
+        boolean existed = false;
+        boolean alternativeExists = true;
+        boolean precedingIndexUsed = false;
+
+        // for ASOP
+        int level = 0;
+
+        if (argListLength(clusterArgumentString) == 0) {
+            // for constants and variables no arg of empty string has being created
+            if (!hasEmptyArgString) {
+                storeClusterArgument(index, 0, 0, 0, 1, 0);
+                hasEmptyArgString = true;
+            } else { // empty arg string but already exists
+                updateNextWithSameArgument(label, index, topCongruenceClusterDesignator);
+            }
+            return index;
+        } else {
+            // arg string is not empty
+            while (argListLength(clusterArgumentString) > 0) {
+                // remove the far right one first (FIFO)
+                int lastCCDesignator = removeFirstArgDesignator();
+                if (argNextClusterArg[index] == 0 && argCcNumber[index] != lastCCDesignator) {
+                    if (argListLength(clusterArgumentString) == 0)
+                        clusterNumber = topCongruenceClusterDesignator;
+                    storeClusterArgument(topArgStrArrIndex, 0, index, lastCCDesignator, clusterNumber, 0);
+                    // old one to the new one
+                    argNextClusterArg[index] = topArgStrArrIndex;
+                    // index now to the newly created argument array
+                    index = topArgStrArrIndex;
+
+                    // update ASOP for the class lastCCDesignator used here
+                    updateClassFASOP(lastCCDesignator, ++level, index);
+
+                    topArgStrArrIndex++; // move to the next available
+                } else if (argNextClusterArg[index] == 0 && argCcNumber[index] == lastCCDesignator) {
+                    // we don't create a new arg string in the array
+                    // But we have to update the cluster if it is the last argument in the current cluster arg string
+                    if (argListLength(clusterArgumentString) == 0) {
+                        // it was created but it is not active yet
+                        if (argClusterNumber[index] == 0) {
+                            // set the cluster number to the one created already
+                            argClusterNumber[index] = topCongruenceClusterDesignator;
+                        } else {
+                            // it is an active string, and we should update previous cluster with similar arg
+                            updateNextWithSameArgument(label, index, topCongruenceClusterDesignator);
+                        }
+                    }
+                } else if (argNextClusterArg[index] != 0 && argCcNumber[index] != lastCCDesignator) {
+                    // change index to the next one
+                    index = argNextClusterArg[index];
+                    if (argCcNumber[index] == lastCCDesignator) {
+                        if (argListLength(clusterArgumentString) == 0) {
+                            if (argClusterNumber[index] == 0) {
+                                // set the cluster number to the one that will be created next
+                                argClusterNumber[index] = topCongruenceClusterDesignator;
+                            } else {
+                                // it is an active string, and we should update previous cluster with similar arg
+                                updateNextWithSameArgument(label, index, topCongruenceClusterDesignator);
+
+                            }
+
+                            return index;
+                        }
+                        // even though we didn't change anything in the argument string, increment the level
+                        level++;
+                    } else {
+                        if (argAlternativeArg[index] == 0 && argCcNumber[index] < lastCCDesignator) {
+                            if (argListLength(clusterArgumentString) == 0)
+                                // if it is the last arg string we are creating
+                                clusterNumber = topCongruenceClusterDesignator;
+                            storeClusterArgument(topArgStrArrIndex, 0, index - 1, lastCCDesignator, clusterNumber,
+                                    index);
+                            argNextClusterArg[index - 1] = topArgStrArrIndex;
+                            index = topArgStrArrIndex;
+
+                            // update ASOP for the class lastCCDesignator used here
+                            updateClassFASOP(lastCCDesignator, ++level, index);
+
+                            topArgStrArrIndex++;
+                        }
+                        if (argAlternativeArg[index] == 0 && argCcNumber[index] > lastCCDesignator) {
+                            if (argListLength(clusterArgumentString) == 0)
+                                // if it is the last arg string we are creating
+                                clusterNumber = topCongruenceClusterDesignator;
+                            // seems to do the right thing, but I have to check if it doesn't break anything else
+                            argAlternativeArg[index] = topArgStrArrIndex;
+                            storeClusterArgument(topArgStrArrIndex, 0, index - 1, lastCCDesignator, clusterNumber, 0);
+                            index = topArgStrArrIndex;
+
+                            // update ASOP for the class lastCCDesignator used here
+                            updateClassFASOP(lastCCDesignator, ++level, index);
+
+                            topArgStrArrIndex++;
+                        }
+                        while (alternativeExists) {
+                            if (argAlternativeArg[index] != 0) {
+                                if (argCcNumber[index] == lastCCDesignator) {
+                                    existed = true;
+                                    break;
+                                } else {
+                                    index = argAlternativeArg[index];
+                                }
+                            } else {
+                                if (argCcNumber[index] == lastCCDesignator) {
+                                    existed = true;
+                                    break;
+                                } else {
+                                    alternativeExists = false;
+                                }
+                            }
+                        }
+
+                        if (!existed) {
+                            index = argNextClusterArg[argPrevClusterArg[index]];
+
+                            while (argCcNumber[index] > lastCCDesignator) {
+                                precedingIndex = index;
+                                precedingIndexUsed = true;
+                                index = argAlternativeArg[index];
+
+                            }
+
+                            if (argCcNumber[index] < lastCCDesignator && precedingIndexUsed) {
+                                if (argListLength(clusterArgumentString) == 0)
+                                    // if it is the last arg string we are creating
+                                    clusterNumber = topCongruenceClusterDesignator;
+                                storeClusterArgument(topArgStrArrIndex, 0, argPrevClusterArg[index], lastCCDesignator,
+                                        clusterNumber, index);
+                                argAlternativeArg[precedingIndex] = topArgStrArrIndex;
+                                index = topArgStrArrIndex;
+
+                                // update ASOP for the class lastCCDesignator used here
+                                updateClassFASOP(lastCCDesignator, ++level, index);
+
+                                topArgStrArrIndex++;
+                            }
+                            if (argCcNumber[index] < lastCCDesignator && !precedingIndexUsed) {
+                                if (argListLength(clusterArgumentString) == 0)
+                                    // if it is the last arg string we are creating
+                                    clusterNumber = topCongruenceClusterDesignator;
+                                storeClusterArgument(topArgStrArrIndex, 0, argPrevClusterArg[index], lastCCDesignator,
+                                        clusterNumber, index);
+                                argNextClusterArg[argPrevClusterArg[index]] = topArgStrArrIndex;
+                                argAlternativeArg[topArgStrArrIndex] = index;
+                                index = topArgStrArrIndex;
+
+                                // update ASOP for the class lastCCDesignator used here
+                                updateClassFASOP(lastCCDesignator, ++level, index);
+                                topArgStrArrIndex++;
+                            }
+
+                        }
+
+                    }
+
+                }
+            }
+
+        }
+        return index;
+    }
+
+    /**
+     * <p>
+     * The operation updates the clusters that ends up being with the same argument after merging the classes and put
+     * them in the list, the list is kept in order
+     * </p>
+     *
+     * @param lab
+     *            label for the cluster we want it to join the list of clusters with same arguments
+     * @param index
+     *            index to the first cluster in the list of clusters with same arguments
+     * @param topCongruenceClusterDesignator
+     *            the top congruence cluster designator
+     */
+    private void updateNextWithSameArgument(Integer lab, int index, int topCongruenceClusterDesignator) {
+        // get the tree node label of the first cluster
+        int label_1 = clusterTreeNodeLabel[argClusterNumber[index]];
+        int label_2 = lab;
+        int prevIndexInClusterArray = 0;
+        int nextIndexInClusterArray = argClusterNumber[index];
+        ;
+        if (label_1 < label_2) {
+            // it is greater than the first one, make it the first one and change the argument string position
+            clusterNextWithSameArg[topCongruenceClusterDesignator] = argClusterNumber[index];
+            argClusterNumber[index] = topCongruenceClusterDesignator;
+        } else {
+            // it is less than the first argument in the list, find the right position to insert it
+            while (label_1 > label_2) {
+                prevIndexInClusterArray = nextIndexInClusterArray;
+                nextIndexInClusterArray = clusterNextWithSameArg[nextIndexInClusterArray];
+                label_1 = clusterTreeNodeLabel[nextIndexInClusterArray];
+
+            }
+            clusterNextWithSameArg[prevIndexInClusterArray] = topCongruenceClusterDesignator;
+            clusterNextWithSameArg[topCongruenceClusterDesignator] = nextIndexInClusterArray;
+        }
+    }
+
+    /**
+     * <p>
+     * The operation updates the FASOP for the classes created as they are used as arguments in the clusters, their
+     * occurrences in the cluster argument array are recorded in the levels for the FASOP array
+     * </p>
+     *
+     * @param ccDesignator
+     *            the designator to the congruence class holding the FASOP
+     * @param level
+     *            level in FASOP being updated
+     * @param indexInArgumentString
+     *            the index in the cluster argument array where the class designated by {@param ccDesignator}
+     */
+    private void updateClassFASOP(int ccDesignator, int level, int indexInArgumentString) {
+        // for the class given go check if for the level provided index
+        // to the arg array is 0, which means no this class is at that level
+        if (getArgStringOccPos(ccDesignator, level) == 0) {
+            // just add an index to the arg array one to that level
+            setArgStringOccPos(ccDesignator, level, indexInArgumentString);
+        } else {
+            // there is a class at that level and it has more to fix this as we have to keep the list in order of
+            // their parents
+            int prevIndexToFollow = 0;
+            boolean specialCase = true;
+            int nextIndexToFollow = getArgStringOccPos(ccDesignator, level);
+
+            if (argPrevClusterArg[indexInArgumentString] == argPrevClusterArg[nextIndexToFollow]) {
+                // do nothing. last argument string position for 3 can stay the same
+            } else {
+
+                // we have to make sure the parent for the nextIndexToFollow when it is 0 exist, and it is 0, otherwise
+                // this will fail, set the argument string at index 0, having 0's all over
+                while (argPrevClusterArg[indexInArgumentString] < argPrevClusterArg[nextIndexToFollow]) {
+                    prevIndexToFollow = nextIndexToFollow;
+                    nextIndexToFollow = argNextWithSameCCInLevel[nextIndexToFollow];
+                    specialCase = false;
+                }
+                if (specialCase) {
+                    // when we have the new having the biggest father, have to update the FASOP
+                    argNextWithSameCCInLevel[indexInArgumentString] = nextIndexToFollow;
+                    setArgStringOccPos(ccDesignator, level, indexInArgumentString);
+                } else {
+                    argNextWithSameCCInLevel[prevIndexToFollow] = indexInArgumentString;
+                    argNextWithSameCCInLevel[indexInArgumentString] = nextIndexToFollow;
+                }
+            }
+        }
+
+        // this should update last argument string position in a class to get us to the lowest level during searching.
+        if (getArgStringOccPos(ccDesignator, level + 1) == 0) {
+            classLastArgStringPosition[ccDesignator] = level;
+        } else {
+            // it is not the last position leave the current one
+        }
+    }
+
+    /**
+     * <p>
+     * This method returns the index in {@link #classArgStringOccPos} for a level in a congruence class' ASOP.
+     * </p>
+     *
+     * @param ccDesignator
+     *            the designator to the congruence class holding the ASOP
+     * @param level
+     *            level in the ASOP
+     *
+     * @return the index in the ASOP column
+     */
+    private int argStringOccPosIndex(int ccDesignator, int level) {
+        return ccDesignator * argStringOccPosStride + level;
+    }
+
+    /**
+     * <p>
+     * This method returns the index in the cluster argument columns stored in the ASOP of a congruence class.
+     * </p>
+     *
+     * @param ccDesignator
+     *            the designator to the congruence class holding the ASOP
+     * @param level
+     *            level in the ASOP
+     *
+     * @return the index in the cluster argument columns or {@code 0} if the class never reached that level
+     */
+    private int getArgStringOccPos(int ccDesignator, int level) {
+        if (level >= argStringOccPosStride) {
+            return 0;
+        }
+
+        return classArgStringOccPos[argStringOccPosIndex(ccDesignator, level)];
+    }
+
+    /**
+     * <p>
+     * This method stores an index in the cluster argument columns in the ASOP of a congruence class. The ASOP column is
+     * widened when the argument strings are deeper than the levels stored for each class.
+     * </p>
+     *
+     * @param ccDesignator
+     *            the designator to the congruence class holding the ASOP
+     * @param level
+     *            level in the ASOP
+     * @param indexInClusterArgArray
+     *            the index in the cluster argument columns
+     */
+    private void setArgStringOccPos(int ccDesignator, int level, int indexInClusterArgArray) {
+        if (level >= argStringOccPosStride) {
+            int newStride = Math.max(argStringOccPosStride * 2, level + 1);
+            int numClasses = classDominantCClass.length;
+            int[] newArgStringOccPos = new int[numClasses * newStride];
+            for (int i = 0; i < numClasses; i++) {
+                System.arraycopy(classArgStringOccPos, i * argStringOccPosStride, newArgStringOccPos, i * newStride,
+                        argStringOccPosStride);
+            }
+
+            classArgStringOccPos = newArgStringOccPos;
+            argStringOccPosStride = newStride;
+        }
+
+        classArgStringOccPos[argStringOccPosIndex(ccDesignator, level)] = indexInClusterArgArray;
+    }
+
+    /**
+     * <p>
+     * This method stores a new argument in the cluster argument columns, growing the columns if needed.
+     * </p>
+     *
+     * @param index
+     *            the index in the cluster argument columns
+     * @param nextClusterArg
+     *            the next argument in the argument string
+     * @param prevClusterArg
+     *            the previous argument in the argument string
+     * @param ccNumber
+     *            the congruence class designator for this argument
+     * @param clusterNumber
+     *            the first cluster of the chained clusters with this argument string
+     * @param alternativeArg
+     *            the alternative argument in the same level
+     */
+    private void storeClusterArgument(int index, int nextClusterArg, int prevClusterArg, int ccNumber,
+            int clusterNumber, int alternativeArg) {
+        if (index >= argNextClusterArg.length) {
+            int newSize = newStoreSize(argNextClusterArg.length, index, argumentListCapacity, "argument list");
+            argNextClusterArg = Arrays.copyOf(argNextClusterArg, newSize);
+            argPrevClusterArg = Arrays.copyOf(argPrevClusterArg, newSize);
+            argCcNumber = Arrays.copyOf(argCcNumber, newSize);
+            argNextWithSameCCInLevel = Arrays.copyOf(argNextWithSameCCInLevel, newSize);
+            argClusterNumber = Arrays.copyOf(argClusterNumber, newSize);
+            argAlternativeArg = Arrays.copyOf(argAlternativeArg, newSize);
+        }
+
+        argNextClusterArg[index] = nextClusterArg;
+        argPrevClusterArg[index] = prevClusterArg;
+        argCcNumber[index] = ccNumber;
+        argNextWithSameCCInLevel[index] = 0;
+        argClusterNumber[index] = clusterNumber;
+        argAlternativeArg[index] = alternativeArg;
+    }
+
+    /**
+     * <p>
+     * This method stores a new congruence cluster in the cluster columns. The caller must make sure the columns are big
+     * enough using {@link #ensureClusterStoreSize(int)}.
+     * </p>
+     *
+     * @param index
+     *            the cluster designator
+     * @param treeNodeLabel
+     *            the root node label for the cluster
+     * @param toArgList
+     *            the index to the cluster argument columns
+     * @param toCC
+     *            the congruence class for the cluster
+     * @param toClusterTag
+     *            the cluster tag
+     * @param nextPlantationCluster
+     *            the next cluster in the same plantation
+     * @param previousPlantationCluster
+     *            the previous cluster in the same plantation
+     * @param dominantCluster
+     *            the dominant cluster
+     * @param nextWithSameArg
+     *            the next cluster with the same argument string
+     */
+    private void storeCluster(int index, int treeNodeLabel, int toArgList, int toCC, int toClusterTag,
+            int nextPlantationCluster, int previousPlantationCluster, int dominantCluster, int nextWithSameArg) {
+        clusterTreeNodeLabel[index] = treeNodeLabel;
+        clusterIndexToArgList[index] = toArgList;
+        clusterIndexToCClass[index] = toCC;
+        clusterTag[index] = toClusterTag;
+        clusterNextPlantationCluster[index] = nextPlantationCluster;
+        clusterPrevPlantationCluster[index] = previousPlantationCluster;
+        clusterDominantCluster[index] = dominantCluster;
+        clusterNextWithSameArg[index] = nextWithSameArg;
+    }
+
+    /**
+     * <p>
+     * This method stores a new plantation in the plantation columns. The caller must make sure the columns are big
+     * enough using {@link #ensurePlantationStoreSize(int)}.
+     * </p>
+     *
+     * @param index
+     *            the plantation designator
+     * @param treeNodeLabel
+     *            the root node label for the plantation
+     * @param firstPlantationCluster
+     *            the first cluster in the plantation
+     * @param tag
+     *            the plantation tag
+     * @param nextCCPlantation
+     *            the next plantation in the same congruence class
+     * @param nextVrtyPlantation
+     *            the next plantation in the same variety list
+     * @param prvVrtyPlantation
+     *            the previous plantation in the same variety list
+     */
+    private void storePlantation(int index, int treeNodeLabel, int firstPlantationCluster, int tag,
+            int nextCCPlantation, int nextVrtyPlantation, int prvVrtyPlantation) {
+        plantationTreeNodeLabel[index] = treeNodeLabel;
+        plantationFirstCluster[index] = firstPlantationCluster;
+        plantationTag[index] = tag;
+        plantationNextCCPlantation[index] = nextCCPlantation;
+        plantationNextVrtyPlantation[index] = nextVrtyPlantation;
+        plantationPrvVrtyPlantation[index] = prvVrtyPlantation;
+    }
+
+    /**
+     * <p>
+     * This method stores a new congruence class with no attributes in the class columns. The caller must make sure the
+     * columns are big enough using {@link #ensureCongruenceClassStoreSize(int)}.
+     * </p>
+     *
+     * @param index
+     *            the class designator
+     * @param firstPlantation
+     *            the first plantation in the class
+     * @param tag
+     *            the class tag
+     * @param lastArgStringPosition
+     *            the last level the class shows up in the cluster argument columns
+     * @param dominantCClass
+     *            the dominant class
+     */
+    private void storeCongruenceClass(int index, int firstPlantation, int tag, int lastArgStringPosition,
+            int dominantCClass) {
+        classFirstPlantation[index] = firstPlantation;
+        classTag[index] = tag;
+        classAttributes[index] = 0;
+        Arrays.fill(classArgStringOccPos, argStringOccPosIndex(index, 0), argStringOccPosIndex(index + 1, 0), 0);
+        classLastArgStringPosition[index] = lastArgStringPosition;
+        classDominantCClass[index] = dominantCClass;
+    }
+
+    /**
+     * <p>
+     * This method records the argument classes for a new congruence cluster and adds the cluster to the list of
+     * clusters with the same root node label. The argument string is left untouched.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            the designator for the new cluster
+     * @param treeNodeLabel
+     *            the root node label for the new cluster
+     * @param clusterArgumentString
+     *            the argument string holding the arguments for the new cluster
+     */
+    private void recordClusterArguments(int clusterDesignator, int treeNodeLabel,
+            Queue<Integer> clusterArgumentString) {
+        int numArguments = argListLength(clusterArgumentString);
+        if (topClusterArgumentClassIndex + numArguments > clusterArgumentClasses.length) {
+            clusterArgumentClasses = Arrays.copyOf(clusterArgumentClasses,
+                    Math.max(clusterArgumentClasses.length * 2, topClusterArgumentClassIndex + numArguments));
+        }
+
+        clusterArgumentsStart[clusterDesignator] = topClusterArgumentClassIndex;
+        clusterArgumentsLength[clusterDesignator] = numArguments;
+        for (int classDesignator : clusterArgumentString) {
+            clusterArgumentClasses[topClusterArgumentClassIndex] = classDesignator;
+            topClusterArgumentClassIndex++;
+        }
+
+        clusterNextWithSameLabel[clusterDesignator] = varietyFirstCluster[treeNodeLabel];
+        varietyFirstCluster[treeNodeLabel] = clusterDesignator;
+    }
+
+    /**
+     * <p>
+     * This method makes sure {@code index} is a valid position in the variety list columns.
+     * </p>
+     *
+     * @param index
+     *            the tree node label we are about to register
+     */
+    private void ensureVarietyStoreSize(int index) {
+        if (index >= varietyTag.length) {
+            int newSize = newStoreSize(varietyTag.length, index, rootLabelCapacity, "root label");
+            varietyFirstPlantation = Arrays.copyOf(varietyFirstPlantation, newSize);
+            varietyTag = Arrays.copyOf(varietyTag, newSize);
+            varietyFirstCluster = Arrays.copyOf(varietyFirstCluster, newSize);
+        }
+    }
+
+    /**
+     * <p>
+     * This method makes sure {@code index} is a valid position in the plantation columns.
+     * </p>
+     *
+     * @param index
+     *            the plantation designator we are about to use
+     */
+    private void ensurePlantationStoreSize(int index) {
+        if (index >= plantationTag.length) {
+            int newSize = newStoreSize(plantationTag.length, index, rootLabelCapacity, "plantation");
+            plantationTreeNodeLabel = Arrays.copyOf(plantationTreeNodeLabel, newSize);
+            plantationFirstCluster = Arrays.copyOf(plantationFirstCluster, newSize);
+            plantationTag = Arrays.copyOf(plantationTag, newSize);
+            plantationNextCCPlantation = Arrays.copyOf(plantationNextCCPlantation, newSize);
+            plantationNextVrtyPlantation = Arrays.copyOf(plantationNextVrtyPlantation, newSize);
+            plantationPrvVrtyPlantation = Arrays.copyOf(plantationPrvVrtyPlantation, newSize);
+        }
+    }
+
+    /**
+     * <p>
+     * This method makes sure {@code index} is a valid position in the congruence cluster columns.
+     * </p>
+     *
+     * @param index
+     *            the cluster designator we are about to use
+     */
+    private void ensureClusterStoreSize(int index) {
+        if (index >= clusterTag.length) {
+            int newSize = newStoreSize(clusterTag.length, index, cClusterDesignatorCapacity,
+                    "congruence cluster designator");
+            clusterTreeNodeLabel = Arrays.copyOf(clusterTreeNodeLabel, newSize);
+            clusterIndexToArgList = Arrays.copyOf(clusterIndexToArgList, newSize);
+            clusterIndexToCClass = Arrays.copyOf(clusterIndexToCClass, newSize);
+            clusterTag = Arrays.copyOf(clusterTag, newSize);
+            clusterNextPlantationCluster = Arrays.copyOf(clusterNextPlantationCluster, newSize);
+            clusterPrevPlantationCluster = Arrays.copyOf(clusterPrevPlantationCluster, newSize);
+            clusterDominantCluster = Arrays.copyOf(clusterDominantCluster, newSize);
+            clusterNextWithSameArg = Arrays.copyOf(clusterNextWithSameArg, newSize);
+            clusterNextWithSameLabel = Arrays.copyOf(clusterNextWithSameLabel, newSize);
+            clusterArgumentsStart = Arrays.copyOf(clusterArgumentsStart, newSize);
+            clusterArgumentsLength = Arrays.copyOf(clusterArgumentsLength, newSize);
+        }
+    }
+
+    /**
+     * <p>
+     * This method makes sure {@code index} is a valid position in the congruence class columns.
+     * </p>
+     *
+     * @param index
+     *            the class designator we are about to use
+     */
+    private void ensureCongruenceClassStoreSize(int index) {
+        if (index >= classTag.length) {
+            int newSize = newStoreSize(classTag.length, index, ccDesignatorCapacity, "congruence class designator");
+            classFirstPlantation = Arrays.copyOf(classFirstPlantation, newSize);
+            classTag = Arrays.copyOf(classTag, newSize);
+            classAttributes = Arrays.copyOf(classAttributes, newSize);
+            classArgStringOccPos = Arrays.copyOf(classArgStringOccPos, newSize * argStringOccPosStride);
+            classLastArgStringPosition = Arrays.copyOf(classLastArgStringPosition, newSize);
+            classDominantCClass = Arrays.copyOf(classDominantCClass, newSize);
+        }
+    }
+
+    /**
+     * <p>
+     * This method returns the number of rows a group of columns starts with. We always keep the two reserved indices.
+     * </p>
+     *
+     * @param capacity
+     *            the maximum capacity for the columns
+     *
+     * @return the initial size for the columns
+     */
+    private static int initialStoreSize(int capacity) {
+        return Math.max(START_ARG_INDEX, Math.min(capacity, INITIAL_STORE_SIZE));
+    }
+
+    /**
+     * <p>
+     * This method returns the new number of rows for a group of columns that is too small to hold {@code index}. The
+     * columns are doubled in size (but never past {@code capacity}).
+     * </p>
+     *
+     * @param currentSize
+     *            the current number of rows
+     * @param index
+     *            the index we are about to write to
+     * @param capacity
+     *            the maximum capacity for the columns
+     * @param storeName
+     *            the name of the columns used when reporting errors
+     *
+     * @return the new number of rows
+     *
+     * @throws RegistryCapacityException
+     *             if {@code index} is beyond the configured capacity
+     */
+    private static int newStoreSize(int currentSize, int index, int capacity, String storeName) {
+        if (index >= capacity) {
+            throw new RegistryCapacityException(storeName, capacity);
+        }
+
+        return Math.min(capacity, Math.max(currentSize * 2, index + 1));
+    }
+
+    // public methods to help me visualize the columns for testing, they create record objects from
+    // the columns: TO BE DELETED
+    @Override
+    public ClusterArgument[] getClusterArgArray() {
+        ClusterArgument[] clusterArguments = new ClusterArgument[topArgStrArrIndex];
+        for (int i = 0; i < topArgStrArrIndex; i++) {
+            // the empty argument string is only created by the first variable or constant
+            if (i != 1 || hasEmptyArgString) {
+                clusterArguments[i] = new ClusterArgument(argNextClusterArg[i], argPrevClusterArg[i], argCcNumber[i],
+                        argClusterNumber[i], argAlternativeArg[i]);
+                clusterArguments[i].setNexIndexWithSameCCInSameLevel(argNextWithSameCCInLevel[i]);
+            }
+        }
+
+        return clusterArguments;
+    }
+
+    @Override
+    public CongruenceCluster[] getClusterArray() {
+        CongruenceCluster[] clusters = new CongruenceCluster[topCongruenceClusterDesignator + 1];
+        for (int i = 0; i < clusters.length; i++) {
+            clusters[i] = new CongruenceCluster(clusterTreeNodeLabel[i], clusterIndexToArgList[i],
+                    clusterIndexToCClass[i], clusterTag[i], clusterNextPlantationCluster[i],
+                    clusterPrevPlantationCluster[i], clusterDominantCluster[i], clusterNextWithSameArg[i]);
+        }
+
+        return clusters;
+    }
+
+    @Override
+    public Plantation[] getPlantationArray() {
+        Plantation[] plantations = new Plantation[indexForPlantationArray + 1];
+        for (int i = 0; i < plantations.length; i++) {
+            plantations[i] = new Plantation(plantationTreeNodeLabel[i], plantationFirstCluster[i], plantationTag[i],
+                    plantationNextCCPlantation[i], plantationNextVrtyPlantation[i], plantationPrvVrtyPlantation[i]);
+        }
+
+        return plantations;
+    }
+
+    @Override
+    public CongruenceClass[] getCongruenceClassArray() {
+        CongruenceClass[] classes = new CongruenceClass[topCongruenceClassDesignator + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new CongruenceClass(classFirstPlantation[i], classTag[i], classLastArgStringPosition[i],
+                    classDominantCClass[i]);
+            classes[i].setClassAttribute(BitSet.valueOf(new long[] { classAttributes[i] }));
+            for (int level = 0; level < argStringOccPosStride; level++) {
+                classes[i].addToArgStringOccPos(getArgStringOccPos(i, level), level);
+            }
+        }
+
+        return classes;
+    }
+}
@@ -77,13 +77,19 @@ public class CongruenceClass {
     }
 
     // add the index from the cluster argument array to the level of the argument string occurrence position (ASOP)
-    // array
+    // array, growing it when the argument string is deeper than the levels seen so far
     public void addToArgStringOccPos(int indexInClusterArgArray, int level) {
+        if (level >= argStringOccPos.length) {
+            argStringOccPos = Arrays.copyOf(argStringOccPos, Math.max(argStringOccPos.length * 2, level + 1));
+        }
         argStringOccPos[level] = indexInClusterArgArray;
     }
 
-    // get the index to the cluster argument array from the ASOP given a level.
+    // get the index to the cluster argument array from the ASOP given a level (0 if the class never reached it).
     public int getIndexInClusterArgArrayFromASOP(int level) {
+        if (level >= argStringOccPos.length) {
+            return 0;
+        }
         return argStringOccPos[level];
     }
 
@@ -0,0 +1,148 @@
+/*
+ * CongruenceClassRegistryPool.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+/**
+ * <p>
+ * This class hands out one {@link CongruenceClassRegistry} per thread, so that consecutive {@code VCs} proved by the
+ * same thread reuse the backing stores the registry has already grown instead of allocating new ones.
+ * </p>
+ *
+ * <p>
+ * A registry returned by {@link #acquire()} is confined to the calling thread and is only valid until that thread calls
+ * {@link #acquire()} again. Anything needed from it afterwards must be copied out before then.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ *
+ * @version 1.0
+ *
+ * @param <T1>
+ *            type of tree node label selected
+ * @param <T2>
+ *            tree category tag
+ * @param <T3>
+ *            default tree category attribute
+ * @param <T4>
+ */
+public class CongruenceClassRegistryPool<T1, T2, T3, T4> {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The maximum capacity for congruence class designators.
+     * </p>
+     */
+    private final int myCCDesignatorCapacity;
+
+    /**
+     * <p>
+     * The maximum capacity for congruence cluster designators.
+     * </p>
+     */
+    private final int myCClusterDesignatorCapacity;
+
+    /**
+     * <p>
+     * The maximum capacity for arguments.
+     * </p>
+     */
+    private final int myArgumentListCapacity;
+
+    /**
+     * <p>
+     * The maximum capacity for root labels.
+     * </p>
+     */
+    private final int myRootLabelCapacity;
+
+    /**
+     * <p>
+     * This flag indicates whether we hand out {@link ObjectCongruenceClassRegistry ObjectCongruenceClassRegistries}
+     * instead of {@link ColumnarCongruenceClassRegistry ColumnarCongruenceClassRegistries}.
+     * </p>
+     */
+    private final boolean myUseObjectRegistry;
+
+    /**
+     * <p>
+     * The registry that belongs to each thread.
+     * </p>
+     */
+    private final ThreadLocal<CongruenceClassRegistry<T1, T2, T3, T4>> myRegistries;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a pool where every registry has the specified capacities.
+     * </p>
+     *
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param argumentListCapacity
+     *            The maximum capacity provided for arguments
+     * @param rootLabelCapacity
+     *            The maximum capacity provided for root labels.
+     * @param useObjectRegistry
+     *            A flag that indicates whether we should create {@link ObjectCongruenceClassRegistry
+     *            ObjectCongruenceClassRegistries} instead of {@link ColumnarCongruenceClassRegistry
+     *            ColumnarCongruenceClassRegistries}.
+     */
+    public CongruenceClassRegistryPool(int ccDesignatorCapacity, int cClusterDesignatorCapacity,
+            int argumentListCapacity, int rootLabelCapacity, boolean useObjectRegistry) {
+        myCCDesignatorCapacity = ccDesignatorCapacity;
+        myCClusterDesignatorCapacity = cClusterDesignatorCapacity;
+        myArgumentListCapacity = argumentListCapacity;
+        myRootLabelCapacity = rootLabelCapacity;
+        myUseObjectRegistry = useObjectRegistry;
+        myRegistries = new ThreadLocal<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns an empty registry that belongs to the calling thread.
+     * </p>
+     *
+     * @return A {@link CongruenceClassRegistry} ready to store a new sequent {@code VC}.
+     */
+    public final CongruenceClassRegistry<T1, T2, T3, T4> acquire() {
+        CongruenceClassRegistry<T1, T2, T3, T4> registry = myRegistries.get();
+        if (registry == null) {
+            if (myUseObjectRegistry) {
+                registry = new ObjectCongruenceClassRegistry<>(myCCDesignatorCapacity, myCClusterDesignatorCapacity,
+                        myArgumentListCapacity, myRootLabelCapacity);
+            } else {
+                registry = new ColumnarCongruenceClassRegistry<>(myCCDesignatorCapacity, myCClusterDesignatorCapacity,
+                        myArgumentListCapacity, myRootLabelCapacity);
+            }
+            myRegistries.set(registry);
+        } else {
+            registry.reset();
+        }
+
+        return registry;
+    }
+
+}
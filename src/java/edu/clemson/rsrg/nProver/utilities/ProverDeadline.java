@@ -0,0 +1,184 @@
+/*
+ * ProverDeadline.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities;
+
+import edu.clemson.rsrg.nProver.exception.ProverTimeoutException;
+import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This class is a cheap deadline token that is polled by the {@link CongruenceClassRegistry} and the {@code VC}
+ * registration walkers. A deadline expires either when the allotted time for a {@code VC} runs out or when it gets
+ * cancelled by the prover (i.e. when we have reached the number of unproved {@code VCs} allowed before halting).
+ * </p>
+ *
+ * <p>
+ * Reading the system clock on every poll is wasteful inside the registry's merge loops, so the clock is only consulted
+ * once every {@link #POLL_INTERVAL} polls. Apart from {@link #cancel()}, an instance of this class should only be used
+ * by the thread that is proving the associated {@code VC}.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ *
+ * @version 1.0
+ */
+public class ProverDeadline {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of polls between each time we read the system clock.
+     * </p>
+     */
+    private static final int POLL_INTERVAL = 64;
+
+    /**
+     * <p>
+     * The number of milliseconds allotted once this deadline has been started. A non-positive number indicates that
+     * there is no time limit.
+     * </p>
+     */
+    private final long myTimeout;
+
+    /**
+     * <p>
+     * The {@link System#nanoTime()} value at which this deadline expires.
+     * </p>
+     */
+    private long myDeadline;
+
+    /**
+     * <p>
+     * A flag that indicates if this deadline has been started and has a time limit.
+     * </p>
+     */
+    private boolean myIsTimed;
+
+    /**
+     * <p>
+     * A flag that indicates if this deadline has been cancelled by another thread.
+     * </p>
+     */
+    private volatile boolean myIsCancelled;
+
+    /**
+     * <p>
+     * A flag that indicates if this deadline has expired.
+     * </p>
+     */
+    private boolean myHasExpired;
+
+    /**
+     * <p>
+     * The number of remaining polls before we read the system clock again.
+     * </p>
+     */
+    private int myPollCountdown;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a deadline token that has not been started yet.
+     * </p>
+     *
+     * @param timeout
+     *            The number of milliseconds allotted once this deadline has been started. A non-positive number
+     *            indicates that there is no time limit.
+     */
+    public ProverDeadline(long timeout) {
+        myTimeout = timeout;
+        myDeadline = 0;
+        myIsTimed = false;
+        myIsCancelled = false;
+        myHasExpired = false;
+        myPollCountdown = POLL_INTERVAL;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method cancels this deadline. The thread proving the associated {@code VC} will abort the next time it polls
+     * this deadline.
+     * </p>
+     */
+    public final void cancel() {
+        myIsCancelled = true;
+    }
+
+    /**
+     * <p>
+     * This method polls this deadline and aborts the current proof attempt if it has expired or has been cancelled.
+     * </p>
+     *
+     * @throws ProverTimeoutException
+     *             If this deadline has expired or has been cancelled.
+     */
+    public final void checkDeadline() {
+        if (hasExpired()) {
+            throw new ProverTimeoutException();
+        }
+    }
+
+    /**
+     * <p>
+     * This method polls this deadline.
+     * </p>
+     *
+     * @return {@code true} if this deadline has expired or has been cancelled, {@code false} otherwise.
+     */
+    public final boolean hasExpired() {
+        if (!myHasExpired) {
+            if (myIsCancelled) {
+                myHasExpired = true;
+            } else if (myIsTimed && --myPollCountdown <= 0) {
+                myPollCountdown = POLL_INTERVAL;
+                myHasExpired = System.nanoTime() - myDeadline >= 0;
+            }
+        }
+
+        return myHasExpired;
+    }
+
+    /**
+     * <p>
+     * This method indicates whether or not this deadline was cancelled by another thread.
+     * </p>
+     *
+     * @return {@code true} if this deadline has been cancelled, {@code false} otherwise.
+     */
+    public final boolean isCancelled() {
+        return myIsCancelled;
+    }
+
+    /**
+     * <p>
+     * This method starts the clock on this deadline.
+     * </p>
+     */
+    public final void start() {
+        if (myTimeout > 0) {
+            myDeadline = System.nanoTime() + TimeUnit.NANOSECONDS.convert(myTimeout, TimeUnit.MILLISECONDS);
+            myIsTimed = true;
+        }
+    }
+}
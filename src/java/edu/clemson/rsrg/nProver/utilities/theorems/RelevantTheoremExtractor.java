@@ -16,32 +16,131 @@ import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
 import edu.clemson.rsrg.typeandpopulate.query.EntryTypeQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
-import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
-
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
+/**
+ * <p>
+ * This class extracts the theorems that are visible from the current module and converts the ones we know how to
+ * instantiate into {@link TheoremPattern TheoremPatterns}. The conversion happens once per module, while the relevance
+ * filter is applied to each {@code VC}.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ * @author Nicodemus Msafiri J. M.
+ *
+ * @version 1.0
+ */
 public class RelevantTheoremExtractor {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The module scope for the module we are proving.
+     * </p>
+     */
     private final ModuleScope myCurrentModuleScope;
 
+    /**
+     * <p>
+     * The theorems that can be instantiated. This is {@code null} until we extract them.
+     * </p>
+     */
+    private List<TheoremPattern> myTheoremPatterns;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object that extracts theorems from the current module scope.
+     * </p>
+     *
+     * @param scope
+     *            The module scope for the module we are proving.
+     */
     public RelevantTheoremExtractor(ModuleScope scope) {
         myCurrentModuleScope = scope;
+        myTheoremPatterns = null;
     }
 
-    public List<TheoremEntry> theoremEntryQuery() {
-        List<TheoremEntry> te = null;
-        te = myCurrentModuleScope.query(new EntryTypeQuery<TheoremEntry>(TheoremEntry.class,
-                MathSymbolTable.ImportStrategy.IMPORT_NAMED, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
-        System.err.println(te.size());
+    /**
+     * <p>
+     * This creates an object that uses theorems that have already been converted into patterns.
+     * </p>
+     *
+     * @param theoremPatterns
+     *            The theorems that can be instantiated.
+     */
+    RelevantTheoremExtractor(List<TheoremPattern> theoremPatterns) {
+        myCurrentModuleScope = null;
+        myTheoremPatterns = Collections.unmodifiableList(new ArrayList<>(theoremPatterns));
+    }
 
-        Set<ModuleIdentifier> sett = new HashSet<>();
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
 
-        for (TheoremEntry theoremEntry : te) {
-            sett.add(theoremEntry.getSourceModuleIdentifier());
+    /**
+     * <p>
+     * This method returns the theorems whose function and constant symbols all appear in a {@code VC}. Theorems that
+     * mention a symbol the {@code VC} doesn't use can never be matched, so there is no point in trying them.
+     * </p>
+     *
+     * @param expLabels
+     *            The labels assigned to the expressions in the {@code VC}.
+     *
+     * @return A list of relevant {@link TheoremPattern TheoremPatterns}.
+     */
+    public final List<TheoremPattern> getRelevantTheorems(Map<String, Integer> expLabels) {
+        List<TheoremPattern> relevantTheorems = new ArrayList<>();
+        for (TheoremPattern theorem : getTheoremPatterns()) {
+            if (expLabels.keySet().containsAll(theorem.getSymbols())) {
+                relevantTheorems.add(theorem);
+            }
         }
-        System.out.println(sett);
-        return te;
+
+        return relevantTheorems;
+    }
+
+    /**
+     * <p>
+     * This method returns all the theorems that can be instantiated. The theorems are only extracted the first time
+     * this method is called, so it should be called before handing this object to multiple threads.
+     * </p>
+     *
+     * @return An unmodifiable list of {@link TheoremPattern TheoremPatterns}.
+     */
+    public final List<TheoremPattern> getTheoremPatterns() {
+        if (myTheoremPatterns == null) {
+            List<TheoremPattern> theoremPatterns = new ArrayList<>();
+            for (TheoremEntry theoremEntry : theoremEntryQuery()) {
+                TheoremPattern theoremPattern = TheoremPattern.fromTheorem(theoremEntry);
+                if (theoremPattern != null) {
+                    theoremPatterns.add(theoremPattern);
+                }
+            }
+            myTheoremPatterns = Collections.unmodifiableList(theoremPatterns);
+        }
+
+        return myTheoremPatterns;
+    }
+
+    /**
+     * <p>
+     * This method queries all the theorems visible from the current module.
+     * </p>
+     *
+     * @return A list of {@link TheoremEntry TheoremEntries}.
+     */
+    public final List<TheoremEntry> theoremEntryQuery() {
+        return myCurrentModuleScope.query(new EntryTypeQuery<TheoremEntry>(TheoremEntry.class,
+                MathSymbolTable.ImportStrategy.IMPORT_NAMED, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
     }
 }
@@ -0,0 +1,398 @@
+/*
+ * TheoremInstantiator.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities.theorems;
+
+import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.ProverDeadline;
+import edu.clemson.rsrg.nProver.utilities.theorems.TheoremPattern.PatternTerm;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.util.*;
+
+/**
+ * <p>
+ * This class instantiates theorems against the sequent {@code VC} stored in a {@link CongruenceClassRegistry}. Each
+ * theorem's trigger is matched against the clusters in the registry (modulo the congruence classes), and every new
+ * instance gets registered as an antecedent: equalities merge the two classes and atoms are marked as antecedents.
+ * Since new instances can create new matches, we keep going until there are no new instances, the instantiation budget
+ * runs out or the {@code VC} is proved.
+ * </p>
+ *
+ * <p>
+ * Operators are labeled by their names, so a cluster only matches a theorem's term if the mathematical types recorded
+ * for the cluster and its arguments are the ones the populator assigned to the term. This keeps us from using a theorem
+ * about one overloaded operator on another operator with the same name. A quantified variable can only be bound to an
+ * argument whose type is a subtype of the variable's declared type. Clusters without any recorded types are never
+ * matched.
+ * </p>
+ *
+ * <p>
+ * An instance of this class is meant to be used for a single {@code VC} and by a single thread.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ * @author Nicodemus Msafiri J. M.
+ *
+ * @version 1.0
+ */
+public class TheoremInstantiator {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The mathematical types for each cluster in the registry. The first type is the type of the cluster itself,
+     * followed by the types of its arguments.
+     * </p>
+     */
+    private final Map<Integer, MTType[]> myClusterTypes;
+
+    /**
+     * <p>
+     * The deadline token for the {@code VC}.
+     * </p>
+     */
+    private final ProverDeadline myDeadline;
+
+    /**
+     * <p>
+     * The labels assigned to the expressions in the {@code VC}.
+     * </p>
+     */
+    private final Map<String, Integer> myExpLabels;
+
+    /**
+     * <p>
+     * The maximum number of theorem instances we are allowed to register.
+     * </p>
+     */
+    private final int myInstantiationBudget;
+
+    /**
+     * <p>
+     * The number of theorem instances we have registered so far.
+     * </p>
+     */
+    private int myNumInstantiations;
+
+    /**
+     * <p>
+     * This registry contains the target sequent VC to be proved.
+     * </p>
+     */
+    private final CongruenceClassRegistry<Integer, String, String, String> myRegistry;
+
+    /**
+     * <p>
+     * The theorem instances we have already registered. Each instance is identified by the theorem and the classes its
+     * variables were bound to.
+     * </p>
+     */
+    private final Set<String> mySeenInstances;
+
+    /**
+     * <p>
+     * The current job's type graph used to check the types of the variable bindings.
+     * </p>
+     */
+    private final TypeGraph myTypeGraph;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object that instantiates theorems for a single {@code VC}.
+     * </p>
+     *
+     * @param registry
+     *            The registry that contains the target sequent VC to be proved.
+     * @param expLabels
+     *            The labels assigned to the expressions in the {@code VC}.
+     * @param clusterTypes
+     *            The mathematical types for each cluster in the registry.
+     * @param typeGraph
+     *            The current job's type graph.
+     * @param deadline
+     *            The deadline token for the {@code VC}.
+     * @param instantiationBudget
+     *            The maximum number of theorem instances we are allowed to register.
+     */
+    public TheoremInstantiator(CongruenceClassRegistry<Integer, String, String, String> registry,
+            Map<String, Integer> expLabels, Map<Integer, MTType[]> clusterTypes, TypeGraph typeGraph,
+            ProverDeadline deadline, int instantiationBudget) {
+        myClusterTypes = clusterTypes;
+        myDeadline = deadline;
+        myExpLabels = expLabels;
+        myInstantiationBudget = instantiationBudget;
+        myNumInstantiations = 0;
+        myRegistry = registry;
+        mySeenInstances = new HashSet<>();
+        myTypeGraph = typeGraph;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the number of theorem instances we have registered so far.
+     * </p>
+     *
+     * @return The number of instances.
+     */
+    public final int getNumInstantiations() {
+        return myNumInstantiations;
+    }
+
+    /**
+     * <p>
+     * This method instantiates the theorems until there are no new instances, the instantiation budget runs out or the
+     * {@code VC} is proved.
+     * </p>
+     *
+     * @param theorems
+     *            The theorems that are relevant to the {@code VC}.
+     *
+     * @return {@code true} if the {@code VC} is proved, {@code false} otherwise.
+     */
+    public final boolean instantiate(List<TheoremPattern> theorems) {
+        boolean foundNewInstances = true;
+        while (foundNewInstances && !myRegistry.checkIfProved()) {
+            foundNewInstances = false;
+            for (int i = 0; i < theorems.size() && !myRegistry.checkIfProved(); i++) {
+                myDeadline.checkDeadline();
+
+                TheoremPattern theorem = theorems.get(i);
+                for (int[] bindings : matchTerm(theorem.getTrigger(), 0, new int[theorem.getNumVariables()])) {
+                    if (myNumInstantiations >= myInstantiationBudget || myRegistry.checkIfProved()) {
+                        return myRegistry.checkIfProved();
+                    }
+
+                    // Only register the instances we haven't seen
+                    if (mySeenInstances.add(instanceKey(i, bindings))) {
+                        registerInstance(theorem, bindings);
+                        myNumInstantiations++;
+                        foundNewInstances = true;
+                    }
+                }
+            }
+        }
+
+        return myRegistry.checkIfProved();
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that checks to see if the types recorded for a cluster agree with the types of {@code term}. The
+     * cluster and the non-variable arguments must have the same types as the ones in the theorem, which means the
+     * populator picked the same operator for both of them. An argument matched by a variable must have a type that is a
+     * subtype of the variable's declared type.
+     * </p>
+     *
+     * @param term
+     *            A non-variable term in the theorem.
+     * @param clusterTypes
+     *            The types of the cluster and its arguments or {@code null} if we don't know them.
+     *
+     * @return {@code true} if the cluster can be matched against {@code term}, {@code false} otherwise.
+     */
+    private boolean hasMatchingTypes(PatternTerm term, MTType[] clusterTypes) {
+        if (clusterTypes == null || term.getType() == null || !term.getType().equals(clusterTypes[0])) {
+            return false;
+        }
+
+        for (int i = 0; i < term.getArity(); i++) {
+            PatternTerm argument = term.getArgument(i);
+            MTType argumentType = clusterTypes[i + 1];
+            if (argument.getType() == null || argumentType == null) {
+                return false;
+            }
+
+            if (argument.isVariable()) {
+                if (!myTypeGraph.isSubtype(argumentType, argument.getType())) {
+                    return false;
+                }
+            } else if (!argument.getType().equals(argumentType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns a key that identifies a theorem instance. The variables are identified by the
+     * dominant classes they are bound to.
+     * </p>
+     *
+     * @param theoremIndex
+     *            The index of the theorem.
+     * @param bindings
+     *            The classes the variables are bound to.
+     *
+     * @return A key for the instance.
+     */
+    private String instanceKey(int theoremIndex, int[] bindings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(theoremIndex);
+        for (int binding : bindings) {
+            sb.append(':');
+            sb.append(myRegistry.getDominantClass(binding));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * An helper method that finds all the ways {@code term} can be matched against the class designated by
+     * {@code targetClass}.
+     * </p>
+     *
+     * @param term
+     *            A term in the theorem.
+     * @param targetClass
+     *            The dominant class the term should belong to or {@code 0} if it can belong to any class.
+     * @param bindings
+     *            The classes the variables have been bound to so far. A value of {@code 0} indicates that the variable
+     *            hasn't been bound.
+     *
+     * @return A list containing the extended bindings for each match.
+     */
+    private List<int[]> matchTerm(PatternTerm term, int targetClass, int[] bindings) {
+        List<int[]> matches = new ArrayList<>();
+        if (term.isVariable()) {
+            int boundClass = bindings[term.getVariableIndex()];
+            if (boundClass == 0) {
+                int[] newBindings = bindings.clone();
+                newBindings[term.getVariableIndex()] = targetClass;
+                matches.add(newBindings);
+            } else if (myRegistry.getDominantClass(boundClass) == targetClass) {
+                matches.add(bindings);
+            }
+        } else {
+            int label = myExpLabels.get(term.getSymbol());
+            int cluster = myRegistry.getFirstClusterWithLabel(label);
+            while (cluster != 0) {
+                if (myRegistry.getClusterArity(cluster) == term.getArity()
+                        && (targetClass == 0 || myRegistry.getClusterClass(cluster) == targetClass)
+                        && hasMatchingTypes(term, myClusterTypes.get(cluster))) {
+                    // Match the arguments from left to right
+                    List<int[]> partialMatches = Collections.singletonList(bindings);
+                    for (int i = 0; i < term.getArity() && !partialMatches.isEmpty(); i++) {
+                        List<int[]> nextPartialMatches = new ArrayList<>();
+                        for (int[] partialMatch : partialMatches) {
+                            nextPartialMatches.addAll(matchTerm(term.getArgument(i),
+                                    myRegistry.getClusterArgument(cluster, i), partialMatch));
+                        }
+                        partialMatches = nextPartialMatches;
+                    }
+                    matches.addAll(partialMatches);
+                }
+
+                cluster = myRegistry.getNextClusterWithSameLabel(cluster);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * <p>
+     * An helper method that registers a term in the theorem with its variables replaced by the bound classes.
+     * </p>
+     *
+     * @param term
+     *            A term in the theorem.
+     * @param bindings
+     *            The classes the variables are bound to.
+     *
+     * @return An accessor for the class containing the term or {@code 0} if the {@code VC} got proved while registering
+     *         it.
+     */
+    private int registerTerm(PatternTerm term, int[] bindings) {
+        if (term.isVariable()) {
+            return myRegistry.getDominantClass(bindings[term.getVariableIndex()]);
+        }
+
+        // Register the arguments before we start appending to the registry's argument list
+        int[] arguments = new int[term.getArity()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = registerTerm(term.getArgument(i), bindings);
+            if (myRegistry.checkIfProved()) {
+                return 0;
+            }
+        }
+
+        for (int argument : arguments) {
+            myRegistry.appendToClusterArgList(argument);
+        }
+
+        int label = myExpLabels.get(term.getSymbol());
+        if (myRegistry.checkIfRegistered(label)) {
+            return myRegistry.getAccessorFor(label);
+        } else {
+            int accessor = myRegistry.registerCluster(label);
+            if (accessor != 0) {
+                // Record the theorem's types for the cluster we just registered
+                MTType[] types = new MTType[arguments.length + 1];
+                types[0] = term.getType();
+                for (int i = 0; i < arguments.length; i++) {
+                    types[i + 1] = term.getArgument(i).getType();
+                }
+                myClusterTypes.put(myRegistry.getFirstClusterWithLabel(label), types);
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that registers a theorem instance as an antecedent.
+     * </p>
+     *
+     * @param theorem
+     *            The theorem to be instantiated.
+     * @param bindings
+     *            The classes the variables are bound to.
+     */
+    private void registerInstance(TheoremPattern theorem, int[] bindings) {
+        int lhsAccessor = registerTerm(theorem.getLeft(), bindings);
+        if (myRegistry.checkIfProved()) {
+            return;
+        }
+
+        if (theorem.getRight() != null) {
+            int rhsAccessor = registerTerm(theorem.getRight(), bindings);
+            if (!myRegistry.checkIfProved() && !myRegistry.areCongruent(lhsAccessor, rhsAccessor)) {
+                myRegistry.makeCongruent(lhsAccessor, rhsAccessor);
+            }
+        } else {
+            BitSet attb = new BitSet();
+            attb.set(0);// set the class antecedent
+            attb.set(2);// set the class ultimate
+            myRegistry.updateClassAttributes(myRegistry.getDominantClass(lhsAccessor), attb);
+        }
+    }
+}
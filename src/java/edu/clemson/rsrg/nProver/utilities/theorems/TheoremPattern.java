@@ -0,0 +1,585 @@
+/*
+ * TheoremPattern.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities.theorems;
+
+import edu.clemson.rsrg.absyn.declarations.variabledecl.MathVarDec;
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.util.*;
+
+/**
+ * <p>
+ * This class is a pre-processed version of a universally quantified {@link TheoremEntry} that can be instantiated by
+ * the {@link TheoremInstantiator}. The theorem's assertion is converted into a tree of {@link PatternTerm PatternTerms}
+ * whose symbols use the same strings the sequent walkers use as labels, so a theorem only needs to be converted once
+ * per module.
+ * </p>
+ *
+ * <p>
+ * Only theorems of the form {@code For all x1, ..., xn, lhs = rhs} or {@code For all x1, ..., xn, atom} are supported.
+ * Theorems with a {@code where} clause, nested quantifiers inside the body or higher-order variables are not converted.
+ * </p>
+ *
+ * @author Yu-Shan Sun
+ * @author Nicodemus Msafiri J. M.
+ *
+ * @version 1.0
+ */
+public class TheoremPattern {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the theorem.
+     * </p>
+     */
+    private final String myName;
+
+    /**
+     * <p>
+     * The left hand side of the equality or the atom asserted by the theorem.
+     * </p>
+     */
+    private final PatternTerm myLeft;
+
+    /**
+     * <p>
+     * The right hand side of the equality. This is {@code null} when the theorem asserts an atom.
+     * </p>
+     */
+    private final PatternTerm myRight;
+
+    /**
+     * <p>
+     * The sub-term that needs to be found in the registry before we can instantiate this theorem. It mentions every
+     * quantified variable.
+     * </p>
+     */
+    private final PatternTerm myTrigger;
+
+    /**
+     * <p>
+     * The number of quantified variables.
+     * </p>
+     */
+    private final int myNumVariables;
+
+    /**
+     * <p>
+     * All the function and constant symbols used by this theorem.
+     * </p>
+     */
+    private final Set<String> mySymbols;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new pattern for a theorem.
+     * </p>
+     *
+     * @param name
+     *            The name of the theorem.
+     * @param left
+     *            The left hand side of the equality or the asserted atom.
+     * @param right
+     *            The right hand side of the equality or {@code null}.
+     * @param trigger
+     *            The sub-term used to find instances of this theorem.
+     * @param numVariables
+     *            The number of quantified variables.
+     */
+    private TheoremPattern(String name, PatternTerm left, PatternTerm right, PatternTerm trigger, int numVariables) {
+        myName = name;
+        myLeft = left;
+        myRight = right;
+        myTrigger = trigger;
+        myNumVariables = numVariables;
+
+        Set<String> symbols = new LinkedHashSet<>();
+        left.collectSymbols(symbols);
+        if (right != null) {
+            right.collectSymbols(symbols);
+        }
+        mySymbols = Collections.unmodifiableSet(symbols);
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method converts a {@link TheoremEntry} into a pattern that can be instantiated.
+     * </p>
+     *
+     * @param theoremEntry
+     *            A theorem in scope.
+     *
+     * @return A {@link TheoremPattern} or {@code null} if the theorem is not of a supported form.
+     */
+    public static TheoremPattern fromTheorem(TheoremEntry theoremEntry) {
+        // Collect the variables from the (possibly nested) universal quantifiers
+        List<String> variables = new ArrayList<>();
+        Exp body = theoremEntry.getAssertion();
+        while (body instanceof QuantExp) {
+            QuantExp quantExp = (QuantExp) body;
+            if (quantExp.getQuantification() != SymbolTableEntry.Quantification.UNIVERSAL
+                    || quantExp.getWhere() != null) {
+                return null;
+            }
+
+            for (MathVarDec varDec : quantExp.getVars()) {
+                variables.add(varDec.getName().getName());
+            }
+            body = quantExp.getBody();
+        }
+
+        PatternTerm left;
+        PatternTerm right = null;
+        if (body instanceof EqualsExp && ((EqualsExp) body).getOperator() == EqualsExp.Operator.EQUAL) {
+            left = convert(((EqualsExp) body).getLeft(), variables);
+            right = convert(((EqualsExp) body).getRight(), variables);
+            if (right == null) {
+                return null;
+            }
+        } else {
+            left = convert(body, variables);
+        }
+
+        if (left == null || variables.isEmpty()) {
+            return null;
+        }
+
+        // Pick the first side (or the atom) that mentions every variable as our trigger
+        PatternTerm trigger = null;
+        if (left.isTriggerFor(variables.size())) {
+            trigger = left;
+        } else if (right != null && right.isTriggerFor(variables.size())) {
+            trigger = right;
+        }
+
+        if (trigger == null) {
+            return null;
+        }
+
+        return new TheoremPattern(theoremEntry.getName(), left, right, trigger, variables.size());
+    }
+
+    /**
+     * <p>
+     * This method returns the left hand side of the equality or the asserted atom.
+     * </p>
+     *
+     * @return A {@link PatternTerm}.
+     */
+    public final PatternTerm getLeft() {
+        return myLeft;
+    }
+
+    /**
+     * <p>
+     * This method returns the theorem's name.
+     * </p>
+     *
+     * @return The name of the theorem.
+     */
+    public final String getName() {
+        return myName;
+    }
+
+    /**
+     * <p>
+     * This method returns the number of quantified variables.
+     * </p>
+     *
+     * @return The number of variables.
+     */
+    public final int getNumVariables() {
+        return myNumVariables;
+    }
+
+    /**
+     * <p>
+     * This method returns the right hand side of the equality.
+     * </p>
+     *
+     * @return A {@link PatternTerm} or {@code null} if the theorem asserts an atom.
+     */
+    public final PatternTerm getRight() {
+        return myRight;
+    }
+
+    /**
+     * <p>
+     * This method returns all the function and constant symbols used by this theorem.
+     * </p>
+     *
+     * @return A set of symbols.
+     */
+    public final Set<String> getSymbols() {
+        return mySymbols;
+    }
+
+    /**
+     * <p>
+     * This method returns the sub-term used to find instances of this theorem.
+     * </p>
+     *
+     * @return A {@link PatternTerm} that mentions every variable.
+     */
+    public final PatternTerm getTrigger() {
+        return myTrigger;
+    }
+
+    /**
+     * <p>
+     * This method returns the theorem in string format.
+     * </p>
+     *
+     * @return A string.
+     */
+    @Override
+    public final String toString() {
+        return myName + ": " + myLeft + (myRight != null ? " = " + myRight : "");
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that converts an expression inside the theorem's body into a {@link PatternTerm}.
+     * </p>
+     *
+     * @param exp
+     *            An expression inside the theorem's body.
+     * @param variables
+     *            The names of the quantified variables.
+     *
+     * @return A {@link PatternTerm} or {@code null} if the expression is not supported.
+     */
+    private static PatternTerm convert(Exp exp, List<String> variables) {
+        if (exp instanceof VarExp) {
+            VarExp varExp = (VarExp) exp;
+            int index = variables.indexOf(varExp.getName().getName());
+            if (varExp.getQualifier() == null && index >= 0) {
+                return new PatternTerm(varExp.getName().getName(), index, new PatternTerm[0], exp.getMathType());
+            } else if (varExp.getQuantification() != SymbolTableEntry.Quantification.NONE) {
+                // A free variable that we don't know how to bind
+                return null;
+            }
+
+            return new PatternTerm(exp.toString(), -1, new PatternTerm[0], exp.getMathType());
+        } else if (exp instanceof LiteralExp || exp instanceof VCVarExp) {
+            return new PatternTerm(exp.toString(), -1, new PatternTerm[0], exp.getMathType());
+        } else if (exp instanceof DotExp) {
+            for (Exp segment : ((DotExp) exp).getSegments()) {
+                if (!(segment instanceof VarExp)) {
+                    return null;
+                }
+            }
+
+            return new PatternTerm(exp.toString(), -1, new PatternTerm[0], exp.getMathType());
+        } else if (exp instanceof EqualsExp) {
+            // Equalities are handled by the registry's classes, so they can only show up at the top
+            return null;
+        } else if (exp instanceof InfixExp) {
+            InfixExp infixExp = (InfixExp) exp;
+            return convertFunction(exp, infixExp.getOperatorAsString(),
+                    Arrays.asList(infixExp.getLeft(), infixExp.getRight()), variables);
+        } else if (exp instanceof FunctionExp) {
+            FunctionExp functionExp = (FunctionExp) exp;
+            if (functionExp.getCaratExp() != null || variables.contains(functionExp.getName().getName().getName())) {
+                return null;
+            }
+
+            return convertFunction(exp, functionExp.getOperatorAsString(), functionExp.getArguments(), variables);
+        } else if (exp instanceof PrefixExp) {
+            PrefixExp prefixExp = (PrefixExp) exp;
+            return convertFunction(exp, prefixExp.getOperatorAsString(), List.of(prefixExp.getArgument()), variables);
+        } else if (exp instanceof OutfixExp) {
+            OutfixExp outfixExp = (OutfixExp) exp;
+            return convertFunction(exp, outfixExp.getOperatorAsString(), List.of(outfixExp.getArgument()), variables);
+        } else if (exp instanceof SetCollectionExp) {
+            return convertFunction(exp, "{_}", new ArrayList<Exp>(((SetCollectionExp) exp).getVars()), variables);
+        } else if (exp instanceof TupleExp) {
+            return convertFunction(exp, "(_)", ((TupleExp) exp).getFields(), variables);
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * An helper method that converts a function application inside the theorem's body into a {@link PatternTerm}.
+     * </p>
+     *
+     * @param exp
+     *            The function application.
+     * @param symbol
+     *            The function symbol.
+     * @param arguments
+     *            The arguments to the function.
+     * @param variables
+     *            The names of the quantified variables.
+     *
+     * @return A {@link PatternTerm} or {@code null} if one of the arguments is not supported.
+     */
+    private static PatternTerm convertFunction(Exp exp, String symbol, List<? extends Exp> arguments,
+            List<String> variables) {
+        PatternTerm[] argumentTerms = new PatternTerm[arguments.size()];
+        for (int i = 0; i < argumentTerms.length; i++) {
+            argumentTerms[i] = convert(arguments.get(i), variables);
+            if (argumentTerms[i] == null) {
+                return null;
+            }
+        }
+
+        return new PatternTerm(symbol, -1, argumentTerms, exp.getMathType());
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class represents a node in a theorem's term tree. A node is either a quantified variable or a function (or
+     * constant) symbol applied to some arguments.
+     * </p>
+     */
+    public static class PatternTerm {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The label string for this node.
+         * </p>
+         */
+        private final String mySymbol;
+
+        /**
+         * <p>
+         * The index of the quantified variable or {@code -1} if this node is not a variable.
+         * </p>
+         */
+        private final int myVariableIndex;
+
+        /**
+         * <p>
+         * The arguments to this node.
+         * </p>
+         */
+        private final PatternTerm[] myArguments;
+
+        /**
+         * <p>
+         * The mathematical type the populator assigned to this node. For a variable, this is its declared type.
+         * </p>
+         */
+        private final MTType myType;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates a new node.
+         * </p>
+         *
+         * @param symbol
+         *            The label string for this node.
+         * @param variableIndex
+         *            The index of the quantified variable or {@code -1}.
+         * @param arguments
+         *            The arguments to this node.
+         * @param type
+         *            The mathematical type of this node.
+         */
+        private PatternTerm(String symbol, int variableIndex, PatternTerm[] arguments, MTType type) {
+            mySymbol = symbol;
+            myVariableIndex = variableIndex;
+            myArguments = arguments;
+            myType = type;
+        }
+
+        // ===========================================================
+        // Public Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method returns the argument at the specified position.
+         * </p>
+         *
+         * @param position
+         *            The argument position.
+         *
+         * @return A {@link PatternTerm}.
+         */
+        public final PatternTerm getArgument(int position) {
+            return myArguments[position];
+        }
+
+        /**
+         * <p>
+         * This method returns the number of arguments.
+         * </p>
+         *
+         * @return The number of arguments.
+         */
+        public final int getArity() {
+            return myArguments.length;
+        }
+
+        /**
+         * <p>
+         * This method returns the label string for this node.
+         * </p>
+         *
+         * @return The symbol.
+         */
+        public final String getSymbol() {
+            return mySymbol;
+        }
+
+        /**
+         * <p>
+         * This method returns the mathematical type of this node.
+         * </p>
+         *
+         * @return A {@link MTType} or {@code null} if the populator didn't assign one.
+         */
+        public final MTType getType() {
+            return myType;
+        }
+
+        /**
+         * <p>
+         * This method returns the index of the quantified variable.
+         * </p>
+         *
+         * @return The variable index or {@code -1} if this node is not a variable.
+         */
+        public final int getVariableIndex() {
+            return myVariableIndex;
+        }
+
+        /**
+         * <p>
+         * This method checks to see if this node is a quantified variable.
+         * </p>
+         *
+         * @return {@code true} if it is a variable, {@code false} otherwise.
+         */
+        public final boolean isVariable() {
+            return myVariableIndex >= 0;
+        }
+
+        /**
+         * <p>
+         * This method returns the node in string format.
+         * </p>
+         *
+         * @return A string.
+         */
+        @Override
+        public final String toString() {
+            if (myArguments.length == 0) {
+                return mySymbol;
+            }
+
+            StringJoiner joiner = new StringJoiner(", ", mySymbol + "(", ")");
+            for (PatternTerm argument : myArguments) {
+                joiner.add(argument.toString());
+            }
+
+            return joiner.toString();
+        }
+
+        // ===========================================================
+        // Private Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * An helper method that adds all the non-variable symbols in this term to {@code symbols}.
+         * </p>
+         *
+         * @param symbols
+         *            The set of symbols seen so far.
+         */
+        private void collectSymbols(Set<String> symbols) {
+            if (!isVariable()) {
+                symbols.add(mySymbol);
+                for (PatternTerm argument : myArguments) {
+                    argument.collectSymbols(symbols);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * An helper method that adds the indices of all the variables in this term to {@code variables}.
+         * </p>
+         *
+         * @param variables
+         *            The set of variable indices seen so far.
+         */
+        private void collectVariables(BitSet variables) {
+            if (isVariable()) {
+                variables.set(myVariableIndex);
+            } else {
+                for (PatternTerm argument : myArguments) {
+                    argument.collectVariables(variables);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * An helper method that checks to see if this term can be used to find instances of a theorem, i.e. it isn't a
+         * variable and it mentions every variable.
+         * </p>
+         *
+         * @param numVariables
+         *            The number of quantified variables.
+         *
+         * @return {@code true} if this term can be used as a trigger, {@code false} otherwise.
+         */
+        private boolean isTriggerFor(int numVariables) {
+            if (isVariable()) {
+                return false;
+            }
+
+            BitSet variables = new BitSet();
+            collectVariables(variables);
+
+            return variables.cardinality() == numVariables;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,15 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      */
     protected final Map<Exp, Integer> myArgumentsCache;
 
+    /**
+     * <p>
+     * This map contains the mathematical types for each cluster we have registered. The first type is the type of the
+     * cluster itself, followed by the types of its arguments. This is shared with the other walkers and the theorem
+     * instantiator working on the same registry.
+     * </p>
+     */
+    protected final Map<Integer, MTType[]> myClusterTypes;
+
     /**
      * <p>
      * This map contains the mapping between expressions and its associated integer number.
@@ -110,12 +120,15 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      *            The registry that will contain the target sequent VC to be proved.
      * @param expLabels
      *            A mapping between expressions and its associated integer number.
+     * @param clusterTypes
+     *            A mapping between clusters and the mathematical types of the cluster and its arguments.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
     protected AbstractRegisterSequent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
+            Map<String, Integer> expLabels, Map<Integer, MTType[]> clusterTypes, int nextLabel) {
         myArgumentsCache = new LinkedHashMap<>();
+        myClusterTypes = clusterTypes;
         myRegistry = registry;
         myExpLabels = expLabels;
         myLiteralCounter = 0;
@@ -445,6 +458,17 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method returns the mapping from cluster to the mathematical types of the cluster and its arguments.
+     * </p>
+     *
+     * @return A mapping from {@link Integer} to an array of {@link MTType}.
+     */
+    public final Map<Integer, MTType[]> getClusterTypes() {
+        return myClusterTypes;
+    }
+
     /**
      * <p>
      * This method returns the mapping from expression to its associated number.
@@ -478,6 +502,41 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
         return myRegistry;
     }
 
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that registers a new cluster for {@code exp} using the arguments in the registry's argument list
+     * and records the mathematical types of {@code exp} and its {@code arguments}.
+     * </p>
+     *
+     * @param exp
+     *            Expression that we are currently evaluating.
+     * @param arguments
+     *            The arguments that were appended to the registry's argument list.
+     * @param operatorNumber
+     *            The labeling number assigned to the operator.
+     *
+     * @return An accessor for the new class or {@code 0} if the {@code VC} got proved while registering it.
+     */
+    protected final int registerCluster(Exp exp, List<? extends Exp> arguments, int operatorNumber) {
+        int accessor = myRegistry.registerCluster(operatorNumber);
+        if (accessor != 0) {
+            MTType[] types = new MTType[arguments.size() + 1];
+            types[0] = exp.getMathType();
+            for (int i = 0; i < arguments.size(); i++) {
+                types[i + 1] = arguments.get(i).getMathType();
+            }
+
+            // The cluster we just registered is the most recent one with this label
+            myClusterTypes.put(myRegistry.getFirstClusterWithLabel(operatorNumber), types);
+        }
+
+        return accessor;
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -503,7 +562,7 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
         if (myRegistry.checkIfRegistered(variableNumber)) {
             myArgumentsCache.put(exp, myRegistry.getAccessorFor(variableNumber));
         } else {
-            myArgumentsCache.put(exp, myRegistry.registerCluster(variableNumber));
+            myArgumentsCache.put(exp, registerCluster(exp, List.of(), variableNumber));
         }
     }
 
@@ -16,7 +16,10 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -45,12 +48,14 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      *            The registry that will contain the target sequent VC to be proved.
      * @param expLabels
      *            A mapping between expressions and its associated integer number.
+     * @param clusterTypes
+     *            A mapping between clusters and the mathematical types of the cluster and its arguments.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
     public RegisterAntecedent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
-        super(registry, expLabels, nextLabel);
+            Map<String, Integer> expLabels, Map<Integer, MTType[]> clusterTypes, int nextLabel) {
+        super(registry, expLabels, clusterTypes, nextLabel);
     }
 
     // ===========================================================
@@ -86,7 +91,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
             myRegistry.appendToClusterArgList(lhsArgument);
             myRegistry.appendToClusterArgList(rhsArgument);
 
-            registerFunction(exp, operatorNumber);
+            registerFunction(exp, List.of(exp.getLeft(), exp.getRight()), operatorNumber);
         }
     }
 
@@ -106,7 +111,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         for (Exp argument : exp.getArguments()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, exp.getArguments(), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -124,7 +129,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         // Logic for handling outfix expressions in the antecedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, List.of(exp.getArgument()), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -142,7 +147,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         // Logic for handling prefix expressions in the antecedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, List.of(exp.getArgument()), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -158,10 +163,11 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         super.postSetCollectionExp(exp);
 
         // Logic for handling set collection expressions in the antecedent
-        for (Exp argument : exp.getVars()) {
+        List<Exp> arguments = new ArrayList<>(exp.getVars());
+        for (Exp argument : arguments) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get("{_}"));
+        registerFunction(exp, arguments, myExpLabels.get("{_}"));
     }
 
     /**
@@ -180,7 +186,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         for (Exp field : exp.getFields()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(field));
         }
-        registerFunction(exp, myExpLabels.get("(_)"));
+        registerFunction(exp, exp.getFields(), myExpLabels.get("(_)"));
     }
 
     /**
@@ -220,16 +226,18 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      *
      * @param exp
      *            Expression that we are currently evaluating.
+     * @param arguments
+     *            The arguments that were appended to the registry's argument list.
      * @param operatorNumber
      *            The labeling number assigned to the operator.
      */
-    private void registerFunction(Exp exp, int operatorNumber) {
+    private void registerFunction(Exp exp, List<? extends Exp> arguments, int operatorNumber) {
         // check if registered, no duplicates allowed
         if (myRegistry.checkIfRegistered(operatorNumber)) {
             myArgumentsCache.put(exp, myRegistry.getAccessorFor(operatorNumber));
         } else {
             // register if new, and make it an argument for the next higher level operator
-            int accessor = myRegistry.registerCluster(operatorNumber);
+            int accessor = registerCluster(exp, arguments, operatorNumber);
 
             // if exp is ultimate i.e., at root
             if (super.getAncestorSize() == 1) {
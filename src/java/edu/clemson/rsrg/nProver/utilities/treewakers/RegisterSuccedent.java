@@ -16,7 +16,10 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -45,12 +48,14 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      *            The registry that will contain the target sequent VC to be proved.
      * @param expLabels
      *            A mapping between expressions and its associated integer number.
+     * @param clusterTypes
+     *            A mapping between clusters and the mathematical types of the cluster and its arguments.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
     public RegisterSuccedent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
-        super(registry, expLabels, nextLabel);
+            Map<String, Integer> expLabels, Map<Integer, MTType[]> clusterTypes, int nextLabel) {
+        super(registry, expLabels, clusterTypes, nextLabel);
     }
 
     // ===========================================================
@@ -88,7 +93,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
 
             if (operatorNumber == OP_EQUALS) { // if it is succedent equal
                 myRegistry.addOperatorToSuccedentReflexiveOperatorSet(operatorNumber);
-                accessor = myRegistry.registerCluster(operatorNumber);
+                accessor = registerCluster(exp, List.of(exp.getLeft(), exp.getRight()), operatorNumber);
                 if (!myRegistry.checkIfProved()) {
                     myRegistry.updateClassAttributes(accessor, attb);
                 }
@@ -97,7 +102,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
                 if (myRegistry.checkIfRegistered(operatorNumber)) {
                     myRegistry.updateClassAttributes(myRegistry.getAccessorFor(operatorNumber), attb);
                 } else {
-                    accessor = myRegistry.registerCluster(operatorNumber);
+                    accessor = registerCluster(exp, List.of(exp.getLeft(), exp.getRight()), operatorNumber);
                     myRegistry.updateClassAttributes(accessor, attb);
                 }
             } else {
@@ -105,7 +110,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
                     myRegistry.updateClassAttributes(myRegistry.getAccessorFor(operatorNumber), attb);
                 } else {
                     // register if new, and make it an argument for the next higher level operator
-                    accessor = myRegistry.registerCluster(operatorNumber);
+                    accessor = registerCluster(exp, List.of(exp.getLeft(), exp.getRight()), operatorNumber);
                     myRegistry.updateClassAttributes(accessor, attb);
                 }
             }
@@ -115,7 +120,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
                 myArgumentsCache.put(exp, myRegistry.getAccessorFor(operatorNumber));
             } else {
                 // register if new, and make it an argument for the next higher level operator
-                accessor = myRegistry.registerCluster(operatorNumber);
+                accessor = registerCluster(exp, List.of(exp.getLeft(), exp.getRight()), operatorNumber);
                 // only non-ultimate classes can be used as arguments in clusters
                 myArgumentsCache.put(exp, accessor);
             }
@@ -138,7 +143,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         for (Exp argument : exp.getArguments()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, exp.getArguments(), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -156,7 +161,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         // Logic for handling outfix expressions in the succedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, List.of(exp.getArgument()), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -174,7 +179,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         // Logic for handling prefix expressions in the succedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, List.of(exp.getArgument()), myExpLabels.get(exp.getOperatorAsString()));
     }
 
     /**
@@ -190,10 +195,11 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         super.postSetCollectionExp(exp);
 
         // Logic for handling set collection expressions in the succedent
-        for (Exp argument : exp.getVars()) {
+        List<Exp> arguments = new ArrayList<>(exp.getVars());
+        for (Exp argument : arguments) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get("{_}"));
+        registerFunction(exp, arguments, myExpLabels.get("{_}"));
     }
 
     /**
@@ -212,7 +218,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         for (Exp field : exp.getFields()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(field));
         }
-        registerFunction(exp, myExpLabels.get("(_)"));
+        registerFunction(exp, exp.getFields(), myExpLabels.get("(_)"));
     }
 
     /**
@@ -252,16 +258,18 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      *
      * @param exp
      *            Expression that we are currently evaluating.
+     * @param arguments
+     *            The arguments that were appended to the registry's argument list.
      * @param operatorNumber
      *            The labeling number assigned to the operator.
      */
-    private void registerFunction(Exp exp, int operatorNumber) {
+    private void registerFunction(Exp exp, List<? extends Exp> arguments, int operatorNumber) {
         // check if registered, no duplicates allowed
         if (myRegistry.checkIfRegistered(operatorNumber)) {
             myArgumentsCache.put(exp, myRegistry.getAccessorFor(operatorNumber));
         } else {
             // register if new, and make it an argument for the next higher level operator
-            int accessor = myRegistry.registerCluster(operatorNumber);
+            int accessor = registerCluster(exp, arguments, operatorNumber);
 
             // if exp is ultimate i.e., at root
             if (super.getAncestorSize() == 1) {
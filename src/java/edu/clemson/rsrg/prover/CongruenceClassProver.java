@@ -16,11 +16,29 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
 import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.prover.absyn.PExp;
+import edu.clemson.rsrg.prover.absyn.expressions.PSymbol;
+import edu.clemson.rsrg.prover.exception.UnsupportedExpException;
+import edu.clemson.rsrg.prover.output.Metrics;
 import edu.clemson.rsrg.prover.output.PerVCProverModel;
 import edu.clemson.rsrg.prover.utilities.ImmutableVC;
+import edu.clemson.rsrg.prover.utilities.PExpWithScore;
+import edu.clemson.rsrg.prover.utilities.Utilities;
+import edu.clemson.rsrg.prover.utilities.theorems.Theorem;
+import edu.clemson.rsrg.prover.utilities.theorems.TheoremPrioritizer;
+import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.exception.SymbolNotOfKindTypeException;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.query.EntryTypeQuery;
+import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
-import java.util.List;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.*;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_VERIFY_VC;
 
 /**
@@ -52,6 +70,13 @@ public class CongruenceClassProver {
      */
     private final ModuleScope myCurrentModuleScope;
 
+    /**
+     * <p>
+     * A set containing all the non-quantified symbols that appear in {@link #myTheorems}.
+     * </p>
+     */
+    private final Set<String> myNonQuantifiedTheoremSymbols;
+
     /**
      * <p>
      * The number of tries before halting the automated prover
@@ -73,6 +98,20 @@ public class CongruenceClassProver {
      */
     private final long myTimeout;
 
+    /**
+     * <p>
+     * The equality theorems that replace a smaller expression with a larger one.
+     * </p>
+     */
+    private final Set<Theorem> mySmallEndEquations;
+
+    /**
+     * <p>
+     * The list of theorems that can be applied to the {@code VCs}.
+     * </p>
+     */
+    private final List<Theorem> myTheorems;
+
     /**
      * <p>
      * This is the math type graph that indicates relationship between different math types.
@@ -82,15 +121,47 @@ public class CongruenceClassProver {
 
     /**
      * <p>
-     * The array of VC models.
+     * The module's final list of verification conditions.
      * </p>
      */
-    private final PerVCProverModel[] myVCModels;
+    private final List<VerificationCondition> myVerificationConditions;
+
+    // -----------------------------------------------------------
+    // N and Z
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * A mathematical type representing {@code N} (if it is visible from this module).
+     * </p>
+     */
+    private final MTType myN;
+
+    /**
+     * <p>
+     * A mathematical type representing {@code Z} (if it is visible from this module).
+     * </p>
+     */
+    private final MTType myZ;
 
     // -----------------------------------------------------------
     // Output-Related
     // -----------------------------------------------------------
 
+    /**
+     * <p>
+     * The total elapsed time in milliseconds spent proving the {@code VCs}.
+     * </p>
+     */
+    private long myTotalElapsedTime;
+
+    /**
+     * <p>
+     * The array of VC models.
+     * </p>
+     */
+    private final PerVCProverModel[] myVCModels;
+
     // ===========================================================
     // Flag Strings
     // ===========================================================
@@ -156,14 +227,23 @@ public class CongruenceClassProver {
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
-    public CongruenceClassProver(List<ImmutableVC> vcs, ModuleScope moduleScope,
+    public CongruenceClassProver(List<VerificationCondition> vcs, ModuleScope moduleScope,
             CompileEnvironment compileEnvironment) {
         myCompileEnvironment = compileEnvironment;
         myCurrentModuleScope = moduleScope;
+        myNonQuantifiedTheoremSymbols = new HashSet<>();
         myOutputListeners = myCompileEnvironment.getOutputListeners();
+        mySmallEndEquations = new HashSet<>();
+        myTheorems = new ArrayList<>();
+        myTotalElapsedTime = 0;
         myTypeGraph = compileEnvironment.getTypeGraph();
+        myVerificationConditions = vcs;
         myVCModels = new PerVCProverModel[vcs.size()];
 
+        // N and Z
+        myN = searchMathType("N");
+        myZ = searchMathType("Z");
+
         // Timeout
         if (myCompileEnvironment.flags.isFlagSet(FLAG_TIMEOUT)) {
             myTimeout = Long.parseLong(myCompileEnvironment.flags.getFlagArgument(FLAG_TIMEOUT, "milliseconds"));
@@ -178,14 +258,256 @@ public class CongruenceClassProver {
         } else {
             myNumTriesBeforeHalting = -1;
         }
+
+        // Convert all the theorems visible from this module
+        for (TheoremEntry theoremEntry : myCurrentModuleScope.query(new EntryTypeQuery<TheoremEntry>(TheoremEntry.class,
+                ImportStrategy.IMPORT_NAMED, FacilityStrategy.FACILITY_IGNORE))) {
+            addTheorem(theoremEntry);
+        }
+
+        for (Theorem theorem : myTheorems) {
+            myNonQuantifiedTheoremSymbols.addAll(theorem.getNonQuantifiedSymbols());
+        }
     }
 
     // ===========================================================
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method returns the prover setting for how many unproved {@code VCs} we allow before halting.
+     * </p>
+     *
+     * @return The number of tries with -1 indicating that we attempt to prove all VCs.
+     */
+    public final int getNumTriesBeforeHalting() {
+        return myNumTriesBeforeHalting;
+    }
+
+    /**
+     * <p>
+     * This method returns the prover setting for the maximum amount of time we can spend proving each {@code VC}.
+     * </p>
+     *
+     * @return The time that can be spent proving each {@code VC} in ms.
+     */
+    public final long getTimeout() {
+        return myTimeout;
+    }
+
+    /**
+     * <p>
+     * This method returns the total elapsed time that we spent proving {@code VCs}.
+     * </p>
+     *
+     * @return The total elapsed time in ms.
+     */
+    public final long getTotalElapsedTime() {
+        return myTotalElapsedTime;
+    }
+
+    /**
+     * <p>
+     * This method runs the congruence closure prover on all the VCs and reports the results for each {@code VC} to the
+     * output listeners.
+     * </p>
+     */
+    public final void proveVCs() {
+        // Keep track to total elapsed time
+        myTotalElapsedTime = System.currentTimeMillis();
+
+        int numUnproved = 0;
+        for (int i = 0; i < myVerificationConditions.size(); i++) {
+            VerificationCondition vc = myVerificationConditions.get(i);
+            long proofDuration = 0;
+            boolean isProved = false;
+
+            // Skip the remaining VCs once we have too many unproved VCs
+            if (myNumTriesBeforeHalting >= 0 && numUnproved >= myNumTriesBeforeHalting) {
+                myVCModels[i] = new PerVCProverModel(vc.getName());
+            } else {
+                long startTime = System.currentTimeMillis();
+                isProved = proveVC(vc, i, startTime + myTimeout);
+                proofDuration = System.currentTimeMillis() - startTime;
+
+                if (!isProved) {
+                    numUnproved++;
+                }
+            }
+
+            // Output the results for this VC to listener objects
+            Metrics metrics = new Metrics(proofDuration, myTimeout);
+            for (OutputListener listener : myOutputListeners) {
+                listener.vcResult(isProved, myVCModels[i], metrics);
+            }
+        }
+
+        // Compute the total elapsed time in generating proofs for the VCs in this module
+        myTotalElapsedTime = System.currentTimeMillis() - myTotalElapsedTime;
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that creates an equality theorem that matches one side of the equality and inserts the entire
+     * equality.
+     * </p>
+     *
+     * @param assertion
+     *            The converted theorem assertion.
+     * @param matchLeft
+     *            {@code true} if we are matching the left hand side, {@code false} if we are matching the right hand
+     *            side.
+     * @param name
+     *            The theorem's name.
+     */
+    private void addEqualityTheorem(PExp assertion, boolean matchLeft, String name) {
+        PExp matchSide = assertion.getSubExpressions().get(matchLeft ? 0 : 1);
+        PExp otherSide = assertion.getSubExpressions().get(matchLeft ? 1 : 0);
+
+        // Matching a lone quantified variable would bind it to every symbol in the VC
+        if (matchSide.isVariable() && !matchSide.getQuantifiedVariables().isEmpty()) {
+            return;
+        }
+
+        boolean allowNewSymbols = !matchSide.getQuantifiedVariables().containsAll(otherSide.getQuantifiedVariables());
+        Theorem theorem = new Theorem(myTypeGraph, assertion, matchSide, otherSide, assertion, false, allowNewSymbols,
+                name);
+        myTheorems.add(theorem);
+
+        // Rewriting towards the larger side grows the VC, so these get a lower priority.
+        if (matchSide.getFunctionApplications().size() < otherSide.getFunctionApplications().size()) {
+            mySmallEndEquations.add(theorem);
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that converts a {@link TheoremEntry} into the {@link Theorem Theorems} used by this prover.
+     * Equalities can be applied in both directions, implications are applied when we can match the antecedent and
+     * everything else is applied when we can match the entire assertion.
+     * </p>
+     *
+     * @param theoremEntry
+     *            A theorem from the symbol table.
+     */
+    private void addTheorem(TheoremEntry theoremEntry) {
+        String name = theoremEntry.getName();
+        PExp assertion;
+        try {
+            assertion = Utilities.replacePExp(PExp.buildPExp(myTypeGraph, theoremEntry.getAssertion()), myTypeGraph,
+                    myZ, myN);
+        } catch (UnsupportedExpException e) {
+            // The prover can't represent this theorem, so we simply don't use it.
+            myCompileEnvironment.getStatusHandler().warning(theoremEntry.getDefiningElement().getLocation(),
+                    "[CongruenceClassProver] Theorem " + name + " could not be converted by the prover and will not be"
+                            + " used: " + e.getMessage());
+            return;
+        }
+
+        if (!(assertion instanceof PSymbol)) {
+            return;
+        }
+
+        String topLevelOperation = assertion.getTopLevelOperation();
+        if (topLevelOperation.equals("=B")) {
+            addEqualityTheorem(assertion, true, name + "_left");
+            addEqualityTheorem(assertion, false, name + "_right");
+        } else if (topLevelOperation.equals("impliesB")) {
+            PExp antecedent = assertion.getSubExpressions().get(0);
+            PExp consequent = assertion.getSubExpressions().get(1);
+            myTheorems.add(new Theorem(myTypeGraph, assertion, antecedent, consequent, consequent, true, false, name));
+        } else {
+            myTheorems.add(new Theorem(myTypeGraph, assertion, assertion, assertion, assertion, false, false, name));
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that attempts to prove a single {@code VC}. We keep adding instances of the highest priority
+     * theorem until the {@code VC} is proved, no more theorems can be applied or we have reached {@code endTime}.
+     * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} we are attempting to prove.
+     * @param index
+     *            The index of {@code vc} in {@link #myVerificationConditions}.
+     * @param endTime
+     *            The time (in ms) when we stop trying to prove {@code vc}.
+     *
+     * @return {@code true} if the {@code VC} was proved, {@code false} otherwise.
+     */
+    private boolean proveVC(VerificationCondition vc, int index, long endTime) {
+        List<String> appliedTheorems = new ArrayList<>();
+        ImmutableVC immutableVC;
+        try {
+            immutableVC = new ImmutableVC(vc, myTypeGraph, myN, myZ);
+        } catch (UnsupportedExpException e) {
+            myCompileEnvironment.getStatusHandler().warning(vc.getLocation(), "[CongruenceClassProver] VC "
+                    + vc.getName() + " could not be converted by the prover: " + e.getMessage());
+            myVCModels[index] = new PerVCProverModel(vc.getName(), appliedTheorems, null, false);
+
+            return false;
+        }
+
+        Map<String, Integer> theoremAppliedCount = new HashMap<>();
+        ImmutableVC.STATUS status = immutableVC.isProved();
+        boolean madeProgress = true;
+        while (status == ImmutableVC.STATUS.STILL_EVALUATING && madeProgress && System.currentTimeMillis() <= endTime) {
+            // Rank the theorems against the current state of the VC and add
+            // the first theorem instance that we can find.
+            TheoremPrioritizer rankedTheorems = new TheoremPrioritizer(myTheorems, theoremAppliedCount, immutableVC,
+                    myNonQuantifiedTheoremSymbols, mySmallEndEquations);
+            madeProgress = false;
+            while (!madeProgress && !rankedTheorems.isEmpty() && System.currentTimeMillis() <= endTime) {
+                Theorem theorem = rankedTheorems.poll();
+                theoremAppliedCount.merge(theorem.getName(), 1, Integer::sum);
+
+                theorem.applyTo(immutableVC, endTime);
+                PExpWithScore theoremInstance = theorem.getNext();
+                if (theoremInstance != null) {
+                    immutableVC.getConjunct().addExpressionAndTrackChanges(theoremInstance.getTheorem(), endTime);
+                    appliedTheorems.add(theorem.getName() + ": " + theoremInstance.getTheorem());
+                    madeProgress = true;
+                }
+            }
+
+            status = immutableVC.isProved();
+        }
+
+        // A false assumption means that the VC is vacuously true
+        boolean isProved = status == ImmutableVC.STATUS.PROVED || status == ImmutableVC.STATUS.FALSE_ASSUMPTION;
+        boolean timedOut = !isProved && System.currentTimeMillis() > endTime;
+        myVCModels[index] = new PerVCProverModel(vc.getName(), appliedTheorems, immutableVC.toString(), timedOut);
+
+        return isProved;
+    }
+
+    /**
+     * <p>
+     * An helper method that locates a mathematical type that is visible from this module.
+     * </p>
+     *
+     * @param name
+     *            The name of the mathematical type.
+     *
+     * @return The {@link MTType} or {@code null} if there isn't one.
+     */
+    private MTType searchMathType(String name) {
+        MTType type = null;
+        try {
+            type = myCurrentModuleScope.queryForOne(new UnqualifiedNameQuery(name, ImportStrategy.IMPORT_RECURSIVE,
+                    FacilityStrategy.FACILITY_IGNORE, true, true)).toMathSymbolEntry(null).getTypeValue();
+        } catch (NoSuchSymbolException | DuplicateSymbolException | SymbolNotOfKindTypeException e) {
+            // The prover can still work without it, we just can't apply any of
+            // the conversions that are specific to this type.
+        }
+
+        return type;
+    }
+
 }
@@ -24,6 +24,7 @@ import edu.clemson.rsrg.prover.absyn.visitors.NestedPExpVisitors;
 import edu.clemson.rsrg.prover.absyn.visitors.PExpTextRenderingVisitor;
 import edu.clemson.rsrg.prover.absyn.visitors.PExpVisitor;
 import edu.clemson.rsrg.prover.exception.BindingException;
+import edu.clemson.rsrg.prover.exception.UnsupportedExpException;
 import edu.clemson.rsrg.prover.immutableadts.ArrayBackedImmutableList;
 import edu.clemson.rsrg.prover.immutableadts.ImmutableList;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
@@ -216,6 +217,9 @@ public abstract class PExp {
      *            An expression from the compiler AST.
      *
      * @return A {@link PExp} representation of {@code e}.
+     *
+     * @throws UnsupportedExpException
+     *             {@code e} contains an expression the prover can't represent.
      */
     public static PExp buildPExp(TypeGraph g, Exp e) {
         PExp retval;
@@ -339,8 +343,8 @@ public abstract class PExp {
 
             retval = new PAlternatives(eAsAlternativeExp);
         } else {
-            throw new RuntimeException(
-                    "Expressions of type " + e.getClass() + " are not accepted by the prover." + e.getLocation());
+            throw new UnsupportedExpException(
+                    "Expressions of type " + e.getClass() + " are not accepted by the prover.", e.getLocation());
         }
 
         // Fail early if we don't have a mathematical type.
@@ -351,8 +355,9 @@ public abstract class PExp {
                         + ((VarExp) e).getName().getLocation();
             }
 
-            throw new UnsupportedOperationException(
-                    "Expression has null type.\n\n" + e + " (" + e.getClass() + ")" + varExpAdditional);
+            throw new UnsupportedExpException(
+                    "Expression has null type.\n\n" + e + " (" + e.getClass() + ")" + varExpAdditional,
+                    e.getLocation());
         }
 
         return retval;
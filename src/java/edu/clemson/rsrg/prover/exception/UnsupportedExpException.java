@@ -0,0 +1,58 @@
+/*
+ * UnsupportedExpException.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.prover.exception;
+
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.prover.absyn.PExp;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+
+/**
+ * <p>
+ * An {@code UnsupportedExpException} indicates we encountered an expression that can't be converted into a
+ * {@link PExp}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class UnsupportedExpException extends CompilerException {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Serial version for Serializable objects
+     * </p>
+     */
+    private static final long serialVersionUID = 1L;
+
+    // ==========================================================
+    // Constructors
+    // ==========================================================
+
+    /**
+     * <p>
+     * This constructor creates an exception that indicates the automated prover can't represent an expression.
+     * </p>
+     *
+     * @param message
+     *            Message to be displayed when the exception is thrown.
+     * @param location
+     *            Location of the expression.
+     */
+    public UnsupportedExpException(String message, Location location) {
+        super(message, location);
+    }
+
+}
@@ -12,6 +12,9 @@
  */
 package edu.clemson.rsrg.prover.output;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * <p>
  * This class contains all the different information on each {@code VC} that comes from the automated prover.
@@ -23,4 +26,162 @@ package edu.clemson.rsrg.prover.output;
  */
 public final class PerVCProverModel {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The theorem instances that we added to the {@code VC} (in order).
+     * </p>
+     */
+    private final List<String> myAppliedTheorems;
+
+    /**
+     * <p>
+     * The prover's representation of the {@code VC} when we stopped proving it.
+     * </p>
+     */
+    private final String myFinalVCState;
+
+    /**
+     * <p>
+     * This indicates whether or not we ran out of time while proving the {@code VC}.
+     * </p>
+     */
+    private final boolean myTimedOutFlag;
+
+    /**
+     * <p>
+     * The name of the {@code VC}.
+     * </p>
+     */
+    private final String myVCName;
+
+    /**
+     * <p>
+     * This indicates whether or not the {@code VC} was skipped by the prover.
+     * </p>
+     */
+    private final boolean myWasSkippedFlag;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This constructs a model for a {@code VC} that was skipped by the prover.
+     * </p>
+     *
+     * @param vcName
+     *            The name of the {@code VC}.
+     */
+    public PerVCProverModel(String vcName) {
+        this(vcName, Collections.emptyList(), null, false, true);
+    }
+
+    /**
+     * <p>
+     * This constructs a model for a {@code VC} that the prover has attempted to prove.
+     * </p>
+     *
+     * @param vcName
+     *            The name of the {@code VC}.
+     * @param appliedTheorems
+     *            The theorem instances that we added to the {@code VC}.
+     * @param finalVCState
+     *            The prover's representation of the {@code VC} when we stopped proving it or {@code null} if the
+     *            {@code VC} couldn't be converted.
+     * @param timedOut
+     *            {@code true} if we ran out of time while proving the {@code VC}, {@code false} otherwise.
+     */
+    public PerVCProverModel(String vcName, List<String> appliedTheorems, String finalVCState, boolean timedOut) {
+        this(vcName, appliedTheorems, finalVCState, timedOut, false);
+    }
+
+    /**
+     * <p>
+     * An helper constructor that stores all the information about a {@code VC}.
+     * </p>
+     *
+     * @param vcName
+     *            The name of the {@code VC}.
+     * @param appliedTheorems
+     *            The theorem instances that we added to the {@code VC}.
+     * @param finalVCState
+     *            The prover's representation of the {@code VC} when we stopped proving it.
+     * @param timedOut
+     *            {@code true} if we ran out of time while proving the {@code VC}, {@code false} otherwise.
+     * @param wasSkipped
+     *            {@code true} if the {@code VC} was skipped, {@code false} otherwise.
+     */
+    private PerVCProverModel(String vcName, List<String> appliedTheorems, String finalVCState, boolean timedOut,
+            boolean wasSkipped) {
+        myAppliedTheorems = Collections.unmodifiableList(appliedTheorems);
+        myFinalVCState = finalVCState;
+        myTimedOutFlag = timedOut;
+        myVCName = vcName;
+        myWasSkippedFlag = wasSkipped;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the theorem instances that we added to the {@code VC}.
+     * </p>
+     *
+     * @return An unmodifiable list of theorem instances (in string format).
+     */
+    public final List<String> getAppliedTheorems() {
+        return myAppliedTheorems;
+    }
+
+    /**
+     * <p>
+     * This method returns the prover's representation of the {@code VC} when we stopped proving it.
+     * </p>
+     *
+     * @return A string or {@code null} if the {@code VC} was skipped or couldn't be converted.
+     */
+    public final String getFinalVCState() {
+        return myFinalVCState;
+    }
+
+    /**
+     * <p>
+     * This method indicates whether or not we ran out of time while proving the {@code VC}.
+     * </p>
+     *
+     * @return {@code true} if it timed out, {@code false} otherwise.
+     */
+    public final boolean getTimedOutFlag() {
+        return myTimedOutFlag;
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the {@code VC}.
+     * </p>
+     *
+     * @return A string.
+     */
+    public final String getVCName() {
+        return myVCName;
+    }
+
+    /**
+     * <p>
+     * This method indicates whether or not the {@code VC} was skipped by the prover.
+     * </p>
+     *
+     * @return {@code true} if it was skipped, {@code false} otherwise.
+     */
+    public final boolean getWasSkippedFlag() {
+        return myWasSkippedFlag;
+    }
+
 }
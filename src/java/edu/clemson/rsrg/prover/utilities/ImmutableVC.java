@@ -15,9 +15,9 @@ package edu.clemson.rsrg.prover.utilities;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.prover.absyn.PExp;
 import edu.clemson.rsrg.prover.absyn.expressions.*;
+import edu.clemson.rsrg.prover.exception.UnsupportedExpException;
 import edu.clemson.rsrg.prover.immutableadts.ImmutableList;
 import edu.clemson.rsrg.prover.utilities.expressions.ConjunctionOfNormalizedAtomicExpressions;
-import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTFunction;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
@@ -132,6 +132,9 @@ public class ImmutableVC {
      *            The mathematical type "N".
      * @param zType
      *            The mathematical type "Z".
+     *
+     * @throws UnsupportedExpException
+     *             {@code vc} contains an expression the prover can't represent.
      */
     public ImmutableVC(VerificationCondition vc, TypeGraph g, MTType nType, MTType zType) {
         myName = vc.getName();
@@ -485,6 +488,9 @@ public class ImmutableVC {
          * <p>
          * An helper method for converting {@link PAlternatives}.
          * </p>
+         *
+         * @throws UnsupportedExpException
+         *             The {@code VC} contains a {@link PAlternatives} with more than one alternative.
          */
         private void convertPAlternativesToCF() {
             List<PSymbol> converted = new ArrayList<>();
@@ -497,7 +503,8 @@ public class ImmutableVC {
                     List<PExp> args = new ArrayList<>();
                     PAlternatives asPa = (PAlternatives) rhs;
                     if (asPa.myAlternatives.size() > 1) {
-                        throw new MiscErrorException("[Prover] Only 1 alternative supported", new RuntimeException());
+                        throw new UnsupportedExpException("[Prover] Only 1 alternative supported",
+                                myVCCopy.getLocation());
                     }
 
                     PAlternatives.Alternative alt = asPa.myAlternatives.get(0);
@@ -662,11 +669,14 @@ public class ImmutableVC {
          *            A list of prover symbols
          *
          * @return A new name for the quantified variable.
+         *
+         * @throws UnsupportedExpException
+         *             {@code thingToHigherOrder} contains more than one quantified variable.
          */
         private PExp orderPlusOne(PExp thingToHigherOrder, PExp quantVar, List<PSymbol> sideList) {
             Set<PSymbol> qVarSet = thingToHigherOrder.getQuantifiedVariables();
             if (qVarSet.size() > 1) {
-                throw new MiscErrorException("[Prover] Only 1 quantified var. supported", new RuntimeException());
+                throw new UnsupportedExpException("[Prover] Only 1 quantified var. supported", myVCCopy.getLocation());
             }
 
             // no need to always make a new function
@@ -40,6 +40,13 @@ public class AntlrLexerErrorListener extends BaseErrorListener {
      */
     private final StatusHandler myStatusHandler;
 
+    /**
+     * <p>
+     * The number of syntax errors we have reported so far.
+     * </p>
+     */
+    private int myNumSyntaxErrors;
+
     // ==========================================================
     // Constructors
     // ==========================================================
@@ -54,12 +61,24 @@ public class AntlrLexerErrorListener extends BaseErrorListener {
      */
     public AntlrLexerErrorListener(StatusHandler statusHandler) {
         myStatusHandler = statusHandler;
+        myNumSyntaxErrors = 0;
     }
 
     // ===========================================================
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method returns the number of syntax errors we have reported so far.
+     * </p>
+     *
+     * @return The number of syntax errors.
+     */
+    public final int getNumberOfSyntaxErrors() {
+        return myNumSyntaxErrors;
+    }
+
     /**
      * <p>
      * This is thrown when we encounter an syntax error when parsing the input string.
@@ -81,6 +100,8 @@ public class AntlrLexerErrorListener extends BaseErrorListener {
     @Override
     public final void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
             String msg, RecognitionException e) {
+        myNumSyntaxErrors++;
+
         // Only do this if we have a ResolveTokenFactory
         if (recognizer.getTokenFactory() != null && recognizer.getTokenFactory() instanceof ResolveTokenFactory) {
             // Build a location
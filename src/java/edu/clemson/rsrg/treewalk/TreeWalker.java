@@ -14,12 +14,18 @@ package edu.clemson.rsrg.treewalk;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.VirtualListNode;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -27,6 +33,21 @@ import java.util.List;
  * implemented as a {@link TreeWalkerVisitor} or as a {@link TreeWalkerStackVisitor}.
  * </p>
  *
+ * <p>
+ * The visitor methods are located by name the first time a visitor class sees a node class. The resulting
+ * {@link MethodHandle MethodHandles} are cached for each (visitor class, node class) pair, so the rest of the walk
+ * doesn't have to build method names or search the visitor's class for them. The original engine that looks up every
+ * visitor method using reflection can still be selected for a particular visitor using
+ * {@link TreeWalkerVisitor#setUseReflectiveDispatch(boolean)}.
+ * </p>
+ *
+ * <p>
+ * While a visitor is being walked, the engine it uses becomes the default for the current thread. Any helper visitor
+ * created by one of its visitor methods starts out with that engine, so the nested walks use the same engine as the
+ * enclosing walk. Work handed to other threads can carry the engine along using
+ * {@link #withDefaultDispatch(boolean, Supplier)}.
+ * </p>
+ *
  * @author Blair Durkee
  * @author Yu-Shan Sun
  * @author Daniel Welch
@@ -35,10 +56,58 @@ import java.util.List;
  */
 public class TreeWalker {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The cached dispatch tables for each visitor class.
+     * </p>
+     */
+    private static final ClassValue<VisitorDispatchTable> DISPATCH_TABLES = new ClassValue<>() {
+        @Override
+        protected VisitorDispatchTable computeValue(Class<?> visitorClass) {
+            return new VisitorDispatchTable(visitorClass);
+        }
+    };
+
+    /**
+     * <p>
+     * The engine that newly created visitors use on each thread. This is {@code true} if they should use the reflection
+     * based engine.
+     * </p>
+     */
+    private static final ThreadLocal<Boolean> REFLECTIVE_DISPATCH_DEFAULT = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * <p>
+     * The method types used to invoke the {@code walk}, {@code pre}/{@code post} and {@code mid} visitor methods.
+     * </p>
+     */
+    private static final MethodType WALK_METHOD_TYPE = MethodType.methodType(boolean.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class);
+    private static final MethodType PRE_POST_METHOD_TYPE = MethodType.methodType(void.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class);
+    private static final MethodType MID_METHOD_TYPE = MethodType.methodType(void.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class, ResolveConceptualElement.class, ResolveConceptualElement.class);
+
     // ===========================================================
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method checks to see if the visitors created by the current thread should use reflection to locate and
+     * invoke each visitor method.
+     * </p>
+     *
+     * @return {@code true} if the reflection based engine is the current thread's default, {@code false} otherwise.
+     */
+    public static boolean isReflectiveDispatchDefault() {
+        return REFLECTIVE_DISPATCH_DEFAULT.get();
+    }
+
     /**
      * <p>
      * Visits the node {@code e} by calling pre visitor methods, recursively visiting child nodes, and calling
@@ -57,7 +126,15 @@ public class TreeWalker {
      *            The RESOLVE ast node to walk
      */
     public static void visit(TreeWalkerVisitor visitor, ResolveConceptualElement e) {
-        if (e != null) {
+        if (e != null && visitor.isUsingReflectiveDispatch() != REFLECTIVE_DISPATCH_DEFAULT.get()) {
+            // helper visitors created during this walk should use the same engine as this visitor
+            withDefaultDispatch(visitor.isUsingReflectiveDispatch(), () -> {
+                visit(visitor, e);
+                return null;
+            });
+        } else if (e != null && !visitor.isUsingReflectiveDispatch()) {
+            visitUsingDispatchTable(DISPATCH_TABLES.get(visitor.getClass()), visitor, e);
+        } else if (e != null) {
             // are we overriding the walking for this element?
             if (!walkOverride(visitor, e)) {
                 // invoke the "pre" visitor method(s)
@@ -82,10 +159,123 @@ public class TreeWalker {
         }
     }
 
+    /**
+     * <p>
+     * This method makes {@code useReflectiveDispatch} the current thread's default engine while {@code action} runs.
+     * This is how work that is handed to another thread keeps using the engine selected for the job.
+     * </p>
+     *
+     * @param useReflectiveDispatch
+     *            {@code true} if visitors created by {@code action} should use the reflection based engine,
+     *            {@code false} if they should use the cached method handles.
+     * @param action
+     *            The work to be done.
+     * @param <T>
+     *            The type of result returned by {@code action}.
+     *
+     * @return The result returned by {@code action}.
+     */
+    public static <T> T withDefaultDispatch(boolean useReflectiveDispatch, Supplier<T> action) {
+        boolean previousDefault = REFLECTIVE_DISPATCH_DEFAULT.get();
+        REFLECTIVE_DISPATCH_DEFAULT.set(useReflectiveDispatch);
+        try {
+            return action.get();
+        } finally {
+            REFLECTIVE_DISPATCH_DEFAULT.set(previousDefault);
+        }
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that invokes a cached visitor method and reports any exceptions the same way as the reflection
+     * based engine.
+     * </p>
+     *
+     * @param handle
+     *            The visitor method.
+     * @param className
+     *            The name of the class the visitor method is for.
+     * @param visitor
+     *            The visitor.
+     * @param e
+     *            The arguments to the visitor method.
+     *
+     * @return The value returned by a {@code walk} method or {@code false} for any other visitor method.
+     */
+    private static boolean invokeHandle(MethodHandle handle, String className, TreeWalkerVisitor visitor,
+            ResolveConceptualElement... e) {
+        try {
+            if (e.length == 1 && handle.type().returnType() == boolean.class) {
+                return (boolean) handle.invokeExact(visitor, e[0]);
+            } else if (e.length == 1) {
+                handle.invokeExact(visitor, e[0]);
+            } else {
+                handle.invokeExact(visitor, e[0], e[1], e[2]);
+            }
+        } catch (Throwable t) {
+            // An exception was thrown inside the corresponding walk method
+            Throwable throwable = t;
+            while (throwable instanceof RuntimeException && throwable.getCause() != null) {
+                throwable = throwable.getCause();
+            }
+
+            throw new RuntimeException("Target invocation error for class: " + className, throwable);
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Invokes each of the visitor methods on the various different {@link ResolveConceptualElement}s.
+     * </p>
+     *
+     * @param visitor
+     *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
+     *            RESOLVE AST.
+     * @param methods
+     *            The cached visitor methods for the node.
+     * @param prefix
+     *            Prefix string for the current walking method.
+     * @param e
+     *            The node to walk.
+     */
+    private static void invokeVisitorMethods(TreeWalkerVisitor visitor, NodeDispatch methods, String prefix,
+            ResolveConceptualElement... e) {
+        boolean pre = prefix.equals("pre"), post = prefix.equals("post");
+        MethodHandle[] handles = pre ? methods.preMethods : (post ? methods.postMethods : methods.midMethods);
+        String[] classNames = pre ? methods.preClassNames : (post ? methods.postClassNames : methods.midClassNames);
+
+        // Invoke generic visitor methods (preAny, postAny)
+        if (pre) {
+            visitor.preAny(e[0]);
+        }
+
+        ResolveConceptualElement[] parent = e;
+        if (methods.isList) {
+            parent = Arrays.copyOf(e, e.length);
+            parent[0] = ((VirtualListNode) e[0]).getParent();
+        }
+
+        for (int i = 0; i < handles.length; i++) {
+            if (handles[i] != null) {
+                invokeHandle(handles[i], classNames[i], visitor, parent);
+            } else if (!methods.isList) {
+                // This is fine if we're dealing with a virtual node, otherwise
+                // it shouldn't be possible
+                throw new RuntimeException("Cannot locate method: " + prefix + classNames[i]);
+            }
+        }
+
+        if (post) {
+            visitor.postAny(e[0]);
+        }
+    }
+
     /**
      * <p>
      * Invokes each of the visitor methods on the various different {@link ResolveConceptualElement}s.
@@ -186,6 +376,56 @@ public class TreeWalker {
         }
     }
 
+    /**
+     * <p>
+     * Visits the node {@code e} using the cached visitor methods. This walks the tree in exactly the same order as the
+     * reflection based engine.
+     * </p>
+     *
+     * @param table
+     *            The cached visitor methods for the visitor's class.
+     * @param visitor
+     *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
+     *            RESOLVE AST.
+     * @param e
+     *            The RESOLVE ast node to walk
+     */
+    private static void visitUsingDispatchTable(VisitorDispatchTable table, TreeWalkerVisitor visitor,
+            ResolveConceptualElement e) {
+        NodeDispatch methods = table.getNodeDispatch(e);
+
+        // are we overriding the walking for this element?
+        boolean foundOverride = false;
+        for (int i = 0; i < methods.walkMethods.length && !foundOverride; i++) {
+            if (methods.walkMethods[i] == null) {
+                // Shouldn't be possible
+                throw new RuntimeException("Cannot locate method: walk" + methods.walkClassNames[i]);
+            }
+            foundOverride = invokeHandle(methods.walkMethods[i], methods.walkClassNames[i], visitor, e);
+        }
+
+        if (!foundOverride) {
+            // invoke the "pre" visitor method(s)
+            invokeVisitorMethods(visitor, methods, "pre", e);
+
+            List<ResolveConceptualElement> children = e.getChildren();
+            if (children.size() > 0) {
+                ResolveConceptualElement prevChild = null, nextChild = null;
+                for (ResolveConceptualElement child : children) {
+                    prevChild = nextChild;
+                    nextChild = child;
+                    invokeVisitorMethods(visitor, methods, "mid", e, prevChild, nextChild);
+                    if (nextChild != null) {
+                        visitUsingDispatchTable(table, visitor, nextChild);
+                    }
+                }
+                invokeVisitorMethods(visitor, methods, "mid", e, nextChild, null);
+            }
+            // invoke the "post" visitor method(s)
+            invokeVisitorMethods(visitor, methods, "post", e);
+        }
+    }
+
     /**
      * <p>
      * Check to see if {@code e} has override the default walking mechanism.
@@ -237,4 +477,302 @@ public class TreeWalker {
 
         return foundOverride;
     }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class caches the visitor methods that a visitor class has for each node class. The tables are shared by
+     * every instance of the visitor class and they can be safely used by multiple threads.
+     * </p>
+     */
+    private static class VisitorDispatchTable {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The visitor class this table belongs to.
+         * </p>
+         */
+        private final Class<?> myVisitorClass;
+
+        /**
+         * <p>
+         * The cached visitor methods for each node class.
+         * </p>
+         */
+        private final Map<Class<?>, NodeDispatch> myNodeDispatches;
+
+        /**
+         * <p>
+         * The cached visitor methods for each virtual list node (keyed by the parent class and the list name).
+         * </p>
+         */
+        private final Map<String, NodeDispatch> myListDispatches;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an empty table for a visitor class.
+         * </p>
+         *
+         * @param visitorClass
+         *            The visitor class.
+         */
+        VisitorDispatchTable(Class<?> visitorClass) {
+            myVisitorClass = visitorClass;
+            myNodeDispatches = new ConcurrentHashMap<>();
+            myListDispatches = new ConcurrentHashMap<>();
+        }
+
+        // ===========================================================
+        // Public Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method returns the visitor methods for {@code e}, locating them if this is the first time we see this
+         * kind of node.
+         * </p>
+         *
+         * @param e
+         *            The node to walk.
+         *
+         * @return The visitor methods for {@code e}.
+         */
+        final NodeDispatch getNodeDispatch(ResolveConceptualElement e) {
+            if (e instanceof VirtualListNode) {
+                VirtualListNode listNode = (VirtualListNode) e;
+                String key = listNode.getParent().getClass().getName() + "." + listNode.getNodeName();
+                NodeDispatch dispatch = myListDispatches.get(key);
+                if (dispatch == null) {
+                    dispatch = createListDispatch(listNode);
+                    myListDispatches.put(key, dispatch);
+                }
+
+                return dispatch;
+            } else {
+                NodeDispatch dispatch = myNodeDispatches.get(e.getClass());
+                if (dispatch == null) {
+                    dispatch = createNodeDispatch(e.getClass());
+                    myNodeDispatches.put(e.getClass(), dispatch);
+                }
+
+                return dispatch;
+            }
+        }
+
+        // ===========================================================
+        // Private Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * An helper method that locates the visitor methods for a virtual list node. A list node doesn't have any
+         * {@code walk} methods and any missing visitor method is simply skipped.
+         * </p>
+         *
+         * @param listNode
+         *            A virtual list node.
+         *
+         * @return The visitor methods for {@code listNode}.
+         */
+        private NodeDispatch createListDispatch(VirtualListNode listNode) {
+            Class<?> parentClass = listNode.getParent().getClass();
+            Class<?> listType = listNode.getListType();
+            String className = parentClass.getSimpleName();
+            String[] classNames = { className };
+
+            MethodHandle[] preMethods = { findMethod("pre" + listNode.getNodeName(), className, parentClass) };
+            MethodHandle[] midMethods = {
+                    findMethod("mid" + listNode.getNodeName(), className, parentClass, listType, listType) };
+            MethodHandle[] postMethods = { findMethod("post" + listNode.getNodeName(), className, parentClass) };
+
+            return new NodeDispatch(true, new MethodHandle[0], new String[0], preMethods, classNames, midMethods,
+                    classNames, postMethods, classNames);
+        }
+
+        /**
+         * <p>
+         * An helper method that locates the visitor methods for a node class.
+         * </p>
+         *
+         * @param nodeClass
+         *            A node class.
+         *
+         * @return The visitor methods for {@code nodeClass}.
+         */
+        private NodeDispatch createNodeDispatch(Class<?> nodeClass) {
+            // Get the heirarchy of classes from which this node inherits
+            // e.g., [ResolveConceptualElement, Dec, ModuleDec, ConceptModuleDec]
+            List<Class<?>> classHierarchy = new ArrayList<>();
+            Class<?> elementClass = nodeClass;
+            while (elementClass != ResolveConceptualElement.class) {
+                classHierarchy.add(0, elementClass);
+                elementClass = elementClass.getSuperclass();
+            }
+
+            int numClasses = classHierarchy.size();
+            MethodHandle[] walkMethods = new MethodHandle[numClasses];
+            MethodHandle[] preMethods = new MethodHandle[numClasses];
+            MethodHandle[] postMethods = new MethodHandle[numClasses];
+            String[] preClassNames = new String[numClasses];
+            String[] postClassNames = new String[numClasses];
+            for (int i = 0; i < numClasses; i++) {
+                Class<?> currentClass = classHierarchy.get(i);
+                String className = currentClass.getSimpleName();
+
+                // pre methods go from the most general class to the most specific one, post methods go the other way
+                walkMethods[i] = findMethod("walk" + className, className, currentClass);
+                preMethods[i] = findMethod("pre" + className, className, currentClass);
+                preClassNames[i] = className;
+                postMethods[numClasses - 1 - i] = findMethod("post" + className, className, currentClass);
+                postClassNames[numClasses - 1 - i] = className;
+            }
+
+            String className = nodeClass.getSimpleName();
+            MethodHandle[] midMethods = { findMethod("mid" + className, className, nodeClass,
+                    ResolveConceptualElement.class, ResolveConceptualElement.class) };
+
+            return new NodeDispatch(false, walkMethods, preClassNames, preMethods, preClassNames, midMethods,
+                    new String[] { className }, postMethods, postClassNames);
+        }
+
+        /**
+         * <p>
+         * An helper method that locates a public visitor method and converts it into a {@link MethodHandle}. Just like
+         * the reflection based engine, a missing method is only reported when we attempt to invoke it.
+         * </p>
+         *
+         * @param methodName
+         *            The name of the visitor method.
+         * @param className
+         *            The name of the class the visitor method is for.
+         * @param parameterTypes
+         *            The parameter types for the visitor method.
+         *
+         * @return The visitor method or {@code null} if it doesn't exist.
+         */
+        private MethodHandle findMethod(String methodName, String className, Class<?>... parameterTypes) {
+            try {
+                Method method = myVisitorClass.getMethod(methodName, parameterTypes);
+                MethodType methodType;
+                if (methodName.startsWith("walk")) {
+                    methodType = WALK_METHOD_TYPE;
+                } else if (parameterTypes.length == 1) {
+                    methodType = PRE_POST_METHOD_TYPE;
+                } else {
+                    methodType = MID_METHOD_TYPE;
+                }
+
+                return MethodHandles.publicLookup().unreflect(method).asType(methodType);
+            } catch (NoSuchMethodException nsme) {
+                return null;
+            } catch (IllegalAccessException iae) {
+                throw new RuntimeException("Error accessing class: " + className, iae);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This class holds the visitor methods that a visitor class has for a node class (or a virtual list node) in the
+     * order they need to be invoked.
+     * </p>
+     */
+    private static class NodeDispatch {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * This indicates if this is for a virtual list node.
+         * </p>
+         */
+        private final boolean isList;
+
+        /**
+         * <p>
+         * The {@code walk} methods and the names of the classes they are for.
+         * </p>
+         */
+        private final MethodHandle[] walkMethods;
+        private final String[] walkClassNames;
+
+        /**
+         * <p>
+         * The {@code pre} methods and the names of the classes they are for.
+         * </p>
+         */
+        private final MethodHandle[] preMethods;
+        private final String[] preClassNames;
+
+        /**
+         * <p>
+         * The {@code mid} methods and the names of the classes they are for.
+         * </p>
+         */
+        private final MethodHandle[] midMethods;
+        private final String[] midClassNames;
+
+        /**
+         * <p>
+         * The {@code post} methods and the names of the classes they are for.
+         * </p>
+         */
+        private final MethodHandle[] postMethods;
+        private final String[] postClassNames;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This stores the visitor methods for a node class.
+         * </p>
+         *
+         * @param isList
+         *            {@code true} if this is for a virtual list node.
+         * @param walkMethods
+         *            The {@code walk} methods.
+         * @param walkClassNames
+         *            The names of the classes for the {@code walk} methods.
+         * @param preMethods
+         *            The {@code pre} methods.
+         * @param preClassNames
+         *            The names of the classes for the {@code pre} methods.
+         * @param midMethods
+         *            The {@code mid} methods.
+         * @param midClassNames
+         *            The names of the classes for the {@code mid} methods.
+         * @param postMethods
+         *            The {@code post} methods.
+         * @param postClassNames
+         *            The names of the classes for the {@code post} methods.
+         */
+        NodeDispatch(boolean isList, MethodHandle[] walkMethods, String[] walkClassNames, MethodHandle[] preMethods,
+                String[] preClassNames, MethodHandle[] midMethods, String[] midClassNames, MethodHandle[] postMethods,
+                String[] postClassNames) {
+            this.isList = isList;
+            this.walkMethods = walkMethods;
+            this.walkClassNames = walkClassNames;
+            this.preMethods = preMethods;
+            this.preClassNames = preClassNames;
+            this.midMethods = midMethods;
+            this.midClassNames = midClassNames;
+            this.postMethods = postMethods;
+            this.postClassNames = postClassNames;
+        }
+    }
 }
@@ -33,6 +33,49 @@ import edu.clemson.rsrg.absyn.rawtypes.*;
 
 public abstract class TreeWalkerVisitor {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A flag that indicates whether or not the {@link TreeWalker} should use the original reflection based engine to
+     * locate and invoke each visitor method when walking with this visitor. A new visitor uses the engine of the walk
+     * that created it (see {@link TreeWalker#isReflectiveDispatchDefault()}).
+     * </p>
+     */
+    private boolean myUseReflectiveDispatch = TreeWalker.isReflectiveDispatchDefault();
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method checks to see if the {@link TreeWalker} should use reflection to locate and invoke each visitor
+     * method.
+     * </p>
+     *
+     * @return {@code true} if the reflection based engine was selected, {@code false} otherwise.
+     */
+    public final boolean isUsingReflectiveDispatch() {
+        return myUseReflectiveDispatch;
+    }
+
+    /**
+     * <p>
+     * Selects the engine used to invoke this visitor's methods. Both engines invoke the same visitor methods in the
+     * same order, so this is only useful when comparing the two.
+     * </p>
+     *
+     * @param useReflectiveDispatch
+     *            {@code true} if every visitor method should be located and invoked using reflection, {@code false} if
+     *            we should use the cached method handles.
+     */
+    public final void setUseReflectiveDispatch(boolean useReflectiveDispatch) {
+        myUseReflectiveDispatch = useReflectiveDispatch;
+    }
+
     // ===========================================================
     // Visitor Methods
     // ===========================================================
@@ -61,6 +61,7 @@ import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.HardCoded;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -286,6 +287,37 @@ public class Populator extends TreeWalkerVisitor {
      */
     private final Map<String, MTType> myDefinitionSchematicTypes = new HashMap<>();
 
+    /**
+     * <p>
+     * The function applications we have already resolved in this module, mapped to the {@link MathSymbolEntry} we
+     * picked for them (with its type instantiated for the arguments).
+     * </p>
+     */
+    private final Map<FunctionApplicationKey, MathSymbolEntry> myFunctionApplicationCache = new HashMap<>();
+
+    /**
+     * <p>
+     * The type graph's relationship generation when we started filling {@link #myFunctionApplicationCache}. A new type
+     * theorem might make a function application ambiguous, so the cache is emptied when this changes.
+     * </p>
+     */
+    private int myFunctionApplicationCacheGeneration = -1;
+
+    /**
+     * <p>
+     * The number of function applications we have resolved using {@link #myFunctionApplicationCache}.
+     * </p>
+     */
+    private long myFunctionApplicationCacheHits = 0;
+
+    /**
+     * <p>
+     * The number of function applications that could have been, but weren't found in
+     * {@link #myFunctionApplicationCache}.
+     * </p>
+     */
+    private long myFunctionApplicationCacheMisses = 0;
+
     /**
      * <p>
      * A mapping from generic types that appear in the module to the math types that bound their possible values.
@@ -320,6 +352,7 @@ public class Populator extends TreeWalkerVisitor {
 
     private static final String FLAG_POPULATOR_NAME = "Populator";
     private static final String FLAG_POPULATOR_DEBUG_INFO = "Populator Debug Flag";
+    private static final String FLAG_NO_FUNCTION_APPLICATION_CACHE_INFO = "Disables the Populator Function Application Cache";
 
     // ===========================================================
     // Flags
@@ -333,6 +366,14 @@ public class Populator extends TreeWalkerVisitor {
     public static final Flag FLAG_POPULATOR_DEBUG = new Flag(FLAG_POPULATOR_NAME, "populatorDebug",
             FLAG_POPULATOR_DEBUG_INFO);
 
+    /**
+     * <p>
+     * Tells the {@code Populator} not to cache the {@link MathSymbolEntry} picked for each math function application.
+     * </p>
+     */
+    public static final Flag FLAG_NO_FUNCTION_APPLICATION_CACHE = new Flag(FLAG_POPULATOR_NAME,
+            "noFunctionApplicationCache", FLAG_NO_FUNCTION_APPLICATION_CACHE_INFO);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code Populator}.
@@ -420,6 +461,8 @@ public class Populator extends TreeWalkerVisitor {
     @Override
     public final void postModuleDec(ModuleDec dec) {
         myBuilder.endScope();
+        emitDebug(null, () -> "Function application cache: " + myFunctionApplicationCacheHits + " hits, "
+                + myFunctionApplicationCacheMisses + " misses");
         emitDebug(null, "END POPULATOR\n----------------------\n");
     }
 
@@ -2171,8 +2214,8 @@ public class Populator extends TreeWalkerVisitor {
         MTFunction foundExpType;
         foundExpType = exp.getConservativePreApplicationType(myTypeGraph);
 
-        emitDebug(exp.getLocation(),
-                "\tExpression: " + exp.toString() + "[" + exp.getLocation() + "] of type " + foundExpType.toString());
+        emitDebug(exp.getLocation(), () -> "\tExpression: " + exp.toString() + "[" + exp.getLocation() + "] of type "
+                + foundExpType.toString());
 
         MathSymbolEntry intendedEntry = getIntendedFunction(exp);
 
@@ -2575,7 +2618,7 @@ public class Populator extends TreeWalkerVisitor {
     @Override
     public final void preLambdaExp(LambdaExp exp) {
         myBuilder.startScope(exp);
-        emitDebug(exp.getLocation(), "\tLambda Expression: " + exp);
+        emitDebug(exp.getLocation(), () -> "\tLambda Expression: " + exp);
     }
 
     /**
@@ -3449,6 +3492,23 @@ public class Populator extends TreeWalkerVisitor {
         }
     }
 
+    /**
+     * <p>
+     * An helper method to print debugging messages if the debug flag is on. The message is only built when it is
+     * actually going to be printed, so this is the one to use when the message contains types or expressions.
+     * </p>
+     *
+     * @param l
+     *            Location that generated the message.
+     * @param message
+     *            A function that builds the message to be outputted.
+     */
+    private void emitDebug(Location l, Supplier<String> message) {
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_POPULATOR_DEBUG)) {
+            myStatusHandler.info(l, message.get());
+        }
+    }
+
     // -----------------------------------------------------------
     // Operation-Related
     // -----------------------------------------------------------
@@ -3669,6 +3729,11 @@ public class Populator extends TreeWalkerVisitor {
      * {@link MathSymbolEntry} that match the given expression using a type comparison algorithm.
      * </p>
      *
+     * <p>
+     * Not finding a match is a normal outcome (we try an exact match before an inexact one), so this method simply
+     * returns {@code null} rather than throwing an exception.
+     * </p>
+     *
      * @param e
      *            The expression we are searching for.
      * @param eType
@@ -3678,67 +3743,66 @@ public class Populator extends TreeWalkerVisitor {
      * @param comparison
      *            The domain type comparator to be used.
      *
-     * @return The corresponding {@link MathSymbolEntry}.
-     *
-     * @throws NoSolutionException
-     *             We simply couldn't find it.
+     * @return The corresponding {@link MathSymbolEntry} or {@code null} if we simply couldn't find it.
      */
     private MathSymbolEntry getDomainTypeMatch(AbstractFunctionExp e, MTFunction eType,
-            List<MathSymbolEntry> candidates, TypeComparison<AbstractFunctionExp, MTFunction> comparison)
-            throws NoSolutionException {
+            List<MathSymbolEntry> candidates, TypeComparison<AbstractFunctionExp, MTFunction> comparison) {
         MathSymbolEntry match = null;
 
         MTFunction candidateType;
         for (MathSymbolEntry candidate : candidates) {
             if (candidate.getType() instanceof MTFunction) {
-                try {
-                    candidate = candidate.deschematize(e.getParameters(), myBuilder.getInnermostActiveScope(),
-                            myDefinitionSchematicTypes);
-                    candidateType = (MTFunction) candidate.getType();
-                    emitDebug(e.getLocation(), "\t" + eType + " deschematizes to " + candidateType);
+                MathSymbolEntry deschematizedCandidate = candidate.tryDeschematize(e.getParameters(),
+                        myBuilder.getInnermostActiveScope(), myDefinitionSchematicTypes);
+                if (deschematizedCandidate == null) {
+                    // couldn't deschematize--try the next one
+                    emitDebug(e.getLocation(), () -> "\t" + candidate.getType() + " doesn't deschematize " + "against "
+                            + e.getParameters() + " using " + comparison.description());
+                    continue;
+                }
+
+                candidateType = (MTFunction) deschematizedCandidate.getType();
+                MTFunction deschematizedType = candidateType;
+                emitDebug(e.getLocation(), () -> "\t" + eType + " deschematizes to " + deschematizedType);
 
-                    if (comparison.compare(e, eType, candidateType)) {
+                if (comparison.compare(e, eType, candidateType)) {
+                    if (match != null) {
+                        throw new SourceErrorException("Multiple " + comparison.description() + " domain "
+                                + "matches.  For example, " + match.getName() + " : " + match.getType() + " and "
+                                + deschematizedCandidate.getName() + " : " + deschematizedCandidate.getType()
+                                + ".  Consider explicitly qualifying.", e.getLocation());
+                    }
+
+                    match = deschematizedCandidate;
+                }
+                // YS: eType's domain could be a function application that generates
+                // the candidate type, therefore we will need check the function inside
+                // the function application to see if it matches.
+                else if (eType.getDomain() instanceof MTFunctionApplication) {
+                    MTFunctionApplication eTypeDomainType = (MTFunctionApplication) eType.getDomain();
+                    if (comparison.compare(e, eTypeDomainType.getFunction(), candidateType)) {
                         if (match != null) {
                             throw new SourceErrorException(
                                     "Multiple " + comparison.description() + " domain " + "matches.  For example, "
-                                            + match.getName() + " : " + match.getType() + " and " + candidate.getName()
-                                            + " : " + candidate.getType() + ".  Consider explicitly qualifying.",
+                                            + match.getName() + " : " + match.getType() + " and "
+                                            + deschematizedCandidate.getName() + " : "
+                                            + deschematizedCandidate.getType() + ".  Consider explicitly qualifying.",
                                     e.getLocation());
                         }
 
-                        match = candidate;
+                        match = deschematizedCandidate;
                     }
-                    // YS: eType's domain could be a function application that generates
-                    // the candidate type, therefore we will need check the function inside
-                    // the function application to see if it matches.
-                    else if (eType.getDomain() instanceof MTFunctionApplication) {
-                        MTFunctionApplication eTypeDomainType = (MTFunctionApplication) eType.getDomain();
-                        if (comparison.compare(e, eTypeDomainType.getFunction(), candidateType)) {
-                            if (match != null) {
-                                throw new SourceErrorException("Multiple " + comparison.description() + " domain "
-                                        + "matches.  For example, " + match.getName() + " : " + match.getType()
-                                        + " and " + candidate.getName() + " : " + candidate.getType()
-                                        + ".  Consider explicitly qualifying.", e.getLocation());
-                            }
-
-                            match = candidate;
-                        }
-                    }
-                } catch (NoSolutionException nse) {
-                    // couldn't deschematize--try the next one
-                    emitDebug(e.getLocation(), "\t" + candidate.getType() + " doesn't deschematize " + "against "
-                            + e.getParameters() + " using " + comparison.description());
                 }
             }
         }
 
         if (match == null) {
-            throw new NoSolutionException(
-                    "Could not find a symbol entry for: " + e + " using " + comparison.description(), null);
+            emitDebug(e.getLocation(),
+                    () -> "\tCould not find a symbol entry for: " + e + " using " + comparison.description());
+        } else {
+            emitDebug(e.getLocation(), "\tFound a match using " + comparison.description());
         }
 
-        emitDebug(e.getLocation(), "\tFound a match using " + comparison.description());
-
         return match;
     }
 
@@ -3755,13 +3819,10 @@ public class Populator extends TreeWalkerVisitor {
      * @param candidates
      *            List of candidate symbol table entries.
      *
-     * @return The corresponding {@link MathSymbolEntry}.
-     *
-     * @throws NoSolutionException
-     *             We simply couldn't find it.
+     * @return The corresponding {@link MathSymbolEntry} or {@code null} if we simply couldn't find it.
      */
     private MathSymbolEntry getExactDomainTypeMatch(AbstractFunctionExp e, MTFunction eType,
-            List<MathSymbolEntry> candidates) throws NoSolutionException {
+            List<MathSymbolEntry> candidates) {
         return getDomainTypeMatch(e, eType, candidates, EXACT_DOMAIN_MATCH);
     }
 
@@ -3778,13 +3839,10 @@ public class Populator extends TreeWalkerVisitor {
      * @param candidates
      *            List of candidate symbol table entries.
      *
-     * @return The corresponding {@link MathSymbolEntry}.
-     *
-     * @throws NoSolutionException
-     *             We simply couldn't find it.
+     * @return The corresponding {@link MathSymbolEntry} or {@code null} if we simply couldn't find it.
      */
     private MathSymbolEntry getInexactDomainTypeMatch(AbstractFunctionExp e, MTFunction eType,
-            List<MathSymbolEntry> candidates) throws NoSolutionException {
+            List<MathSymbolEntry> candidates) {
         return getDomainTypeMatch(e, eType, candidates, INEXACT_DOMAIN_MATCH);
     }
 
@@ -3811,70 +3869,30 @@ public class Populator extends TreeWalkerVisitor {
             throw new SourceErrorException("No such function: " + e.getOperatorAsString(), e.getLocation());
         }
 
-        MathSymbolEntry intendedEntry;
-        try {
-            intendedEntry = getExactDomainTypeMatch(e, eType, sameNameFunctions);
-        } catch (NoSolutionException nse) {
-            try {
-                emitDebug(e.getLocation(), "\t" + nse.getMessage());
-                intendedEntry = getInexactDomainTypeMatch(e, eType, sameNameFunctions);
-            } catch (NoSolutionException nsee2) {
-                try {
-                    emitDebug(e.getLocation(), "\t" + nsee2.getMessage());
-
-                    if (!myDefinitionSchematicTypes.isEmpty()) {
-                        // Create a copy of the original expression and assign it the conservative type
-                        AbstractFunctionExp eCopy = (AbstractFunctionExp) e.clone();
-                        eCopy.setMathType(eType);
-
-                        // Obtain a new AbstractFunctionExp with the schematic types replaced.
-                        eCopy = (AbstractFunctionExp) TypeGraph.getCopyWithVariablesSubstituted(eCopy,
-                                myDefinitionSchematicTypes);
-
-                        // If we happen to have any generic program types, replace those as well
-                        if (!myGenericTypes.isEmpty()) {
-                            eCopy = (AbstractFunctionExp) TypeGraph.getCopyWithVariablesSubstituted(eCopy,
-                                    myGenericTypes);
-                        }
-
-                        MTFunction eCopyType = (MTFunction) eCopy.getMathType();
-
-                        emitDebug(eCopy.getLocation(), "\tReplaced schematic types in expression: " + eCopy.toString()
-                                + "(" + eCopy.getLocation() + ") with new type " + eCopyType.toString());
-
-                        intendedEntry = getInexactDomainTypeMatch(eCopy, eCopyType, sameNameFunctions);
-                    } else {
-                        throw new NoSolutionException("No schematic types", null);
-                    }
-                } catch (NoSolutionException nsee3) {
-                    emitDebug(e.getLocation(), "\t" + nsee3.getMessage());
-
-                    boolean foundOne = false;
-                    String errorMessage = "No function applicable for " + "domain: " + eType.getDomain() + "\t["
-                            + e.getLocation() + "]\n\nCandidates:\n";
-
-                    StringBuilder sb = new StringBuilder(errorMessage);
-                    for (SymbolTableEntry entry : sameNameFunctions) {
-                        if (entry instanceof MathSymbolEntry
-                                && ((MathSymbolEntry) entry).getType() instanceof MTFunction) {
-                            sb.append("\t[");
-                            sb.append(entry.getDefiningElement().getLocation());
-                            sb.append("]\t");
-                            sb.append(entry.getName());
-                            sb.append(" : ");
-                            sb.append(((MathSymbolEntry) entry).getType());
-                            sb.append("\n");
-
-                            foundOne = true;
-                        }
-                    }
+        // Reuse the entry we picked for the same function applied to the same types
+        FunctionApplicationKey key = null;
+        MathSymbolEntry intendedEntry = null;
+        if (isFunctionApplicationCacheable(e)) {
+            int generation = myTypeGraph.getRelationshipGeneration();
+            if (generation != myFunctionApplicationCacheGeneration) {
+                myFunctionApplicationCache.clear();
+                myFunctionApplicationCacheGeneration = generation;
+            }
 
-                    if (!foundOne) {
-                        throw new SourceErrorException("No such function.", e.getLocation());
-                    }
+            key = new FunctionApplicationKey(e.getQualifier(), eOperatorString, sameNameFunctions, e.getParameters(),
+                    myDefinitionSchematicTypes, myGenericTypes);
+            intendedEntry = myFunctionApplicationCache.get(key);
+            if (intendedEntry != null) {
+                myFunctionApplicationCacheHits++;
+            } else {
+                myFunctionApplicationCacheMisses++;
+            }
+        }
 
-                    throw new SourceErrorException(sb.toString(), (Location) null);
-                }
+        if (intendedEntry == null) {
+            intendedEntry = resolveIntendedFunction(e, eType, sameNameFunctions);
+            if (key != null) {
+                myFunctionApplicationCache.put(key, intendedEntry);
             }
         }
 
@@ -3882,10 +3900,9 @@ public class Populator extends TreeWalkerVisitor {
             throw new SourceErrorException("Direct definition cannot " + "contain recursive call.", e.getLocation());
         }
 
-        MTFunction intendedEntryType = (MTFunction) intendedEntry.getType();
-
-        emitDebug(e.getLocation(), "\tMatching " + eOperatorString + " : " + eType + " to " + intendedEntry.getName()
-                + " : " + intendedEntryType + ".");
+        MathSymbolEntry matchedEntry = intendedEntry;
+        emitDebug(e.getLocation(), () -> "\tMatching " + eOperatorString + " : " + eType + " to "
+                + matchedEntry.getName() + " : " + matchedEntry.getType() + ".");
 
         return intendedEntry;
     }
@@ -4042,6 +4059,36 @@ public class Populator extends TreeWalkerVisitor {
         return result;
     }
 
+    /**
+     * <p>
+     * An helper method that indicates whether or not the {@link MathSymbolEntry} we pick for {@code e} only depends on
+     * the things in a {@link FunctionApplicationKey}. This isn't the case if the user asked us not to cache, if there
+     * is a type theorem that binds something other than a variable (then matching depends on the shape of the
+     * arguments), or if an argument is a lambda expression or a schematic type (these are matched by looking at the
+     * arguments themselves).
+     * </p>
+     *
+     * @param e
+     *            A function application.
+     *
+     * @return {@code true} if we can cache the result, {@code false} otherwise.
+     */
+    private boolean isFunctionApplicationCacheable(AbstractFunctionExp e) {
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_NO_FUNCTION_APPLICATION_CACHE)
+                || myTypeGraph.hasCompoundBindingExpressions()) {
+            return false;
+        }
+
+        for (Exp parameter : e.getParameters()) {
+            if (parameter instanceof LambdaExp
+                    || (parameter instanceof VarExp && parameter.getMathTypeValue() instanceof MTNamed)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * <p>
      * An helper method that indicates we are leaving a type value node.
@@ -4051,6 +4098,87 @@ public class Populator extends TreeWalkerVisitor {
         myTypeValueDepth--;
     }
 
+    /**
+     * <p>
+     * For a given {@link AbstractFunctionExp}, picks the entry among {@code sameNameFunctions} to which it refers. We
+     * first look for an exact domain match, then for an inexact one and finally for an inexact one after replacing the
+     * schematic types in the expression.
+     * </p>
+     *
+     * @param e
+     *            The expression we are searching for.
+     * @param eType
+     *            The expression's type. (<em>Note:</em> It might be different from calling {@code e.getMathType()}.)
+     * @param sameNameFunctions
+     *            List of candidate symbol table entries.
+     *
+     * @return The corresponding {@link MathSymbolEntry}.
+     */
+    private MathSymbolEntry resolveIntendedFunction(AbstractFunctionExp e, MTFunction eType,
+            List<MathSymbolEntry> sameNameFunctions) {
+        MathSymbolEntry intendedEntry = getExactDomainTypeMatch(e, eType, sameNameFunctions);
+        if (intendedEntry == null) {
+            intendedEntry = getInexactDomainTypeMatch(e, eType, sameNameFunctions);
+        }
+
+        if (intendedEntry == null) {
+            if (!myDefinitionSchematicTypes.isEmpty()) {
+                // Create a copy of the original expression and assign it the conservative type
+                AbstractFunctionExp eCopy = (AbstractFunctionExp) e.clone();
+                eCopy.setMathType(eType);
+
+                // Obtain a new AbstractFunctionExp with the schematic types replaced.
+                eCopy = (AbstractFunctionExp) TypeGraph.getCopyWithVariablesSubstituted(eCopy,
+                        myDefinitionSchematicTypes);
+
+                // If we happen to have any generic program types, replace those as well
+                if (!myGenericTypes.isEmpty()) {
+                    eCopy = (AbstractFunctionExp) TypeGraph.getCopyWithVariablesSubstituted(eCopy, myGenericTypes);
+                }
+
+                AbstractFunctionExp substitutedExp = eCopy;
+                MTFunction eCopyType = (MTFunction) eCopy.getMathType();
+
+                emitDebug(eCopy.getLocation(),
+                        () -> "\tReplaced schematic types in expression: " + substitutedExp.toString() + "("
+                                + substitutedExp.getLocation() + ") with new type " + eCopyType.toString());
+
+                intendedEntry = getInexactDomainTypeMatch(eCopy, eCopyType, sameNameFunctions);
+            } else {
+                emitDebug(e.getLocation(), "\tNo schematic types");
+            }
+        }
+
+        if (intendedEntry == null) {
+            boolean foundOne = false;
+            String errorMessage = "No function applicable for " + "domain: " + eType.getDomain() + "\t["
+                    + e.getLocation() + "]\n\nCandidates:\n";
+
+            StringBuilder sb = new StringBuilder(errorMessage);
+            for (SymbolTableEntry entry : sameNameFunctions) {
+                if (entry instanceof MathSymbolEntry && ((MathSymbolEntry) entry).getType() instanceof MTFunction) {
+                    sb.append("\t[");
+                    sb.append(entry.getDefiningElement().getLocation());
+                    sb.append("]\t");
+                    sb.append(entry.getName());
+                    sb.append(" : ");
+                    sb.append(((MathSymbolEntry) entry).getType());
+                    sb.append("\n");
+
+                    foundOne = true;
+                }
+            }
+
+            if (!foundOne) {
+                throw new SourceErrorException("No such function.", e.getLocation());
+            }
+
+            throw new SourceErrorException(sb.toString(), (Location) null);
+        }
+
+        return intendedEntry;
+    }
+
     // -----------------------------------------------------------
     // Program Type-Related
     // -----------------------------------------------------------
@@ -4194,15 +4322,16 @@ public class Populator extends TreeWalkerVisitor {
 
         setSymbolTypeValue(node, symbolName, intendedEntry);
 
-        String typeValueDesc = "";
+        emitDebug(node.getLocation(), () -> {
+            String typeValueDesc = "";
 
-        if (node.getMathTypeValue() != null) {
-            typeValueDesc = ", referencing math type " + node.getMathTypeValue() + " ("
-                    + node.getMathTypeValue().getClass() + ")";
-        }
+            if (node.getMathTypeValue() != null) {
+                typeValueDesc = ", referencing math type " + node.getMathTypeValue() + " ("
+                        + node.getMathTypeValue().getClass() + ")";
+            }
 
-        emitDebug(node.getLocation(),
-                "\tProcessed symbol " + symbolName + " with type " + node.getMathType() + typeValueDesc);
+            return "\tProcessed symbol " + symbolName + " with type " + node.getMathType() + typeValueDesc;
+        });
 
         return intendedEntry;
     }
@@ -4638,4 +4767,154 @@ public class Populator extends TreeWalkerVisitor {
 
     }
 
+    /**
+     * <p>
+     * This identifies a math function application for the purpose of overload resolution. Two applications with the
+     * same key are resolved to the same {@link MathSymbolEntry}: they refer to the same function name, have the same
+     * candidates in scope, are applied to arguments with the same types (and type values) and are in a context with the
+     * same schematic and generic types.
+     * </p>
+     */
+    private static class FunctionApplicationKey {
+
+        /**
+         * <p>
+         * The math types of the arguments.
+         * </p>
+         */
+        private final List<MTType> myArgumentTypes;
+
+        /**
+         * <p>
+         * The math type values of the arguments. These are {@code null} for arguments that aren't types.
+         * </p>
+         */
+        private final List<MTType> myArgumentTypeValues;
+
+        /**
+         * <p>
+         * The entries with a matching name. These are compared by identity, since symbol table entries are cheap to
+         * query, but expensive to compare.
+         * </p>
+         */
+        private final List<MathSymbolEntry> myCandidates;
+
+        /**
+         * <p>
+         * The generic types in the module.
+         * </p>
+         */
+        private final Map<String, MTType> myGenericTypes;
+
+        /**
+         * <p>
+         * The cached hash code.
+         * </p>
+         */
+        private final int myHashCode;
+
+        /**
+         * <p>
+         * The function name.
+         * </p>
+         */
+        private final String myOperatorName;
+
+        /**
+         * <p>
+         * The function's qualifier (if any).
+         * </p>
+         */
+        private final String myQualifier;
+
+        /**
+         * <p>
+         * The schematic types in the current definition.
+         * </p>
+         */
+        private final Map<String, MTType> mySchematicTypes;
+
+        /**
+         * <p>
+         * This creates a key for a function application.
+         * </p>
+         *
+         * @param qualifier
+         *            The function's qualifier (if any).
+         * @param operatorName
+         *            The function name.
+         * @param candidates
+         *            The entries with a matching name.
+         * @param arguments
+         *            The arguments to the function.
+         * @param schematicTypes
+         *            The schematic types in the current definition.
+         * @param genericTypes
+         *            The generic types in the module.
+         */
+        FunctionApplicationKey(PosSymbol qualifier, String operatorName, List<MathSymbolEntry> candidates,
+                List<Exp> arguments, Map<String, MTType> schematicTypes, Map<String, MTType> genericTypes) {
+            myQualifier = qualifier == null ? null : qualifier.getName();
+            myOperatorName = operatorName;
+            myCandidates = candidates;
+            myArgumentTypes = new ArrayList<>(arguments.size());
+            myArgumentTypeValues = new ArrayList<>(arguments.size());
+            for (Exp argument : arguments) {
+                myArgumentTypes.add(argument.getMathType());
+                myArgumentTypeValues.add(argument.getMathTypeValue());
+            }
+            mySchematicTypes = schematicTypes.isEmpty() ? Collections.emptyMap() : new HashMap<>(schematicTypes);
+            myGenericTypes = genericTypes.isEmpty() ? Collections.emptyMap() : new HashMap<>(genericTypes);
+
+            int hashCode = Objects.hash(myQualifier, myOperatorName, myArgumentTypes, myArgumentTypeValues,
+                    mySchematicTypes, myGenericTypes);
+            for (MathSymbolEntry candidate : myCandidates) {
+                hashCode = 31 * hashCode + System.identityHashCode(candidate);
+            }
+            myHashCode = hashCode;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            FunctionApplicationKey that = (FunctionApplicationKey) o;
+
+            if (myHashCode != that.myHashCode)
+                return false;
+            if (!Objects.equals(myQualifier, that.myQualifier))
+                return false;
+            if (!myOperatorName.equals(that.myOperatorName))
+                return false;
+            if (myCandidates.size() != that.myCandidates.size())
+                return false;
+            for (int i = 0; i < myCandidates.size(); i++) {
+                if (myCandidates.get(i) != that.myCandidates.get(i))
+                    return false;
+            }
+            if (!myArgumentTypes.equals(that.myArgumentTypes))
+                return false;
+            if (!myArgumentTypeValues.equals(that.myArgumentTypeValues))
+                return false;
+            if (!mySchematicTypes.equals(that.mySchematicTypes))
+                return false;
+            return myGenericTypes.equals(that.myGenericTypes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final int hashCode() {
+            return myHashCode;
+        }
+
+    }
+
 }
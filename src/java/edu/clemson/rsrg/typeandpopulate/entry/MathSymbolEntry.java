@@ -16,7 +16,6 @@ import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
-import edu.clemson.rsrg.typeandpopulate.exception.BindingException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSolutionException;
 import edu.clemson.rsrg.typeandpopulate.exception.SymbolNotOfKindTypeException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.*;
@@ -177,65 +176,14 @@ public class MathSymbolEntry extends SymbolTableEntry {
      */
     public final MathSymbolEntry deschematize(List<Exp> arguments, Scope callingContext,
             Map<String, MTType> definitionSchematicTypes) throws NoSolutionException {
-        if (!(myType instanceof MTFunction)) {
-            throw new NoSolutionException("Expecting MTFunction, found: " + myType.getClass().getSimpleName(),
-                    new IllegalStateException());
-        }
-
-        List<MTType> formalParameterTypes = getParameterTypes(((MTFunction) myType));
-        List<MTType> actualArgumentTypes = getArgumentTypes(arguments);
-
-        if (formalParameterTypes.size() != actualArgumentTypes.size()) {
-            throw new NoSolutionException("Unequal formal and actual argument sizes.", new IllegalStateException());
-        }
-
-        List<ProgramTypeEntry> callingContextProgramGenerics = callingContext.query(GenericProgramTypeQuery.INSTANCE);
-        Map<String, MTType> callingContextMathGenerics = new HashMap<>(definitionSchematicTypes);
-
-        MathSymbolEntry mathGeneric;
-        for (ProgramTypeEntry e : callingContextProgramGenerics) {
-            // This is guaranteed not to fail--all program types can be coerced
-            // to math types, so the passed location is irrelevant
-            mathGeneric = e.toMathSymbolEntry(null);
-
-            callingContextMathGenerics.put(mathGeneric.getName(), mathGeneric.myType);
-        }
-
-        Iterator<MTType> argumentTypeIter = actualArgumentTypes.iterator();
-        Map<String, MTType> bindingsSoFar = new HashMap<>();
-        Map<String, MTType> iterationBindings;
-        MTType argumentType;
-        try {
-            for (MTType formalParameterType : formalParameterTypes) {
-                formalParameterType = formalParameterType.getCopyWithVariablesSubstituted(bindingsSoFar);
-
-                // We know arguments and formalParameterTypes are the same
-                // length, see above
-                argumentType = argumentTypeIter.next();
-
-                if (containsSchematicType(formalParameterType)) {
-                    iterationBindings = argumentType.bindTo(formalParameterType, callingContextMathGenerics,
-                            mySchematicTypes);
-
-                    bindingsSoFar.putAll(iterationBindings);
-                }
-            }
-        } catch (BindingException be) {
+        MathSymbolEntry result = tryDeschematize(arguments, callingContext, definitionSchematicTypes);
+        if (result == null) {
             throw new NoSolutionException(
-                    "Error while attempting to bind the actual arguments to the formal parameters.",
+                    "Could not deschematize " + getName() + " : " + myType + " against " + arguments + ".",
                     new IllegalStateException());
         }
 
-        MTType newTypeValue = null;
-
-        if (myTypeValue != null) {
-            newTypeValue = myTypeValue.getCopyWithVariablesSubstituted(bindingsSoFar);
-        }
-
-        MTType newType = ((MTFunction) myType.getCopyWithVariablesSubstituted(bindingsSoFar)).deschematize(arguments);
-
-        return new MathSymbolEntry(myType.getTypeGraph(), getName(), myQuantification, getDefiningElement(), newType,
-                newTypeValue, null, myGenericsInDefiningContext, getSourceModuleIdentifier());
+        return result;
     }
 
     /**
@@ -431,6 +379,87 @@ public class MathSymbolEntry extends SymbolTableEntry {
                 + "\t\t Defines type: " + myTypeValue;
     }
 
+    /**
+     * <p>
+     * This is the same as {@link #deschematize(List, Scope, Map)}, except that it returns {@code null} instead of
+     * throwing a {@link NoSolutionException} when the provided arguments will not deschematize against the formal
+     * parameter types. The populator tries every function with a matching name against each function application, so
+     * most calls are expected to fail and this version doesn't construct any exceptions for them.
+     * </p>
+     *
+     * @param arguments
+     *            Arguments to the mathematical function.
+     * @param callingContext
+     *            The current scope we are calling from.
+     * @param definitionSchematicTypes
+     *            The schematic types from the definition.
+     *
+     * @return A {@link MathSymbolEntry} with the arguments deschematized against the formal parameters or {@code null}.
+     */
+    public final MathSymbolEntry tryDeschematize(List<Exp> arguments, Scope callingContext,
+            Map<String, MTType> definitionSchematicTypes) {
+        if (!(myType instanceof MTFunction)) {
+            return null;
+        }
+
+        List<MTType> formalParameterTypes = getParameterTypes(((MTFunction) myType));
+        List<MTType> actualArgumentTypes = getArgumentTypes(arguments);
+
+        if (formalParameterTypes.size() != actualArgumentTypes.size()) {
+            return null;
+        }
+
+        List<ProgramTypeEntry> callingContextProgramGenerics = callingContext.query(GenericProgramTypeQuery.INSTANCE);
+        Map<String, MTType> callingContextMathGenerics = new HashMap<>(definitionSchematicTypes);
+
+        MathSymbolEntry mathGeneric;
+        for (ProgramTypeEntry e : callingContextProgramGenerics) {
+            // This is guaranteed not to fail--all program types can be coerced
+            // to math types, so the passed location is irrelevant
+            mathGeneric = e.toMathSymbolEntry(null);
+
+            callingContextMathGenerics.put(mathGeneric.getName(), mathGeneric.myType);
+        }
+
+        Iterator<MTType> argumentTypeIter = actualArgumentTypes.iterator();
+        Map<String, MTType> bindingsSoFar = new HashMap<>();
+        Map<String, MTType> iterationBindings;
+        MTType argumentType;
+        for (MTType formalParameterType : formalParameterTypes) {
+            formalParameterType = formalParameterType.getCopyWithVariablesSubstituted(bindingsSoFar);
+
+            // We know arguments and formalParameterTypes are the same
+            // length, see above
+            argumentType = argumentTypeIter.next();
+
+            if (containsSchematicType(formalParameterType)) {
+                iterationBindings = argumentType.tryBindTo(formalParameterType, callingContextMathGenerics,
+                        mySchematicTypes);
+                if (iterationBindings == null) {
+                    return null;
+                }
+
+                bindingsSoFar.putAll(iterationBindings);
+            }
+        }
+
+        MTType newTypeValue = null;
+
+        if (myTypeValue != null) {
+            newTypeValue = myTypeValue.getCopyWithVariablesSubstituted(bindingsSoFar);
+        }
+
+        MTType newType;
+        try {
+            newType = ((MTFunction) myType.getCopyWithVariablesSubstituted(bindingsSoFar)).deschematize(arguments);
+        } catch (NoSolutionException nse) {
+            return null;
+        }
+
+        return new MathSymbolEntry(myType.getTypeGraph(), getName(), myQuantification, getDefiningElement(), newType,
+                newTypeValue, null, myGenericsInDefiningContext, getSourceModuleIdentifier());
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
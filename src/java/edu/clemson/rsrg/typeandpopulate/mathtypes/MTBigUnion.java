@@ -43,7 +43,7 @@ public class MTBigUnion extends MTAbstract<MTBigUnion> {
      * A map containing all the quantified variables in this type.
      * </p>
      */
-    private TreeMap<String, MTType> myQuantifiedVariables;
+    private volatile TreeMap<String, MTType> myQuantifiedVariables;
 
     /**
      * If <code>myQuantifiedVariables</code> is <code>null</code>, then <code>myUniqueQuantifiedVariableCount</code> is
@@ -190,14 +190,15 @@ public class MTBigUnion extends MTAbstract<MTBigUnion> {
      * @return The list of {@link MTType}s in this big union type.
      */
     @Override
-    public final List<MTType> getComponentTypes() {
+    public synchronized final List<MTType> getComponentTypes() {
         if (myComponents == null) {
             if (myQuantifiedVariables == null) {
-                myComponents = new ArrayList<>(myUniqueQuantifiedVariableCount);
+                List<MTType> components = new ArrayList<>(myUniqueQuantifiedVariableCount);
 
                 for (int i = 0; i < myUniqueQuantifiedVariableCount; i++) {
-                    myComponents.add(myTypeGraph.CLS);
+                    components.add(myTypeGraph.CLS);
                 }
+                myComponents = components;
             } else {
                 List<MTType> components = new ArrayList<>(myQuantifiedVariables.size());
                 for (Map.Entry<String, MTType> entry : myQuantifiedVariables.entrySet()) {
@@ -345,13 +346,14 @@ public class MTBigUnion extends MTAbstract<MTBigUnion> {
      * union if one of the methods is called that requires such a thing.
      * </p>
      */
-    private void ensureQuantifiedTypes() {
+    private synchronized void ensureQuantifiedTypes() {
         if (myQuantifiedVariables == null) {
-            myQuantifiedVariables = new TreeMap<>();
+            TreeMap<String, MTType> quantifiedVariables = new TreeMap<>();
 
             for (int i = 0; i < myUniqueQuantifiedVariableCount; i++) {
-                myQuantifiedVariables.put("*" + i, myTypeGraph.CLS);
+                quantifiedVariables.put("*" + i, myTypeGraph.CLS);
             }
+            myQuantifiedVariables = quantifiedVariables;
         }
     }
 
@@ -16,15 +16,22 @@ import edu.clemson.rsrg.typeandpopulate.exception.BindingException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSolutionException;
 import edu.clemson.rsrg.typeandpopulate.exception.TypeMismatchException;
 import edu.clemson.rsrg.typeandpopulate.symboltables.FinalizedScope;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.PerThreadReasoningResources;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
  * This abstract class serves as the parent class of all mathematical types.
  * </p>
  *
+ * <p>
+ * Types are shared by all the threads that reason about them, so the caches in this class are safe for concurrent use
+ * and anything that is specific to a single comparison is kept in the thread's {@link PerThreadReasoningResources}.
+ * </p>
+ *
  * @version 2.0
  */
 public abstract class MTType {
@@ -45,21 +52,16 @@ public abstract class MTType {
      * Known alpha equivalent types.
      * </p>
      */
-    private final Set<Object> myKnownAlphaEquivalencies = new HashSet<>();
-
-    /**
-     * <p>
-     * Known syntactic subtypes.
-     * </p>
-     */
-    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = new HashMap<>();
+    private final Set<Object> myKnownAlphaEquivalencies = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
-     * Allows us to detect if we're getting into an equals-loop.
+     * Known syntactic subtypes. A {@code null} value indicates that we have already checked {@code o} and it is not a
+     * syntactic supertype of this type. The check is purely structural, so neither answer can change later.
      * </p>
      */
-    private int myEqualsDepth = 0;
+    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = Collections
+            .synchronizedMap(new HashMap<>());
 
     // ===========================================================
     // Constructors
@@ -154,14 +156,12 @@ public abstract class MTType {
      *             Some error occurred during binding.
      */
     public final Map<String, MTType> bindTo(MTType o, Map<String, MTType> context) throws BindingException {
-        BindingVisitor bind = new BindingVisitor(myTypeGraph, context);
-        bind.visit(this, o);
-
-        if (!bind.binds()) {
+        Map<String, MTType> bindings = tryBindTo(o, context);
+        if (bindings == null) {
             throw new BindingException(this, o);
         }
 
-        return bind.getBindings();
+        return bindings;
     }
 
     /**
@@ -183,14 +183,12 @@ public abstract class MTType {
      */
     public final Map<String, MTType> bindTo(MTType template, Map<String, MTType> thisContext,
             Map<String, MTType> templateContext) throws BindingException {
-        BindingVisitor bind = new BindingVisitor(myTypeGraph, thisContext, templateContext);
-        bind.visit(this, template);
-
-        if (!bind.binds()) {
+        Map<String, MTType> bindings = tryBindTo(template, thisContext, templateContext);
+        if (bindings == null) {
             throw new BindingException(this, template);
         }
 
-        return bind.getBindings();
+        return bindings;
     }
 
     /**
@@ -209,22 +207,26 @@ public abstract class MTType {
      */
     @Override
     public final boolean equals(Object o) {
-        myEqualsDepth++;
+        if (this == o) {
+            return true;
+        }
 
-        boolean result;
+        // We are at the first level of equals comparison if this type isn't
+        // already being compared by this thread.
+        PerThreadReasoningResources resources = myTypeGraph.getThreadResources();
+        boolean firstLevel = resources.typesBeingCompared.add(this);
 
-        if (this == o) {
-            result = true;
-        } else {
+        boolean result;
+        try {
             // We only check our cache if we're at the first level of equals
             // comparison to avoid an infinite recursive loop
-            result = (myEqualsDepth == 1) && myKnownAlphaEquivalencies.contains(o);
+            result = firstLevel && myKnownAlphaEquivalencies.contains(o);
 
             if (!result) {
                 try {
                     // All 'equals' logic should be put into AlphaEquivalencyChecker!
                     // Don't override equals!
-                    AlphaEquivalencyChecker alphaEq = myTypeGraph.threadResources.alphaChecker;
+                    AlphaEquivalencyChecker alphaEq = resources.alphaChecker;
                     alphaEq.reset();
 
                     alphaEq.visit(this, (MTType) o);
@@ -236,13 +238,58 @@ public abstract class MTType {
 
                 // We only cache our answer at the first level to avoid an
                 // infinite equals loop
-                if ((myEqualsDepth == 1) && result) {
+                if (firstLevel && result) {
                     myKnownAlphaEquivalencies.add(o);
                 }
             }
+        } finally {
+            if (firstLevel) {
+                resources.typesBeingCompared.remove(this);
+            }
         }
 
-        myEqualsDepth--;
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method returns a map of syntactic subtype bindings for {@code o}, or {@code null} if this type is not a
+     * syntactic subtype of {@code o}. Unlike {@link #getSyntacticSubtypeBindings(MTType)}, a failed check doesn't
+     * construct any exceptions, so this is the one to use when a failure is an expected outcome.
+     * </p>
+     *
+     * @param o
+     *            A mathematical type.
+     *
+     * @return The collection of syntactic subtypes or {@code null}.
+     */
+    public final Map<String, MTType> findSyntacticSubtypeBindings(MTType o) {
+        Map<String, MTType> result;
+
+        if (myKnownSyntacticSubtypeBindings.containsKey(o)) {
+            result = myKnownSyntacticSubtypeBindings.get(o);
+        } else {
+            SyntacticSubtypeChecker checker = new SyntacticSubtypeChecker(myTypeGraph);
+
+            try {
+                checker.visit(this, o);
+                result = Collections.unmodifiableMap(checker.getBindings());
+            } catch (RuntimeException e) {
+
+                Throwable cause = e;
+                while (cause != null && !(cause instanceof TypeMismatchException)) {
+                    cause = cause.getCause();
+                }
+
+                if (cause == null) {
+                    throw e;
+                }
+
+                result = null;
+            }
+
+            myKnownSyntacticSubtypeBindings.put(o, result);
+        }
 
         return result;
     }
@@ -281,34 +328,15 @@ public abstract class MTType {
      *            A mathematical type.
      *
      * @return The collection of syntactic subtypes.
+     *
+     * @throws NoSolutionException
+     *             This type is not a syntactic subtype of {@code o}.
      */
     public final Map<String, MTType> getSyntacticSubtypeBindings(MTType o) throws NoSolutionException {
-        Map<String, MTType> result;
-
-        if (myKnownSyntacticSubtypeBindings.containsKey(o)) {
-            result = myKnownSyntacticSubtypeBindings.get(o);
-        } else {
-            SyntacticSubtypeChecker checker = new SyntacticSubtypeChecker(myTypeGraph);
-
-            try {
-                checker.visit(this, o);
-            } catch (RuntimeException e) {
-
-                Throwable cause = e;
-                while (cause != null && !(cause instanceof TypeMismatchException)) {
-                    cause = cause.getCause();
-                }
-
-                if (cause == null) {
-                    throw e;
-                }
-
-                throw new NoSolutionException("Error while attempting to establish syntactic subtype.",
-                        new IllegalStateException());
-            }
-
-            result = Collections.unmodifiableMap(checker.getBindings());
-            myKnownSyntacticSubtypeBindings.put(o, result);
+        Map<String, MTType> result = findSyntacticSubtypeBindings(o);
+        if (result == null) {
+            throw new NoSolutionException("Error while attempting to establish syntactic subtype.",
+                    new IllegalStateException());
         }
 
         return result;
@@ -402,16 +430,7 @@ public abstract class MTType {
      */
     public final boolean isSyntacticSubtypeOf(MTType o) {
 
-        boolean result;
-
-        try {
-            getSyntacticSubtypeBindings(o);
-            result = true;
-        } catch (NoSolutionException e) {
-            result = false;
-        }
-
-        return result;
+        return findSyntacticSubtypeBindings(o) != null;
     }
 
     /**
@@ -427,6 +446,51 @@ public abstract class MTType {
         return false;
     }
 
+    /**
+     * <p>
+     * This method attempts to bind {@code o} to a map of types for the current context. This is the same as
+     * {@link #bindTo(MTType, Map)}, except that it returns {@code null} instead of throwing a {@link BindingException}
+     * when the binding fails.
+     * </p>
+     *
+     * @param o
+     *            The type to bind.
+     * @param context
+     *            The context map of types.
+     *
+     * @return The modified context type map if bind is successful, otherwise {@code null}.
+     */
+    public final Map<String, MTType> tryBindTo(MTType o, Map<String, MTType> context) {
+        BindingVisitor bind = new BindingVisitor(myTypeGraph, context);
+        bind.visit(this, o);
+
+        return bind.binds() ? bind.getBindings() : null;
+    }
+
+    /**
+     * <p>
+     * This method attempts to bind {@code template} to a map of types for the current context using a template context.
+     * This is the same as {@link #bindTo(MTType, Map, Map)}, except that it returns {@code null} instead of throwing a
+     * {@link BindingException} when the binding fails.
+     * </p>
+     *
+     * @param template
+     *            The template type to bind.
+     * @param thisContext
+     *            The current context map of types.
+     * @param templateContext
+     *            The template context map of types.
+     *
+     * @return The modified context type map if bind is successful, otherwise {@code null}.
+     */
+    public final Map<String, MTType> tryBindTo(MTType template, Map<String, MTType> thisContext,
+            Map<String, MTType> templateContext) {
+        BindingVisitor bind = new BindingVisitor(myTypeGraph, thisContext, templateContext);
+        bind.visit(this, template);
+
+        return bind.binds() ? bind.getBindings() : null;
+    }
+
     /**
      * <p>
      * This method attempts to replace a component type at the specified index.
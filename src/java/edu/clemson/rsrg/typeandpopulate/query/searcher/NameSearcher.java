@@ -115,4 +115,15 @@ public class NameSearcher implements MultimatchTableSearcher<SymbolTableEntry> {
         return myStopAfterFirstFlag && result;
     }
 
+    /**
+     * <p>
+     * Returns the name this searcher is looking for.
+     * </p>
+     *
+     * @return The search string.
+     */
+    public final String getSearchString() {
+        return mySearchString;
+    }
+
 }
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.EntryTypeSearcher;
+import edu.clemson.rsrg.typeandpopulate.query.searcher.NameSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher.SearchContext;
 import edu.clemson.rsrg.typeandpopulate.symboltables.*;
@@ -162,8 +163,8 @@ public class UnqualifiedPath implements ScopeSearchPath {
      *            A <code>TableSearcher</code> to apply to each scope along the search path.
      * @param result
      *            List of matches.
-     * @param source
-     *            The current scope from which the search was spawned.
+     * @param facilities
+     *            The facilities declared in the scope we are searching.
      * @param genericInstantiations
      *            Map containing all the instantiations.
      * @param searchedScopes
@@ -174,12 +175,8 @@ public class UnqualifiedPath implements ScopeSearchPath {
      * @return {@code true} if we are done searching, {@code false} otherwise.
      */
     private <E extends SymbolTableEntry> boolean searchFacilities(TableSearcher<E> searcher, List<E> result,
-            Scope source, Map<String, PTType> genericInstantiations, Set<Scope> searchedScopes)
+            List<FacilityEntry> facilities, Map<String, PTType> genericInstantiations, Set<Scope> searchedScopes)
             throws DuplicateSymbolException {
-
-        List<FacilityEntry> facilities = source.getMatches(EntryTypeSearcher.FACILITY_SEARCHER,
-                SearchContext.SOURCE_MODULE);
-
         FacilityEntry facility;
 
         boolean finished = false;
@@ -213,6 +210,59 @@ public class UnqualifiedPath implements ScopeSearchPath {
         return finished;
     }
 
+    /**
+     * <p>
+     * This method searches the given imported {@code Modules} in order and attempts to find all entries that match and
+     * store those in the {@code results} list. Any facilities declared in these modules are retrieved from
+     * {@code closure} instead of querying the modules again.
+     * </p>
+     *
+     * <p>
+     * If more than one match is found and <code>searcher</code> expects no more than one match, throws a
+     * {@link DuplicateSymbolException}.
+     * </p>
+     *
+     * @param searcher
+     *            A <code>TableSearcher</code> to apply to each scope along the search path.
+     * @param modules
+     *            The imported modules to search.
+     * @param closure
+     *            The import closure for the source module.
+     * @param results
+     *            List of matches.
+     * @param searchedScopes
+     *            Set of scopes searched.
+     * @param genericInstantiations
+     *            Map containing all the instantiations.
+     * @param instantiatingFacility
+     *            Facility that instantiated this class.
+     * @param <E>
+     *            Entry type.
+     *
+     * @return {@code true} if we are done searching, {@code false} otherwise.
+     */
+    private <E extends SymbolTableEntry> boolean searchImportedModules(TableSearcher<E> searcher,
+            List<ModuleScope> modules, ImportClosure closure, List<E> results, Set<Scope> searchedScopes,
+            Map<String, PTType> genericInstantiations, FacilityEntry instantiatingFacility)
+            throws DuplicateSymbolException {
+        boolean finished = false;
+        Iterator<ModuleScope> modulesIter = modules.iterator();
+        ModuleScope importScope;
+        while (!finished && modulesIter.hasNext()) {
+            importScope = modulesIter.next();
+
+            finished = importScope.addMatches(searcher, results, searchedScopes, genericInstantiations,
+                    instantiatingFacility, SearchContext.SOURCE_MODULE);
+
+            if (!finished && myFacilityStrategy != FacilityStrategy.FACILITY_IGNORE) {
+                finished = searchFacilities(searcher, results, closure.getFacilities(importScope),
+                        genericInstantiations, searchedScopes);
+            }
+        }
+
+        return finished;
+    }
+
     /**
      * <p>
      * This method searches all the {@code Modules} in scope and attempts to find all entries that match and store those
@@ -259,7 +309,9 @@ public class UnqualifiedPath implements ScopeSearchPath {
         // Next, if requested, we search any local facilities.
         if (!finished && myFacilityStrategy != FacilityStrategy.FACILITY_IGNORE) {
 
-            finished = searchFacilities(searcher, results, source, genericInstantiations, searchedScopes);
+            List<FacilityEntry> facilities = source.getMatches(EntryTypeSearcher.FACILITY_SEARCHER,
+                    SearchContext.SOURCE_MODULE);
+            finished = searchFacilities(searcher, results, facilities, genericInstantiations, searchedScopes);
         }
 
         // Finally, if requested, we search imports
@@ -271,15 +323,38 @@ public class UnqualifiedPath implements ScopeSearchPath {
 
             try {
                 ModuleScope module = repo.getModuleScope(sourceAsSyntacticScope.getRootModule());
-                List<ModuleIdentifier> imports = module.getImports();
-
-                Iterator<ModuleIdentifier> importsIter = imports.iterator();
-                Scope importScope;
-                while (!finished && importsIter.hasNext()) {
-                    importScope = repo.getModuleScope(importsIter.next());
 
-                    finished = searchModule(searcher, importScope, repo, results, searchedScopes, genericInstantiations,
-                            instantiatingFacility, importStrategy.cascadingStrategy(), depth + 1);
+                // Named imports and (unless local items have priority) recursive imports are each
+                // searched exactly once, so we can simply walk the module's precomputed import closure.
+                if (importStrategy == ImportStrategy.IMPORT_NAMED) {
+                    ImportClosure closure = module.getImportClosure();
+                    finished = searchImportedModules(searcher, closure.getDirectImports(), closure, results,
+                            searchedScopes, genericInstantiations, instantiatingFacility);
+                } else if (!myLocalPriorityFlag) {
+                    // If we don't need to search facilities, only the modules that define the
+                    // name we are looking for can contribute to the results.
+                    ImportClosure closure = module.getImportClosure();
+                    List<ModuleScope> modules;
+                    if (myFacilityStrategy == FacilityStrategy.FACILITY_IGNORE && searcher instanceof NameSearcher) {
+                        modules = closure.getModulesDefining(((NameSearcher) searcher).getSearchString());
+                    } else {
+                        modules = closure.getModules();
+                    }
+
+                    finished = searchImportedModules(searcher, modules, closure, results, searchedScopes,
+                            genericInstantiations, instantiatingFacility);
+                } else {
+                    List<ModuleIdentifier> imports = module.getImports();
+
+                    Iterator<ModuleIdentifier> importsIter = imports.iterator();
+                    Scope importScope;
+                    while (!finished && importsIter.hasNext()) {
+                        importScope = repo.getModuleScope(importsIter.next());
+
+                        finished = searchModule(searcher, importScope, repo, results, searchedScopes,
+                                genericInstantiations, instantiatingFacility, importStrategy.cascadingStrategy(),
+                                depth + 1);
+                    }
                 }
             } catch (NoSuchSymbolException nsse) {
                 // This shouldn't be possible--we'd've caught it by now
@@ -234,4 +234,19 @@ class BaseSymbolTable implements SymbolTable {
         return result.toString();
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the names of all the entries in this table.
+     * </p>
+     *
+     * @return An unmodifiable set of names.
+     */
+    final Set<String> getNames() {
+        return Collections.unmodifiableSet(myEntries.keySet());
+    }
+
 }
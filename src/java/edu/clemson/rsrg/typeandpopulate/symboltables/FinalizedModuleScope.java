@@ -14,6 +14,7 @@ package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,6 +44,13 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
      */
     private final List<ModuleIdentifier> myImportedModules;
 
+    /**
+     * <p>
+     * The closure of the modules imported by this {@link ModuleDec}. This is {@code null} until we compute it.
+     * </p>
+     */
+    private ImportClosure myImportClosure;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -87,6 +95,26 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
         return (ModuleDec) myDefiningElement;
     }
 
+    /**
+     * <p>
+     * Returns the {@link ImportClosure} for the module who's scope is represented by this <code>ModuleScope</code>.
+     * Since this scope is immutable, the closure is only computed the first time this method is called.
+     * </p>
+     *
+     * @return The <code>ImportClosure</code>.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the recursively imported modules doesn't have an associated scope.
+     */
+    @Override
+    public synchronized final ImportClosure getImportClosure() throws NoSuchSymbolException {
+        if (myImportClosure == null) {
+            myImportClosure = ImportClosure.build(myImportedModules, getSourceRepository());
+        }
+
+        return myImportClosure;
+    }
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
@@ -0,0 +1,209 @@
+/*
+ * ImportClosure.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.typeandpopulate.entry.FacilityEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.*;
+
+/**
+ * <p>
+ * An <code>ImportClosure</code> is the list of modules that are imported by a module, either directly or through one of
+ * its imports (its <em>recursive imports</em>), along with an index from names to the modules in that list that define
+ * them and the facilities each of them declares.
+ * </p>
+ *
+ * <p>
+ * The modules are listed in the order a depth-first search of the imports visits them for the first time, which is the
+ * order an unqualified search considers them in. The module itself is not part of its closure.
+ * </p>
+ *
+ * <p>
+ * Note that this class has no public constructor. <code>ImportClosure</code>s are acquired through
+ * {@link ModuleScope#getImportClosure()}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ImportClosure {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The modules that are directly imported (its <em>named imports</em>), in the order they were imported.
+     * </p>
+     */
+    private final List<ModuleScope> myDirectImports;
+
+    /**
+     * <p>
+     * A map from the recursively imported modules that declare facilities to the {@link FacilityEntry}s they declare.
+     * </p>
+     */
+    private final Map<ModuleScope, List<FacilityEntry>> myFacilitiesByModule;
+
+    /**
+     * <p>
+     * The recursively imported modules in depth-first order.
+     * </p>
+     */
+    private final List<ModuleScope> myModules;
+
+    /**
+     * <p>
+     * A map from names to the recursively imported modules that define them (in depth-first order).
+     * </p>
+     */
+    private final Map<String, List<ModuleScope>> myModulesByName;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a closure that contains <code>modules</code>.
+     * </p>
+     *
+     * @param directImports
+     *            The directly imported modules.
+     * @param modules
+     *            The recursively imported modules in depth-first order.
+     */
+    private ImportClosure(List<ModuleScope> directImports, List<ModuleScope> modules) {
+        myDirectImports = Collections.unmodifiableList(directImports);
+        myModules = Collections.unmodifiableList(modules);
+
+        myModulesByName = new HashMap<>();
+        for (ModuleScope module : myModules) {
+            for (String name : ((SyntacticScope) module).myBindings.getNames()) {
+                myModulesByName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(module);
+            }
+        }
+        myModulesByName.replaceAll((name, namedModules) -> Collections.unmodifiableList(namedModules));
+
+        myFacilitiesByModule = new IdentityHashMap<>();
+        for (ModuleScope module : myModules) {
+            Iterator<FacilityEntry> facilitiesIter = ((SyntacticScope) module).myBindings
+                    .iterateByType(FacilityEntry.class);
+            if (facilitiesIter.hasNext()) {
+                List<FacilityEntry> facilities = new ArrayList<>();
+                facilitiesIter.forEachRemaining(facilities::add);
+                myFacilitiesByModule.put(module, Collections.unmodifiableList(facilities));
+            }
+        }
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Returns the modules that are directly imported, in the order they were imported.
+     * </p>
+     *
+     * @return An unmodifiable list of {@link ModuleScope}s.
+     */
+    public final List<ModuleScope> getDirectImports() {
+        return myDirectImports;
+    }
+
+    /**
+     * <p>
+     * Returns the facilities declared by one of the recursively imported modules.
+     * </p>
+     *
+     * @param module
+     *            A module in this closure.
+     *
+     * @return An unmodifiable list of {@link FacilityEntry}s.
+     */
+    public final List<FacilityEntry> getFacilities(ModuleScope module) {
+        return myFacilitiesByModule.getOrDefault(module, Collections.emptyList());
+    }
+
+    /**
+     * <p>
+     * Returns the recursively imported modules in the order a depth-first search of the imports visits them for the
+     * first time.
+     * </p>
+     *
+     * @return An unmodifiable list of {@link ModuleScope}s.
+     */
+    public final List<ModuleScope> getModules() {
+        return myModules;
+    }
+
+    /**
+     * <p>
+     * Returns the recursively imported modules that directly define a symbol named <code>name</code>, in the same order
+     * as {@link #getModules()}.
+     * </p>
+     *
+     * @param name
+     *            A symbol name.
+     *
+     * @return An unmodifiable list of {@link ModuleScope}s.
+     */
+    public final List<ModuleScope> getModulesDefining(String name) {
+        return myModulesByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method computes the closure for a module that imports <code>imports</code>.
+     * </p>
+     *
+     * @param imports
+     *            The modules directly imported by the module.
+     * @param repo
+     *            The repository that contains the scopes for the imported modules.
+     *
+     * @return The {@link ImportClosure}.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the imported modules doesn't have an associated scope.
+     */
+    static ImportClosure build(List<ModuleIdentifier> imports, ScopeRepository repo) throws NoSuchSymbolException {
+        // The closure of an import has already been computed in depth-first order,
+        // so we only need to splice them together and skip any repeated modules.
+        Set<ModuleScope> seenModules = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<ModuleScope> directImports = new ArrayList<>(imports.size());
+        List<ModuleScope> modules = new ArrayList<>();
+        for (ModuleIdentifier i : imports) {
+            ModuleScope directImport = repo.getModuleScope(i);
+            directImports.add(directImport);
+            if (seenModules.add(directImport)) {
+                modules.add(directImport);
+            }
+
+            for (ModuleScope recursiveImport : directImport.getImportClosure().getModules()) {
+                if (seenModules.add(recursiveImport)) {
+                    modules.add(recursiveImport);
+                }
+            }
+        }
+
+        return new ImportClosure(directImports, modules);
+    }
+
+}
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.utilities.LazyMappingIterator;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -62,6 +63,13 @@ class InstantiatedSymbolTable implements SymbolTable {
      */
     private final FacilityEntry myInstantiatingFacility;
 
+    /**
+     * <p>
+     * A map from the entries in the base symbol table to their instantiated counterparts.
+     * </p>
+     */
+    private final Map<SymbolTableEntry, SymbolTableEntry> myInstantiatedEntries;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -83,6 +91,7 @@ class InstantiatedSymbolTable implements SymbolTable {
         myBaseTable = base;
         myGenericInstantiations = genericInstantiations;
         myInstantiatingFacility = instantiatingFacility;
+        myInstantiatedEntries = new IdentityHashMap<>();
     }
 
     // ===========================================================
@@ -195,6 +204,21 @@ class InstantiatedSymbolTable implements SymbolTable {
         myBaseTable.putAll(source);
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the program type instantiations used by this symbol table.
+     * </p>
+     *
+     * @return A map of program type instantiations.
+     */
+    final Map<String, PTType> getGenericInstantiations() {
+        return myGenericInstantiations;
+    }
+
     // ===========================================================
     // Helper Constructs
     // ===========================================================
@@ -226,7 +250,16 @@ class InstantiatedSymbolTable implements SymbolTable {
         @SuppressWarnings("unchecked")
         @Override
         public final T map(T input) {
-            return (T) input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+            // Instantiating an entry always produces the same result, so we only do it once per entry
+            synchronized (myInstantiatedEntries) {
+                SymbolTableEntry result = myInstantiatedEntries.get(input);
+                if (result == null) {
+                    result = input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+                    myInstantiatedEntries.put(input, result);
+                }
+
+                return (T) result;
+            }
         }
 
     }
@@ -22,9 +22,9 @@ import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.HardCoded;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -38,6 +38,12 @@ import java.util.Map;
  * is equivalent to the working symbol table represented by this <code>MathSymbolTableBuilder</code>.
  * </p>
  *
+ * <p>
+ * Modules that don't depend on each other can be populated by different threads. Each thread has its own stack of open
+ * scopes (and therefore its own current module scope), while the scopes that have been opened are registered with all
+ * threads. A module's scope should only be queried by another thread after that module has been populated.
+ * </p>
+ *
  * @version 2.0
  */
 public class MathSymbolTableBuilder extends ScopeRepository {
@@ -55,31 +61,38 @@ public class MathSymbolTableBuilder extends ScopeRepository {
 
     /**
      * <p>
-     * A list of current open scopes.
+     * The scope for built-in objects. This is always at the bottom of each thread's lexical scope stack.
      * </p>
      */
-    private final Deque<ScopeBuilder> myLexicalScopeStack = new LinkedList<>();
+    private final ScopeBuilder myGlobalScope;
+
+    /**
+     * <p>
+     * A list of current open scopes for each thread.
+     * </p>
+     */
+    private final ThreadLocal<Deque<ScopeBuilder>> myLexicalScopeStack;
 
     /**
      * <p>
      * A map of non-module scope builders.
      * </p>
      */
-    private final Map<ResolveConceptualElement, ScopeBuilder> myScopes = new HashMap<>();
+    private final Map<ResolveConceptualElement, ScopeBuilder> myScopes = new ConcurrentHashMap<>();
 
     /**
      * <p>
      * A map of module scope builders.
      * </p>
      */
-    private final Map<ModuleIdentifier, ModuleScopeBuilder> myModuleScopes = new HashMap<>();
+    private final Map<ModuleIdentifier, ModuleScopeBuilder> myModuleScopes = new ConcurrentHashMap<>();
 
     /**
      * <p>
-     * The current module scope.
+     * The current module scope for each thread.
      * </p>
      */
-    private ModuleScopeBuilder myCurModuleScope = null;
+    private final ThreadLocal<ModuleScopeBuilder> myCurModuleScope = new ThreadLocal<>();
 
     /**
      * <p>
@@ -104,11 +117,16 @@ public class MathSymbolTableBuilder extends ScopeRepository {
         myTypeGraph = new TypeGraph(compileEnvironment);
 
         // The only things in global scope are built-in things
-        ScopeBuilder globalScope = new ScopeBuilder(this, myTypeGraph, null, DUMMY_RESOLVER, ModuleIdentifier.GLOBAL);
+        myGlobalScope = new ScopeBuilder(this, myTypeGraph, null, DUMMY_RESOLVER, ModuleIdentifier.GLOBAL);
+
+        HardCoded.addBuiltInSymbols(myTypeGraph, myGlobalScope);
 
-        HardCoded.addBuiltInSymbols(myTypeGraph, globalScope);
+        myLexicalScopeStack = ThreadLocal.withInitial(() -> {
+            Deque<ScopeBuilder> lexicalScopeStack = new LinkedList<>();
+            lexicalScopeStack.push(myGlobalScope);
 
-        myLexicalScopeStack.push(globalScope);
+            return lexicalScopeStack;
+        });
 
         // Some IDEs (rightly) complain about leaking a "this" pointer inside the
         // constructor, but we know what we're doing--this is the last thing in
@@ -133,15 +151,17 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     public final ScopeBuilder endScope() {
         checkScopeOpen();
-        myLexicalScopeStack.pop();
+        Deque<ScopeBuilder> lexicalScopeStack = myLexicalScopeStack.get();
+        lexicalScopeStack.pop();
 
         ScopeBuilder result;
 
-        if (myLexicalScopeStack.size() == 1) {
+        if (lexicalScopeStack.size() == 1) {
             result = null;
-            myCurModuleScope = null;
+            myCurModuleScope.get().markCompleted();
+            myCurModuleScope.remove();
         } else {
-            result = myLexicalScopeStack.peek();
+            result = lexicalScopeStack.peek();
         }
 
         return result;
@@ -159,7 +179,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     public final ScopeBuilder getInnermostActiveScope() {
         checkScopeOpen();
-        return myLexicalScopeStack.peek();
+        return myLexicalScopeStack.get().peek();
     }
 
     /**
@@ -177,11 +197,12 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     @Override
     public final ModuleScope getModuleScope(ModuleIdentifier module) throws NoSuchSymbolException {
-        if (!myModuleScopes.containsKey(module)) {
+        ModuleScopeBuilder result = myModuleScopes.get(module);
+        if (result == null) {
             throw new NoSuchSymbolException("" + module, null);
         }
 
-        return myModuleScopes.get(module);
+        return result;
     }
 
     /**
@@ -199,11 +220,12 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     @Override
     public final Scope getScope(ResolveConceptualElement e) throws NoSuchScopeException {
-        if (!myScopes.containsKey(e)) {
+        ScopeBuilder result = myScopes.get(e);
+        if (result == null) {
             throw new NoSuchScopeException(e);
         }
 
-        return myScopes.get(e);
+        return result;
     }
 
     /**
@@ -232,11 +254,11 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      *             If any module claims to import a module for which there is no associated scope.
      */
     public final MathSymbolTable seal() throws NoSuchModuleException {
-        if (myLexicalScopeStack.size() > 1) {
+        if (myLexicalScopeStack.get().size() > 1) {
             throw new IllegalStateException("There are open scopes.");
         }
 
-        return new MathSymbolTable(myTypeGraph, myLexicalScopeStack.peek());
+        return new MathSymbolTable(myTypeGraph, myGlobalScope);
     }
 
     /**
@@ -259,15 +281,15 @@ public class MathSymbolTableBuilder extends ScopeRepository {
             throw new IllegalArgumentException("definingElement may not be " + "null.");
         }
 
-        if (myCurModuleScope != null) {
+        if (myCurModuleScope.get() != null) {
             throw new IllegalStateException("Module scope already open.");
         }
 
-        ScopeBuilder parent = myLexicalScopeStack.peek();
+        ScopeBuilder parent = myLexicalScopeStack.get().peek();
 
         ModuleScopeBuilder s = new ModuleScopeBuilder(myTypeGraph, definingElement, parent, this);
 
-        myCurModuleScope = s;
+        myCurModuleScope.set(s);
 
         addScope(s, parent);
         myModuleScopes.put(s.getModuleIdentifier(), s);
@@ -299,10 +321,10 @@ public class MathSymbolTableBuilder extends ScopeRepository {
 
         checkModuleScopeOpen();
 
-        ScopeBuilder parent = myLexicalScopeStack.peek();
+        ScopeBuilder parent = myLexicalScopeStack.get().peek();
 
         ScopeBuilder s = new ScopeBuilder(this, myTypeGraph, definingElement, parent,
-                myCurModuleScope.getModuleIdentifier());
+                myCurModuleScope.get().getModuleIdentifier());
 
         addScope(s, parent);
 
@@ -326,7 +348,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
         StringBuilder result = new StringBuilder();
 
         boolean first = true;
-        for (ScopeBuilder b : myLexicalScopeStack) {
+        for (ScopeBuilder b : myLexicalScopeStack.get()) {
             if (first) {
                 first = false;
             } else {
@@ -355,7 +377,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     private void addScope(ScopeBuilder s, ScopeBuilder parent) {
         parent.addChild(s);
-        myLexicalScopeStack.push(s);
+        myLexicalScopeStack.get().push(s);
         myScopes.put(s.getDefiningElement(), s);
     }
 
@@ -365,7 +387,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      * </p>
      */
     private void checkModuleScopeOpen() {
-        if (myCurModuleScope == null) {
+        if (myCurModuleScope.get() == null) {
             throw new IllegalStateException("No open module scope.");
         }
     }
@@ -376,7 +398,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      * </p>
      */
     private void checkScopeOpen() {
-        if (myLexicalScopeStack.size() == 1) {
+        if (myLexicalScopeStack.get().size() == 1) {
             throw new IllegalStateException("No open scope.");
         }
     }
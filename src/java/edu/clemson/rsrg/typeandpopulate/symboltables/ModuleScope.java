@@ -13,6 +13,7 @@
 package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.List;
 
@@ -40,6 +41,19 @@ public interface ModuleScope extends Scope {
      */
     ModuleDec getDefiningElement();
 
+    /**
+     * <p>
+     * Returns the {@link ImportClosure} for the module who's scope is represented by this <code>ModuleScope</code>,
+     * i.e. the modules it imports either directly or recursively, not including itself.
+     * </p>
+     *
+     * @return The <code>ImportClosure</code>.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the recursively imported modules doesn't have an associated scope.
+     */
+    ImportClosure getImportClosure() throws NoSuchSymbolException;
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
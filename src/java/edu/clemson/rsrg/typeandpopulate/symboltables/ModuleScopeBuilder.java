@@ -13,8 +13,10 @@
 package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -39,6 +41,22 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
      */
     private final List<ModuleIdentifier> myImportedModules = new LinkedList<>();
 
+    /**
+     * <p>
+     * The cached closure of the modules imported by this {@link ModuleDec}. This is {@code null} until we compute it or
+     * after an import has been added.
+     * </p>
+     */
+    private ImportClosure myImportClosure;
+
+    /**
+     * <p>
+     * Boolean flag that indicates whether or not this module's scope has been closed, i.e. no more symbols or imports
+     * will be added to it.
+     * </p>
+     */
+    private volatile boolean myCompletedFlag;
+
     // ==========================================================
     // Constructors
     // ==========================================================
@@ -75,9 +93,10 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
      * @param i
      *            The module to import.
      */
-    public final void addImport(ModuleIdentifier i) {
+    public synchronized final void addImport(ModuleIdentifier i) {
         if (!myImportedModules.contains(i) && !myRootModule.equals(i)) {
             myImportedModules.add(i);
+            myImportClosure = null;
         }
     }
 
@@ -93,6 +112,39 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
         return (ModuleDec) myDefiningElement;
     }
 
+    /**
+     * <p>
+     * Returns the {@link ImportClosure} for the module who's scope is represented by this
+     * <code>ModuleScopeBuilder</code>. The closure is only cached once every module in it has been completed, since the
+     * imports and symbols of those modules can no longer change.
+     * </p>
+     *
+     * @return The <code>ImportClosure</code>.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the recursively imported modules doesn't have an associated scope.
+     */
+    @Override
+    public synchronized final ImportClosure getImportClosure() throws NoSuchSymbolException {
+        ImportClosure result = myImportClosure;
+        if (result == null) {
+            result = ImportClosure.build(myImportedModules, getSourceRepository());
+
+            boolean completed = true;
+            Iterator<ModuleScope> modulesIter = result.getModules().iterator();
+            while (completed && modulesIter.hasNext()) {
+                ModuleScope module = modulesIter.next();
+                completed = !(module instanceof ModuleScopeBuilder) || ((ModuleScopeBuilder) module).myCompletedFlag;
+            }
+
+            if (completed) {
+                myImportClosure = result;
+            }
+        }
+
+        return result;
+    }
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
@@ -137,6 +189,15 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
     // Package Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Marks this module's scope as completed. This should be called once the scope has been closed.
+     * </p>
+     */
+    final void markCompleted() {
+        myCompletedFlag = true;
+    }
+
     /**
      * <p>
      * This method seals this scope from further modifications.
@@ -56,7 +56,8 @@ public class ScopeBuilder extends SyntacticScope {
 
     /**
      * <p>
-     * This contains all the children scopes
+     * This contains all the children scopes. Module scopes can be added to the global scope by populators running in
+     * different threads, so any access to this list must be synchronized on it.
      * </p>
      */
     private final List<ScopeBuilder> myChildren = new LinkedList<>();
@@ -621,7 +622,9 @@ public class ScopeBuilder extends SyntacticScope {
      *            Child {@link ScopeBuilder}.
      */
     final void addChild(ScopeBuilder b) {
-        myChildren.add(b);
+        synchronized (myChildren) {
+            myChildren.add(b);
+        }
     }
 
     /**
@@ -632,7 +635,9 @@ public class ScopeBuilder extends SyntacticScope {
      * @return A list of {@link ScopeBuilder}.
      */
     final List<ScopeBuilder> children() {
-        return new LinkedList<>(myChildren);
+        synchronized (myChildren) {
+            return new LinkedList<>(myChildren);
+        }
     }
 
     /**
@@ -85,6 +85,13 @@ public abstract class SyntacticScope extends AbstractScope {
      */
     protected final BaseSymbolTable myBindings;
 
+    /**
+     * <p>
+     * The instantiated views of the symbol table bindings for each facility that has instantiated this scope.
+     * </p>
+     */
+    private final Map<FacilityEntry, InstantiatedSymbolTable> myInstantiatedBindings;
+
     /**
      * <p>
      * The source scope repository.
@@ -119,6 +126,7 @@ public abstract class SyntacticScope extends AbstractScope {
         myParent = parent;
         myRootModule = enclosingModule;
         myBindings = bindings;
+        myInstantiatedBindings = new IdentityHashMap<>();
     }
 
     // ===========================================================
@@ -189,7 +197,7 @@ public abstract class SyntacticScope extends AbstractScope {
             SymbolTable symbolTableView = myBindings;
 
             if (instantiatingFacility != null) {
-                symbolTableView = new InstantiatedSymbolTable(myBindings, genericInstantiations, instantiatingFacility);
+                symbolTableView = getInstantiatedBindings(genericInstantiations, instantiatingFacility);
             }
 
             finished = searcher.addMatches(symbolTableView, matches, l);
@@ -338,4 +346,36 @@ public abstract class SyntacticScope extends AbstractScope {
         return mySource;
     }
 
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the view of the symbol table bindings as instantiated by
+     * <code>instantiatingFacility</code>. The view is kept around, so that the entries it has already instantiated can
+     * be reused by later searches through the same facility.
+     * </p>
+     *
+     * @param genericInstantiations
+     *            A mapping from generic names to instantiated types.
+     * @param instantiatingFacility
+     *            The facility that provided the instantiation of the generics.
+     *
+     * @return An {@link InstantiatedSymbolTable}.
+     */
+    private InstantiatedSymbolTable getInstantiatedBindings(Map<String, PTType> genericInstantiations,
+            FacilityEntry instantiatingFacility) {
+        synchronized (myInstantiatedBindings) {
+            InstantiatedSymbolTable result = myInstantiatedBindings.get(instantiatingFacility);
+            if (result == null || !result.getGenericInstantiations().equals(genericInstantiations)) {
+                result = new InstantiatedSymbolTable(myBindings, new HashMap<>(genericInstantiations),
+                        instantiatingFacility);
+                myInstantiatedBindings.put(instantiatingFacility, result);
+            }
+
+            return result;
+        }
+    }
+
 }
@@ -12,14 +12,22 @@
  */
 package edu.clemson.rsrg.typeandpopulate.typereasoning;
 
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.AlphaEquivalencyChecker;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * <p>
  * Type reasoning is used extensively by the prover, where things are done in a tight loop that needs to run as quickly
  * as possible. As a result, performance is at a premium and we want to avoid dynamic object creation. At the same time,
  * we can't have a bunch of static variables running around because many of these structures are not thread safe. This
- * class is guaranteed not to be shared between threads
+ * class is guaranteed not to be shared between threads.
+ * </p>
+ *
+ * <p>
+ * Each thread gets its own instance through {@link TypeGraph#getThreadResources()}.
  * </p>
  *
  * @version 2.0
@@ -33,4 +41,12 @@ public class PerThreadReasoningResources {
      */
     public final AlphaEquivalencyChecker alphaChecker = new AlphaEquivalencyChecker();
 
+    /**
+     * <p>
+     * The types whose {@link MTType#equals(Object)} is currently running on this thread. This allows us to detect if
+     * we're getting into an equals-loop.
+     * </p>
+     */
+    public final Set<MTType> typesBeingCompared = Collections.newSetFromMap(new IdentityHashMap<>());
+
 }
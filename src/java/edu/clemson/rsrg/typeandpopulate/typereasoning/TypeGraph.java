@@ -19,10 +19,9 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.typeandpopulate.Populator;
 import edu.clemson.rsrg.typeandpopulate.entry.MathSymbolEntry;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
-import edu.clemson.rsrg.typeandpopulate.exception.NoSolutionException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
-import edu.clemson.rsrg.typeandpopulate.exception.TypeMismatchException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.*;
 import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
@@ -34,6 +33,7 @@ import edu.clemson.rsrg.typeandpopulate.typevisitor.UnboundTypeAccumulator;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.VariableReplacingVisitor;
 import edu.clemson.rsrg.typeandpopulate.utilities.FunctionApplicationFactory;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -41,6 +41,13 @@ import java.util.*;
  * can perform.
  * </p>
  *
+ * <p>
+ * A type graph is shared by all the modules in a compilation, and modules that don't depend on each other can be
+ * populated concurrently. Adding a relationship and querying the graph are therefore mutually exclusive, with the
+ * exception of subtype and element checks that have already been established. Since relationships are never removed,
+ * these are answered without acquiring the graph's lock.
+ * </p>
+ *
  * @version 2.0
  */
 public class TypeGraph {
@@ -51,12 +58,13 @@ public class TypeGraph {
 
     /**
      * <p>
-     * A set of non-thread-safe resources to be used during general type reasoning. This really doesn't belong here, but
-     * anything that's reasoning about types should already have access to a type graph, and only one type graph is
-     * created per thread, so this is a convenient place to put it.
+     * The non-thread-safe resources to be used during general type reasoning, one set per thread. This really doesn't
+     * belong here, but anything that's reasoning about types should already have access to a type graph, so this is a
+     * convenient place to put it.
      * </p>
      */
-    public final PerThreadReasoningResources threadResources = new PerThreadReasoningResources();
+    private final ThreadLocal<PerThreadReasoningResources> myThreadResources = ThreadLocal
+            .withInitial(PerThreadReasoningResources::new);
 
     /**
      * <p>
@@ -74,7 +82,8 @@ public class TypeGraph {
 
     /**
      * <p>
-     * This contains all mathematical nodes for this graph.
+     * This contains all mathematical nodes for this graph. This is only accessed while holding the graph's lock, since
+     * the order we iterate over it in determines which paths we find first.
      * </p>
      */
     private final HashMap<MTType, TypeNode> myTypeNodes;
@@ -84,14 +93,69 @@ public class TypeGraph {
      * This contains all established relationships for mathematical subtypes.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedSubtypes = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedSubtypes = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
      * This contains all established relationships for mathematical elements.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedElements = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedElements = ConcurrentHashMap.newKeySet();
+
+    /**
+     * <p>
+     * The maximum number of failed checks we remember for each kind of check.
+     * </p>
+     */
+    private static final int FAILED_CHECK_CACHE_CAPACITY = 4096;
+
+    /**
+     * <p>
+     * This contains the subtype checks that have failed, either because there is no path between the two types or
+     * because a path only exists under some conditions. Each check is mapped to the relationship generation in which it
+     * failed.
+     * </p>
+     */
+    private final Map<EstablishedRelationship, Integer> myFailedSubtypes = new FailedCheckCache();
+
+    /**
+     * <p>
+     * This contains the element checks that have failed, either because there is no path between the two types or
+     * because a path only exists under some conditions. Each check is mapped to the relationship generation in which it
+     * failed.
+     * </p>
+     */
+    private final Map<EstablishedRelationship, Integer> myFailedElements = new FailedCheckCache();
+
+    /**
+     * <p>
+     * The number of times we have added a relationship to this graph. A failed check is only valid in the generation it
+     * was computed in, since a new relationship can create new paths.
+     * </p>
+     */
+    private int myRelationshipGeneration = 0;
+
+    /**
+     * <p>
+     * Whether or not one of our relationships binds something other than a universally quantified variable. Until that
+     * happens, whether an expression is known to be in a type only depends on the expression's type.
+     * </p>
+     */
+    private boolean myHasCompoundBindingExpressions = false;
+
+    /**
+     * <p>
+     * The number of checks we have answered using a previously failed check.
+     * </p>
+     */
+    private long myFailedCheckCacheHits = 0;
+
+    /**
+     * <p>
+     * The number of checks we couldn't answer using a previously failed check.
+     * </p>
+     */
+    private long myFailedCheckCacheMisses = 0;
 
     /**
      * <p>
@@ -356,7 +420,7 @@ public class TypeGraph {
      *            The environment under which <code>bindingExpression</code>, <code>destination</code>, and
      *            <code>bindingCondition</code> should be evaluated.
      */
-    public final void addRelationship(Exp bindingExpression, MTType destination, Exp bindingCondition,
+    public synchronized final void addRelationship(Exp bindingExpression, MTType destination, Exp bindingCondition,
             Scope environment) {
         // Sanitize and sanity check our inputs somewhat
         if (destination == null) {
@@ -416,6 +480,12 @@ public class TypeGraph {
         // We'd like to force the presence of the destination node
         getTypeNode(destinationCanonicalResult.canonicalType);
 
+        // Any check that failed before this relationship might succeed now
+        myRelationshipGeneration++;
+        if (!isUniversalBindingExpression(bindingExpression)) {
+            myHasCompoundBindingExpressions = true;
+        }
+
         // Print debugging messages if the flag is on.
         if (myCompileEnvironment.flags.isFlagSet(Populator.FLAG_POPULATOR_DEBUG)) {
             StringBuffer sb = new StringBuffer();
@@ -476,6 +546,65 @@ public class TypeGraph {
         return result;
     }
 
+    /**
+     * <p>
+     * Returns the number of subtype and element checks that were answered using a previously failed check.
+     * </p>
+     *
+     * @return The number of cache hits.
+     */
+    public synchronized final long getFailedCheckCacheHits() {
+        return myFailedCheckCacheHits;
+    }
+
+    /**
+     * <p>
+     * Returns the number of subtype and element checks that couldn't be answered using a previously failed check.
+     * </p>
+     *
+     * @return The number of cache misses.
+     */
+    public synchronized final long getFailedCheckCacheMisses() {
+        return myFailedCheckCacheMisses;
+    }
+
+    /**
+     * <p>
+     * Returns the number of relationships that have been added to this graph. Anything computed using this graph is
+     * still valid as long as this number hasn't changed.
+     * </p>
+     *
+     * @return The current relationship generation.
+     */
+    public synchronized final int getRelationshipGeneration() {
+        return myRelationshipGeneration;
+    }
+
+    /**
+     * <p>
+     * Returns the resources for reasoning about types that belong to the calling thread.
+     * </p>
+     *
+     * @return The calling thread's {@link PerThreadReasoningResources}.
+     */
+    public final PerThreadReasoningResources getThreadResources() {
+        return myThreadResources.get();
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> <strong>iff</strong> one of the relationships in this graph binds a compound
+     * expression, such as <code>|i|</code>, or a constant rather than a universally quantified variable (or tuple). If
+     * it doesn't, the answer to <code>isKnownToBeIn(value, expected)</code> only depends on the type (or type value) of
+     * <code>value</code>.
+     * </p>
+     *
+     * @return <code>true</code> <strong>iff</strong> there is a relationship that binds a compound expression.
+     */
+    public synchronized final boolean hasCompoundBindingExpressions() {
+        return myHasCompoundBindingExpressions;
+    }
+
     /**
      * <p>
      * Returns <code>true</code> <strong>iff</strong> <code>value</code> is known to definitely be a member of
@@ -483,8 +612,8 @@ public class TypeGraph {
      * </p>
      *
      * <p>
-     * I.e., this is the same as asking if <code>getValidTypeConditions(value, expected)</code> 1) doesn't throw an
-     * exception and 2) returns a value for which <code>isLiteralTrue()</code> returns <code>true</code>.
+     * I.e., this is the same as asking if <code>getValidTypeConditions(value, expected)</code> 1) doesn't return
+     * <code>null</code> and 2) returns a value for which <code>isLiteralTrue()</code> returns <code>true</code>.
      * </p>
      *
      * @param value
@@ -494,17 +623,10 @@ public class TypeGraph {
      *
      * @return <code>true</code> <strong>iff</strong> <code>value</code> is definitely in <code>expected</code>.
      */
-    public final boolean isKnownToBeIn(Exp value, MTType expected) {
-        boolean result;
+    public synchronized final boolean isKnownToBeIn(Exp value, MTType expected) {
+        Exp conditions = getValidTypeConditions(value, expected);
 
-        try {
-            Exp conditions = getValidTypeConditions(value, expected);
-            result = MathExp.isLiteralTrue(conditions);
-        } catch (TypeMismatchException e) {
-            result = false;
-        }
-
-        return result;
+        return conditions != null && MathExp.isLiteralTrue(conditions);
     }
 
     /**
@@ -514,8 +636,8 @@ public class TypeGraph {
      * </p>
      *
      * <p>
-     * I.e., this is the same as asking if <code>getValidTypeConditions(value, expected)</code> 1) doesn't throw an
-     * exception and 2) returns a value for which <code>isLiteralTrue()</code> returns <code>true</code>.
+     * I.e., this is the same as asking if <code>getValidTypeConditions(value, expected)</code> 1) doesn't return
+     * <code>null</code> and 2) returns a value for which <code>isLiteralTrue()</code> returns <code>true</code>.
      * </p>
      *
      * @param value
@@ -526,30 +648,9 @@ public class TypeGraph {
      * @return <code>true</code> <strong>iff</strong> <code>value</code> is definitely in <code>expected</code>.
      */
     public final boolean isKnownToBeIn(MTType value, MTType expected) {
-        boolean result;
-
         EstablishedRelationship r = new EstablishedRelationship(value, expected);
 
-        // If the type of the given value is a subtype of the expected type, then
-        // its value must necessarily be in the expected type. Note we can't
-        // reason about the type of CLS, so we exclude it
-        result = myEstablishedElements.contains(r)
-                || (value != CLS) && (value != ENTITY) && isSubtype(value.getType(), expected);
-
-        if (!result) {
-            try {
-                Exp conditions = getValidTypeConditions(value, expected);
-                result = MathExp.isLiteralTrue(conditions);
-            } catch (TypeMismatchException e) {
-                result = false;
-            }
-        }
-
-        if (result) {
-            myEstablishedElements.add(r);
-        }
-
-        return result;
+        return myEstablishedElements.contains(r) || checkKnownToBeIn(r, value, expected);
     }
 
     /**
@@ -567,45 +668,10 @@ public class TypeGraph {
      *         <code>supertype</code>.
      */
     public final boolean isSubtype(MTType subtype, MTType supertype) {
-        boolean result;
-
         EstablishedRelationship r = new EstablishedRelationship(subtype, supertype);
 
-        try {
-            result = supertype == ENTITY || supertype == CLS || myEstablishedSubtypes.contains(r)
-                    || subtype.equals(supertype) || subtype.isSyntacticSubtypeOf(supertype);
-
-            // Attempt to see if the subtype's type is a subtype of
-            // the supertype. This comes up in a categorical definition
-            // when the parameters have been introduced, but not yet added
-            // to the type graph. - YS
-            if (!result && subtype.getType() != null) {
-                MTType subtypetype = subtype.getType();
-                EstablishedRelationship r2 = new EstablishedRelationship(subtypetype, supertype);
-                result = myEstablishedSubtypes.contains(r2) || subtypetype.equals(subtype)
-                        || subtypetype.isSyntacticSubtypeOf(supertype);
-            }
-        } catch (NoSuchElementException nsee) {
-            // Syntactic subtype checker freaks out (rightly) if there are
-            // free variables in the expression, but the next check will deal
-            // correctly with them.
-            result = false;
-        }
-
-        if (!result) {
-            try {
-                Exp conditions = getValidTypeConditions(subtype, new MTPowerclassApplication(this, supertype));
-                result = MathExp.isLiteralTrue(conditions);
-            } catch (TypeMismatchException e) {
-                result = false;
-            }
-        }
-
-        if (result) {
-            myEstablishedSubtypes.add(r);
-        }
-
-        return result;
+        return supertype == ENTITY || supertype == CLS || myEstablishedSubtypes.contains(r)
+                || checkSubtype(r, subtype, supertype);
     }
 
     /**
@@ -616,7 +682,7 @@ public class TypeGraph {
      * @return Object as a string.
      */
     @Override
-    public final String toString() {
+    public synchronized final String toString() {
         StringBuilder str = new StringBuilder();
 
         Iterator<MTType> keysIterator = myTypeNodes.keySet().iterator();
@@ -662,6 +728,106 @@ public class TypeGraph {
                 canonicalizer.getCanonicalToEnvironmentOriginalMapping());
     }
 
+    /**
+     * <p>
+     * An helper method that checks to see if <code>value</code>, which is known to identify a <strong>MType</strong>,
+     * is known to definitely be a member of <code>expected</code> when it isn't an established relationship yet.
+     * </p>
+     *
+     * @param r
+     *            The relationship we are checking.
+     * @param value
+     *            The <code>RESOLVE</code> value to test for membership.
+     * @param expected
+     *            A <code>RESOLVE</code> type against which to test membership.
+     *
+     * @return <code>true</code> <strong>iff</strong> <code>value</code> is definitely in <code>expected</code>.
+     */
+    private synchronized boolean checkKnownToBeIn(EstablishedRelationship r, MTType value, MTType expected) {
+        boolean result;
+
+        if (!myEstablishedElements.contains(r) && isKnownFailure(myFailedElements, r)) {
+            return false;
+        }
+
+        // If the type of the given value is a subtype of the expected type, then
+        // its value must necessarily be in the expected type. Note we can't
+        // reason about the type of CLS, so we exclude it
+        result = myEstablishedElements.contains(r)
+                || (value != CLS) && (value != ENTITY) && isSubtype(value.getType(), expected);
+
+        if (!result) {
+            Exp conditions = getValidTypeConditions(value, expected);
+            result = conditions != null && MathExp.isLiteralTrue(conditions);
+        }
+
+        if (result) {
+            myEstablishedElements.add(r);
+        } else {
+            myFailedElements.put(r, myRelationshipGeneration);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if every value in <code>subtype</code> must necessarily be in
+     * <code>supertype</code> when it isn't an established relationship yet.
+     * </p>
+     *
+     * @param r
+     *            The relationship we are checking.
+     * @param subtype
+     *            A type to test if it is subsumed by <code>supertype</code>.
+     * @param supertype
+     *            A type to test if it subsumes <code>subtype</code>.
+     *
+     * @return Returns <code>true</code> <strong>iff</strong> every value in <code>subtype</code> must necessarily be in
+     *         <code>supertype</code>.
+     */
+    private synchronized boolean checkSubtype(EstablishedRelationship r, MTType subtype, MTType supertype) {
+        boolean result;
+
+        if (!myEstablishedSubtypes.contains(r) && isKnownFailure(myFailedSubtypes, r)) {
+            return false;
+        }
+
+        try {
+            result = myEstablishedSubtypes.contains(r) || subtype.equals(supertype)
+                    || subtype.isSyntacticSubtypeOf(supertype);
+
+            // Attempt to see if the subtype's type is a subtype of
+            // the supertype. This comes up in a categorical definition
+            // when the parameters have been introduced, but not yet added
+            // to the type graph. - YS
+            if (!result && subtype.getType() != null) {
+                MTType subtypetype = subtype.getType();
+                EstablishedRelationship r2 = new EstablishedRelationship(subtypetype, supertype);
+                result = myEstablishedSubtypes.contains(r2) || subtypetype.equals(subtype)
+                        || subtypetype.isSyntacticSubtypeOf(supertype);
+            }
+        } catch (NoSuchElementException nsee) {
+            // Syntactic subtype checker freaks out (rightly) if there are
+            // free variables in the expression, but the next check will deal
+            // correctly with them.
+            result = false;
+        }
+
+        if (!result) {
+            Exp conditions = getValidTypeConditions(subtype, new MTPowerclassApplication(this, supertype));
+            result = conditions != null && MathExp.isLiteralTrue(conditions);
+        }
+
+        if (result) {
+            myEstablishedSubtypes.add(r);
+        } else {
+            myFailedSubtypes.put(r, myRelationshipGeneration);
+        }
+
+        return result;
+    }
+
     /**
      * <p>
      * Returns a new {@link Exp} with the appropriate substitutions.
@@ -797,8 +963,7 @@ public class TypeGraph {
      * <p>
      * Returns the conditions required to establish that <code>foundValue</code> is a member of the type represented by
      * <code>expectedEntry</code> along the path from <code>foundEntry</code> to <code>expectedEntry</code>. If no such
-     * conditions exist (i.e., if the conditions would be <code>false</code>), throws a
-     * <code>TypeMismatchException</code>.
+     * conditions exist (i.e., if the conditions would be <code>false</code>), returns <code>null</code>.
      * </p>
      *
      * @param foundValue
@@ -811,14 +976,11 @@ public class TypeGraph {
      * @param pathStrategy
      *            The strategy for following the path between <code>foundEntry</code> and <code>expectedEntry</code>.
      *
-     * @return The conditions under which the path can be followed.
-     *
-     * @throws TypeMismatchException
-     *             If the conditions under which the path can be followed would be <code>false</code>.
+     * @return The conditions under which the path can be followed, or <code>null</code> if they would be
+     *         <code>false</code>.
      */
     private <V> Exp getPathConditions(V foundValue, Map.Entry<MTType, Map<String, MTType>> foundEntry,
-            Map.Entry<MTType, Map<String, MTType>> expectedEntry, NodePairPathStrategy<V> pathStrategy)
-            throws TypeMismatchException {
+            Map.Entry<MTType, Map<String, MTType>> expectedEntry, NodePairPathStrategy<V> pathStrategy) {
         Map<String, MTType> combinedBindings = new HashMap<>();
 
         combinedBindings.clear();
@@ -846,10 +1008,9 @@ public class TypeGraph {
         Map<String, MTType> bindings;
 
         for (MTType potential : myTypeNodes.keySet()) {
-            try {
-                bindings = query.getSyntacticSubtypeBindings(potential);
+            bindings = query.findSyntacticSubtypeBindings(potential);
+            if (bindings != null) {
                 result.put(potential, new HashMap<>(bindings));
-            } catch (NoSolutionException nse) {
             }
         }
 
@@ -891,8 +1052,8 @@ public class TypeGraph {
      *
      * <p>
      * If there is no known set of circumstances under which <code>value</code> could be demonstrated a member of
-     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method throws a
-     * <code>TypeMismatchException</code>.
+     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method returns
+     * <code>null</code>.
      * </p>
      *
      * @param value
@@ -900,13 +1061,10 @@ public class TypeGraph {
      * @param expected
      *            A <code>RESOLVE</code> type against which to test membership.
      *
-     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>.
-     *
-     * @throws TypeMismatchException
-     *             If there are no known conditions under which <code>value</code> could be demonstrated to be in
-     *             <code>expected</code>.
+     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>, or
+     *         <code>null</code> if there are none.
      */
-    private Exp getValidTypeConditions(MTType value, MTType expected) throws TypeMismatchException {
+    private Exp getValidTypeConditions(MTType value, MTType expected) {
         // See note in the getValidTypeConditionsTo() in TypeRelationship,
         // re: Lovecraftian nightmare-scape
 
@@ -940,21 +1098,19 @@ public class TypeGraph {
             // At this stage, we've done everything safe and sensible that we can
             // do if the value we're looking at exists outside Entity
             if (value == CLS || value == ENTITY) {
-                throw new TypeMismatchException("Unexpected mathematical type: " + value);
+                return null;
             }
 
-            try {
-                Exp intermediateResult = getValidTypeConditions(value, value.getType(), expected, MTTYPE_VALUE_PATH);
+            Exp intermediateResult = getValidTypeConditions(value, value.getType(), expected, MTTYPE_VALUE_PATH);
 
-                if (MathExp.isLiteralTrue(intermediateResult)) {
-                    result = intermediateResult;
-                } else {
-                    result = MathExp.formDisjunct(result.getLocation(), result, intermediateResult);
-                }
-            } catch (TypeMismatchException tme) {
+            if (intermediateResult == null) {
                 if (MathExp.isLiteralFalse(result)) {
-                    throw tme;
+                    result = null;
                 }
+            } else if (MathExp.isLiteralTrue(intermediateResult)) {
+                result = intermediateResult;
+            } else {
+                result = MathExp.formDisjunct(result.getLocation(), result, intermediateResult);
             }
         }
 
@@ -975,8 +1131,8 @@ public class TypeGraph {
      *
      * <p>
      * If there is no known set of circumstances under which <code>value</code> could be demonstrated a member of
-     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method throws a
-     * <code>TypeMismatchException</code>.
+     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method returns
+     * <code>null</code>.
      * </p>
      *
      * @param value
@@ -984,13 +1140,10 @@ public class TypeGraph {
      * @param expected
      *            A <code>RESOLVE</code> type against which to test membership.
      *
-     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>.
-     *
-     * @throws TypeMismatchException
-     *             If there are no known conditions under which <code>value</code> could be demonstrated to be in
-     *             <code>expected</code>.
+     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>, or
+     *         <code>null</code> if there are none.
      */
-    private Exp getValidTypeConditions(Exp value, MTType expected) throws TypeMismatchException {
+    private Exp getValidTypeConditions(Exp value, MTType expected) {
         Exp result;
 
         MTType valueTypeValue = value.getMathTypeValue();
@@ -1001,7 +1154,7 @@ public class TypeGraph {
             result = MathExp.getTrueVarExp(null, this);
         } else if (valueTypeValue == CLS || valueTypeValue == ENTITY) {
             // MType and Entity aren't in anything
-            throw new TypeMismatchException("Unexpected mathematical type: " + value);
+            result = null;
         } else if (valueTypeValue == null) {
             result = getValidTypeConditions(value, value.getMathType(), expected, EXP_VALUE_PATH);
         } else {
@@ -1028,8 +1181,8 @@ public class TypeGraph {
      *
      * <p>
      * If there is no known set of circumstances under which <code>value</code> could be demonstrated a member of
-     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method throws a
-     * <code>TypeMismatchException</code>.
+     * <code>expected</code> (i.e., if the return value would simply be <code>false</code>), this method returns
+     * <code>null</code>.
      * </p>
      *
      * @param foundValue
@@ -1039,14 +1192,11 @@ public class TypeGraph {
      * @param expected
      *            A <code>RESOLVE</code> type against which to test membership.
      *
-     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>.
-     *
-     * @throws TypeMismatchException
-     *             If there are no known conditions under which <code>value</code> could be demonstrated to be in
-     *             <code>expected</code>.
+     * @return The conditions under which <code>value</code> could be demonstrated to be in <code>expected</code>, or
+     *         <code>null</code> if there are none.
      */
     private <V> Exp getValidTypeConditions(V foundValue, MTType foundType, MTType expected,
-            NodePairPathStrategy<V> pathStrategy) throws TypeMismatchException {
+            NodePairPathStrategy<V> pathStrategy) {
         if (foundType == null) {
             throw new IllegalArgumentException(foundValue + " has no type.");
         }
@@ -1076,15 +1226,14 @@ public class TypeGraph {
 
                 expectedEntry = expectedEntries.next();
 
-                try {
-                    newCondition = getPathConditions(foundValue, foundEntry, expectedEntry, pathStrategy);
+                newCondition = getPathConditions(foundValue, foundEntry, expectedEntry, pathStrategy);
 
+                if (newCondition != null) {
                     foundPath = foundPath | !MathExp.isLiteralFalse(newCondition);
 
                     foundTrivialPath = MathExp.isLiteralTrue(newCondition);
 
                     result = MathExp.formDisjunct(newCondition.getLocation(), newCondition, result);
-                } catch (TypeMismatchException e) {
                 }
             }
         }
@@ -1092,7 +1241,7 @@ public class TypeGraph {
         if (foundTrivialPath) {
             result = MathExp.getTrueVarExp(null, this);
         } else if (!foundPath) {
-            throw new TypeMismatchException("No path found!");
+            result = null;
         }
 
         return result;
@@ -1200,6 +1349,54 @@ public class TypeGraph {
         return result;
     }
 
+    /**
+     * <p>
+     * An helper method that checks to see if {@code r} has already failed in the current relationship generation and
+     * updates the hit/miss counters accordingly.
+     * </p>
+     *
+     * @param failedChecks
+     *            The failed checks for the kind of check we are performing.
+     * @param r
+     *            The relationship we are checking.
+     *
+     * @return {@code true} if we already know the check fails, {@code false} otherwise.
+     */
+    private boolean isKnownFailure(Map<EstablishedRelationship, Integer> failedChecks, EstablishedRelationship r) {
+        Integer generation = failedChecks.get(r);
+        if (generation != null && generation == myRelationshipGeneration) {
+            myFailedCheckCacheHits++;
+            return true;
+        }
+
+        myFailedCheckCacheMisses++;
+        return false;
+    }
+
+    /**
+     * <p>
+     * An helper method that indicates whether or not {@code bindingExpression} binds any value of the right type, i.e.
+     * it is a universally quantified variable or tuple.
+     * </p>
+     *
+     * @param bindingExpression
+     *            The binding expression of a type relationship.
+     *
+     * @return {@code true} if it only looks at the type of the value it binds, {@code false} otherwise.
+     */
+    private static boolean isUniversalBindingExpression(Exp bindingExpression) {
+        boolean result;
+        if (bindingExpression instanceof VarExp) {
+            result = ((VarExp) bindingExpression).getQuantification() == SymbolTableEntry.Quantification.UNIVERSAL;
+        } else if (bindingExpression instanceof TupleExp) {
+            result = ((TupleExp) bindingExpression).isUniversallyQuantified();
+        } else {
+            result = false;
+        }
+
+        return result;
+    }
+
     /**
      * <p>
      * An helper method that replaces {@link TypeRelationshipPredicate TypeRelationshipPredicates}.
@@ -1376,13 +1573,11 @@ public class TypeGraph {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return An {@link Exp} with the valid type conditions between the types.
-         *
-         * @throws TypeMismatchException
-         *             We cannot establish a type condition between the types for {@code sourceValue}.
+         * @return An {@link Exp} with the valid type conditions between the types, or {@code null} if we cannot
+         *         establish a type condition between the types for {@code sourceValue}.
          */
         Exp getValidTypeConditionsBetween(V sourceValue, MTType sourceType, MTType expectedType,
-                Map<String, MTType> bindings) throws TypeMismatchException;
+                Map<String, MTType> bindings);
 
     }
 
@@ -1408,15 +1603,13 @@ public class TypeGraph {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return An {@link Exp} with the valid type conditions between the types.
-         *
-         * @throws TypeMismatchException
-         *             We cannot establish a type condition between the types for {@code sourceValue}.
+         * @return An {@link Exp} with the valid type conditions between the types, or {@code null} if we cannot
+         *         establish a type condition between the types for {@code sourceValue}.
          */
         @Override
         public final Exp getValidTypeConditionsBetween(Exp sourceValue, MTType sourceType, MTType expectedType,
-                Map<String, MTType> bindings) throws TypeMismatchException {
-            return myTypeNodes.get(sourceType).getValidTypeConditionsTo(sourceValue, expectedType, bindings);
+                Map<String, MTType> bindings) {
+            return myTypeNodes.get(sourceType).findValidTypeConditionsTo(sourceValue, expectedType, bindings);
         }
 
     }
@@ -1443,15 +1636,13 @@ public class TypeGraph {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return An {@link Exp} with the valid type conditions between the types.
-         *
-         * @throws TypeMismatchException
-         *             We cannot establish a type condition between the types for {@code sourceValue}.
+         * @return An {@link Exp} with the valid type conditions between the types, or {@code null} if we cannot
+         *         establish a type condition between the types for {@code sourceValue}.
          */
         @Override
         public final Exp getValidTypeConditionsBetween(MTType sourceValue, MTType sourceType, MTType expectedType,
-                Map<String, MTType> bindings) throws TypeMismatchException {
-            return myTypeNodes.get(sourceType).getValidTypeConditionsTo(sourceValue, expectedType, bindings);
+                Map<String, MTType> bindings) {
+            return myTypeNodes.get(sourceType).findValidTypeConditionsTo(sourceValue, expectedType, bindings);
         }
 
     }
@@ -1645,7 +1836,8 @@ public class TypeGraph {
 
     /**
      * <p>
-     * An helper class that indicates an established type relationship between two {@link MTType MTTypes}.
+     * An helper class that indicates a type relationship between two {@link MTType MTTypes} that we have either
+     * established or failed to establish.
      * </p>
      */
     private static class EstablishedRelationship {
@@ -1723,4 +1915,46 @@ public class TypeGraph {
 
     }
 
+    /**
+     * <p>
+     * An helper class that remembers a bounded number of failed checks. Once it is full, the least recently used check
+     * is forgotten.
+     * </p>
+     */
+    private static class FailedCheckCache extends LinkedHashMap<EstablishedRelationship, Integer> {
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an empty cache.
+         * </p>
+         */
+        FailedCheckCache() {
+            super(16, 0.75f, true);
+        }
+
+        // ===========================================================
+        // Protected Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method indicates whether or not we should remove the least recently used check.
+         * </p>
+         *
+         * @param eldest
+         *            The least recently used check.
+         *
+         * @return {@code true} if the cache is over capacity, {@code false} otherwise.
+         */
+        @Override
+        protected final boolean removeEldestEntry(Map.Entry<EstablishedRelationship, Integer> eldest) {
+            return size() > FAILED_CHECK_CACHE_CAPACITY;
+        }
+
+    }
+
 }
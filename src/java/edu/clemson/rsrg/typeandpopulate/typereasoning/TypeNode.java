@@ -123,8 +123,12 @@ public class TypeNode {
      */
     public final Exp getValidTypeConditionsTo(Exp value, MTType dst, Map<String, MTType> bindings)
             throws TypeMismatchException {
+        Exp result = findValidTypeConditionsTo(value, dst, bindings);
+        if (result == null) {
+            throw new TypeMismatchException("The value: " + value + " already has an established relationship.");
+        }
 
-        return getValidTypeConditionsTo(value, dst, bindings, EXP_VALUE_PATH);
+        return result;
     }
 
     /**
@@ -147,8 +151,12 @@ public class TypeNode {
      */
     public final Exp getValidTypeConditionsTo(MTType value, MTType dst, Map<String, MTType> bindings)
             throws TypeMismatchException {
+        Exp result = findValidTypeConditionsTo(value, dst, bindings);
+        if (result == null) {
+            throw new TypeMismatchException("The value: " + value + " already has an established relationship.");
+        }
 
-        return getValidTypeConditionsTo(value, dst, bindings, MTTYPE_VALUE_PATH);
+        return result;
     }
 
     /**
@@ -199,6 +207,44 @@ public class TypeNode {
         bucket.add(relationship);
     }
 
+    /**
+     * <p>
+     * This is the same as {@link #getValidTypeConditionsTo(Exp, MTType, Map)}, except that it returns {@code null}
+     * instead of throwing a {@link TypeMismatchException} when this node has no relationships to {@code dst}.
+     * </p>
+     *
+     * @param value
+     *            The {@link Exp} to be evaluated.
+     * @param dst
+     *            The type that we are trying to establish a relationship to.
+     * @param bindings
+     *            Map of established type bindings.
+     *
+     * @return An {@link Exp} establishing the relationship or {@code null}.
+     */
+    final Exp findValidTypeConditionsTo(Exp value, MTType dst, Map<String, MTType> bindings) {
+        return findValidTypeConditionsTo(value, dst, bindings, EXP_VALUE_PATH);
+    }
+
+    /**
+     * <p>
+     * This is the same as {@link #getValidTypeConditionsTo(MTType, MTType, Map)}, except that it returns {@code null}
+     * instead of throwing a {@link TypeMismatchException} when this node has no relationships to {@code dst}.
+     * </p>
+     *
+     * @param value
+     *            The {@link MTType} to be evaluated.
+     * @param dst
+     *            The type that we are trying to establish a relationship to.
+     * @param bindings
+     *            Map of established type bindings.
+     *
+     * @return An {@link Exp} establishing the relationship or {@code null}.
+     */
+    final Exp findValidTypeConditionsTo(MTType value, MTType dst, Map<String, MTType> bindings) {
+        return findValidTypeConditionsTo(value, dst, bindings, MTTYPE_VALUE_PATH);
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -220,34 +266,30 @@ public class TypeNode {
      * @param <V>
      *            This could either be a {@link MTType} or a {@link Exp}.
      *
-     * @return An {@link Exp} establishing the relationship.
-     *
-     * @throws TypeMismatchException
+     * @return An {@link Exp} establishing the relationship or {@code null} if this node has no relationships to
+     *         {@code dst}.
      */
-    private <V> Exp getValidTypeConditionsTo(V value, MTType dst, Map<String, MTType> bindings,
-            RelationshipPathStrategy<V> pathStrategy) throws TypeMismatchException {
-
-        if (!myRelationships.containsKey(dst)) {
-            throw new TypeMismatchException("The value: " + value + " already has an established relationship.");
+    private <V> Exp findValidTypeConditionsTo(V value, MTType dst, Map<String, MTType> bindings,
+            RelationshipPathStrategy<V> pathStrategy) {
+        Set<TypeRelationship> relationships = myRelationships.get(dst);
+        if (relationships == null) {
+            return null;
         }
 
         Exp finalConditions = MathExp.getFalseVarExp(null, myTypeGraph);
-        Set<TypeRelationship> relationships = myRelationships.get(dst);
         boolean foundTrivialPath = false;
         Iterator<TypeRelationship> relationshipIter = relationships.iterator();
         TypeRelationship relationship;
         Exp relationshipConditions;
         while (!foundTrivialPath && relationshipIter.hasNext()) {
             relationship = relationshipIter.next();
+            relationshipConditions = pathStrategy.getValidTypeConditionsAlong(relationship, value, bindings);
 
-            try {
-                relationshipConditions = pathStrategy.getValidTypeConditionsAlong(relationship, value, bindings);
-
+            if (relationshipConditions != null) {
                 foundTrivialPath = (MathExp.isLiteralTrue(relationshipConditions));
 
                 finalConditions = MathExp.formDisjunct(relationshipConditions.getLocation(), relationshipConditions,
                         finalConditions);
-            } catch (NoSolutionException nse) {
             }
         }
 
@@ -284,12 +326,9 @@ public class TypeNode {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return The expression that binds the value to the type relationship.
-         *
-         * @throws NoSolutionException
+         * @return The expression that binds the value to the type relationship, or {@code null} if there isn't one.
          */
-        Exp getValidTypeConditionsAlong(TypeRelationship relationship, V value, Map<String, MTType> bindings)
-                throws NoSolutionException;
+        Exp getValidTypeConditionsAlong(TypeRelationship relationship, V value, Map<String, MTType> bindings);
 
     }
 
@@ -312,15 +351,18 @@ public class TypeNode {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return The expression that binds the value to the type relationship.
-         *
-         * @throws NoSolutionException
+         * @return The expression that binds the value to the type relationship, or {@code null} if there isn't one.
          */
         @Override
-        public Exp getValidTypeConditionsAlong(TypeRelationship relationship, Exp value, Map<String, MTType> bindings)
-                throws NoSolutionException {
+        public Exp getValidTypeConditionsAlong(TypeRelationship relationship, Exp value, Map<String, MTType> bindings) {
+            Exp result;
+            try {
+                result = relationship.getValidTypeConditionsTo(value, bindings);
+            } catch (NoSolutionException nse) {
+                result = null;
+            }
 
-            return relationship.getValidTypeConditionsTo(value, bindings);
+            return result;
         }
 
     }
@@ -344,15 +386,12 @@ public class TypeNode {
          * @param bindings
          *            Map of established type bindings.
          *
-         * @return The expression that binds the value to the type relationship.
-         *
-         * @throws NoSolutionException
+         * @return The expression that binds the value to the type relationship, or {@code null} if there isn't one.
          */
         @Override
         public Exp getValidTypeConditionsAlong(TypeRelationship relationship, MTType value,
-                Map<String, MTType> bindings) throws NoSolutionException {
-
-            return relationship.getValidTypeConditionsTo(value, bindings);
+                Map<String, MTType> bindings) {
+            return relationship.findValidTypeConditionsTo(value, bindings);
         }
 
     }
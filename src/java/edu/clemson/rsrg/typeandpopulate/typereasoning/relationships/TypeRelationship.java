@@ -106,6 +106,67 @@ public class TypeRelationship {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Returns a substituted expression generated from binding condition with the mathematical type bounded to it, or
+     * {@code null} if {@code value} doesn't bind to our binding expression or the static predicates do not hold.
+     * Failing is the common case when the type graph searches for a path, so this doesn't construct any exceptions.
+     * </p>
+     *
+     * @param value
+     *            The {@link MTType} value object we are binding.
+     * @param typeBindings
+     *            Map of established type bindings.
+     *
+     * @return The substituted expression that got the mathematical type to bind to or {@code null}.
+     */
+    public final Exp findValidTypeConditionsTo(MTType value, Map<String, MTType> typeBindings) {
+
+        // The Exp hierarchy is a Lovecraftian nightmare-scape. If we can avoid
+        // having to reason about it, we will. So while we could certainly
+        // convert "value" into an Exp and piggy-back on the logic of the other
+        // version of this method, we won't.
+
+        MTType bindingExpressionTypeValue = myBindingExpression.getTypeValue();
+        if (bindingExpressionTypeValue == null) {
+            // If our bindingExpression doesn't define a type, there's no way
+            // it binds to a type
+            return null;
+        }
+
+        MTType substitutedValue = TypeGraph.getCopyWithVariablesSubstituted(value, typeBindings);
+        MTType substitutedBinding = TypeGraph.getCopyWithVariablesSubstituted(bindingExpressionTypeValue, typeBindings);
+
+        Map<String, MTType> internalBindings = substitutedValue.tryBindTo(substitutedBinding, typeBindings);
+        if (internalBindings == null) {
+            return null;
+        }
+
+        // TODO : Converting from MTTypes to Exps is a bitch, and right now our
+        // typing system shouldn't really permit any type binding to
+        // occur (this situation would be caught in the TypeGraph as an
+        // unbound quantifier). We just ignore internalBindings for now,
+        // all we care about is that the above would have returned null
+        // if we couldn't bind.
+
+        boolean holdsSoFar = true;
+        Iterator<TypeRelationshipPredicate> predicates = myStaticPredicates.iterator();
+        while (holdsSoFar && predicates.hasNext()) {
+            holdsSoFar = predicates.next().canBeDemonstratedStatically(value.getType(), myDestinationType, typeBindings,
+                    new HashMap<String, Exp>());
+        }
+
+        if (!holdsSoFar) {
+            return null;
+        }
+
+        // This is a valid typing, just need to pretty up our binding
+        // conditions and return them
+        Exp result = TypeGraph.getCopyWithVariablesSubstituted(myBindingCondition, typeBindings);
+
+        return result;
+    }
+
     /**
      * <p>
      * Returns the binding expression as a string.
@@ -167,51 +228,11 @@ public class TypeRelationship {
      */
     public final Exp getValidTypeConditionsTo(MTType value, Map<String, MTType> typeBindings)
             throws NoSolutionException {
-
-        // The Exp hierarchy is a Lovecraftian nightmare-scape. If we can avoid
-        // having to reason about it, we will. So while we could certainly
-        // convert "value" into an Exp and piggy-back on the logic of the other
-        // version of this method, we won't.
-
-        MTType bindingExpressionTypeValue = myBindingExpression.getTypeValue();
-        if (bindingExpressionTypeValue == null) {
-            // If our bindingExpression doesn't define a type, there's no way
-            // it binds to a type
+        Exp result = findValidTypeConditionsTo(value, typeBindings);
+        if (result == null) {
             throw new NoSolutionException("", new BindingException(value, myBindingExpression));
         }
 
-        MTType substitutedValue = TypeGraph.getCopyWithVariablesSubstituted(value, typeBindings);
-        MTType substitutedBinding = TypeGraph.getCopyWithVariablesSubstituted(bindingExpressionTypeValue, typeBindings);
-
-        Map<String, MTType> internalBindings;
-        try {
-            internalBindings = substitutedValue.bindTo(substitutedBinding, typeBindings);
-        } catch (BindingException be) {
-            throw new NoSolutionException(be.getMessage(), be);
-        }
-
-        // TODO : Converting from MTTypes to Exps is a bitch, and right now our
-        // typing system shouldn't really permit any type binding to
-        // occur (this situation would be caught in the TypeGraph as an
-        // unbound quantifier). We just ignore internalBindings for now,
-        // all we care about is that the above would have thrown an
-        // BindingException if we couldn't bind.
-
-        boolean holdsSoFar = true;
-        Iterator<TypeRelationshipPredicate> predicates = myStaticPredicates.iterator();
-        while (holdsSoFar && predicates.hasNext()) {
-            holdsSoFar = predicates.next().canBeDemonstratedStatically(value.getType(), myDestinationType, typeBindings,
-                    new HashMap<String, Exp>());
-        }
-
-        if (!holdsSoFar) {
-            throw new NoSolutionException("Predicates do not hold.", null);
-        }
-
-        // This is a valid typing, just need to pretty up our binding
-        // conditions and return them
-        Exp result = TypeGraph.getCopyWithVariablesSubstituted(myBindingCondition, typeBindings);
-
         return result;
     }
 
@@ -69,6 +69,13 @@ public class ModuleParameterization {
      */
     private final FacilityEntry myInstantiatingFacility;
 
+    /**
+     * <p>
+     * The instantiated scope for the module. This is {@code null} until we build it.
+     * </p>
+     */
+    private volatile InstantiatedScope myInstantiatedScope;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -154,6 +161,13 @@ public class ModuleParameterization {
      *         parameters.
      */
     public final Scope getScope(boolean instantiated) {
+        // Neither the module's formal parameters nor the facility's arguments change once
+        // we have been able to instantiate them, so the instantiated scope is only built once.
+        InstantiatedScope instantiatedScope = myInstantiatedScope;
+        if (instantiated && instantiatedScope != null) {
+            return instantiatedScope;
+        }
+
         Scope result;
 
         try {
@@ -185,7 +199,10 @@ public class ModuleParameterization {
                     genericInstantiations = getGenericInstantiations(originalScope, myParameters);
                 }
 
-                result = new InstantiatedScope(originalScope, genericInstantiations, myInstantiatingFacility);
+                instantiatedScope = new InstantiatedScope(originalScope, genericInstantiations,
+                        myInstantiatingFacility);
+                myInstantiatedScope = instantiatedScope;
+                result = instantiatedScope;
             }
         } catch (NoSuchSymbolException nsse) {
             // Shouldn't be possible--we'd have caught it by now
@@ -76,6 +76,7 @@ import edu.clemson.rsrg.vcgeneration.proofrules.other.WhichEntailsRule;
 import edu.clemson.rsrg.vcgeneration.proofrules.statements.*;
 import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
+import edu.clemson.rsrg.vcgeneration.utilities.NoOpSTGroup;
 import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationContext;
@@ -86,6 +87,8 @@ import edu.clemson.rsrg.vcgeneration.utilities.helperstmts.InitializeVarStmt;
 import edu.clemson.rsrg.vcgeneration.utilities.helperstmts.VCConfirmStmt;
 import edu.clemson.rsrg.vcgeneration.utilities.treewalkers.ConceptSharedStateExtractor;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
@@ -200,6 +203,22 @@ public class VCGenerator extends TreeWalkerVisitor {
      */
     private final Deque<AssertiveCodeBlock> myIncompleteAssertiveCodeBlocks;
 
+    /**
+     * <p>
+     * The number of worker threads used to apply the statement proof rules to the {@link AssertiveCodeBlock
+     * AssertiveCodeBlocks}.
+     * </p>
+     */
+    private final int myNumThreads;
+
+    /**
+     * <p>
+     * Whether or not the {@link AssertiveCodeBlock AssertiveCodeBlocks} we create share the expressions that don't
+     * change instead of deep copying them.
+     * </p>
+     */
+    private final boolean myShareUnchangedSubExpressions;
+
     // -----------------------------------------------------------
     // Output-Related
     // -----------------------------------------------------------
@@ -213,7 +232,8 @@ public class VCGenerator extends TreeWalkerVisitor {
 
     /**
      * <p>
-     * String template groups for storing all the VC generation details.
+     * String template groups for storing all the VC generation details. If no one is going to look at the details, this
+     * is a {@link NoOpSTGroup}.
      * </p>
      */
     private final STGroup mySTGroup;
@@ -233,6 +253,10 @@ public class VCGenerator extends TreeWalkerVisitor {
     private static final String FLAG_DESC_VERIFY_VC = "Generate VCs.";
     private static final String FLAG_DESC_PERF_VC = "Generate Performance VCs";
     private static final String FLAG_DESC_ADD_CONSTRAINT = "Add constraints as givens.";
+    private static final String FLAG_DESC_SHARE_EXPS = "Share the unchanged parts of expressions instead of copying them.";
+    private static final String FLAG_DESC_NO_VC_DETAILS = "Don't record the details of how the VCs were generated.";
+    private static final String FLAG_DESC_VCGEN_THREADS = "Number of Worker Threads Used to Generate VCs in Parallel.";
+    private static final String[] FLAG_THREADS_ARGS = { "numThreads" };
 
     // ===========================================================
     // Flags
@@ -260,6 +284,32 @@ public class VCGenerator extends TreeWalkerVisitor {
     public static final Flag FLAG_ADD_CONSTRAINT = new Flag(FLAG_SECTION_NAME, "addConstraints",
             FLAG_DESC_ADD_CONSTRAINT);
 
+    /**
+     * <p>
+     * Tells the compiler to share the sub-expressions that are left untouched by substitutions (as well as the
+     * statements of cloned assertive code blocks) instead of deep copying them. This can't be combined with
+     * {@code -vcgenThreads}.
+     * </p>
+     */
+    public static final Flag FLAG_SHARE_EXPS = new Flag(FLAG_SECTION_NAME, "shareExps", FLAG_DESC_SHARE_EXPS,
+            Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tells the compiler not to record the proof rule applications that generated the VCs. This is already the case
+     * when there aren't any output listeners to hand the details to.
+     * </p>
+     */
+    public static final Flag FLAG_NO_VC_DETAILS = new Flag(FLAG_SECTION_NAME, "noVCDetails", FLAG_DESC_NO_VC_DETAILS);
+
+    /**
+     * <p>
+     * Specify number of worker threads used to apply the statement proof rules to the assertive code blocks.
+     * </p>
+     */
+    private static final Flag FLAG_VCGEN_THREADS = new Flag(FLAG_SECTION_NAME, "vcgenThreads", FLAG_DESC_VCGEN_THREADS,
+            FLAG_THREADS_ARGS, Flag.Type.HIDDEN);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code VCGenerator}.
@@ -271,6 +321,13 @@ public class VCGenerator extends TreeWalkerVisitor {
         // Make sure we have one of these on.
         Flag[] dependencies = { FLAG_VERIFY_VC, FLAG_PVCS_VC };
         FlagDependencies.addRequires(FLAG_ADD_CONSTRAINT, dependencies);
+        FlagDependencies.addRequires(FLAG_SHARE_EXPS, dependencies);
+        FlagDependencies.addRequires(FLAG_NO_VC_DETAILS, dependencies);
+        FlagDependencies.addRequires(FLAG_VCGEN_THREADS, dependencies);
+
+        // Cloned blocks share their statements when expressions are shared,
+        // so those blocks can't be handed to different worker threads.
+        FlagDependencies.addExcludes(FLAG_SHARE_EXPS, FLAG_VCGEN_THREADS);
     }
 
     // ===========================================================
@@ -295,7 +352,24 @@ public class VCGenerator extends TreeWalkerVisitor {
         myFinalAssertiveCodeBlocks = new LinkedList<>();
         myIncompleteAssertiveCodeBlocks = new LinkedList<>();
         myRealizInitFinalOuterDec = null;
-        mySTGroup = new STGroupFile("templates/VCGenVerboseOutput.stg");
+        myShareUnchangedSubExpressions = myCompileEnvironment.flags.isFlagSet(FLAG_SHARE_EXPS);
+
+        // Number of worker threads
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_VCGEN_THREADS)) {
+            myNumThreads = Math.max(1,
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_VCGEN_THREADS, "numThreads")));
+        } else {
+            myNumThreads = 1;
+        }
+
+        // Only build the verbose output models if someone is going to use them
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_NO_VC_DETAILS)
+                || myCompileEnvironment.getOutputListeners().isEmpty()) {
+            mySTGroup = new NoOpSTGroup();
+        } else {
+            mySTGroup = new STGroupFile("templates/VCGenVerboseOutput.stg");
+        }
+
         myTypeGraph = myBuilder.getTypeGraph();
         myVariableTypeEntries = new LinkedHashMap<>();
         myVCGenDetailsModel = mySTGroup.getInstanceOf("outputVCGenDetails");
@@ -344,7 +418,9 @@ public class VCGenerator extends TreeWalkerVisitor {
                     blockModel.add("blockName", dec.getName());
 
                     FacilityDeclRule ruleApplication = new FacilityDeclRule(facDec, false, myBuilder,
-                            myCurrentModuleScope, new AssertiveCodeBlock(facDec.getName(), facDec, myTypeGraph),
+                            myCurrentModuleScope,
+                            new AssertiveCodeBlock(facDec.getName(), facDec, myTypeGraph,
+                                    myShareUnchangedSubExpressions),
                             myCurrentVerificationContext, mySTGroup, blockModel);
                     ruleApplication.applyRule();
 
@@ -396,23 +472,28 @@ public class VCGenerator extends TreeWalkerVisitor {
      */
     @Override
     public final void postModuleDec(ModuleDec dec) {
-        // Loop through our incomplete assertive code blocks until it is empty
-        while (!myIncompleteAssertiveCodeBlocks.isEmpty()) {
-            // Use the first assertive code block in the incomplete blocks list
-            // as our current assertive code block.
-            myCurrentAssertiveCodeBlock = myIncompleteAssertiveCodeBlocks.removeFirst();
+        if (myNumThreads > 1 && myIncompleteAssertiveCodeBlocks.size() > 1) {
+            applyStatementRulesInParallel();
+        } else {
+            // Loop through our incomplete assertive code blocks until it is empty
+            while (!myIncompleteAssertiveCodeBlocks.isEmpty()) {
+                // Use the first assertive code block in the incomplete blocks list
+                // as our current assertive code block.
+                myCurrentAssertiveCodeBlock = myIncompleteAssertiveCodeBlocks.removeFirst();
 
-            applyStatementRules(myCurrentAssertiveCodeBlock);
+                applyStatementRules(myCurrentAssertiveCodeBlock, myIncompleteAssertiveCodeBlocks,
+                        myAssertiveCodeBlockModels);
 
-            // Render the assertive block model
-            ST blockModel = myAssertiveCodeBlockModels.remove(myCurrentAssertiveCodeBlock);
-            myVCGenDetailsModel.add("assertiveCodeBlocks", blockModel.render());
+                // Render the assertive block model
+                ST blockModel = myAssertiveCodeBlockModels.remove(myCurrentAssertiveCodeBlock);
+                myVCGenDetailsModel.add("assertiveCodeBlocks", blockModel.render());
 
-            // Add this to our final assertive code block list
-            myFinalAssertiveCodeBlocks.add(myCurrentAssertiveCodeBlock);
+                // Add this to our final assertive code block list
+                myFinalAssertiveCodeBlocks.add(myCurrentAssertiveCodeBlock);
 
-            // Set the current assertive code block to null
-            myCurrentAssertiveCodeBlock = null;
+                // Set the current assertive code block to null
+                myCurrentAssertiveCodeBlock = null;
+            }
         }
 
         // Assign a name to all of the VCs
@@ -620,7 +701,8 @@ public class VCGenerator extends TreeWalkerVisitor {
     @Override
     public final void postFacilityDec(FacilityDec dec) {
         // Create a new assertive code block
-        myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph);
+        myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph,
+                myShareUnchangedSubExpressions);
 
         // Add shared variables in scope to the free variable's list
         addSharedVarsToFreeVariableList(myCurrentAssertiveCodeBlock);
@@ -685,10 +767,10 @@ public class VCGenerator extends TreeWalkerVisitor {
         if (dec.getRecursive()) {
             // Store any decreasing clauses for future use
             myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, correspondingOperation,
-                    dec.getDecreasing().getAssertionExp(), myTypeGraph);
+                    dec.getDecreasing().getAssertionExp(), myTypeGraph, myShareUnchangedSubExpressions);
         } else {
             myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, correspondingOperation,
-                    myTypeGraph);
+                    myTypeGraph, myShareUnchangedSubExpressions);
         }
 
         // Add shared variables in scope to the free variable's list
@@ -793,10 +875,10 @@ public class VCGenerator extends TreeWalkerVisitor {
         if (dec.getRecursive()) {
             // Store any decreasing clauses for future use
             myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, correspondingOperation,
-                    dec.getDecreasing().getAssertionExp(), myTypeGraph);
+                    dec.getDecreasing().getAssertionExp(), myTypeGraph, myShareUnchangedSubExpressions);
         } else {
             myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(dec.getName(), dec, correspondingOperation,
-                    myTypeGraph);
+                    myTypeGraph, myShareUnchangedSubExpressions);
         }
 
         // Add shared variables in scope to the free variable's list
@@ -920,7 +1002,8 @@ public class VCGenerator extends TreeWalkerVisitor {
         if (prevChild instanceof AssertionClause
                 && ((AssertionClause) prevChild).getClauseType().equals(AssertionClause.ClauseType.CORRESPONDENCE)) {
             // Create a new assertive code block
-            AssertiveCodeBlock block = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph);
+            AssertiveCodeBlock block = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph,
+                    myShareUnchangedSubExpressions);
 
             // Add shared variables in scope to the free variable's list
             addSharedVarsToFreeVariableList(block);
@@ -1027,7 +1110,8 @@ public class VCGenerator extends TreeWalkerVisitor {
         if (prevChild instanceof AssertionClause
                 && ((AssertionClause) prevChild).getClauseType().equals(AssertionClause.ClauseType.CORRESPONDENCE)) {
             // Create a new assertive code block
-            AssertiveCodeBlock block = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph);
+            AssertiveCodeBlock block = new AssertiveCodeBlock(dec.getName(), dec, myTypeGraph,
+                    myShareUnchangedSubExpressions);
 
             // Add shared variables in scope to the free variable's list
             addSharedVarsToFreeVariableList(block);
@@ -1078,7 +1162,8 @@ public class VCGenerator extends TreeWalkerVisitor {
     @Override
     public final void preRealizInitFinalItem(RealizInitFinalItem item) {
         // Create a new assertive code block
-        myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(myRealizInitFinalOuterDec.getName(), item, myTypeGraph);
+        myCurrentAssertiveCodeBlock = new AssertiveCodeBlock(myRealizInitFinalOuterDec.getName(), item, myTypeGraph,
+                myShareUnchangedSubExpressions);
 
         // Add shared variables in scope to the free variable's list
         addSharedVarsToFreeVariableList(myCurrentAssertiveCodeBlock);
@@ -1349,7 +1434,8 @@ public class VCGenerator extends TreeWalkerVisitor {
             // Create a new assertive code block
             PosSymbol name = new PosSymbol(clause.getWhichEntailsExp().getLocation().clone(),
                     "Which_Entails Expression Located at " + clause.getWhichEntailsExp().getLocation());
-            AssertiveCodeBlock block = new AssertiveCodeBlock(name, clause, myTypeGraph);
+            AssertiveCodeBlock block = new AssertiveCodeBlock(name, clause, myTypeGraph,
+                    myShareUnchangedSubExpressions);
 
             // Add shared variables in scope to the free variable's list
             addSharedVarsToFreeVariableList(block);
@@ -1393,7 +1479,7 @@ public class VCGenerator extends TreeWalkerVisitor {
      * This method returns the verbose mode output with how we generated the {@code VCs} for this {@link ModuleDec}.
      * </p>
      *
-     * @return A string containing lots of details.
+     * @return A string containing lots of details or an empty string if we didn't record them.
      */
     public final String getVerboseModeOutput() {
         return myVCGenDetailsModel.render();
@@ -1547,10 +1633,17 @@ public class VCGenerator extends TreeWalkerVisitor {
      * @param assertiveCodeBlock
      *            An assertive block that we are trying apply the proof rules to the various {@link Statement
      *            Statements}.
+     * @param incompleteBlocks
+     *            The incomplete assertive code blocks. Any new blocks generated by the proof rules are added to the
+     *            front.
+     * @param blockModels
+     *            The models for the assertive code blocks. The model for {@code assertiveCodeBlock} is replaced by its
+     *            final version and the models for any new blocks are added.
      */
-    private void applyStatementRules(AssertiveCodeBlock assertiveCodeBlock) {
+    private void applyStatementRules(AssertiveCodeBlock assertiveCodeBlock, Deque<AssertiveCodeBlock> incompleteBlocks,
+            Map<AssertiveCodeBlock, ST> blockModels) {
         // Obtain the assertive code block model
-        ST blockModel = myAssertiveCodeBlockModels.remove(assertiveCodeBlock);
+        ST blockModel = blockModels.remove(assertiveCodeBlock);
 
         // Apply a statement proof rule to each of the assertions.
         while (assertiveCodeBlock.hasMoreStatements()) {
@@ -1636,11 +1729,11 @@ public class VCGenerator extends TreeWalkerVisitor {
             Deque<AssertiveCodeBlock> resultingBlocks = ruleApplication.getAssertiveCodeBlocks();
             assertiveCodeBlock = resultingBlocks.removeFirst();
             while (!resultingBlocks.isEmpty()) {
-                myIncompleteAssertiveCodeBlocks.addFirst(resultingBlocks.removeLast());
+                incompleteBlocks.addFirst(resultingBlocks.removeLast());
             }
 
             // Store any new block models
-            myAssertiveCodeBlockModels.putAll(ruleApplication.getNewAssertiveCodeBlockModels());
+            blockModels.putAll(ruleApplication.getNewAssertiveCodeBlockModels());
 
             // Update our block model
             blockModel = ruleApplication.getBlockModel();
@@ -1655,7 +1748,44 @@ public class VCGenerator extends TreeWalkerVisitor {
             blockModel.add("branchingConditions", test.render());
         }
 
-        myAssertiveCodeBlockModels.put(assertiveCodeBlock, blockModel);
+        blockModels.put(assertiveCodeBlock, blockModel);
+    }
+
+    /**
+     * <p>
+     * An helper method that applies the statement proof rules to the incomplete {@link AssertiveCodeBlock
+     * AssertiveCodeBlocks} on a pool of worker threads. Once created, each block only reads the verification context,
+     * the symbol table and the type graph, so the blocks can be processed independently. This relies on the blocks not
+     * sharing any expressions, which is why {@link #FLAG_SHARE_EXPS} excludes {@link #FLAG_VCGEN_THREADS}.
+     * </p>
+     *
+     * <p>
+     * The final blocks and their models are collected in the same order as the sequential loop in
+     * {@link #postModuleDec(ModuleDec)} would have, so the {@code VC} names and the verbose output stay deterministic.
+     * </p>
+     */
+    private void applyStatementRulesInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(myNumThreads);
+        try {
+            List<AssertiveCodeBlockTask> tasks = new ArrayList<>(myIncompleteAssertiveCodeBlocks.size());
+            while (!myIncompleteAssertiveCodeBlocks.isEmpty()) {
+                AssertiveCodeBlock block = myIncompleteAssertiveCodeBlocks.removeFirst();
+                AssertiveCodeBlockTask task = new AssertiveCodeBlockTask(block,
+                        myAssertiveCodeBlockModels.remove(block));
+                pool.execute(task);
+                tasks.add(task);
+            }
+
+            // Wait for each of the blocks in order
+            for (AssertiveCodeBlockTask task : tasks) {
+                for (CompletedAssertiveCodeBlock completedBlock : task.join()) {
+                    myVCGenDetailsModel.add("assertiveCodeBlocks", completedBlock.renderedBlockModel);
+                    myFinalAssertiveCodeBlocks.add(completedBlock.block);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
     /**
@@ -1922,4 +2052,142 @@ public class VCGenerator extends TreeWalkerVisitor {
 
         return retExp;
     }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A task that applies the statement proof rules to an {@link AssertiveCodeBlock} and then to any new blocks
+     * generated by the proof rules.
+     * </p>
+     */
+    private final class AssertiveCodeBlockTask extends RecursiveTask<List<CompletedAssertiveCodeBlock>> {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The assertive code block we are processing.
+         * </p>
+         */
+        private final AssertiveCodeBlock myBlock;
+
+        /**
+         * <p>
+         * The model for {@code myBlock}.
+         * </p>
+         */
+        private final ST myBlockModel;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates a task for processing {@code block}.
+         * </p>
+         *
+         * @param block
+         *            An assertive code block.
+         * @param blockModel
+         *            The model for {@code block}.
+         */
+        AssertiveCodeBlockTask(AssertiveCodeBlock block, ST blockModel) {
+            myBlock = block;
+            myBlockModel = blockModel;
+        }
+
+        // ===========================================================
+        // Protected Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method processes our block and returns it, followed by all the blocks generated from it, in the order
+         * the sequential loop would have completed them.
+         * </p>
+         *
+         * @return A list of {@link CompletedAssertiveCodeBlock CompletedAssertiveCodeBlocks}.
+         */
+        @Override
+        protected final List<CompletedAssertiveCodeBlock> compute() {
+            Deque<AssertiveCodeBlock> newBlocks = new LinkedList<>();
+            Map<AssertiveCodeBlock, ST> blockModels = new LinkedHashMap<>();
+            blockModels.put(myBlock, myBlockModel);
+
+            // Any helper walkers created on this worker thread must use the same engine as this visitor
+            TreeWalker.withDefaultDispatch(isUsingReflectiveDispatch(), () -> {
+                applyStatementRules(myBlock, newBlocks, blockModels);
+                return null;
+            });
+
+            List<CompletedAssertiveCodeBlock> completedBlocks = new ArrayList<>();
+            completedBlocks.add(new CompletedAssertiveCodeBlock(myBlock, blockModels.remove(myBlock).render()));
+
+            // Any new blocks are processed as sub-tasks
+            List<AssertiveCodeBlockTask> subTasks = new ArrayList<>(newBlocks.size());
+            for (AssertiveCodeBlock newBlock : newBlocks) {
+                subTasks.add(new AssertiveCodeBlockTask(newBlock, blockModels.remove(newBlock)));
+            }
+            invokeAll(subTasks);
+
+            for (AssertiveCodeBlockTask subTask : subTasks) {
+                completedBlocks.addAll(subTask.join());
+            }
+
+            return completedBlocks;
+        }
+
+    }
+
+    /**
+     * <p>
+     * A final {@link AssertiveCodeBlock} and its rendered model.
+     * </p>
+     */
+    private static final class CompletedAssertiveCodeBlock {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The final assertive code block.
+         * </p>
+         */
+        private final AssertiveCodeBlock block;
+
+        /**
+         * <p>
+         * The rendered model for {@code block}.
+         * </p>
+         */
+        private final String renderedBlockModel;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an object that stores a final assertive code block and its rendered model.
+         * </p>
+         *
+         * @param block
+         *            The final assertive code block.
+         * @param renderedBlockModel
+         *            The rendered model for {@code block}.
+         */
+        CompletedAssertiveCodeBlock(AssertiveCodeBlock block, String renderedBlockModel) {
+            this.block = block;
+            this.renderedBlockModel = renderedBlockModel;
+        }
+
+    }
 }
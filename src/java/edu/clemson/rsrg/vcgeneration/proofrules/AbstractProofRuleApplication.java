@@ -24,6 +24,7 @@ import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
+import edu.clemson.rsrg.vcgeneration.utilities.NoOpSTGroup;
 import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationContext;
@@ -227,7 +228,7 @@ public abstract class AbstractProofRuleApplication implements ProofRuleApplicati
             myCurrentAssertiveCodeBlock.setVCs(newVCs);
         }
 
-        return originalExp.substitute(substitutions);
+        return originalExp.substitute(substitutions, myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions());
     }
 
     /**
@@ -331,7 +332,19 @@ public abstract class AbstractProofRuleApplication implements ProofRuleApplicati
             substitutionMap.put(formalArgsIt.next(), actualArgsIt.next());
         }
 
-        return retExp.substitute(substitutionMap);
+        return retExp.substitute(substitutionMap, myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions());
+    }
+
+    /**
+     * <p>
+     * An helper method that indicates whether or not someone is going to look at the details of this {@code Proof Rule}
+     * application.
+     * </p>
+     *
+     * @return {@code true} if we are recording the details in the output models, {@code false} otherwise.
+     */
+    protected final boolean isRecordingDetails() {
+        return !(mySTGroup instanceof NoOpSTGroup);
     }
 
     // ===========================================================
@@ -353,13 +366,14 @@ public abstract class AbstractProofRuleApplication implements ProofRuleApplicati
     private Sequent createReplacementSequent(Sequent s, Map<Exp, Exp> substitutions) {
         List<Exp> newAntecedents = new ArrayList<>();
         List<Exp> newConsequents = new ArrayList<>();
+        boolean shareUnchangedSubExpressions = myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions();
 
         for (Exp antencedent : s.getAntecedents()) {
-            newAntecedents.add(antencedent.substitute(substitutions));
+            newAntecedents.add(antencedent.substitute(substitutions, shareUnchangedSubExpressions));
         }
 
         for (Exp consequent : s.getConcequents()) {
-            newConsequents.add(consequent.substitute(substitutions));
+            newConsequents.add(consequent.substitute(substitutions, shareUnchangedSubExpressions));
         }
 
         return new Sequent(s.getLocation(), newAntecedents, newConsequents);
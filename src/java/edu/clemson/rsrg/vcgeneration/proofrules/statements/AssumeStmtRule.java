@@ -16,7 +16,6 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.EqualsExp.Operator;
 import edu.clemson.rsrg.absyn.statements.AssumeStmt;
-import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
@@ -130,7 +129,7 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
             // YS: We really want to record the split into conjuncts
             // as some kind of reduction, so we build a reduction tree
             // ourselves.
-            if (assumeExps.size() != 1) {
+            if (assumeExps.size() != 1 && isRecordingDetails()) {
                 Graph<Sequent, DefaultEdge> reductionTree = new DefaultDirectedGraph<>(DefaultEdge.class);
 
                 // Create a root node using the original assumeExp and
@@ -212,7 +211,8 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
      *
      * <p>
      * For a regular assume statement, we loop though keep looping through the remaining assume expressions until we
-     * stop adding more expression to our antecedent.
+     * stop adding more expression to our antecedent. An index from symbols to the pending assume expressions lets us
+     * find the ones that become relevant without checking all of them again.
      * </p>
      *
      * @param seq
@@ -229,88 +229,79 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
         // If it is stipulate statement, keep it no matter what
         if (myAssumeStmt.getIsStipulate()) {
             seqAntecedents.addAll(remAssumeExpList);
-        } else {
-            // This boolean condition will store whether or
-            // not we keep checking the remAssumeExpList for
-            // more potential antecedents. To start of, if
-            // the list is empty, the obvious answer is no.
-            boolean checkForMoreAntecedents = !remAssumeExpList.isEmpty();
-
-            // Loop until we no longer add more expressions or
-            // we have added all expressions in the remaining
-            // assume expression list.
-            while (checkForMoreAntecedents) {
-                List<Exp> tmpExpList = new ArrayList<>();
-
-                // Check to see if we have added something to our
-                // antecedent set.
-                boolean addedToAntecendentSet = false;
-                for (Exp assumeExp : remAssumeExpList) {
-                    // Get the set of symbols in the antecedent
-                    Set<String> symbolsInSeq = new LinkedHashSet<>();
-                    for (Exp antecedentExp : seqAntecedents) {
-                        // Use the symbol name extractor to retrieve
-                        // unique symbol names.
-                        UniqueSymbolNameExtractor symbolNameExtractor = new UniqueSymbolNameExtractor();
-                        TreeWalker.visit(symbolNameExtractor, antecedentExp);
-                        symbolsInSeq.addAll(symbolNameExtractor.getSymbols());
-                    }
+        } else if (!remAssumeExpList.isEmpty()) {
+            // Get the set of symbols in the antecedents and consequents.
+            // Note that the symbols of each expression are only extracted
+            // once and then cached on the expression.
+            Set<String> symbolsInSeq = new HashSet<>();
+            for (Exp antecedentExp : seqAntecedents) {
+                symbolsInSeq.addAll(UniqueSymbolNameExtractor.getUniqueSymbols(antecedentExp));
+            }
+            for (Exp consequentExp : seqConsequents) {
+                symbolsInSeq.addAll(UniqueSymbolNameExtractor.getUniqueSymbols(consequentExp));
+            }
 
-                    // Get the set of symbols in the consequent
-                    for (Exp consequentExp : seqConsequents) {
-                        // Use the symbol name extractor to retrieve
-                        // unique symbol names.
-                        UniqueSymbolNameExtractor symbolNameExtractor = new UniqueSymbolNameExtractor();
-                        TreeWalker.visit(symbolNameExtractor, consequentExp);
-                        symbolsInSeq.addAll(symbolNameExtractor.getSymbols());
+            // YS: We used to loop through the remaining assume expressions until
+            // we stop adding more expressions to our antecedent. Each pass only
+            // admits the expressions that have common symbols with the sequent
+            // (Parsimonious step), so rather than checking every expression on
+            // every pass, we only keep track of the ones that have become relevant.
+            // The relevant expressions are processed in the same order as the
+            // passes would have, so the resulting sequent is the same.
+            NavigableSet<Integer> relevantExpIndices = new TreeSet<>();
+            Map<String, List<Integer>> pendingExpIndicesBySymbol = new HashMap<>();
+            for (int i = 0; i < remAssumeExpList.size(); i++) {
+                Exp assumeExp = remAssumeExpList.get(i);
+                Set<String> symbolsInAssumeExp = UniqueSymbolNameExtractor.getUniqueSymbols(assumeExp);
+
+                // Add this as a new antecedent if there are common symbols
+                // or if we have "Assume false".
+                if (VarExp.isLiteralFalse(assumeExp) || !Collections.disjoint(symbolsInSeq, symbolsInAssumeExp)) {
+                    relevantExpIndices.add(i);
+                }
+                // We might need to check this again if in the future
+                // another expression in remAssumeExpList makes this
+                // assumeExp have common symbols with anything in our sequent.
+                else {
+                    for (String symbol : symbolsInAssumeExp) {
+                        pendingExpIndicesBySymbol.computeIfAbsent(symbol, k -> new ArrayList<>()).add(i);
                     }
+                }
+            }
 
-                    // Add this as a new antecedent if there are common symbols
-                    // in the assume expression and in the sequent. (Parsimonious step)
-                    Set<String> intersection = new LinkedHashSet<>(symbolsInSeq);
-                    UniqueSymbolNameExtractor symbolNameExtractor = new UniqueSymbolNameExtractor();
-                    TreeWalker.visit(symbolNameExtractor, assumeExp);
-                    intersection.retainAll(symbolNameExtractor.getSymbols());
-
-                    // There are common symbols!
-                    if (!intersection.isEmpty()) {
-                        // Don't add this as an antecedent if we have "Assume true"
-                        if (!VarExp.isLiteralTrue(assumeExp)) {
-                            seqAntecedents.add(assumeExp.clone());
-                            addedToAntecendentSet = true;
-                        }
-                    }
-                    // There are no common symbols!
-                    else {
-                        // Add this as a new antecedent if we have "Assume false"
-                        if (VarExp.isLiteralFalse(assumeExp)) {
-                            seqAntecedents.add(assumeExp.clone());
-                            addedToAntecendentSet = true;
-                        }
-                        // We might need to check this again if in the future
-                        // another expression in remAssumeExpList makes this
-                        // assumeExp have common symbols with anything in our sequent.
-                        else {
-                            tmpExpList.add(assumeExp);
+            boolean[] isProcessed = new boolean[remAssumeExpList.size()];
+            int currentIndex = -1;
+            while (!relevantExpIndices.isEmpty()) {
+                // Continue the current pass if we can, otherwise
+                // start a new pass from the beginning.
+                Integer nextIndex = relevantExpIndices.higher(currentIndex);
+                if (nextIndex == null) {
+                    nextIndex = relevantExpIndices.first();
+                }
+                relevantExpIndices.remove(nextIndex);
+                isProcessed[nextIndex] = true;
+                currentIndex = nextIndex;
+
+                // Don't add this as an antecedent if we have "Assume true"
+                Exp assumeExp = remAssumeExpList.get(currentIndex);
+                if (!VarExp.isLiteralTrue(assumeExp)) {
+                    seqAntecedents.add(assumeExp.clone());
+
+                    // Any new symbols might make some of the pending
+                    // expressions relevant.
+                    for (String symbol : UniqueSymbolNameExtractor.getUniqueSymbols(assumeExp)) {
+                        if (symbolsInSeq.add(symbol)) {
+                            List<Integer> pendingExpIndices = pendingExpIndicesBySymbol.remove(symbol);
+                            if (pendingExpIndices != null) {
+                                for (int pendingIndex : pendingExpIndices) {
+                                    if (!isProcessed[pendingIndex]) {
+                                        relevantExpIndices.add(pendingIndex);
+                                    }
+                                }
+                            }
                         }
                     }
                 }
-
-                // Use whatever we have in tmpExpList as our new
-                // remAssumeExpList
-                remAssumeExpList = tmpExpList;
-                if (remAssumeExpList.size() > 0) {
-                    // Check to see if we added something to as
-                    // a new antecedent. If we did, then we will
-                    // need to loop again to see if we can add any
-                    // more. If we didn't, then none of the remaining
-                    // expressions will be helpful.
-                    checkForMoreAntecedents = addedToAntecendentSet;
-                } else {
-                    // Since we are done with all assume expressions,
-                    // we can quit out of the loop.
-                    checkForMoreAntecedents = false;
-                }
             }
         }
 
@@ -390,7 +381,8 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
      */
     private List<Sequent> reducedSequentForm(Sequent sequent, ST stepModel) {
         // Apply the various sequent reduction rules.
-        SequentReduction reduction = new SequentReduction(sequent);
+        // We only need the reduction tree if we are recording the details.
+        SequentReduction reduction = new SequentReduction(sequent, isRecordingDetails());
         List<Sequent> resultSequents = reduction.applyReduction();
         Graph<Sequent, DefaultEdge> reductionTree = reduction.getReductionTree();
 
@@ -459,7 +451,7 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
     private List<Exp> substituteExps(List<Exp> expressions, Map<Exp, Exp> replacements) {
         List<Exp> newExps = new ArrayList<>();
         for (Exp exp : expressions) {
-            newExps.add(exp.substitute(replacements));
+            newExps.add(exp.substitute(replacements, myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions()));
         }
 
         return newExps;
@@ -574,14 +566,16 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
             // Replace all instances of the left side in
             // the assume expressions we have already processed.
             for (int k = 0; k < remAssumeExpList.size(); k++) {
-                Exp newAssumeExp = remAssumeExpList.get(k).substitute(substitutions);
+                Exp newAssumeExp = remAssumeExpList.get(k).substitute(substitutions,
+                        myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions());
                 remAssumeExpList.set(k, newAssumeExp);
             }
 
             // Replace all instances of the left side in
             // the assume expressions we haven't processed.
             for (int k = j + 1; k < assumeExpCopyList.size(); k++) {
-                Exp newAssumeExp = assumeExpCopyList.get(k).substitute(substitutions);
+                Exp newAssumeExp = assumeExpCopyList.get(k).substitute(substitutions,
+                        myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions());
                 assumeExpCopyList.set(k, newAssumeExp);
             }
 
@@ -156,7 +156,8 @@ public class ConfirmStmtRule extends AbstractProofRuleApplication implements Pro
         // in the confirm statement.
         Sequent sequentToBeReduced = new Sequent(myConfirmStmt.getLocation(), new ArrayList<Exp>(),
                 Collections.singletonList(myConfirmStmt.getAssertion()));
-        SequentReduction reduction = new SequentReduction(sequentToBeReduced);
+        // We only need the reduction tree if we are recording the details.
+        SequentReduction reduction = new SequentReduction(sequentToBeReduced, isRecordingDetails());
         List<Sequent> resultSequents = reduction.applyReduction();
         Graph<Sequent, DefaultEdge> reductionTree = reduction.getReductionTree();
 
@@ -12,6 +12,7 @@
  */
 package edu.clemson.rsrg.vcgeneration.proofrules.statements;
 
+import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.statements.AssumeStmt;
 import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.absyn.statements.PresumeStmt;
@@ -85,12 +86,14 @@ public class PresumeStmtRule extends AbstractProofRuleApplication implements Pro
         // Add a new confirm statement followed by an assume statement
         // generated by the presume statement to the assertive code block.
         // YS: We clone the location and expression to avoid aliasing.
-        myPresumeStmt.getAssertion().setLocationDetailModel(new LocationDetailModel(myPresumeStmt.getLocation().clone(),
+        // The presume statement might be shared with other assertive code blocks,
+        // so the location detail goes on our copy of the assertion.
+        Exp assertion = myPresumeStmt.getAssertion().clone();
+        assertion.setLocationDetailModel(new LocationDetailModel(myPresumeStmt.getLocation().clone(),
                 myPresumeStmt.getLocation().clone(), "Presume Statement Assertion"));
-        myCurrentAssertiveCodeBlock.addStatement(
-                new ConfirmStmt(myPresumeStmt.getLocation().clone(), myPresumeStmt.getAssertion().clone(), false));
-        myCurrentAssertiveCodeBlock.addStatement(
-                new AssumeStmt(myPresumeStmt.getLocation().clone(), myPresumeStmt.getAssertion().clone(), false));
+        myCurrentAssertiveCodeBlock
+                .addStatement(new ConfirmStmt(myPresumeStmt.getLocation().clone(), assertion.clone(), false));
+        myCurrentAssertiveCodeBlock.addStatement(new AssumeStmt(myPresumeStmt.getLocation().clone(), assertion, false));
 
         // Add the different details to the various different output models
         ST stepModel = mySTGroup.getInstanceOf("outputVCGenStep");
@@ -118,13 +118,15 @@ public class RememberStmtRule extends AbstractProofRuleApplication implements Pr
     private Sequent createReplacementSequent(Sequent s) {
         List<Exp> newAntecedents = new ArrayList<>();
         List<Exp> newConsequents = new ArrayList<>();
+        boolean shareUnchangedSubExpressions = myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions();
 
         for (Exp antecedent : s.getAntecedents()) {
             // Use the helper walker to generate the "remember"
             // expression for the antecedent.
             GenerateRememberRuleSubstitutionMap expMapGenerator = new GenerateRememberRuleSubstitutionMap(antecedent);
             TreeWalker.visit(expMapGenerator, antecedent);
-            newAntecedents.add(antecedent.substitute(expMapGenerator.getSubstitutionMap()));
+            newAntecedents
+                    .add(antecedent.substitute(expMapGenerator.getSubstitutionMap(), shareUnchangedSubExpressions));
         }
 
         for (Exp consequent : s.getConcequents()) {
@@ -132,7 +134,8 @@ public class RememberStmtRule extends AbstractProofRuleApplication implements Pr
             // expression for the consequent.
             GenerateRememberRuleSubstitutionMap expMapGenerator = new GenerateRememberRuleSubstitutionMap(consequent);
             TreeWalker.visit(expMapGenerator, consequent);
-            newConsequents.add(consequent.substitute(expMapGenerator.getSubstitutionMap()));
+            newConsequents
+                    .add(consequent.substitute(expMapGenerator.getSubstitutionMap(), shareUnchangedSubExpressions));
         }
 
         return new Sequent(s.getLocation(), newAntecedents, newConsequents);
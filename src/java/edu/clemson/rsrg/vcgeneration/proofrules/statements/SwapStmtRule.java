@@ -152,6 +152,7 @@ public class SwapStmtRule extends AbstractProofRuleApplication implements ProofR
     private Sequent performSwap(Sequent s) {
         List<Exp> newAntecedents = new ArrayList<>();
         List<Exp> newConsequents = new ArrayList<>();
+        boolean shareUnchangedSubExpressions = myCurrentAssertiveCodeBlock.isSharingUnchangedSubExpressions();
 
         // Substitution maps
         // YS: Need 3 substitution maps, because we don't
@@ -183,18 +184,18 @@ public class SwapStmtRule extends AbstractProofRuleApplication implements ProofR
 
         // Replace in antecedents.
         for (Exp antecedent : s.getAntecedents()) {
-            Exp newAntencedent = antecedent.substitute(substitutionMap1);
-            newAntencedent = newAntencedent.substitute(substitutionMap2);
-            newAntencedent = newAntencedent.substitute(substitutionMap3);
+            Exp newAntencedent = antecedent.substitute(substitutionMap1, shareUnchangedSubExpressions);
+            newAntencedent = newAntencedent.substitute(substitutionMap2, shareUnchangedSubExpressions);
+            newAntencedent = newAntencedent.substitute(substitutionMap3, shareUnchangedSubExpressions);
 
             newAntecedents.add(newAntencedent);
         }
 
         // Replace in consequents.
         for (Exp consequent : s.getConcequents()) {
-            Exp newConsequent = consequent.substitute(substitutionMap1);
-            newConsequent = newConsequent.substitute(substitutionMap2);
-            newConsequent = newConsequent.substitute(substitutionMap3);
+            Exp newConsequent = consequent.substitute(substitutionMap1, shareUnchangedSubExpressions);
+            newConsequent = newConsequent.substitute(substitutionMap2, shareUnchangedSubExpressions);
+            newConsequent = newConsequent.substitute(substitutionMap3, shareUnchangedSubExpressions);
 
             newConsequents.add(newConsequent);
         }
@@ -15,7 +15,6 @@ package edu.clemson.rsrg.vcgeneration.sequents;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.BasicCapabilities;
 import edu.clemson.rsrg.parsing.data.Location;
-import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
 import edu.clemson.rsrg.vcgeneration.utilities.treewalkers.AtomicFormulaChecker;
 import java.util.ArrayList;
@@ -141,17 +140,13 @@ public class Sequent implements BasicCapabilities, Cloneable {
         // First check our antecedents
         Iterator<Exp> antecedentIt = myAntecedents.iterator();
         while (antecedentIt.hasNext() && retval) {
-            AtomicFormulaChecker checker = new AtomicFormulaChecker();
-            TreeWalker.visit(checker, antecedentIt.next());
-            retval = checker.getIsAtomicFormula();
+            retval = AtomicFormulaChecker.isAtomicFormula(antecedentIt.next());
         }
 
         // Then check our consequents
         Iterator<Exp> consequentIt = myConcequents.iterator();
         while (consequentIt.hasNext() && retval) {
-            AtomicFormulaChecker checker = new AtomicFormulaChecker();
-            TreeWalker.visit(checker, consequentIt.next());
-            retval = checker.getIsAtomicFormula();
+            retval = AtomicFormulaChecker.isAtomicFormula(consequentIt.next());
         }
 
         return retval;
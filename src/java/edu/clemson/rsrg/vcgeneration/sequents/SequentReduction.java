@@ -42,6 +42,13 @@ public class SequentReduction {
     // Member Fields
     // ===========================================================
 
+    /**
+     * <p>
+     * A flag that indicates whether or not we need to build the reduction tree.
+     * </p>
+     */
+    private final boolean myBuildReductionTreeFlag;
+
     /**
      * <p>
      * A map that indicates if a particular {@link Sequent} had an impacting reduction.
@@ -76,13 +83,35 @@ public class SequentReduction {
 
     /**
      * <p>
-     * This creates an object that helps reduce a {@link Sequent}.
+     * This creates an object that helps reduce a {@link Sequent} and records the reduction tree.
      * </p>
      *
      * @param sequent
      *            A {@link Sequent} to be reduced.
      */
     public SequentReduction(Sequent sequent) {
+        this(sequent, true);
+    }
+
+    /**
+     * <p>
+     * This creates an object that helps reduce a {@link Sequent}.
+     * </p>
+     *
+     * <p>
+     * If we don't need the reduction tree, then it will only contain {@code sequent} and
+     * {@link #getImpactingReducedSequentMap()} will only contain {@code sequent} and the resulting {@link Sequent
+     * Sequents}.
+     * </p>
+     *
+     * @param sequent
+     *            A {@link Sequent} to be reduced.
+     * @param buildReductionTree
+     *            A flag that indicates whether or not we need to record the intermediate {@link Sequent Sequents} in
+     *            the reduction tree.
+     */
+    public SequentReduction(Sequent sequent, boolean buildReductionTree) {
+        myBuildReductionTreeFlag = buildReductionTree;
         myImpactingReducedSequentMap = new LinkedHashMap<>();
         myOriginalSequent = sequent;
         myReductionTree = new DefaultDirectedGraph<>(DefaultEdge.class);
@@ -107,86 +136,68 @@ public class SequentReduction {
      * @return A list of {@link Sequent Sequents}.
      */
     public final List<Sequent> applyReduction() {
-        Deque<Sequent> sequentsToBeReduced = new LinkedList<>();
+        // Each of the sequents waiting to be reduced is paired with
+        // a flag that indicates if it is the result of an impacting reduction.
+        Deque<Sequent> sequentsToBeReduced = new ArrayDeque<>();
+        Deque<Boolean> impactingReductionFlags = new ArrayDeque<>();
         List<Sequent> reducedSequents = new ArrayList<>();
 
         // Add the original sequent to the sequentsToBeReduced
         // and begin reducing it!
         sequentsToBeReduced.add(myOriginalSequent);
+        impactingReductionFlags.add(false);
         while (!sequentsToBeReduced.isEmpty()) {
             Sequent seq = sequentsToBeReduced.removeFirst();
+            boolean hasImpactingReduction = impactingReductionFlags.removeFirst();
 
             // Check to see if have a sequent with atomic formulas.
             // If we do, then we are done reducing the sequent!
             if (seq.consistOfAtomicFormulas()) {
                 reducedSequents.add(seq);
+
+                // The intermediate sequents are already in our map
+                // if we are building the reduction tree.
+                if (!myBuildReductionTreeFlag) {
+                    myImpactingReducedSequentMap.put(seq, hasImpactingReduction);
+                }
             }
             // Otherwise, apply the left and/or right reduction
             // rules to reduce it!
             else {
-                // Try to apply the left reduction rules
-                Deque<Sequent> leftReductionSeqs = applyLeftReductionRules(seq);
+                // Try to apply the left reduction rules. If none of
+                // them apply, we need to check our right reduction rules
+                // and see if there is any reduction to be applied.
+                ReductionRuleApplication ruleApplication = findLeftReductionRule(seq);
+                if (ruleApplication == null) {
+                    ruleApplication = findRightReductionRule(seq);
+                }
 
-                // It is an error if we don't get any sequents back.
-                if (leftReductionSeqs.isEmpty()) {
+                // If we didn't find any rules, it is an error. We must have incorrectly
+                // identified this as a sequent that didn't contain atomic formulas.
+                if (ruleApplication == null) {
                     throw new SourceErrorException(
                             "[VCGenerator] Error encountered during reduction. Sequent: " + seq
                                     + " either contains atomic formulas or one of the reduction rules is wrong!",
                             seq.getLocation());
-                } else if (leftReductionSeqs.size() == 1) {
-                    Sequent resultSequent = leftReductionSeqs.getFirst();
-
-                    // YS: Probably can do equality check here, but it is the same
-                    // as checking to see if we have an edge between "seq" and "resultSequent"
-                    // If there is an edge, then it means that we have done some kind of
-                    // reduction and we need to add it back to "sequentsToBeReduced" for
-                    // potentially more reductions.
-                    if (myReductionTree.containsEdge(seq, resultSequent)) {
-                        leftReductionSeqs.addAll(sequentsToBeReduced);
-                        sequentsToBeReduced = leftReductionSeqs;
-                    }
-                    // Otherwise, we need to check our right reduction rules and see if there is any
-                    // reduction to be applied.
-                    else {
-                        Deque<Sequent> rightReductionSeqs = applyRightReductionRules(resultSequent);
-
-                        // It is an error if we don't get any sequents back.
-                        if (rightReductionSeqs.isEmpty()) {
-                            throw new SourceErrorException("[VCGenerator] Error encountered during reduction. Sequent: "
-                                    + resultSequent
+                }
+
+                // It is also an error if we don't get any sequents back.
+                List<Sequent> resultSequents = applyAndAddToReductionTree(seq, hasImpactingReduction, ruleApplication);
+                if (resultSequents.isEmpty()) {
+                    throw new SourceErrorException(
+                            "[VCGenerator] Error encountered during reduction. Sequent: " + seq
                                     + " either contains atomic formulas or one of the reduction rules is wrong!",
-                                    resultSequent.getLocation());
-                        } else if (rightReductionSeqs.size() == 1) {
-                            resultSequent = rightReductionSeqs.getFirst();
-
-                            // We must have done some kind of reduction.
-                            if (myReductionTree.containsEdge(seq, resultSequent)) {
-                                rightReductionSeqs.addAll(sequentsToBeReduced);
-                                sequentsToBeReduced = rightReductionSeqs;
-                            }
-                            // If we didn't, then it is an error. We must have incorrectly
-                            // identified this as a sequent that didn't contain atomic formulas
-                            // or one of the reduction rules is wrong.
-                            else {
-                                throw new SourceErrorException(
-                                        "[VCGenerator] Error encountered during reduction. Sequent: " + resultSequent
-                                                + " either contains atomic formulas or one of the reduction rules is wrong!",
-                                        resultSequent.getLocation());
-                            }
-                        }
-                        // We definitely did some reduction because it generated more sequents,
-                        // so add it back to "sequentsToBeReduced" for potentially more reductions.
-                        else {
-                            rightReductionSeqs.addAll(sequentsToBeReduced);
-                            sequentsToBeReduced = rightReductionSeqs;
-                        }
-                    }
+                            seq.getLocation());
                 }
-                // We definitely did some reduction because it generated more sequents,
-                // so add it back to "sequentsToBeReduced" for potentially more reductions.
-                else {
-                    leftReductionSeqs.addAll(sequentsToBeReduced);
-                    sequentsToBeReduced = leftReductionSeqs;
+
+                // We definitely did some reduction, so add the resulting sequents
+                // to the front of "sequentsToBeReduced" for potentially more reductions.
+                boolean resultHasImpactingReduction = hasImpactingReduction
+                        || ruleApplication.isIsImpactingReductionFlag();
+                ListIterator<Sequent> resultIt = resultSequents.listIterator(resultSequents.size());
+                while (resultIt.hasPrevious()) {
+                    sequentsToBeReduced.addFirst(resultIt.previous());
+                    impactingReductionFlags.addFirst(resultHasImpactingReduction);
                 }
             }
         }
@@ -215,7 +226,8 @@ public class SequentReduction {
 
         SequentReduction that = (SequentReduction) o;
 
-        return myImpactingReducedSequentMap.equals(that.myImpactingReducedSequentMap)
+        return myBuildReductionTreeFlag == that.myBuildReductionTreeFlag
+                && myImpactingReducedSequentMap.equals(that.myImpactingReducedSequentMap)
                 && myOriginalSequent.equals(that.myOriginalSequent)
                 && myResultingSequents.equals(that.myResultingSequents) && myReductionTree.equals(that.myReductionTree);
     }
@@ -251,7 +263,8 @@ public class SequentReduction {
      */
     @Override
     public final int hashCode() {
-        int result = myImpactingReducedSequentMap.hashCode();
+        int result = (myBuildReductionTreeFlag ? 1 : 0);
+        result = 31 * result + myImpactingReducedSequentMap.hashCode();
         result = 31 * result + myOriginalSequent.hashCode();
         result = 31 * result + myResultingSequents.hashCode();
         result = 31 * result + myReductionTree.hashCode();
@@ -264,33 +277,36 @@ public class SequentReduction {
 
     /**
      * <p>
-     * An helper method that calls a reduction rule and adds the appropriate nodes and edges to the reduction tree.
+     * An helper method that calls a reduction rule and adds the appropriate nodes and edges to the reduction tree (if
+     * we are building one).
      * </p>
      *
      * @param sequent
      *            The {@link Sequent} being reduced.
+     * @param hasImpactingReduction
+     *            A flag that indicates if {@code sequent} is the result of an impacting reduction.
      * @param ruleApplication
      *            The {@link ReductionRuleApplication} to be applied.
      *
      * @return A list of resulting {@link Sequent Sequents} from the rule application.
      */
-    private List<Sequent> applyAndAddToReductionTree(Sequent sequent, ReductionRuleApplication ruleApplication) {
+    private List<Sequent> applyAndAddToReductionTree(Sequent sequent, boolean hasImpactingReduction,
+            ReductionRuleApplication ruleApplication) {
         List<Sequent> ruleResultingSeqs = ruleApplication.applyRule();
 
-        // Add a vertex for the new sequent. Also add an edge from
-        // the original sequent to each sequent generated by
-        // the reduction rules.
-        for (Sequent resultSeq : ruleResultingSeqs) {
-            myReductionTree.addVertex(resultSeq);
-            myReductionTree.addEdge(sequent, resultSeq);
-
-            // Check to see if the rule generated an impacting reduction
-            // Note if our parent is a result from an impacting reduction,
-            // this is always set to true.
-            if (myImpactingReducedSequentMap.get(sequent)) {
-                myImpactingReducedSequentMap.put(resultSeq, true);
-            } else {
-                myImpactingReducedSequentMap.put(resultSeq, ruleApplication.isIsImpactingReductionFlag());
+        if (myBuildReductionTreeFlag) {
+            // Add a vertex for the new sequent. Also add an edge from
+            // the original sequent to each sequent generated by
+            // the reduction rules.
+            for (Sequent resultSeq : ruleResultingSeqs) {
+                myReductionTree.addVertex(resultSeq);
+                myReductionTree.addEdge(sequent, resultSeq);
+
+                // Check to see if the rule generated an impacting reduction
+                // Note if our parent is a result from an impacting reduction,
+                // this is always set to true.
+                myImpactingReducedSequentMap.put(resultSeq,
+                        hasImpactingReduction || ruleApplication.isIsImpactingReductionFlag());
             }
         }
 
@@ -303,23 +319,21 @@ public class SequentReduction {
 
     /**
      * <p>
-     * This method attempts to apply the left reduction rules to {@code sequent}.
+     * This method looks for a left reduction rule that can be applied to {@code sequent}.
      * </p>
      *
      * @param sequent
      *            The sequent to be reduced.
      *
-     * @return A {@link Deque} containing the reduced {@link Sequent Sequents}.
+     * @return The {@link ReductionRuleApplication} for the first antecedent that can be reduced or {@code null} if none
+     *         of them can be reduced.
      */
-    private Deque<Sequent> applyLeftReductionRules(Sequent sequent) {
-        Deque<Sequent> resultingSeq = new LinkedList<>();
-
+    private ReductionRuleApplication findLeftReductionRule(Sequent sequent) {
         // Loop until we find an antecedent expression that
-        // can be reduced and call the associated reduction rule.
-        boolean doneReduction = false;
+        // can be reduced and return the associated reduction rule.
+        ReductionRuleApplication ruleApplication = null;
         Iterator<Exp> antecedentsIt = sequent.getAntecedents().iterator();
-        while (antecedentsIt.hasNext() && !doneReduction) {
-            ReductionRuleApplication ruleApplication = null;
+        while (antecedentsIt.hasNext() && ruleApplication == null) {
             Exp exp = antecedentsIt.next();
 
             if (exp instanceof BetweenExp) {
@@ -344,25 +358,12 @@ public class SequentReduction {
             else if (exp instanceof PrefixExp && ((PrefixExp) exp).getOperatorAsString().equals("not")) {
                 ruleApplication = new LeftNotRule(sequent, exp);
             }
-
-            // Apply the reduction rule and add it to the reduction tree
-            // if we generated a reduction rule application.
-            if (ruleApplication != null) {
-                // Add all the sequents that resulted from the rule
-                // to the deque we are returning.
-                resultingSeq.addAll(applyAndAddToReductionTree(sequent, ruleApplication));
-                doneReduction = true;
-            }
         }
 
-        // If we didn't do any kind of reduction, it is OK.
+        // If we didn't find any kind of reduction, it is OK.
         // The formula that needs to be reduced could be in the
-        // consequent, so we simply add the sequent back to resultingSeq
-        if (!doneReduction) {
-            resultingSeq.add(sequent);
-        }
-
-        return resultingSeq;
+        // consequent, so we let the caller check the right rules.
+        return ruleApplication;
     }
 
     // -----------------------------------------------------------
@@ -371,23 +372,21 @@ public class SequentReduction {
 
     /**
      * <p>
-     * This method attempts to apply the right reduction rules to {@code sequent}.
+     * This method looks for a right reduction rule that can be applied to {@code sequent}.
      * </p>
      *
      * @param sequent
      *            The sequent to be reduced.
      *
-     * @return A {@link Deque} containing the reduced {@link Sequent Sequents}.
+     * @return The {@link ReductionRuleApplication} for the first consequent that can be reduced or {@code null} if none
+     *         of them can be reduced.
      */
-    private Deque<Sequent> applyRightReductionRules(Sequent sequent) {
-        Deque<Sequent> resultingSeq = new LinkedList<>();
-
+    private ReductionRuleApplication findRightReductionRule(Sequent sequent) {
         // Loop until we find an consequent expression that
-        // can be reduced and call the associated reduction rule.
-        boolean doneReduction = false;
+        // can be reduced and return the associated reduction rule.
+        ReductionRuleApplication ruleApplication = null;
         Iterator<Exp> consequentIt = sequent.getConcequents().iterator();
-        while (consequentIt.hasNext() && !doneReduction) {
-            ReductionRuleApplication ruleApplication = null;
+        while (consequentIt.hasNext() && ruleApplication == null) {
             Exp exp = consequentIt.next();
 
             if (exp instanceof BetweenExp) {
@@ -412,21 +411,12 @@ public class SequentReduction {
             else if (exp instanceof PrefixExp && ((PrefixExp) exp).getOperatorAsString().equals("not")) {
                 ruleApplication = new RightNotRule(sequent, exp);
             }
-
-            // Apply the reduction rule and add it to the reduction tree
-            // if we generated a reduction rule application.
-            if (ruleApplication != null) {
-                // Add all the sequents that resulted from the rule
-                // to the deque we are returning.
-                resultingSeq.addAll(applyAndAddToReductionTree(sequent, ruleApplication));
-                doneReduction = true;
-            }
         }
 
-        // If we didn't do any kind of reduction after visiting all
+        // If we didn't find any kind of reduction after visiting all
         // the consequents, it is an error. However, rather than dealing
         // with the error here, it is best to leave all that to the caller
         // for this method.
-        return resultingSeq;
+        return ruleApplication;
     }
 }
@@ -101,6 +101,14 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
      */
     private final LinkedList<Statement> myStatements;
 
+    /**
+     * <p>
+     * Whether or not the expressions and statements of this block can be shared with the blocks we clone from it (and
+     * with the results of substitutions) instead of being deep copied.
+     * </p>
+     */
+    private final boolean myShareUnchangedSubExpressions;
+
     /**
      * <p>
      * This is the math type graph that indicates relationship between different math types.
@@ -123,9 +131,13 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
      *            The element that created this assertive code block.
      * @param g
      *            The current type graph.
+     * @param shareUnchangedSubExpressions
+     *            {@code true} if expressions that don't change can be shared instead of copied, {@code false}
+     *            otherwise.
      */
-    public AssertiveCodeBlock(PosSymbol name, ResolveConceptualElement instantiatingElement, TypeGraph g) {
-        this(name, instantiatingElement, null, null, g);
+    public AssertiveCodeBlock(PosSymbol name, ResolveConceptualElement instantiatingElement, TypeGraph g,
+            boolean shareUnchangedSubExpressions) {
+        this(name, instantiatingElement, null, null, g, shareUnchangedSubExpressions);
     }
 
     /**
@@ -141,10 +153,13 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
      *            The {@link OperationEntry} corresponding to the {@code procedure}.
      * @param g
      *            The current type graph.
+     * @param shareUnchangedSubExpressions
+     *            {@code true} if expressions that don't change can be shared instead of copied, {@code false}
+     *            otherwise.
      */
     public AssertiveCodeBlock(PosSymbol name, ResolveConceptualElement instantiatingElement,
-            OperationEntry correspondingOperation, TypeGraph g) {
-        this(name, instantiatingElement, correspondingOperation, null, g);
+            OperationEntry correspondingOperation, TypeGraph g, boolean shareUnchangedSubExpressions) {
+        this(name, instantiatingElement, correspondingOperation, null, g, shareUnchangedSubExpressions);
     }
 
     /**
@@ -163,9 +178,13 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
      *            The {@code procedure}'s decreasing clause.
      * @param g
      *            The current type graph.
+     * @param shareUnchangedSubExpressions
+     *            {@code true} if expressions that don't change can be shared instead of copied, {@code false}
+     *            otherwise.
      */
     public AssertiveCodeBlock(PosSymbol name, ResolveConceptualElement instantiatingElement,
-            OperationEntry correspondingOperation, Exp correspondingOperationDecreasingExp, TypeGraph g) {
+            OperationEntry correspondingOperation, Exp correspondingOperationDecreasingExp, TypeGraph g,
+            boolean shareUnchangedSubExpressions) {
         myBlockName = name;
         myBranchingConditions = new LinkedList<>();
         myCorrespondingOperation = correspondingOperation;
@@ -174,6 +193,7 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
         myInstantiatingElement = instantiatingElement;
         myVCs = new LinkedList<>();
         myStatements = new LinkedList<>();
+        myShareUnchangedSubExpressions = shareUnchangedSubExpressions;
         myTypeGraph = g;
     }
 
@@ -290,31 +310,40 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
      * This method overrides the default {@code clone} method implementation.
      * </p>
      *
-     * @return A deep copy of the object.
+     * @return A deep copy of the object, unless expressions are being shared (see
+     *         {@link #isSharingUnchangedSubExpressions()}).
      */
     @Override
     public final AssertiveCodeBlock clone() {
+        // When expressions are being shared, nobody modifies them after they have been created,
+        // so the free variables and the statements (which only hold expressions) can be shared as well.
         // Copy any decreasing clause
         Exp newDecreasingExp = null;
         if (myCorrespondingOperationDecreasingExp != null) {
-            newDecreasingExp = myCorrespondingOperationDecreasingExp.clone();
+            newDecreasingExp = myShareUnchangedSubExpressions ? myCorrespondingOperationDecreasingExp
+                    : myCorrespondingOperationDecreasingExp.clone();
         }
 
         // Copy a new assertive code block using the stored information
         AssertiveCodeBlock newBlock = new AssertiveCodeBlock(myBlockName.clone(), myInstantiatingElement,
-                myCorrespondingOperation, newDecreasingExp, myTypeGraph);
+                myCorrespondingOperation, newDecreasingExp, myTypeGraph, myShareUnchangedSubExpressions);
 
         // Copy over any branching conditions
         newBlock.myBranchingConditions.addAll(myBranchingConditions);
 
         // YS: Collections.copy complains about source does not fit in dest,
         // it probably doesn't know it is a LinkedList, so we manually copy everything.
-        for (Exp current : myFreeVars) {
-            newBlock.myFreeVars.add(current.clone());
-        }
+        if (myShareUnchangedSubExpressions) {
+            newBlock.myFreeVars.addAll(myFreeVars);
+            newBlock.myStatements.addAll(myStatements);
+        } else {
+            for (Exp current : myFreeVars) {
+                newBlock.myFreeVars.add(current.clone());
+            }
 
-        for (Statement statement : myStatements) {
-            newBlock.myStatements.add(statement.clone());
+            for (Statement statement : myStatements) {
+                newBlock.myStatements.add(statement.clone());
+            }
         }
 
         for (VerificationCondition vc : myVCs) {
@@ -495,6 +524,18 @@ public class AssertiveCodeBlock implements BasicCapabilities, Cloneable {
         return (!myStatements.isEmpty());
     }
 
+    /**
+     * <p>
+     * Checks if the expressions that don't change can be shared instead of copied while applying proof rules to this
+     * assertive code block.
+     * </p>
+     *
+     * @return {@code true} if unchanged sub-expressions are shared, {@code false} if they are copied.
+     */
+    public final boolean isSharingUnchangedSubExpressions() {
+        return myShareUnchangedSubExpressions;
+    }
+
     /**
      * <p>
      * This method removes the last {@link Statement} that is stored inside this assertive code block.
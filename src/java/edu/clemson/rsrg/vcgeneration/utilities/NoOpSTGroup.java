@@ -0,0 +1,119 @@
+/*
+ * NoOpSTGroup.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.vcgeneration.utilities;
+
+import java.util.Locale;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+
+/**
+ * <p>
+ * This is a string template group that stands in for {@code VCGenVerboseOutput.stg} when no one is going to look at the
+ * VC generation details. Every template it hands out ignores its attributes and renders as an empty string, so the
+ * {@code Proof Rules} can record their steps as usual without building any models or rendering the intermediate states
+ * of the {@link AssertiveCodeBlock AssertiveCodeBlocks}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class NoOpSTGroup extends STGroup {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The template we hand out. It doesn't have any state, so it can be shared by everyone.
+     * </p>
+     */
+    private static final ST NO_OP_TEMPLATE = new NoOpST();
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns a template that discards everything that is added to it.
+     * </p>
+     *
+     * @param name
+     *            Name of the template in {@code VCGenVerboseOutput.stg}.
+     *
+     * @return A {@link ST} that renders as an empty string.
+     */
+    @Override
+    public final ST getInstanceOf(String name) {
+        return NO_OP_TEMPLATE;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A template that discards its attributes and renders as an empty string.
+     * </p>
+     */
+    private static class NoOpST extends ST {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final ST add(String name, Object value) {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final ST addAggr(String aggrSpec, Object... values) {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void remove(String name) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final String render() {
+            return "";
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final String render(Locale locale, int lineWidth) {
+            return "";
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final String toString() {
+            return "";
+        }
+    }
+}
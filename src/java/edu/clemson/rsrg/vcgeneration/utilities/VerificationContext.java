@@ -160,6 +160,33 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      */
     private final List<AbstractTypeRepresentationDec> myLocalTypeRepresentationDecs;
 
+    // -----------------------------------------------------------
+    // Top-Level Assume Expression Conjuncts
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * The conjuncts built from the module level {@code requires} and {@code constraint} clauses (and any
+     * {@code which_entails}). This is built the first time we need a top-level assume expression and cleared whenever
+     * one of the {@code store} methods changes what goes into it.
+     * </p>
+     */
+    private List<Exp> myModuleLevelAssumeConjuncts;
+
+    /**
+     * <p>
+     * The conjuncts built from the local shared state realizations' {@code convention} clauses.
+     * </p>
+     */
+    private List<Exp> mySharedStateConventionConjuncts;
+
+    /**
+     * <p>
+     * The conjuncts built from the local shared state realizations' {@code correspondence} clauses.
+     * </p>
+     */
+    private List<Exp> mySharedStateCorrespondenceConjuncts;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -305,91 +332,37 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      */
     public final Exp createTopLevelAssumeExpFromContext(Location loc, boolean addSharedConventionFlag,
             boolean addSharedCorrespondenceFlag) {
-        Exp retExp = null;
-
-        // Add all the module level requires clause.
-        for (AssertionClause clause : myModuleLevelRequires) {
-            retExp = Utilities.formConjunct(loc, retExp, clause, myModuleLevelLocationDetails.get(clause));
+        // The conjuncts only change when we store something new in this
+        // context, so we build them once and share them between all the
+        // assertive code blocks. Only the "and" expressions joining them are
+        // created for each call.
+        if (myModuleLevelAssumeConjuncts == null) {
+            buildTopLevelAssumeConjuncts();
         }
 
-        // Add all the module level constraint clauses.
-        for (Dec dec : myModuleLevelConstraints.keySet()) {
-            for (AssertionClause clause : myModuleLevelConstraints.get(dec)) {
-                retExp = Utilities.formConjunct(loc, retExp, clause, myModuleLevelLocationDetails.get(clause));
-            }
-        }
-
-        // Add all share variable's constraints.
-        // YS: We are not adding these automatically. Most of the time, these
-        // constraints wouldn't really help us prove any of the VCs. If you
-        // are ever interested in adding these to the givens list, use the
-        // "addConstraints" flag. Note that these constraints still need to be
-        // processed by the parsimonious step, so there is no guarantee that they
-        // will show up in all of the VCs.
-        if (myCompileEnvironment.flags.isFlagSet(FLAG_ADD_CONSTRAINT)) {
-            // Add any facility instantiated shared state constraints
-            for (InstantiatedFacilityDecl facilityDecl : myProcessedInstFacilityDecls) {
-                for (SharedStateDec stateDec : facilityDecl.getConceptSharedStates()) {
-                    AssertionClause stateConstraintClause = stateDec.getConstraint();
-
-                    // All shared variables should be add facilityDecl's name.
-                    Map<Exp, Exp> substitutions = new LinkedHashMap<>();
-                    for (MathVarDec mathVarDec : stateDec.getAbstractStateVars()) {
-                        // Convert mathVarDec to VarExp. Also create a new qualified version of it.
-                        VarExp mathVarDecAsVarExp = Utilities.createVarExp(mathVarDec.getLocation().clone(), null,
-                                mathVarDec.getName().clone(), mathVarDec.getMathType(), null);
-                        VarExp qualifiedVarExp = (VarExp) mathVarDecAsVarExp.clone();
-                        qualifiedVarExp.setQualifier(facilityDecl.getInstantiatedFacilityName().clone());
-
-                        // Put them into our substitutions map.
-                        substitutions.put(mathVarDecAsVarExp, qualifiedVarExp);
-                    }
-
-                    // Generate the proper facility qualified constraint
-                    // and which_entails clauses (if any).
-                    Exp modifiedConstraint = stateConstraintClause.getAssertionExp().substitute(substitutions);
-                    Exp modifiedWhichEntails = stateConstraintClause.getWhichEntailsExp();
-                    if (modifiedWhichEntails != null) {
-                        modifiedWhichEntails = modifiedWhichEntails.substitute(substitutions);
-                    }
-
-                    // Create the modified state constraint clause and add it to the retExp.
-                    AssertionClause modifiedStateConstraintClause = new AssertionClause(
-                            stateConstraintClause.getLocation().clone(), stateConstraintClause.getClauseType(),
-                            modifiedConstraint, modifiedWhichEntails);
-                    retExp = Utilities.formConjunct(loc, retExp, modifiedStateConstraintClause,
-                            myModuleLevelLocationDetails.get(stateConstraintClause));
-                }
-            }
-
-            // Add concept shared state constraints
-            for (SharedStateDec stateDec : myConceptSharedStates) {
-                AssertionClause stateConstraintClause = stateDec.getConstraint();
-                retExp = Utilities.formConjunct(loc, retExp, stateConstraintClause,
-                        myModuleLevelLocationDetails.get(stateConstraintClause));
-            }
-        }
+        // Add all the module level requires and constraint clauses.
+        Exp retExp = formSharedConjunct(loc, myModuleLevelAssumeConjuncts);
 
         // Add the share variable realization's convention (if requested).
         if (addSharedConventionFlag) {
-            Exp conventionExp = createSharedStateRealizConventionExp(loc);
-            if (!VarExp.isLiteralTrue(conventionExp)) {
+            Exp conventionExp = formSharedConjunct(loc, mySharedStateConventionConjuncts);
+            if (conventionExp != null && !VarExp.isLiteralTrue(conventionExp)) {
                 if (retExp == null) {
                     retExp = conventionExp;
                 } else {
-                    retExp = MathExp.formConjunct(loc, retExp, conventionExp);
+                    retExp = MathExp.formSharedConjunct(loc, retExp, conventionExp);
                 }
             }
         }
 
         // Add the shared variable realization's correspondence (if requested).
         if (addSharedCorrespondenceFlag) {
-            Exp correspondenceExp = createSharedStateRealizCorrespondenceExp(loc);
-            if (!VarExp.isLiteralTrue(correspondenceExp)) {
+            Exp correspondenceExp = formSharedConjunct(loc, mySharedStateCorrespondenceConjuncts);
+            if (correspondenceExp != null && !VarExp.isLiteralTrue(correspondenceExp)) {
                 if (retExp == null) {
                     retExp = correspondenceExp;
                 } else {
-                    retExp = MathExp.formConjunct(loc, retExp, correspondenceExp);
+                    retExp = MathExp.formSharedConjunct(loc, retExp, correspondenceExp);
                 }
             }
         }
@@ -503,6 +476,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            {@link FacilityDec}.
      */
     public final void storeConceptAssertionClauses(Location loc, ModuleIdentifier id, boolean isFacilityImport) {
+        clearTopLevelAssumeConjuncts();
         try {
             ConceptModuleDec conceptModuleDec = (ConceptModuleDec) myBuilder.getModuleScope(id).getDefiningElement();
 
@@ -556,6 +530,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            {@link FacilityDec}.
      */
     public final void storeConceptRealizAssertionClauses(Location loc, ModuleIdentifier id, boolean isFacilityImport) {
+        clearTopLevelAssumeConjuncts();
         try {
             ConceptRealizModuleDec realizModuleDec = (ConceptRealizModuleDec) myBuilder.getModuleScope(id)
                     .getDefiningElement();
@@ -591,6 +566,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            A {@link SharedStateDec} declared in a {@code Concept}.
      */
     public final void storeConceptSharedStateDec(SharedStateDec dec) {
+        clearTopLevelAssumeConjuncts();
         myConceptSharedStates.add((SharedStateDec) dec.clone());
     }
 
@@ -605,6 +581,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            A {@link ModuleIdentifier} referring to an importing {@code concept}.
      */
     public final void storeConceptSharedStateDecs(Location loc, ModuleIdentifier id) {
+        clearTopLevelAssumeConjuncts();
         try {
             ConceptModuleDec conceptModuleDec = (ConceptModuleDec) myBuilder.getModuleScope(id).getDefiningElement();
             List<Dec> decs = conceptModuleDec.getDecList();
@@ -671,6 +648,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            {@link FacilityDec}.
      */
     public final void storeEnhancementAssertionClauses(Location loc, ModuleIdentifier id, boolean isFacilityImport) {
+        clearTopLevelAssumeConjuncts();
         try {
             EnhancementModuleDec enhancementModuleDec = (EnhancementModuleDec) myBuilder.getModuleScope(id)
                     .getDefiningElement();
@@ -713,6 +691,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      */
     public final void storeEnhancementRealizAssertionClauses(Location loc, ModuleIdentifier id,
             boolean isFacilityImport) {
+        clearTopLevelAssumeConjuncts();
         try {
             EnhancementRealizModuleDec realizModuleDec = (EnhancementRealizModuleDec) myBuilder.getModuleScope(id)
                     .getDefiningElement();
@@ -751,6 +730,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            A {@link ModuleIdentifier} referring to a {@code facility}.
      */
     public final void storeFacilityModuleAssertionClauses(Location loc, ModuleIdentifier id) {
+        clearTopLevelAssumeConjuncts();
         try {
             FacilityModuleDec facilityModuleDec = (FacilityModuleDec) myBuilder.getModuleScope(id).getDefiningElement();
 
@@ -783,6 +763,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            A {@link InstantiatedFacilityDecl} containing all the information.
      */
     public final void storeInstantiatedFacilityDecl(InstantiatedFacilityDecl decl) {
+        clearTopLevelAssumeConjuncts();
         myProcessedInstFacilityDecls.add(decl);
     }
 
@@ -795,6 +776,7 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      *            A shared state realization.
      */
     public final void storeLocalSharedRealizationDec(SharedStateRealizationDec dec) {
+        clearTopLevelAssumeConjuncts();
         myLocalSharedStateRealizationDecs.add((SharedStateRealizationDec) dec.clone());
     }
 
@@ -826,6 +808,181 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that adds the expressions from {@code clause} to {@code conjuncts}. This keeps the same
+     * expressions {@link Utilities#formConjunct(Location, Exp, AssertionClause, LocationDetailModel)} would have
+     * conjoined.
+     * </p>
+     *
+     * @param conjuncts
+     *            The list of conjuncts we are building.
+     * @param clause
+     *            An {@link AssertionClause}.
+     * @param clauseDetailModel
+     *            The location detail model for the clause's assertion.
+     */
+    private void addConjuncts(List<Exp> conjuncts, AssertionClause clause, LocationDetailModel clauseDetailModel) {
+        // Add the assertion expression
+        Exp assertionExp = clause.getAssertionExp().clone();
+        assertionExp.setLocationDetailModel(clauseDetailModel);
+
+        // No need to form a conjunct if it is simply "true"
+        if (conjuncts.isEmpty() || !VarExp.isLiteralTrue(assertionExp)) {
+            conjuncts.add(assertionExp);
+        }
+
+        // Add any which_entails
+        if (clause.getWhichEntailsExp() != null) {
+            Exp whichEntailsExp = clause.getWhichEntailsExp().clone();
+            Location entailsLoc = clause.getWhichEntailsExp().getLocation();
+            whichEntailsExp.setLocationDetailModel(new LocationDetailModel(entailsLoc.clone(), entailsLoc.clone(),
+                    "Which_Entails Expression Located at " + clause.getLocation()));
+
+            // No need to form a conjunct if it is simply "true"
+            if (!VarExp.isLiteralTrue(whichEntailsExp)) {
+                conjuncts.add(whichEntailsExp);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that builds all the conjuncts used by
+     * {@link #createTopLevelAssumeExpFromContext(Location, boolean, boolean)}.
+     * </p>
+     */
+    private void buildTopLevelAssumeConjuncts() {
+        List<Exp> moduleLevelConjuncts = new ArrayList<>();
+
+        // Add all the module level requires clause.
+        for (AssertionClause clause : myModuleLevelRequires) {
+            addConjuncts(moduleLevelConjuncts, clause, myModuleLevelLocationDetails.get(clause));
+        }
+
+        // Add all the module level constraint clauses.
+        for (Dec dec : myModuleLevelConstraints.keySet()) {
+            for (AssertionClause clause : myModuleLevelConstraints.get(dec)) {
+                addConjuncts(moduleLevelConjuncts, clause, myModuleLevelLocationDetails.get(clause));
+            }
+        }
+
+        // Add all share variable's constraints.
+        // YS: We are not adding these automatically. Most of the time, these
+        // constraints wouldn't really help us prove any of the VCs. If you
+        // are ever interested in adding these to the givens list, use the
+        // "addConstraints" flag. Note that these constraints still need to be
+        // processed by the parsimonious step, so there is no guarantee that they
+        // will show up in all of the VCs.
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_ADD_CONSTRAINT)) {
+            // Add any facility instantiated shared state constraints
+            for (InstantiatedFacilityDecl facilityDecl : myProcessedInstFacilityDecls) {
+                for (SharedStateDec stateDec : facilityDecl.getConceptSharedStates()) {
+                    AssertionClause stateConstraintClause = stateDec.getConstraint();
+
+                    // All shared variables should be add facilityDecl's name.
+                    Map<Exp, Exp> substitutions = new LinkedHashMap<>();
+                    for (MathVarDec mathVarDec : stateDec.getAbstractStateVars()) {
+                        // Convert mathVarDec to VarExp. Also create a new qualified version of it.
+                        VarExp mathVarDecAsVarExp = Utilities.createVarExp(mathVarDec.getLocation().clone(), null,
+                                mathVarDec.getName().clone(), mathVarDec.getMathType(), null);
+                        VarExp qualifiedVarExp = (VarExp) mathVarDecAsVarExp.clone();
+                        qualifiedVarExp.setQualifier(facilityDecl.getInstantiatedFacilityName().clone());
+
+                        // Put them into our substitutions map.
+                        substitutions.put(mathVarDecAsVarExp, qualifiedVarExp);
+                    }
+
+                    // Generate the proper facility qualified constraint
+                    // and which_entails clauses (if any).
+                    Exp modifiedConstraint = stateConstraintClause.getAssertionExp().substitute(substitutions);
+                    Exp modifiedWhichEntails = stateConstraintClause.getWhichEntailsExp();
+                    if (modifiedWhichEntails != null) {
+                        modifiedWhichEntails = modifiedWhichEntails.substitute(substitutions);
+                    }
+
+                    // Create the modified state constraint clause and add it to the conjuncts.
+                    AssertionClause modifiedStateConstraintClause = new AssertionClause(
+                            stateConstraintClause.getLocation().clone(), stateConstraintClause.getClauseType(),
+                            modifiedConstraint, modifiedWhichEntails);
+                    addConjuncts(moduleLevelConjuncts, modifiedStateConstraintClause,
+                            myModuleLevelLocationDetails.get(stateConstraintClause));
+                }
+            }
+
+            // Add concept shared state constraints
+            for (SharedStateDec stateDec : myConceptSharedStates) {
+                AssertionClause stateConstraintClause = stateDec.getConstraint();
+                addConjuncts(moduleLevelConjuncts, stateConstraintClause,
+                        myModuleLevelLocationDetails.get(stateConstraintClause));
+            }
+        }
+
+        // Add the share variable realization's convention and correspondence.
+        List<Exp> conventionConjuncts = new ArrayList<>();
+        List<Exp> correspondenceConjuncts = new ArrayList<>();
+        for (SharedStateRealizationDec sharedStateRealizationDec : myLocalSharedStateRealizationDecs) {
+            AssertionClause stateConventionClause = sharedStateRealizationDec.getConvention();
+            addConjuncts(conventionConjuncts, stateConventionClause,
+                    new LocationDetailModel(stateConventionClause.getAssertionExp().getLocation().clone(),
+                            stateConventionClause.getAssertionExp().getLocation().clone(),
+                            "Shared Variable Convention"));
+
+            AssertionClause stateCorrespondenceClause = sharedStateRealizationDec.getCorrespondence();
+            addConjuncts(correspondenceConjuncts, stateCorrespondenceClause,
+                    new LocationDetailModel(stateCorrespondenceClause.getAssertionExp().getLocation().clone(),
+                            stateCorrespondenceClause.getAssertionExp().getLocation().clone(),
+                            "Shared Variable Correspondence"));
+        }
+
+        myModuleLevelAssumeConjuncts = Collections.unmodifiableList(moduleLevelConjuncts);
+        mySharedStateConventionConjuncts = Collections.unmodifiableList(conventionConjuncts);
+        mySharedStateCorrespondenceConjuncts = Collections.unmodifiableList(correspondenceConjuncts);
+    }
+
+    /**
+     * <p>
+     * An helper method that clears the conjuncts used by
+     * {@link #createTopLevelAssumeExpFromContext(Location, boolean, boolean)}. This must be called by any method that
+     * stores something that goes into a top-level assume expression.
+     * </p>
+     */
+    private void clearTopLevelAssumeConjuncts() {
+        myModuleLevelAssumeConjuncts = null;
+        mySharedStateConventionConjuncts = null;
+        mySharedStateCorrespondenceConjuncts = null;
+    }
+
+    /**
+     * <p>
+     * An helper method that joins {@code conjuncts} using new {@code and} expressions. The conjuncts themselves are
+     * shared, except when there is only one of them, in which case we return a deep copy.
+     * </p>
+     *
+     * @param loc
+     *            The location in the AST that we are currently visiting.
+     * @param conjuncts
+     *            The list of conjuncts.
+     *
+     * @return A (possible conjunct) of {@code conjuncts} or {@code null} if the list is empty.
+     */
+    private Exp formSharedConjunct(Location loc, List<Exp> conjuncts) {
+        Exp retExp = null;
+        if (conjuncts.size() == 1) {
+            retExp = conjuncts.get(0).clone();
+        } else {
+            for (Exp conjunct : conjuncts) {
+                if (retExp == null) {
+                    retExp = conjunct;
+                } else {
+                    retExp = MathExp.formSharedConjunct(loc, retExp, conjunct);
+                }
+            }
+        }
+
+        return retExp;
+    }
+
     /**
      * <p>
      * An helper method for storing all the {@code constraint} clauses for a list of {@link ModuleParameterDec
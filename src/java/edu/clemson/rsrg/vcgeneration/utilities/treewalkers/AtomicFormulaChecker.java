@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.absyn.expressions.programexpr.ProgramExp;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
+import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.treewalk.TreeWalkerVisitor;
 
 /**
@@ -228,4 +229,27 @@ public class AtomicFormulaChecker extends TreeWalkerVisitor {
         return myIsAtomicFormulaFlag;
     }
 
+    /**
+     * <p>
+     * This method checks to see if {@code exp} is an atomic formula. The expression is only walked the first time we
+     * see it and the result is cached on it.
+     * </p>
+     *
+     * @param exp
+     *            The expression to be checked.
+     *
+     * @return {@code true} if {@code exp} contains only atomic formulas, {@code false} otherwise.
+     */
+    public static boolean isAtomicFormula(Exp exp) {
+        Boolean isAtomicFormula = exp.getIsAtomicFormula();
+        if (isAtomicFormula == null) {
+            AtomicFormulaChecker checker = new AtomicFormulaChecker();
+            TreeWalker.visit(checker, exp);
+            isAtomicFormula = checker.getIsAtomicFormula();
+            exp.setIsAtomicFormula(isAtomicFormula);
+        }
+
+        return isAtomicFormula;
+    }
+
 }
@@ -20,6 +20,7 @@ import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.treewalk.TreeWalkerVisitor;
 import edu.clemson.rsrg.vcgeneration.proofrules.statements.AssumeStmtRule;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -573,4 +574,27 @@ public class UniqueSymbolNameExtractor extends TreeWalkerVisitor {
         return myExpNames;
     }
 
+    /**
+     * <p>
+     * This method returns the set of unique symbols in {@code exp}. The symbols are only extracted the first time we
+     * see a particular {@link Exp} and then cached on it.
+     * </p>
+     *
+     * @param exp
+     *            The expression we want the symbols from.
+     *
+     * @return An unmodifiable set of expression names.
+     */
+    public static Set<String> getUniqueSymbols(Exp exp) {
+        Set<String> symbols = exp.getUniqueSymbolNames();
+        if (symbols == null) {
+            UniqueSymbolNameExtractor symbolNameExtractor = new UniqueSymbolNameExtractor();
+            TreeWalker.visit(symbolNameExtractor, exp);
+            symbols = Collections.unmodifiableSet(symbolNameExtractor.getSymbols());
+            exp.setUniqueSymbolNames(symbols);
+        }
+
+        return symbols;
+    }
+
 }
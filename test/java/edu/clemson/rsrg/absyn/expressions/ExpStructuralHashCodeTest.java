@@ -0,0 +1,262 @@
+/*
+ * ExpStructuralHashCodeTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.absyn.expressions;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
+import edu.clemson.rsrg.absyn.expressions.programexpr.ProgramDoubleExp;
+import edu.clemson.rsrg.absyn.rawtypes.ArbitraryExpTy;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import java.io.StringReader;
+import java.util.*;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure that {@link Exp#structuralHashCode()} agrees with {@link Exp#equivalent(Exp)} and that
+ * {@link Exp#substitute(Map)} returns the same result whether or not the substitution map gets indexed by the
+ * structural hash codes.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ExpStructuralHashCodeTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link ResolveConceptualElement ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION_1 = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("ExpStructuralHashCodeTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    /**
+     * <p>
+     * Another fake {@link Location} object to be used to create {@link ResolveConceptualElement
+     * ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION_2 = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("ExpStructuralHashCodeTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            1, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a {@link DotExp} only hashes its first segment, so it has the same hash code as any of its
+     * prefixes.
+     * </p>
+     */
+    @Test
+    public final void testDotExpressions() {
+        DotExp dotExp1 = new DotExp(FAKE_LOCATION_1.clone(),
+                Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_1, "C"), createVarExp(FAKE_LOCATION_1, "D")));
+        DotExp dotExp2 = new DotExp(FAKE_LOCATION_2.clone(),
+                Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_2, "C"), createVarExp(FAKE_LOCATION_2, "D")));
+        DotExp longerDotExp = new DotExp(FAKE_LOCATION_2.clone(),
+                Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_2, "C"), createVarExp(FAKE_LOCATION_2, "D"),
+                        createVarExp(FAKE_LOCATION_2, "E")));
+
+        assertionCheck(dotExp1, dotExp2);
+        assertFalse(dotExp1.equivalent(longerDotExp));
+        assertEquals(dotExp1.structuralHashCode(), longerDotExp.structuralHashCode());
+    }
+
+    /**
+     * <p>
+     * This tests that an {@link InfixExp} and an {@link EqualsExp} share the same hash code, since an {@link InfixExp}
+     * key can match an {@link EqualsExp}. Note that an {@link EqualsExp} key never matches an {@link InfixExp}.
+     * </p>
+     */
+    @Test
+    public final void testInfixAndEqualsExpressions() {
+        InfixExp infixExp = new InfixExp(FAKE_LOCATION_1.clone(), createVarExp(FAKE_LOCATION_1, "a"), null,
+                new PosSymbol(FAKE_LOCATION_1.clone(), "="), createVarExp(FAKE_LOCATION_1, "b"));
+        EqualsExp equalsExp = new EqualsExp(FAKE_LOCATION_2.clone(), createVarExp(FAKE_LOCATION_2, "a"), null,
+                EqualsExp.Operator.EQUAL, createVarExp(FAKE_LOCATION_2, "b"));
+
+        assertTrue(infixExp.equivalent(equalsExp));
+        assertFalse(equalsExp.equivalent(infixExp));
+        assertEquals(infixExp.structuralHashCode(), equalsExp.structuralHashCode());
+    }
+
+    /**
+     * <p>
+     * This tests that {@code 0.0} and {@code -0.0} have the same hash code, since they are equivalent.
+     * </p>
+     */
+    @Test
+    public final void testProgramDoubleExpressions() {
+        ProgramDoubleExp positiveZero = new ProgramDoubleExp(FAKE_LOCATION_1.clone(), 0.0);
+        ProgramDoubleExp negativeZero = new ProgramDoubleExp(FAKE_LOCATION_2.clone(), -0.0);
+
+        assertionCheck(positiveZero, negativeZero);
+    }
+
+    /**
+     * <p>
+     * This tests that a {@link SetCollectionExp} only hashes its size, so the order of its members doesn't matter.
+     * </p>
+     */
+    @Test
+    public final void testSetCollectionExpressions() {
+        SetCollectionExp setCollectionExp1 = new SetCollectionExp(FAKE_LOCATION_1.clone(), new LinkedHashSet<>(
+                Arrays.<MathExp> asList(createVarExp(FAKE_LOCATION_1, "C"), createVarExp(FAKE_LOCATION_1, "D"))));
+        SetCollectionExp setCollectionExp2 = new SetCollectionExp(FAKE_LOCATION_2.clone(), new LinkedHashSet<>(
+                Arrays.<MathExp> asList(createVarExp(FAKE_LOCATION_2, "D"), createVarExp(FAKE_LOCATION_2, "C"))));
+
+        assertionCheck(setCollectionExp1, setCollectionExp2);
+    }
+
+    /**
+     * <p>
+     * This tests that substituting with enough keys to use an indexed substitution map gives the same result as
+     * substituting with maps that are small enough to be searched linearly. Some of the keys are inside parts of the
+     * expression that don't contribute to its hash code.
+     * </p>
+     */
+    @Test
+    public final void testSubstituteWithIndexedMap() {
+        Exp original = createSubstitutionTarget();
+
+        Map<Exp, Exp> firstSubstitutions = new LinkedHashMap<>();
+        firstSubstitutions.put(createVarExp(FAKE_LOCATION_1, "x"), createVarExp(FAKE_LOCATION_1, "p"));
+        firstSubstitutions.put(
+                new DotExp(FAKE_LOCATION_1.clone(),
+                        Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_1, "C"), createVarExp(FAKE_LOCATION_1, "D"))),
+                createVarExp(FAKE_LOCATION_1, "q"));
+        firstSubstitutions.put(createVarExp(FAKE_LOCATION_1, "f"), createVarExp(FAKE_LOCATION_1, "g"));
+
+        Map<Exp, Exp> secondSubstitutions = new LinkedHashMap<>();
+        secondSubstitutions.put(
+                new InfixExp(FAKE_LOCATION_1.clone(), createVarExp(FAKE_LOCATION_1, "a"), null,
+                        new PosSymbol(FAKE_LOCATION_1.clone(), "+"), createVarExp(FAKE_LOCATION_1, "b")),
+                createVarExp(FAKE_LOCATION_1, "r"));
+        secondSubstitutions.put(createVarExp(FAKE_LOCATION_1, "y"), createVarExp(FAKE_LOCATION_1, "s"));
+        secondSubstitutions.put(createVarExp(FAKE_LOCATION_1, "T"), createVarExp(FAKE_LOCATION_1, "U"));
+
+        // None of the replacements are keys, so substituting one map after the other is the same as
+        // substituting all of them at once.
+        Exp linearResult = original.substitute(firstSubstitutions).substitute(secondSubstitutions);
+
+        Map<Exp, Exp> allSubstitutions = new LinkedHashMap<>(firstSubstitutions);
+        allSubstitutions.putAll(secondSubstitutions);
+        Exp indexedResult = original.substitute(allSubstitutions);
+        Exp sharedResult = original.substitute(allSubstitutions, true);
+
+        assertFalse(linearResult.equivalent(original));
+        assertEquals(linearResult, indexedResult);
+        assertEquals(linearResult, sharedResult);
+        assertEquals(createSubstitutionTarget(), original);
+    }
+
+    /**
+     * <p>
+     * This tests that a {@link TypeAssertionExp} leaves its asserted type out of its hash code.
+     * </p>
+     */
+    @Test
+    public final void testTypeAssertionExpressions() {
+        TypeAssertionExp typeAssertionExp1 = new TypeAssertionExp(FAKE_LOCATION_1.clone(),
+                createVarExp(FAKE_LOCATION_1, "x"), new ArbitraryExpTy(createVarExp(FAKE_LOCATION_1, "T")));
+        TypeAssertionExp typeAssertionExp2 = new TypeAssertionExp(FAKE_LOCATION_2.clone(),
+                createVarExp(FAKE_LOCATION_2, "x"), new ArbitraryExpTy(createVarExp(FAKE_LOCATION_1, "T")));
+        TypeAssertionExp otherTypeAssertionExp = new TypeAssertionExp(FAKE_LOCATION_2.clone(),
+                createVarExp(FAKE_LOCATION_2, "x"), new ArbitraryExpTy(createVarExp(FAKE_LOCATION_1, "U")));
+
+        assertionCheck(typeAssertionExp1, typeAssertionExp2);
+        assertFalse(typeAssertionExp1.equivalent(otherTypeAssertionExp));
+        assertEquals(typeAssertionExp1.structuralHashCode(), otherTypeAssertionExp.structuralHashCode());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method checks that the passed in expressions are equivalent and have the same structural hash code.
+     * </p>
+     *
+     * @param exp1
+     *            A {@link Exp}.
+     * @param exp2
+     *            Another {@link Exp}.
+     */
+    private void assertionCheck(Exp exp1, Exp exp2) {
+        assertTrue(exp1.equivalent(exp2));
+        assertTrue(exp2.equivalent(exp1));
+        assertEquals(exp1.structuralHashCode(), exp2.structuralHashCode());
+    }
+
+    /**
+     * <p>
+     * This method builds the expression {@code C.D.E + f(y, x) = {z : T, a + b, h(k)}}.
+     * </p>
+     *
+     * @return An {@link EqualsExp}.
+     */
+    private Exp createSubstitutionTarget() {
+        DotExp dotExp = new DotExp(FAKE_LOCATION_1.clone(), Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_1, "C"),
+                createVarExp(FAKE_LOCATION_1, "D"), createVarExp(FAKE_LOCATION_1, "E")));
+        FunctionExp functionExp = new FunctionExp(FAKE_LOCATION_1.clone(), createVarExp(FAKE_LOCATION_1, "f"), null,
+                Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_1, "y"), createVarExp(FAKE_LOCATION_1, "x")));
+        InfixExp lhs = new InfixExp(FAKE_LOCATION_1.clone(), dotExp, null, new PosSymbol(FAKE_LOCATION_1.clone(), "+"),
+                functionExp);
+
+        TypeAssertionExp typeAssertionExp = new TypeAssertionExp(FAKE_LOCATION_1.clone(),
+                createVarExp(FAKE_LOCATION_1, "z"), new ArbitraryExpTy(createVarExp(FAKE_LOCATION_1, "T")));
+        InfixExp sumExp = new InfixExp(FAKE_LOCATION_1.clone(), createVarExp(FAKE_LOCATION_1, "a"), null,
+                new PosSymbol(FAKE_LOCATION_1.clone(), "+"), createVarExp(FAKE_LOCATION_1, "b"));
+        FunctionExp unchangedExp = new FunctionExp(FAKE_LOCATION_1.clone(), createVarExp(FAKE_LOCATION_1, "h"), null,
+                Arrays.<Exp> asList(createVarExp(FAKE_LOCATION_1, "k")));
+        SetCollectionExp rhs = new SetCollectionExp(FAKE_LOCATION_1.clone(),
+                new LinkedHashSet<>(Arrays.<MathExp> asList(typeAssertionExp, sumExp, unchangedExp)));
+
+        return new EqualsExp(FAKE_LOCATION_1.clone(), lhs, null, EqualsExp.Operator.EQUAL, rhs);
+    }
+
+    /**
+     * <p>
+     * This method creates an unqualified {@link VarExp}.
+     * </p>
+     *
+     * @param location
+     *            The location for the new expression.
+     * @param name
+     *            The variable's name.
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createVarExp(Location location, String name) {
+        return new VarExp(location.clone(), null, new PosSymbol(location.clone(), name));
+    }
+
+}
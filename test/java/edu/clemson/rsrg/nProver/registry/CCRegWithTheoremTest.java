@@ -52,7 +52,7 @@ public class CCRegWithTheoremTest {
      */
     @Before
     public final void setUp() {
-        myRegistry = new CongruenceClassRegistry<>(100, 100, 100, 100);
+        myRegistry = new ColumnarCongruenceClassRegistry<>(100, 100, 100, 100);
     }
 
     // ===========================================================
@@ -0,0 +1,72 @@
+/*
+ * ColumnarCongruenceClassRegistryTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.BitSet;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Unit test for the {@link ColumnarCongruenceClassRegistry}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ColumnarCongruenceClassRegistryTest extends CongruenceClassRegistryTest {
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that an attribute bit that doesn't fit in a class is rejected instead of silently dropped.
+     * </p>
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateClassAttributesWithUnsupportedBit() {
+        int aNum = myRegistry.registerCluster(3);
+
+        BitSet attribute = new BitSet();
+        attribute.set(Long.SIZE);
+        myRegistry.updateClassAttributes(aNum, attribute);
+    }
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates a {@link ColumnarCongruenceClassRegistry}.
+     * </p>
+     *
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param argumentListCapacity
+     *            The maximum capacity provided for arguments
+     * @param rootLabelCapacity
+     *            The maximum capacity provided for root labels.
+     *
+     * @return An empty {@link ColumnarCongruenceClassRegistry}.
+     */
+    @Override
+    protected final CongruenceClassRegistry<Integer, String, String, String> createRegistry(int ccDesignatorCapacity,
+            int cClusterDesignatorCapacity, int argumentListCapacity, int rootLabelCapacity) {
+        return new ColumnarCongruenceClassRegistry<>(ccDesignatorCapacity, cClusterDesignatorCapacity,
+                argumentListCapacity, rootLabelCapacity);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * CongruenceClassRegistryTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.BitSet;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for the way a {@link CongruenceClassRegistry} stores and merges the congruence class attributes. Each
+ * registry implementation has a subclass that provides the registry under test.
+ * </p>
+ *
+ * @version 1.0
+ */
+public abstract class CongruenceClassRegistryTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A {@link CongruenceClassRegistry} object to store the antecedents and succedents.
+     * </p>
+     */
+    protected CongruenceClassRegistry<Integer, String, String, String> myRegistry;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method sets up the congruence class registry before each test case is run.
+     * </p>
+     */
+    @Before
+    public final void setUp() {
+        myRegistry = createRegistry(100, 100, 100, 100);
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that the attributes of every class merged by {@link CongruenceClassRegistry#makeCongruent(int, int)}
+     * are kept when the merge makes other classes congruent as well.
+     * </p>
+     *
+     * <p>
+     * The registry used to hand out the class attribute {@link BitSet} itself, so the second round of merging
+     * {@code f(a)} with {@code f(b)} cleared the attributes that the first round had just stored for {@code a}.
+     * </p>
+     *
+     * <p>
+     * The node labels are as follows:
+     * <ul>
+     * <li>"a" -> 3</li>
+     * <li>"b" -> 4</li>
+     * <li>"f" -> 5</li>
+     * </ul>
+     * </p>
+     */
+    @Test
+    public final void testMakeCongruentKeepsMergedAttributes() {
+        // "a" -> 3, "b" -> 4
+        int aNum = myRegistry.registerCluster(3);
+        int bNum = myRegistry.registerCluster(4);
+
+        // "f(a)" and "f(b)"
+        myRegistry.appendToClusterArgList(aNum);
+        int faNum = myRegistry.registerCluster(5);
+        myRegistry.appendToClusterArgList(bNum);
+        int fbNum = myRegistry.registerCluster(5);
+
+        BitSet attribute01 = new BitSet();
+        attribute01.set(0); // antecedent
+        myRegistry.updateClassAttributes(aNum, attribute01);
+
+        BitSet attribute02 = new BitSet();
+        attribute02.set(1); // succedent
+        myRegistry.updateClassAttributes(bNum, attribute02);
+
+        // "a = b" also makes "f(a) = f(b)"
+        myRegistry.makeCongruent(aNum, bNum);
+        assertTrue(myRegistry.areCongruent(aNum, bNum));
+        assertTrue(myRegistry.areCongruent(faNum, fbNum));
+
+        // The class for "a" and "b" still has both attributes
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        CongruenceClass mergedClass = myRegistry.getCongruenceClassArray()[myRegistry.getDominantClass(aNum)];
+        assertEquals(expected, mergedClass.getAttribute());
+    }
+
+    /**
+     * <p>
+     * This tests that updating a class with an empty attribute doesn't change the class or prove the {@code VC}.
+     * </p>
+     */
+    @Test
+    public final void testUpdateClassAttributesWithEmptyAttribute() {
+        int aNum = myRegistry.registerCluster(3);
+        myRegistry.updateClassAttributes(aNum, new BitSet());
+
+        assertTrue(myRegistry.getCongruenceClassArray()[aNum].getAttribute().isEmpty());
+        assertFalse(myRegistry.checkIfProved());
+    }
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates the congruence class registry implementation we are testing.
+     * </p>
+     *
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param argumentListCapacity
+     *            The maximum capacity provided for arguments
+     * @param rootLabelCapacity
+     *            The maximum capacity provided for root labels.
+     *
+     * @return An empty {@link CongruenceClassRegistry}.
+     */
+    protected abstract CongruenceClassRegistry<Integer, String, String, String> createRegistry(int ccDesignatorCapacity,
+            int cClusterDesignatorCapacity, int argumentListCapacity, int rootLabelCapacity);
+
+}
@@ -0,0 +1,51 @@
+/*
+ * ObjectCongruenceClassRegistryTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+/**
+ * <p>
+ * Unit test for the {@link ObjectCongruenceClassRegistry}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ObjectCongruenceClassRegistryTest extends CongruenceClassRegistryTest {
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates a {@link ObjectCongruenceClassRegistry}.
+     * </p>
+     *
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param argumentListCapacity
+     *            The maximum capacity provided for arguments
+     * @param rootLabelCapacity
+     *            The maximum capacity provided for root labels.
+     *
+     * @return An empty {@link ObjectCongruenceClassRegistry}.
+     */
+    @Override
+    protected final CongruenceClassRegistry<Integer, String, String, String> createRegistry(int ccDesignatorCapacity,
+            int cClusterDesignatorCapacity, int argumentListCapacity, int rootLabelCapacity) {
+        return new ObjectCongruenceClassRegistry<>(ccDesignatorCapacity, cClusterDesignatorCapacity,
+                argumentListCapacity, rootLabelCapacity);
+    }
+
+}
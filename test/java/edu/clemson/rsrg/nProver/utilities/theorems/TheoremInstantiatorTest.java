@@ -0,0 +1,387 @@
+/*
+ * TheoremInstantiatorTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities.theorems;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.declarations.mathdecl.MathAssertionDec;
+import edu.clemson.rsrg.absyn.declarations.variabledecl.MathVarDec;
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.EqualsExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.IntegerExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.QuantExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.absyn.rawtypes.NameTy;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.nProver.registry.ColumnarCongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.ProverDeadline;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTProper;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for the {@link TheoremInstantiator} and the {@link RelevantTheoremExtractor}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TheoremInstantiatorTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link ResolveConceptualElement ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    /**
+     * <p>
+     * A fake {@link TypeGraph} object that allows us to assign types to expressions.
+     * </p>
+     */
+    private final TypeGraph FAKE_TYPEGRAPH;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("TheoremInstantiatorTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            // Create a fake typegraph
+            new ResolveCompiler(new String[0]);
+            FAKE_TYPEGRAPH = new TypeGraph(
+                    new CompileEnvironment(new String[0], "TestCompiler", new SystemStdHandler()));
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake location", e);
+        }
+    }
+
+    /**
+     * <p>
+     * A fake mathematical type for natural numbers.
+     * </p>
+     */
+    private final MTType N = new MTProper(FAKE_TYPEGRAPH, "N");
+
+    /**
+     * <p>
+     * A fake mathematical type for integers.
+     * </p>
+     */
+    private final MTType Z = new MTProper(FAKE_TYPEGRAPH, "Z");
+
+    /**
+     * <p>
+     * The mathematical types for each cluster in the registry.
+     * </p>
+     */
+    private Map<Integer, MTType[]> myClusterTypes;
+
+    /**
+     * <p>
+     * The labels assigned to the expressions in the registry.
+     * </p>
+     */
+    private Map<String, Integer> myExpLabels;
+
+    /**
+     * <p>
+     * The registry we are instantiating theorems into.
+     * </p>
+     */
+    private CongruenceClassRegistry<Integer, String, String, String> myRegistry;
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Creates an empty registry that has the labels the prover reserves for {@code <=} and {@code =}.
+     * </p>
+     */
+    @Before
+    public final void setUp() {
+        myClusterTypes = new LinkedHashMap<>();
+        myExpLabels = new LinkedHashMap<>();
+        myExpLabels.put("<=", 1);
+        myExpLabels.put("=", 2);
+        myRegistry = new ColumnarCongruenceClassRegistry<>(100, 100, 100, 100);
+    }
+
+    /**
+     * <p>
+     * This tests that a theorem is matched modulo the congruences in the registry. The term {@code a + c} is only an
+     * instance of {@code x + 0} once {@code c} and {@code 0} have been merged.
+     * </p>
+     */
+    @Test
+    public final void testInstantiateMatchesModuloCongruence() {
+        int a = registerTerm("a", N);
+        int c = registerTerm("c", N);
+        int zero = registerTerm("0", N);
+        int aPlusC = registerTerm("+", N, new int[] { a, c }, N, N);
+        int b = registerTerm("b", N);
+        myRegistry.makeCongruent(b, aPlusC);
+
+        TheoremInstantiator instantiator = createInstantiator(100);
+        instantiator.instantiate(List.of(createPlusZero()));
+        assertEquals(0, instantiator.getNumInstantiations());
+        assertFalse(myRegistry.areCongruent(b, a));
+
+        myRegistry.makeCongruent(c, zero);
+        instantiator = createInstantiator(100);
+        instantiator.instantiate(List.of(createPlusZero()));
+        assertEquals(1, instantiator.getNumInstantiations());
+        assertTrue(myRegistry.areCongruent(b, a));
+    }
+
+    /**
+     * <p>
+     * This tests that a theorem about one operator is not applied to an overloaded operator that has the same label but
+     * a different type.
+     * </p>
+     */
+    @Test
+    public final void testInstantiateRejectsOverloadWithDifferentType() {
+        int a = registerTerm("a", Z);
+        int zero = registerTerm("0", Z);
+        int aPlusZero = registerTerm("+", Z, new int[] { a, zero }, Z, Z);
+
+        TheoremInstantiator instantiator = createInstantiator(100);
+        instantiator.instantiate(List.of(createPlusZero()));
+
+        assertEquals(0, instantiator.getNumInstantiations());
+        assertFalse(myRegistry.areCongruent(aPlusZero, a));
+    }
+
+    /**
+     * <p>
+     * This tests that a theorem is only instantiated as many times as the budget allows.
+     * </p>
+     */
+    @Test
+    public final void testInstantiateStopsWhenBudgetRunsOut() {
+        int zero = registerTerm("0", N);
+        int[] plusZeros = new int[3];
+        int[] variables = new int[3];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = registerTerm("x" + i, N);
+            plusZeros[i] = registerTerm("+", N, new int[] { variables[i], zero }, N, N);
+        }
+
+        TheoremInstantiator instantiator = createInstantiator(2);
+        instantiator.instantiate(List.of(createPlusZero()));
+
+        int numCongruent = 0;
+        for (int i = 0; i < variables.length; i++) {
+            if (myRegistry.areCongruent(plusZeros[i], variables[i])) {
+                numCongruent++;
+            }
+        }
+
+        assertEquals(2, instantiator.getNumInstantiations());
+        assertEquals(2, numCongruent);
+    }
+
+    /**
+     * <p>
+     * This tests that only the theorems whose symbols all appear in the {@code VC} are relevant.
+     * </p>
+     */
+    @Test
+    public final void testRelevantTheoremsContainAllSymbols() {
+        TheoremPattern plusZero = createPlusZero();
+        RelevantTheoremExtractor extractor = new RelevantTheoremExtractor(List.of(plusZero, createTimesOne()));
+
+        myExpLabels.put("+", 3);
+        myExpLabels.put("0", 4);
+        assertEquals(List.of(plusZero), extractor.getRelevantTheorems(myExpLabels));
+
+        myExpLabels.remove("0");
+        assertTrue(extractor.getRelevantTheorems(myExpLabels).isEmpty());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates an instantiator for {@link #myRegistry}.
+     * </p>
+     *
+     * @param instantiationBudget
+     *            The maximum number of theorem instances we are allowed to register.
+     *
+     * @return A {@link TheoremInstantiator}.
+     */
+    private TheoremInstantiator createInstantiator(int instantiationBudget) {
+        ProverDeadline deadline = new ProverDeadline(10000);
+        deadline.start();
+
+        return new TheoremInstantiator(myRegistry, myExpLabels, myClusterTypes, FAKE_TYPEGRAPH, deadline,
+                instantiationBudget);
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the pattern for {@code For all x : N, x + 0 = x}.
+     * </p>
+     *
+     * @return A {@link TheoremPattern}.
+     */
+    private TheoremPattern createPlusZero() {
+        return createTheorem("Plus_Zero", "+", new IntegerExp(FAKE_LOCATION.clone(), null, 0));
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the pattern for {@code For all x : N, x <operator> <identity> = x}.
+     * </p>
+     *
+     * @param name
+     *            The theorem's name.
+     * @param operator
+     *            The infix operator.
+     * @param identity
+     *            The operator's right identity.
+     *
+     * @return A {@link TheoremPattern}.
+     */
+    private TheoremPattern createTheorem(String name, String operator, Exp identity) {
+        identity.setMathType(N);
+        Exp lhs = new InfixExp(FAKE_LOCATION.clone(), createX(), null, new PosSymbol(FAKE_LOCATION.clone(), operator),
+                identity);
+        lhs.setMathType(N);
+        Exp body = new EqualsExp(FAKE_LOCATION.clone(), lhs, null, EqualsExp.Operator.EQUAL, createX());
+        body.setMathType(FAKE_TYPEGRAPH.BOOLEAN);
+
+        MathVarDec x = new MathVarDec(new PosSymbol(FAKE_LOCATION.clone(), "x"),
+                new NameTy(FAKE_LOCATION.clone(), null, new PosSymbol(FAKE_LOCATION.clone(), "N")));
+        Exp assertion = new QuantExp(FAKE_LOCATION.clone(), SymbolTableEntry.Quantification.UNIVERSAL, List.of(x), null,
+                body);
+        assertion.setMathType(FAKE_TYPEGRAPH.BOOLEAN);
+
+        MathAssertionDec dec = new MathAssertionDec(new PosSymbol(FAKE_LOCATION.clone(), name),
+                MathAssertionDec.TheoremSubtype.NONE, assertion);
+        TheoremPattern pattern = TheoremPattern.fromTheorem(new TheoremEntry(FAKE_TYPEGRAPH, name, dec, new HashSet<>(),
+                new ModuleIdentifier("TheoremInstantiatorTest")));
+        assertNotNull(pattern);
+
+        return pattern;
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the pattern for {@code For all x : N, x * 1 = x}.
+     * </p>
+     *
+     * @return A {@link TheoremPattern}.
+     */
+    private TheoremPattern createTimesOne() {
+        return createTheorem("Times_One", "*", new IntegerExp(FAKE_LOCATION.clone(), null, 1));
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the variable {@code x : N}.
+     * </p>
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createX() {
+        VarExp x = new VarExp(FAKE_LOCATION.clone(), null, new PosSymbol(FAKE_LOCATION.clone(), "x"));
+        x.setMathType(N);
+
+        return x;
+    }
+
+    /**
+     * <p>
+     * An helper method that registers a term the same way the prover does and records its types.
+     * </p>
+     *
+     * @param symbol
+     *            The term's function or constant symbol.
+     * @param type
+     *            The term's type.
+     * @param arguments
+     *            Accessors for the term's arguments.
+     * @param argumentTypes
+     *            The types of the term's arguments.
+     *
+     * @return An accessor for the class containing the term.
+     */
+    private int registerTerm(String symbol, MTType type, int[] arguments, MTType... argumentTypes) {
+        Integer label = myExpLabels.computeIfAbsent(symbol, s -> myExpLabels.size() + 1);
+        for (int argument : arguments) {
+            myRegistry.appendToClusterArgList(argument);
+        }
+
+        if (myRegistry.checkIfRegistered(label)) {
+            return myRegistry.getAccessorFor(label);
+        }
+
+        int accessor = myRegistry.registerCluster(label);
+        MTType[] types = new MTType[argumentTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(argumentTypes, 0, types, 1, argumentTypes.length);
+        myClusterTypes.put(myRegistry.getFirstClusterWithLabel(label), types);
+
+        return accessor;
+    }
+
+    /**
+     * <p>
+     * An helper method that registers a constant the same way the prover does and records its type.
+     * </p>
+     *
+     * @param symbol
+     *            The constant's symbol.
+     * @param type
+     *            The constant's type.
+     *
+     * @return An accessor for the class containing the constant.
+     */
+    private int registerTerm(String symbol, MTType type) {
+        return registerTerm(symbol, type, new int[0]);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * TreeWalkerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.treewalk;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.vcgeneration.utilities.treewalkers.UniqueSymbolNameExtractor;
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure that helper {@link TreeWalkerVisitor TreeWalkerVisitors} created during a walk use the same
+ * engine as the enclosing walk.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TreeWalkerTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link ResolveConceptualElement ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(new ResolveFile(new ResolveFileBasicInfo("TreeWalkerTest", ""),
+            ModuleType.THEORY, new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""), 0,
+            0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a helper walker created by a visitor using the cached method handles also uses the cached method
+     * handles, even if the thread's default is the reflection based engine.
+     * </p>
+     */
+    @Test
+    public final void testHelperWalkerUsesCachedDispatch() {
+        HelperCreatingVisitor visitor = TreeWalker.withDefaultDispatch(true, () -> {
+            HelperCreatingVisitor v = new HelperCreatingVisitor();
+            v.setUseReflectiveDispatch(false);
+            TreeWalker.visit(v, buildExp());
+
+            return v;
+        });
+
+        assertEquals(Arrays.asList(false, false), visitor.myHelperModes);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), visitor.mySymbols);
+    }
+
+    /**
+     * <p>
+     * This tests that a helper walker created by a visitor using the reflection based engine also uses the reflection
+     * based engine and that the thread's default is restored once the walk is done.
+     * </p>
+     */
+    @Test
+    public final void testHelperWalkerUsesReflectiveDispatch() {
+        HelperCreatingVisitor visitor = new HelperCreatingVisitor();
+        visitor.setUseReflectiveDispatch(true);
+        TreeWalker.visit(visitor, buildExp());
+
+        assertEquals(Arrays.asList(true, true), visitor.myHelperModes);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), visitor.mySymbols);
+        assertFalse(TreeWalker.isReflectiveDispatchDefault());
+        assertFalse(new HelperCreatingVisitor().isUsingReflectiveDispatch());
+    }
+
+    /**
+     * <p>
+     * This tests that work handed to another thread can carry the selected engine along.
+     * </p>
+     *
+     * @throws Exception
+     *             The worker thread failed.
+     */
+    @Test
+    public final void testWithDefaultDispatchOnWorkerThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            boolean helperMode = executor.submit(() -> TreeWalker.withDefaultDispatch(true,
+                    () -> new UniqueSymbolNameExtractor().isUsingReflectiveDispatch())).get();
+            boolean laterHelperMode = executor.submit(() -> new UniqueSymbolNameExtractor().isUsingReflectiveDispatch())
+                    .get();
+
+            assertTrue(helperMode);
+            assertFalse(laterHelperMode);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method builds the expression {@code a + b}.
+     * </p>
+     *
+     * @return An {@link InfixExp}.
+     */
+    private Exp buildExp() {
+        return new InfixExp(FAKE_LOCATION.clone(),
+                new VarExp(FAKE_LOCATION.clone(), null, new PosSymbol(FAKE_LOCATION.clone(), "a")), null,
+                new PosSymbol(FAKE_LOCATION.clone(), "+"),
+                new VarExp(FAKE_LOCATION.clone(), null, new PosSymbol(FAKE_LOCATION.clone(), "b")));
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A visitor that uses a {@link UniqueSymbolNameExtractor} on every {@link VarExp} it visits, the same way the
+     * {@code VC} generator's helper walkers are used. Like any other visitor, it has to be public so that the cached
+     * method handles can invoke it.
+     * </p>
+     */
+    public static class HelperCreatingVisitor extends TreeWalkerVisitor {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The engine used by each of the helper walkers.
+         * </p>
+         */
+        private final List<Boolean> myHelperModes = new ArrayList<>();
+
+        /**
+         * <p>
+         * The symbols found by the helper walkers.
+         * </p>
+         */
+        private final Set<String> mySymbols = new HashSet<>();
+
+        // ===========================================================
+        // Visitor Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method walks {@code e} using a new helper walker.
+         * </p>
+         *
+         * @param e
+         *            Current {@link VarExp} we are visiting.
+         */
+        @Override
+        public final void preVarExp(VarExp e) {
+            UniqueSymbolNameExtractor helper = new UniqueSymbolNameExtractor();
+            myHelperModes.add(helper.isUsingReflectiveDispatch());
+
+            TreeWalker.visit(helper, e);
+            mySymbols.addAll(helper.getSymbols());
+        }
+
+    }
+
+}
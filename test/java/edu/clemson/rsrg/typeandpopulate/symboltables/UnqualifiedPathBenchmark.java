@@ -0,0 +1,339 @@
+/*
+ * UnqualifiedPathBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.query.MathFunctionNamedQuery;
+import edu.clemson.rsrg.typeandpopulate.query.MathSymbolQuery;
+import edu.clemson.rsrg.typeandpopulate.query.NameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.ToIntFunction;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+
+/**
+ * <p>
+ * A benchmark that measures how many unqualified symbol lookups per second we can perform from the top of a deep
+ * {@code uses} chain. This is not a unit test, so it is not run by {@code mvn test}. To run it, compile the tests and
+ * launch this class with the test classes, the compiled sources and the project's dependencies on the classpath:
+ * </p>
+ *
+ * <pre>
+ * mvn -B test-compile
+ * java -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *     edu.clemson.rsrg.typeandpopulate.symboltables.UnqualifiedPathBenchmark [seconds]
+ * </pre>
+ *
+ * <p>
+ * The symbol table contains {@value #NUM_CHAIN_MODULES} modules where each one uses the previous one and all of the
+ * {@value #NUM_BASE_MODULES} base modules. Every module defines {@value #NUM_SYMBOLS_PER_MODULE} symbols. Each query is
+ * asked for a symbol at the bottom of the chain, one in a base module, one in the middle of the chain and one that
+ * doesn't exist. We measure both the working {@link MathSymbolTableBuilder} (which is what the populator and the
+ * {@code VC} generator use) and the sealed {@link MathSymbolTable}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class UnqualifiedPathBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of seconds we measure each query for, unless one is passed in.
+     * </p>
+     */
+    private static final int DEFAULT_SECONDS = 3;
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the modules and the queries.
+     * </p>
+     */
+    private static final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("UnqualifiedPathBenchmark", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    /**
+     * <p>
+     * Number of modules used by every module in the chain.
+     * </p>
+     */
+    private static final int NUM_BASE_MODULES = 4;
+
+    /**
+     * <p>
+     * Number of modules in the {@code uses} chain.
+     * </p>
+     */
+    private static final int NUM_CHAIN_MODULES = 31;
+
+    /**
+     * <p>
+     * Number of symbols defined in each module.
+     * </p>
+     */
+    private static final int NUM_SYMBOLS_PER_MODULE = 20;
+
+    // ===========================================================
+    // Main Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * Builds the symbol table and prints the lookups per second for each query.
+     * </p>
+     *
+     * @param args
+     *            An optional number of seconds to measure each query for.
+     *
+     * @throws Exception
+     *             We couldn't build the symbol table.
+     */
+    public static void main(String[] args) throws Exception {
+        long measureNanos = (args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SECONDS) * 1_000_000_000L;
+
+        // We need to create a ResolveCompiler instance to instantiate the flag manager
+        new ResolveCompiler(new String[0]);
+        CompileEnvironment compileEnvironment = new CompileEnvironment(new String[0], "UnqualifiedPathBenchmark",
+                new SystemStdHandler());
+        MathSymbolTableBuilder builder = buildSymbolTable(compileEnvironment);
+        MathSymbolTable symbolTable = builder.seal();
+
+        ModuleIdentifier topModule = new ModuleIdentifier(chainModuleName(NUM_CHAIN_MODULES - 1));
+        String[] names = { symbolName(chainModuleName(0), 0), symbolName(baseModuleName(NUM_BASE_MODULES / 2), 0),
+                symbolName(chainModuleName(NUM_CHAIN_MODULES / 2), 0), "Not_Defined" };
+
+        System.out.printf("%-24s %-22s %16s%n", "Query", "Symbol Table", "Lookups/sec");
+        runQueries("MathSymbolTableBuilder", builder.getModuleScope(topModule), names, measureNanos);
+        runQueries("MathSymbolTable", symbolTable.getModuleScope(topModule), names, measureNanos);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the name of a base module.
+     * </p>
+     *
+     * @param index
+     *            The base module's index.
+     *
+     * @return The module name.
+     */
+    private static String baseModuleName(int index) {
+        return "Base_" + index;
+    }
+
+    /**
+     * <p>
+     * An helper method that opens a module scope, adds its imports and symbols and closes it again.
+     * </p>
+     *
+     * @param builder
+     *            The symbol table we are building.
+     * @param name
+     *            The module name.
+     * @param imports
+     *            The names of the modules it uses.
+     *
+     * @throws DuplicateSymbolException
+     *             A symbol was added twice.
+     */
+    private static void buildModule(MathSymbolTableBuilder builder, String name, String... imports)
+            throws DuplicateSymbolException {
+        ModuleDec moduleDec = new PrecisModuleDec(FAKE_LOCATION.clone(), new PosSymbol(FAKE_LOCATION.clone(), name),
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+
+        ModuleScopeBuilder scope = builder.startModuleScope(moduleDec);
+        for (String importName : imports) {
+            scope.addImport(new ModuleIdentifier(importName));
+        }
+
+        for (int i = 0; i < NUM_SYMBOLS_PER_MODULE; i++) {
+            scope.addBinding(symbolName(name, i), moduleDec, builder.getTypeGraph().BOOLEAN);
+        }
+        builder.endScope();
+    }
+
+    /**
+     * <p>
+     * An helper method that builds the base modules and the {@code uses} chain.
+     * </p>
+     *
+     * @param compileEnvironment
+     *            The current job's compilation environment.
+     *
+     * @return The working symbol table.
+     *
+     * @throws DuplicateSymbolException
+     *             A symbol was added twice.
+     */
+    private static MathSymbolTableBuilder buildSymbolTable(CompileEnvironment compileEnvironment)
+            throws DuplicateSymbolException {
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(compileEnvironment);
+
+        String[] baseModules = new String[NUM_BASE_MODULES];
+        for (int i = 0; i < NUM_BASE_MODULES; i++) {
+            baseModules[i] = baseModuleName(i);
+            buildModule(builder, baseModules[i]);
+        }
+
+        for (int i = 0; i < NUM_CHAIN_MODULES; i++) {
+            String[] imports;
+            if (i == 0) {
+                imports = baseModules;
+            } else {
+                imports = new String[NUM_BASE_MODULES + 1];
+                imports[0] = chainModuleName(i - 1);
+                System.arraycopy(baseModules, 0, imports, 1, NUM_BASE_MODULES);
+            }
+
+            buildModule(builder, chainModuleName(i), imports);
+        }
+
+        return builder;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the name of a module in the {@code uses} chain.
+     * </p>
+     *
+     * @param index
+     *            The module's position in the chain.
+     *
+     * @return The module name.
+     */
+    private static String chainModuleName(int index) {
+        return "Chain_" + index;
+    }
+
+    /**
+     * <p>
+     * An helper method that performs lookups for the given names in a round robin fashion, first to warm up and then
+     * for {@code measureNanos}, and returns the number of lookups per second.
+     * </p>
+     *
+     * @param lookup
+     *            The lookup to perform. It returns the number of matches.
+     * @param names
+     *            The names to look up.
+     * @param measureNanos
+     *            The number of nanoseconds to measure for.
+     *
+     * @return The number of lookups per second.
+     */
+    private static double measure(ToIntFunction<String> lookup, String[] names, long measureNanos) {
+        // Warm up for a third of the measured time
+        long end = System.nanoTime() + measureNanos / 3;
+        long matches = 0;
+        while (System.nanoTime() < end) {
+            for (String name : names) {
+                matches += lookup.applyAsInt(name);
+            }
+        }
+
+        long lookups = 0;
+        long start = System.nanoTime();
+        end = start + measureNanos;
+        long now = start;
+        while (now < end) {
+            for (String name : names) {
+                matches += lookup.applyAsInt(name);
+            }
+            lookups += names.length;
+            now = System.nanoTime();
+        }
+
+        // Use the matches, so the lookups can't be optimized away
+        if (matches < 0) {
+            throw new IllegalStateException();
+        }
+
+        return lookups * 1e9 / (now - start);
+    }
+
+    /**
+     * <p>
+     * An helper method that measures all the queries against a module scope and prints the results.
+     * </p>
+     *
+     * @param symbolTableName
+     *            The kind of symbol table the scope belongs to.
+     * @param scope
+     *            The scope at the top of the {@code uses} chain.
+     * @param names
+     *            The names to look up.
+     * @param measureNanos
+     *            The number of nanoseconds to measure each query for.
+     */
+    private static void runQueries(String symbolTableName, ModuleScope scope, String[] names, long measureNanos) {
+        double nameQuery = measure(name -> scope.query(
+                new NameQuery(null, name, ImportStrategy.IMPORT_RECURSIVE, FacilityStrategy.FACILITY_IGNORE, false))
+                .size(), names, measureNanos);
+        System.out.printf("%-24s %-22s %,16.0f%n", "NameQuery", symbolTableName, nameQuery);
+
+        double mathFunctionNamedQuery = measure(
+                name -> scope.query(new MathFunctionNamedQuery(null, new PosSymbol(FAKE_LOCATION, name))).size(), names,
+                measureNanos);
+        System.out.printf("%-24s %-22s %,16.0f%n", "MathFunctionNamedQuery", symbolTableName, mathFunctionNamedQuery);
+
+        double mathSymbolQuery = measure(name -> {
+            try {
+                scope.queryForOne(new MathSymbolQuery(null, name, FAKE_LOCATION));
+                return 1;
+            } catch (NoSuchSymbolException | DuplicateSymbolException e) {
+                return 0;
+            }
+        }, names, measureNanos);
+        System.out.printf("%-24s %-22s %,16.0f%n", "MathSymbolQuery", symbolTableName, mathSymbolQuery);
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the name of a symbol defined in a module.
+     * </p>
+     *
+     * @param moduleName
+     *            The module name.
+     * @param index
+     *            The symbol's index.
+     *
+     * @return The symbol name.
+     */
+    private static String symbolName(String moduleName, int index) {
+        return moduleName + "_Symbol_" + index;
+    }
+
+}
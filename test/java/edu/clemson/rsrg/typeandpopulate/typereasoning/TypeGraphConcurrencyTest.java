@@ -0,0 +1,191 @@
+/*
+ * TypeGraphConcurrencyTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.typereasoning;
+
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.*;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure that the {@link TypeGraph} and the {@link MTType MTTypes} in it give the same answers when
+ * they are queried by many threads at once.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TypeGraphConcurrencyTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of times each thread queries every pair of types.
+     * </p>
+     */
+    private static final int NUM_ROUNDS = 200;
+
+    /**
+     * <p>
+     * The number of threads that query the type graph at the same time.
+     * </p>
+     */
+    private static final int NUM_THREADS = 8;
+
+    {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    @Test
+    public final void testConcurrentEqualsAndIsSubtype() throws Exception {
+        // Compute the answers using a single thread
+        TypeGraph expectedGraph = createTypeGraph();
+        List<MTType> expectedTypes = createTypes(expectedGraph);
+        int numTypes = expectedTypes.size();
+        boolean[][] expectedEquals = new boolean[numTypes][numTypes];
+        boolean[][] expectedSubtype = new boolean[numTypes][numTypes];
+        for (int i = 0; i < numTypes; i++) {
+            for (int j = 0; j < numTypes; j++) {
+                expectedEquals[i][j] = expectedTypes.get(i).equals(expectedTypes.get(j));
+                expectedSubtype[i][j] = expectedGraph.isSubtype(expectedTypes.get(i), expectedTypes.get(j));
+            }
+        }
+
+        // Sanity check: the two copies of the same function type are alpha
+        // equivalent, but the one with swapped domain and range isn't
+        assertTrue(expectedEquals[5][6]);
+        assertFalse(expectedEquals[5][7]);
+
+        // Ask a fresh type graph the same questions from many threads at once
+        TypeGraph g = createTypeGraph();
+        List<MTType> types = createTypes(g);
+        CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+        Set<PerThreadReasoningResources> resources = Collections
+                .synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    List<int[]> pairs = new ArrayList<>();
+                    for (int i = 0; i < numTypes; i++) {
+                        for (int j = 0; j < numTypes; j++) {
+                            pairs.add(new int[] { i, j });
+                        }
+                    }
+
+                    List<String> mismatches = new ArrayList<>();
+                    Random random = new Random(seed);
+                    barrier.await();
+                    resources.add(g.getThreadResources());
+                    for (int round = 0; round < NUM_ROUNDS; round++) {
+                        Collections.shuffle(pairs, random);
+                        for (int[] pair : pairs) {
+                            MTType t1 = types.get(pair[0]);
+                            MTType t2 = types.get(pair[1]);
+                            if (t1.equals(t2) != expectedEquals[pair[0]][pair[1]]) {
+                                mismatches.add(t1 + " equals " + t2);
+                            }
+                            if (g.isSubtype(t1, t2) != expectedSubtype[pair[0]][pair[1]]) {
+                                mismatches.add(t1 + " isSubtype " + t2);
+                            }
+                        }
+                    }
+
+                    // We should still have the same resources and nothing
+                    // should be left over from our comparisons
+                    if (!resources.contains(g.getThreadResources())
+                            || !g.getThreadResources().typesBeingCompared.isEmpty()) {
+                        mismatches.add("thread resources");
+                    }
+
+                    return mismatches;
+                }));
+            }
+
+            for (Future<List<String>> future : futures) {
+                assertEquals(Collections.emptyList(), future.get(60, TimeUnit.SECONDS));
+            }
+
+            // Each thread should have been handed its own resources
+            assertEquals(NUM_THREADS, resources.size());
+            assertFalse(resources.contains(g.getThreadResources()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates an empty type graph.
+     * </p>
+     *
+     * @return A {@link TypeGraph}.
+     *
+     * @throws IOException
+     *             We couldn't create the compilation environment.
+     */
+    private static TypeGraph createTypeGraph() throws IOException {
+        return new TypeGraph(new CompileEnvironment(new String[0], "TestCompiler", new SystemStdHandler()));
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the types we query. Structurally identical types are created as separate objects,
+     * so comparing them has to go through the alpha equivalency checker.
+     * </p>
+     *
+     * @param g
+     *            The type graph for the new types.
+     *
+     * @return A list of {@link MTType MTTypes}.
+     */
+    private static List<MTType> createTypes(TypeGraph g) {
+        List<MTType> types = new ArrayList<>();
+        types.add(g.BOOLEAN);
+        types.add(g.R);
+        types.add(g.SSET);
+        types.add(g.CLS);
+        types.add(g.ENTITY);
+        types.add(new MTFunction(g, g.BOOLEAN, g.R));
+        types.add(new MTFunction(g, g.BOOLEAN, g.R));
+        types.add(new MTFunction(g, g.R, g.BOOLEAN));
+        types.add(new MTFunction(g, g.BOOLEAN, g.R, g.R));
+        types.add(new MTPowerclassApplication(g, g.BOOLEAN));
+        types.add(new MTPowerclassApplication(g, new MTFunction(g, g.BOOLEAN, g.R)));
+        types.add(new MTPowerclassApplication(g, new MTFunction(g, g.BOOLEAN, g.R)));
+        types.add(new MTBigUnion(g, Collections.singletonMap("t", g.SSET), new MTNamed(g, "t")));
+        types.add(new MTBigUnion(g, Collections.singletonMap("r", g.SSET), new MTNamed(g, "r")));
+
+        return types;
+    }
+}
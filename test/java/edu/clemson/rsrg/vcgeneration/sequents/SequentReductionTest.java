@@ -146,6 +146,59 @@ public class SequentReductionTest {
         }
     }
 
+    /**
+     * <p>
+     * This tests that calling {@link SequentReduction#applyReduction()} without building the reduction tree generates
+     * the same {@link Sequent Sequents} and impacting reduction flags.
+     * </p>
+     */
+    @Test
+    public final void testComplexExampleWithoutReductionTree() {
+        // Create sequent: "not(p and q) |- ((p implies r) or (q implies r)) implies (p implies r)"
+        VarExp p = Utilities.createVarExp(FAKE_LOCATION, null, new PosSymbol(FAKE_LOCATION, "p"),
+                FAKE_TYPEGRAPH.BOOLEAN, null);
+        VarExp q = Utilities.createVarExp(FAKE_LOCATION, null, new PosSymbol(FAKE_LOCATION, "q"),
+                FAKE_TYPEGRAPH.BOOLEAN, null);
+        VarExp r = Utilities.createVarExp(FAKE_LOCATION, null, new PosSymbol(FAKE_LOCATION, "r"),
+                FAKE_TYPEGRAPH.BOOLEAN, null);
+        Exp pAndq = MathExp.formConjunct(FAKE_LOCATION, p.clone(), q.clone());
+        Exp notpAndq = new PrefixExp(FAKE_LOCATION, null, new PosSymbol(FAKE_LOCATION, "not"), pAndq);
+        notpAndq.setMathType(FAKE_TYPEGRAPH.BOOLEAN);
+        Exp pImpliesr = MathExp.formImplies(FAKE_LOCATION, p.clone(), r.clone());
+        Exp qImpliesr = MathExp.formImplies(FAKE_LOCATION, q.clone(), r.clone());
+        Exp orExp = MathExp.formDisjunct(FAKE_LOCATION, pImpliesr, qImpliesr);
+        Exp complexExp = MathExp.formImplies(FAKE_LOCATION, orExp, pImpliesr.clone());
+
+        List<Exp> antecedents = new ArrayList<>();
+        antecedents.add(notpAndq);
+
+        List<Exp> consequents = new ArrayList<>();
+        consequents.add(complexExp);
+
+        Sequent originalSequent = new Sequent(FAKE_LOCATION, antecedents, consequents);
+
+        // Reduce the sequent with and without the reduction tree
+        SequentReduction reductionWithTree = new SequentReduction(originalSequent);
+        List<Sequent> expectedSequents = reductionWithTree.applyReduction();
+        SequentReduction reduction = new SequentReduction(originalSequent, false);
+        List<Sequent> resultSequents = reduction.applyReduction();
+
+        // Check that we get the same sequents in the same order and that each of them
+        // has the same impacting reduction flag. The two reductions create their own
+        // expressions, so we compare the sequents by their string representation.
+        assertEquals(expectedSequents.size(), resultSequents.size());
+        for (int i = 0; i < resultSequents.size(); i++) {
+            Sequent expectedSequent = expectedSequents.get(i);
+            Sequent resultSequent = resultSequents.get(i);
+            assertEquals(expectedSequent.toString(), resultSequent.toString());
+            assertEquals(reductionWithTree.getImpactingReducedSequentMap().get(expectedSequent),
+                    reduction.getImpactingReducedSequentMap().get(resultSequent));
+        }
+
+        // The reduction tree only contains the original sequent
+        assertTrue(reduction.getReductionTree().edgeSet().isEmpty());
+    }
+
     /**
      * <p>
      * This tests what happens when we call {@link SequentReduction#applyReduction()} on a {@link Sequent} that only